@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.caching;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.ad.ml.ADCheckpointDao;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.ad.ratelimit.ADCheckpointMaintainWorker;
+import org.opensearch.ad.ratelimit.ADCheckpointWriteWorker;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.monitor.jvm.JvmInfo;
+import org.opensearch.monitor.jvm.JvmInfo.Mem;
+import org.opensearch.monitor.jvm.JvmService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.MemoryTracker;
+import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.ml.ModelManager;
+import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Cost of a cache hit and of sorting a batch of cache misses into hot and cold entities.
+ * Models are not trained since neither operation touches them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriorityCacheBenchmark {
+    // reported heap size, large enough to reserve the estimated model memory of every entity.
+    // Models are never trained, so nothing close to it is allocated.
+    private static final long HEAP_BYTES = 128L * 1024 * 1024 * 1024;
+    private static final int MISS_BATCH = 100;
+
+    @Param({ "1000", "10000" })
+    public int numEntities;
+
+    private ADPriorityCache cache;
+    private AnomalyDetector detector;
+    private String[] modelIds;
+    private List<Entity> cacheMissEntities;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClusterService clusterService = BenchmarkFixtures
+            .createClusterService(
+                AnomalyDetectorSettings.AD_DEDICATED_CACHE_SIZE,
+                AnomalyDetectorSettings.AD_MODEL_MAX_SIZE_PERCENTAGE,
+                AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
+                AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ
+            );
+        JvmService jvmService = mock(JvmService.class);
+        JvmInfo info = mock(JvmInfo.class);
+        Mem mem = mock(Mem.class);
+        when(jvmService.info()).thenReturn(info);
+        when(info.getMem()).thenReturn(mem);
+        when(mem.getHeapMax()).thenReturn(new ByteSizeValue(HEAP_BYTES));
+        MemoryTracker memoryTracker = new MemoryTracker(
+            jvmService,
+            AnomalyDetectorSettings.AD_MODEL_MAX_SIZE_PERCENTAGE.get(Settings.EMPTY),
+            clusterService,
+            mock(CircuitBreakerService.class)
+        );
+
+        Clock clock = Clock.systemUTC();
+        cache = new ADPriorityCache(
+            mock(ADCheckpointDao.class),
+            numEntities,
+            AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
+            AnomalyDetectorSettings.MAX_INACTIVE_ENTITIES,
+            memoryTracker,
+            TimeSeriesSettings.NUM_TREES,
+            clock,
+            clusterService,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            mock(ThreadPool.class),
+            TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+            Settings.EMPTY,
+            AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ,
+            mock(ADCheckpointWriteWorker.class),
+            mock(ADCheckpointMaintainWorker.class)
+        );
+
+        detector = BenchmarkFixtures.createDetector(1, ImmutableList.of("host", "service"));
+        Entity[] entities = BenchmarkFixtures.createEntities(numEntities + MISS_BATCH);
+        modelIds = new String[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            modelIds[i] = entities[i].getModelId(detector.getId()).get();
+            ModelState<ThresholdedRandomCutForest> state = new ModelState<>(
+                null,
+                modelIds[i],
+                detector.getId(),
+                ModelManager.ModelType.TRCF.getName(),
+                clock,
+                0,
+                Optional.of(entities[i]),
+                new ArrayDeque<>()
+            );
+            if (false == cache.hostIfPossible(detector, state)) {
+                throw new IllegalStateException("Fail to host " + modelIds[i]);
+            }
+        }
+        cacheMissEntities = new ArrayList<>(Arrays.asList(entities).subList(numEntities, numEntities + MISS_BATCH));
+        next = 0;
+    }
+
+    @Benchmark
+    public ModelState<ThresholdedRandomCutForest> get() {
+        if (next == modelIds.length) {
+            next = 0;
+        }
+        return cache.get(modelIds[next++], detector);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Pair<List<Entity>, List<Entity>> selectUpdateCandidate() {
+        return cache.selectUpdateCandidate(cacheMissEntities, detector.getId(), detector);
+    }
+}
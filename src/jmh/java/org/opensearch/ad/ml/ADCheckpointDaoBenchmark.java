@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ml;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.ad.settings.ADEnabledSetting;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.ml.ModelManager;
+import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.opensearch.timeseries.util.ClientUtil;
+import org.opensearch.transport.client.Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.amazon.randomcutforest.state.RandomCutForestMapper;
+import com.google.gson.GsonBuilder;
+
+import io.protostuff.LinkedBuffer;
+import io.protostuff.Schema;
+import io.protostuff.runtime.RuntimeSchema;
+
+/**
+ * Cost of turning an entity model into a checkpoint document and back, as done by the
+ * checkpoint write and read workers for every entity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ADCheckpointDaoBenchmark {
+    private static final String MODEL_ID = BenchmarkFixtures.CONFIG_ID + "_entity_benchmark";
+
+    @Param({ "1", "3" })
+    public int numFeatures;
+
+    @Param({ "false", "true" })
+    public boolean binaryCheckpoint;
+
+    private GenericObjectPool<LinkedBuffer> serializeRCFBufferPool;
+    private ADCheckpointDao checkpointDao;
+    private ModelState<ThresholdedRandomCutForest> modelState;
+    // checkpoint document as stored in the checkpoint index
+    private BytesReference checkpointSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, binaryCheckpoint);
+
+        RandomCutForestMapper mapper = new RandomCutForestMapper();
+        mapper.setSaveExecutorContextEnabled(true);
+        Schema<ThresholdedRandomCutForestState> trcfSchema = AccessController
+            .doPrivileged(
+                (PrivilegedAction<Schema<ThresholdedRandomCutForestState>>) () -> RuntimeSchema
+                    .getSchema(ThresholdedRandomCutForestState.class)
+            );
+        serializeRCFBufferPool = BenchmarkFixtures.createSerializationBufferPool();
+        checkpointDao = new ADCheckpointDao(
+            mock(Client.class),
+            mock(ClientUtil.class),
+            new GsonBuilder().serializeSpecialFloatingPointValues().create(),
+            mapper,
+            new V1JsonToV3StateConverter(),
+            new ThresholdedRandomCutForestMapper(),
+            trcfSchema,
+            HybridThresholdingModel.class,
+            mock(ADIndexManagement.class),
+            TimeSeriesSettings.MAX_CHECKPOINT_BYTES,
+            serializeRCFBufferPool,
+            TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
+            1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE,
+            Clock.systemUTC()
+        );
+
+        ThresholdedRandomCutForest model = BenchmarkFixtures
+            .createTrainedModel(numFeatures, TimeSeriesSettings.DEFAULT_SHINGLE_SIZE, TimeSeriesSettings.NUM_SAMPLES_PER_TREE * 2);
+        Deque<Sample> samples = new ArrayDeque<>();
+        Random random = new Random(BenchmarkFixtures.SEED);
+        Instant now = Instant.now();
+        for (int i = 0; i < TimeSeriesSettings.NUM_MIN_SAMPLES; i++) {
+            samples.add(new Sample(BenchmarkFixtures.randomPoint(random, numFeatures), now, now));
+        }
+        modelState = new ModelState<>(
+            model,
+            MODEL_ID,
+            BenchmarkFixtures.CONFIG_ID,
+            ModelManager.ModelType.TRCF.getName(),
+            Clock.systemUTC(),
+            0,
+            Optional.of(BenchmarkFixtures.createEntities(1)[0]),
+            samples
+        );
+
+        checkpointSource = BytesReference.bytes(XContentFactory.jsonBuilder().map(checkpointDao.toIndexSource(modelState)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializeRCFBufferPool.close();
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, false);
+    }
+
+    @Benchmark
+    public Map<String, Object> serialize() throws IOException {
+        return checkpointDao.toIndexSource(modelState);
+    }
+
+    @Benchmark
+    public ModelState<ThresholdedRandomCutForest> deserialize() {
+        Map<String, Object> source = XContentHelper.convertToMap(checkpointSource, false, XContentType.JSON).v2();
+        return checkpointDao.fromEntityModelCheckpoint(source, MODEL_ID, BenchmarkFixtures.CONFIG_ID);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ml;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.ml.ModelManager;
+import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Cost of scoring one point with a trained entity model, the per-entity work of every interval.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ADModelManagerBenchmark {
+    private static final String MODEL_ID = BenchmarkFixtures.CONFIG_ID + "_entity_benchmark";
+    private static final int NUM_POINTS = 1024;
+
+    @Param({ "1", "3" })
+    public int numFeatures;
+
+    private ADModelManager modelManager;
+    private AnomalyDetector detector;
+    private ModelState<ThresholdedRandomCutForest> modelState;
+    private double[][] points;
+    private int next;
+    private long dataEndEpochSecond;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // checkpoint, cold start, feature and memory collaborators are not used when scoring a hosted model
+        modelManager = new ADModelManager(
+            null,
+            Clock.systemUTC(),
+            TimeSeriesSettings.NUM_TREES,
+            TimeSeriesSettings.NUM_SAMPLES_PER_TREE,
+            TimeSeriesSettings.NUM_MIN_SAMPLES,
+            TimeSeriesSettings.THRESHOLD_MIN_PVALUE,
+            AnomalyDetectorSettings.MIN_PREVIEW_SIZE,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ,
+            null,
+            null,
+            null,
+            Settings.EMPTY,
+            null
+        );
+        detector = BenchmarkFixtures.createDetector(numFeatures, ImmutableList.of("host"));
+        ThresholdedRandomCutForest model = BenchmarkFixtures
+            .createTrainedModel(numFeatures, detector.getShingleSize(), TimeSeriesSettings.NUM_SAMPLES_PER_TREE * 2);
+        modelState = new ModelState<>(
+            model,
+            MODEL_ID,
+            BenchmarkFixtures.CONFIG_ID,
+            ModelManager.ModelType.TRCF.getName(),
+            Clock.systemUTC(),
+            0,
+            Optional.of(BenchmarkFixtures.createEntities(1)[0]),
+            new ArrayDeque<>()
+        );
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        points = new double[NUM_POINTS][];
+        for (int i = 0; i < NUM_POINTS; i++) {
+            points[i] = BenchmarkFixtures.randomPoint(random, numFeatures);
+        }
+        next = 0;
+        dataEndEpochSecond = Instant.now().getEpochSecond();
+    }
+
+    @Benchmark
+    public ThresholdingResult score() {
+        if (next == points.length) {
+            next = 0;
+        }
+        // the model expects points in time order
+        dataEndEpochSecond += 60;
+        Instant dataEnd = Instant.ofEpochSecond(dataEndEpochSecond);
+        Sample sample = new Sample(points[next++], dataEnd.minus(Duration.ofMinutes(1)), dataEnd);
+        return modelManager.score(sample, MODEL_ID, modelState, detector);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.model.Feature;
+import org.opensearch.timeseries.model.IntervalTimeConfiguration;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+import com.amazon.randomcutforest.config.ForestMode;
+import com.amazon.randomcutforest.config.Precision;
+import com.amazon.randomcutforest.config.TransformMethod;
+import com.amazon.randomcutforest.parkservices.RCFCaster;
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.config.Calibration;
+
+import io.protostuff.LinkedBuffer;
+
+/**
+ * Objects shared by the benchmarks. Models and configs are built the way cold start and the
+ * REST layer build them so that the measured code sees production-shaped inputs.
+ */
+public final class BenchmarkFixtures {
+    public static final String CONFIG_ID = "benchmark-config";
+    public static final long SEED = 42L;
+    // reciprocal of the default recency emphasis
+    private static final double TIME_DECAY = 1.0 / TimeSeriesSettings.DEFAULT_RECENCY_EMPHASIS;
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * @param numFeatures number of enabled max aggregation features
+     * @param categoryFields category fields, empty for a single-stream detector
+     * @return a detector with a one-minute interval
+     */
+    public static AnomalyDetector createDetector(int numFeatures, List<String> categoryFields) {
+        List<Feature> features = new ArrayList<>(numFeatures);
+        for (int i = 0; i < numFeatures; i++) {
+            String name = "feature" + i;
+            features.add(new Feature("feature-id-" + i, name, true, AggregationBuilders.max(name).field("value" + i)));
+        }
+        Instant now = Instant.now();
+        return new AnomalyDetector(
+            CONFIG_ID,
+            1L,
+            "benchmark",
+            null,
+            "timestamp",
+            Arrays.asList("benchmark-index"),
+            features,
+            QueryBuilders.matchAllQuery(),
+            new IntervalTimeConfiguration(1, ChronoUnit.MINUTES),
+            new IntervalTimeConfiguration(1, ChronoUnit.MINUTES),
+            TimeSeriesSettings.DEFAULT_SHINGLE_SIZE,
+            null,
+            0,
+            now,
+            categoryFields,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            now,
+            new IntervalTimeConfiguration(1, ChronoUnit.MINUTES)
+        );
+    }
+
+    /**
+     * @param numFeatures number of input features
+     * @param shingleSize shingle size
+     * @param numPoints number of points to train the model with
+     * @return a real-time model configured like cold start configures one
+     */
+    public static ThresholdedRandomCutForest createTrainedModel(int numFeatures, int shingleSize, int numPoints) {
+        ThresholdedRandomCutForest model = ThresholdedRandomCutForest
+            .builder()
+            .dimensions(numFeatures * shingleSize)
+            .sampleSize(TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
+            .numberOfTrees(TimeSeriesSettings.NUM_TREES)
+            .timeDecay(TIME_DECAY)
+            .transformDecay(TIME_DECAY)
+            .outputAfter(Math.max(shingleSize, TimeSeriesSettings.NUM_MIN_SAMPLES))
+            .initialAcceptFraction(TimeSeriesSettings.NUM_MIN_SAMPLES * 1.0d / TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
+            .parallelExecutionEnabled(false)
+            .compact(true)
+            .precision(Precision.FLOAT_32)
+            .boundingBoxCacheFraction(TimeSeriesSettings.REAL_TIME_BOUNDING_BOX_CACHE_RATIO)
+            .shingleSize(shingleSize)
+            .internalShinglingEnabled(true)
+            .anomalyRate(1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE)
+            .transformMethod(TransformMethod.NORMALIZE)
+            .alertOnce(true)
+            .autoAdjust(true)
+            .randomSeed(SEED)
+            .build();
+        Random random = new Random(SEED);
+        long timestamp = Instant.now().minus(numPoints, ChronoUnit.MINUTES).getEpochSecond();
+        for (int i = 0; i < numPoints; i++) {
+            model.process(randomPoint(random, numFeatures), timestamp + i * 60L);
+        }
+        return model;
+    }
+
+    /**
+     * @param numFeatures number of input features
+     * @param shingleSize shingle size
+     * @param numPoints number of points to train the model with
+     * @return a forecasting model configured like forecast cold start configures one
+     */
+    public static RCFCaster createTrainedCaster(int numFeatures, int shingleSize, int numPoints) {
+        RCFCaster caster = RCFCaster
+            .builder()
+            .dimensions(numFeatures * shingleSize)
+            .numberOfTrees(TimeSeriesSettings.NUM_TREES)
+            .shingleSize(shingleSize)
+            .sampleSize(TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
+            .internalShinglingEnabled(true)
+            .precision(Precision.FLOAT_32)
+            .anomalyRate(1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE)
+            .outputAfter(Math.max(shingleSize, TimeSeriesSettings.NUM_MIN_SAMPLES))
+            .calibration(Calibration.MINIMAL)
+            .timeDecay(TIME_DECAY)
+            .parallelExecutionEnabled(false)
+            .boundingBoxCacheFraction(TimeSeriesSettings.REAL_TIME_BOUNDING_BOX_CACHE_RATIO)
+            .transformDecay(TIME_DECAY)
+            .forecastHorizon(shingleSize * 3)
+            .initialAcceptFraction(TimeSeriesSettings.NUM_MIN_SAMPLES * 1.0d / TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
+            .transformMethod(TransformMethod.NORMALIZE)
+            .forestMode(ForestMode.STANDARD)
+            .randomSeed(SEED)
+            .build();
+        Random random = new Random(SEED);
+        long timestamp = Instant.now().minus(numPoints, ChronoUnit.MINUTES).getEpochSecond();
+        for (int i = 0; i < numPoints; i++) {
+            caster.process(randomPoint(random, numFeatures), timestamp + i * 60L);
+        }
+        return caster;
+    }
+
+    /**
+     * @param random random source
+     * @param numFeatures number of features
+     * @return a point of a noisy sine wave per feature
+     */
+    public static double[] randomPoint(Random random, int numFeatures) {
+        double[] point = new double[numFeatures];
+        for (int i = 0; i < numFeatures; i++) {
+            point[i] = 100 * Math.sin(random.nextInt(360) * Math.PI / 180) + random.nextGaussian();
+        }
+        return point;
+    }
+
+    /**
+     * @param numEntities number of entities
+     * @return entities with a host and a service attribute, like the ones parsed from composite buckets
+     */
+    public static Entity[] createEntities(int numEntities) {
+        Entity[] entities = new Entity[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            entities[i] = Entity.createEntityByReordering(createAttributes(i));
+        }
+        return entities;
+    }
+
+    /**
+     * @param i entity index
+     * @return the attributes of the i-th entity in composite bucket key order
+     */
+    public static Map<String, Object> createAttributes(int i) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("service", String.format(Locale.ROOT, "app_%d", i % 16));
+        attributes.put("host", String.format(Locale.ROOT, "server_%d", i));
+        return attributes;
+    }
+
+    /**
+     * @return a serialization buffer pool sized like the plugin's
+     */
+    public static GenericObjectPool<LinkedBuffer> createSerializationBufferPool() {
+        GenericObjectPool<LinkedBuffer> pool = new GenericObjectPool<>(new BasePooledObjectFactory<LinkedBuffer>() {
+            @Override
+            public LinkedBuffer create() throws Exception {
+                return LinkedBuffer.allocate(TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES);
+            }
+
+            @Override
+            public PooledObject<LinkedBuffer> wrap(LinkedBuffer obj) {
+                return new DefaultPooledObject<>(obj);
+            }
+        });
+        pool.setMaxTotal(TimeSeriesSettings.MAX_TOTAL_RCF_SERIALIZATION_BUFFERS);
+        pool.setMaxIdle(TimeSeriesSettings.MAX_TOTAL_RCF_SERIALIZATION_BUFFERS);
+        pool.setMinIdle(0);
+        pool.setBlockWhenExhausted(false);
+        return pool;
+    }
+
+    /**
+     * @param settings dynamic settings the benchmarked component registers update consumers for
+     * @return a cluster service that only supports registering settings update consumers
+     */
+    public static ClusterService createClusterService(Setting<?>... settings) {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, new HashSet<>(Arrays.asList(settings)));
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        return clusterService;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one priority update under the CacheBuffer.get access pattern: every entity is hit
+ * once per interval.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriorityTrackerBenchmark {
+    private static final long INTERVAL_SECS = 60;
+
+    // a mocked clock allocates on every call and would dominate the measurement
+    private static class SteppingClock extends Clock {
+        private Instant instant;
+
+        SteppingClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Param({ "1000", "100000" })
+    public int numEntities;
+
+    @Param({ "false", "true" })
+    public boolean indexedHeap;
+
+    private SteppingClock clock;
+    private PriorityTracker tracker;
+    private String[] entities;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant start = Instant.now();
+        clock = new SteppingClock(start);
+        tracker = PriorityTracker.create(clock, INTERVAL_SECS, start.getEpochSecond(), TimeSeriesSettings.MAX_TRACKING_ENTITIES, indexedHeap);
+        entities = new String[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            entities[i] = "entity" + i;
+            tracker.updatePriority(entities[i]);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public float updatePriority() {
+        if (next == entities.length) {
+            next = 0;
+            clock.instant = clock.instant.plusSeconds(INTERVAL_SECS);
+        }
+        return tracker.updatePriority(entities[next++]);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.feature;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.timeseries.AnalysisType;
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.model.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Cost of turning the buckets of a composite aggregation page into the entity feature map of a
+ * {@link CompositeRetriever.Page}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositePageBenchmark {
+
+    static class Bucket implements CompositeAggregation.Bucket {
+        private final Map<String, Object> key;
+        private final Aggregations aggregations;
+
+        Bucket(Map<String, Object> key, Aggregations aggregations) {
+            this.key = key;
+            this.aggregations = aggregations;
+        }
+
+        @Override
+        public Map<String, Object> getKey() {
+            return key;
+        }
+
+        @Override
+        public String getKeyAsString() {
+            return key.toString();
+        }
+
+        @Override
+        public long getDocCount() {
+            return 1;
+        }
+
+        @Override
+        public Aggregations getAggregations() {
+            return aggregations;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return builder;
+        }
+    }
+
+    @Param({ "1", "3" })
+    public int numFeatures;
+
+    // default composite page size
+    @Param({ "1000" })
+    public int pageSize;
+
+    private CompositeRetriever retriever;
+    private List<Bucket> buckets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AnomalyDetector detector = BenchmarkFixtures.createDetector(numFeatures, ImmutableList.of("host", "service"));
+        // bucket parsing needs the config only
+        retriever = new CompositeRetriever(
+            0,
+            1,
+            detector,
+            null,
+            null,
+            null,
+            Long.MAX_VALUE,
+            Clock.systemUTC(),
+            Settings.EMPTY,
+            pageSize,
+            pageSize,
+            null,
+            null,
+            AnalysisType.AD
+        );
+        List<String> featureIds = detector.getEnabledFeatureIds();
+        Random random = new Random(BenchmarkFixtures.SEED);
+        buckets = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            List<Aggregation> aggs = new ArrayList<>(numFeatures);
+            for (String featureId : featureIds) {
+                aggs.add(new InternalMax(featureId, random.nextDouble(), DocValueFormat.RAW, null));
+            }
+            buckets.add(new Bucket(BenchmarkFixtures.createAttributes(i), new Aggregations(aggs)));
+        }
+    }
+
+    @Benchmark
+    public Map<Entity, double[]> parsePage() {
+        return retriever.parseBuckets(buckets);
+    }
+}
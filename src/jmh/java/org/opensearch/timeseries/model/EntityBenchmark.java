@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of getting the model Id of an entity parsed anew from a bucket key, as done once per
+ * entity and interval.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityBenchmark {
+    @Param({ "1000", "100000" })
+    public int numEntities;
+
+    private Map<String, Object>[] attributes;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        attributes = new Map[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            attributes[i] = BenchmarkFixtures.createAttributes(i);
+        }
+        next = 0;
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ModelIdMemo.getInstance().clear(BenchmarkFixtures.CONFIG_ID);
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, false);
+    }
+
+    @Benchmark
+    public Optional<String> getModelId() {
+        if (next == attributes.length) {
+            next = 0;
+        }
+        return Entity.createEntityByReordering(attributes[next++]).getModelId(BenchmarkFixtures.CONFIG_ID);
+    }
+}
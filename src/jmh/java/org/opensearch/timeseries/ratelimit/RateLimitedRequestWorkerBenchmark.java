@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.AnalysisType;
+import org.opensearch.timeseries.BenchmarkFixtures;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of queueing an interval's worth of requests across configs and draining them in
+ * batches through the round-robin queue selection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitedRequestWorkerBenchmark {
+    private static final long HEAP_BYTES = 1024L * 1024 * 1024;
+    private static final int REQUEST_SIZE_BYTES = 200;
+    private static final int BATCH_SIZE = AnomalyDetectorSettings.AD_CHECKPOINT_READ_QUEUE_BATCH_SIZE.get(Settings.EMPTY);
+
+    static class BenchmarkRequest extends QueuedRequest {
+        BenchmarkRequest(long expirationEpochMs, String configId, RequestPriority priority) {
+            super(expirationEpochMs, configId, priority);
+        }
+    }
+
+    /**
+     * Queue bookkeeping only: requests stay queued until the benchmark drains them.
+     */
+    static class BenchmarkWorker extends RateLimitedRequestWorker<BenchmarkRequest> {
+        BenchmarkWorker(ClusterService clusterService, Settings settings) {
+            super(
+                "benchmark-worker",
+                HEAP_BYTES,
+                REQUEST_SIZE_BYTES,
+                AnomalyDetectorSettings.AD_CHECKPOINT_READ_QUEUE_MAX_HEAP_PERCENT,
+                clusterService,
+                new Random(BenchmarkFixtures.SEED),
+                mock(CircuitBreakerService.class),
+                mock(ThreadPool.class),
+                ThreadPool.Names.GENERIC,
+                settings,
+                TimeSeriesSettings.MAX_QUEUED_TASKS_RATIO,
+                Clock.systemUTC(),
+                TimeSeriesSettings.MEDIUM_SEGMENT_PRUNE_RATIO,
+                TimeSeriesSettings.LOW_SEGMENT_PRUNE_RATIO,
+                TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+                TimeSeriesSettings.HOURLY_MAINTENANCE,
+                mock(NodeStateManager.class),
+                AnalysisType.AD
+            );
+        }
+
+        @Override
+        protected void triggerProcess() {}
+    }
+
+    @Param({ "1", "100" })
+    public int numConfigs;
+
+    @Param({ "10000" })
+    public int numRequests;
+
+    @Param({ "false", "true" })
+    public boolean boundedQueue;
+
+    private BenchmarkWorker worker;
+    private BenchmarkRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, boundedQueue);
+        worker = new BenchmarkWorker(
+            BenchmarkFixtures.createClusterService(AnomalyDetectorSettings.AD_CHECKPOINT_READ_QUEUE_MAX_HEAP_PERCENT),
+            Settings.EMPTY
+        );
+        long expiration = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        requests = new BenchmarkRequest[numRequests];
+        for (int i = 0; i < numRequests; i++) {
+            requests[i] = new BenchmarkRequest(expiration, BenchmarkFixtures.CONFIG_ID + (i % numConfigs), RequestPriority.MEDIUM);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, false);
+    }
+
+    @Benchmark
+    public int putAndDrain() {
+        for (BenchmarkRequest request : requests) {
+            worker.putOnly(request);
+        }
+        int drained = 0;
+        List<BenchmarkRequest> batch;
+        do {
+            batch = worker.getRequests(BATCH_SIZE);
+            drained += batch.size();
+        } while (false == batch.isEmpty());
+        return drained;
+    }
+}
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ad.model.ADTask;
 import org.opensearch.ad.model.ADTaskProfile;
+import org.opensearch.ad.task.BatchTaskStageTimings;
 import org.opensearch.ad.transport.ADTaskProfileAction;
 import org.opensearch.ad.transport.ADTaskProfileNodeResponse;
 import org.opensearch.ad.transport.ADTaskProfileRequest;
@@ -65,6 +66,11 @@ public class ADTaskProfileRunner implements TaskProfileRunner<ADTask, ADTaskProf
                             detectorTaskProfile.setRunningEntities(taskProfile.getRunningEntities());
                             detectorTaskProfile.setTaskType(taskProfile.getTaskType());
                         }
+                        // entity tasks of HC detector report timings from each worker node
+                        detectorTaskProfile
+                            .setPieceStageTimings(
+                                BatchTaskStageTimings.merge(detectorTaskProfile.getPieceStageTimings(), taskProfile.getPieceStageTimings())
+                            );
                         if (taskProfile.getEntityTaskProfiles() != null) {
                             adEntityTaskProfiles.addAll(taskProfile.getEntityTaskProfiles());
                         }
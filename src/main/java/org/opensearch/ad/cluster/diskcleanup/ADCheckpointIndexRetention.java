@@ -15,7 +15,7 @@ import org.opensearch.timeseries.cluster.diskcleanup.IndexCleanup;
 public class ADCheckpointIndexRetention extends BaseModelCheckpointIndexRetention {
 
     public ADCheckpointIndexRetention(Duration defaultCheckpointTtl, Clock clock, IndexCleanup indexCleanup) {
-        super(defaultCheckpointTtl, clock, indexCleanup, ADCommonName.CHECKPOINT_INDEX_NAME);
+        super(defaultCheckpointTtl, clock, indexCleanup, ADCommonName.CHECKPOINT_INDEX_NAME, ADCommonName.CHECKPOINT_INDEX_ALIAS);
     }
 
 }
@@ -17,6 +17,8 @@ public class ADCommonName {
     // ======================================
     // index name for anomaly checkpoint of each model. One model one document.
     public static final String CHECKPOINT_INDEX_NAME = ".opendistro-anomaly-checkpoints";
+    // The alias of the checkpoint generation in which to write checkpoints when checkpoints are time-partitioned
+    public static final String CHECKPOINT_INDEX_ALIAS = ".opendistro-anomaly-checkpoints-write";
     // index name for anomaly detection state. Will store AD task in this index as well.
     public static final String DETECTION_STATE_INDEX = ".opendistro-anomaly-detection-state";
     // config index. We are reusing ad detector index.
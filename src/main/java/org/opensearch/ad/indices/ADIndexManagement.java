@@ -12,6 +12,7 @@
 package org.opensearch.ad.indices;
 
 import static org.opensearch.ad.constant.ADCommonName.DUMMY_AD_RESULT_ID;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_CHECKPOINT_TTL;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD;
@@ -43,6 +44,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.common.exception.EndRunException;
 import org.opensearch.timeseries.indices.IndexManagement;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
 import org.opensearch.transport.client.Client;
 
@@ -60,6 +62,12 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
     // The index name pattern to query all AD result, history and current AD result
     public static final String ALL_AD_RESULTS_INDEX_PATTERN = ".opendistro-anomaly-results*";
 
+    // The index name pattern of time-partitioned checkpoint generations
+    public static final String AD_CHECKPOINT_GENERATION_INDEX_PATTERN = "<.opendistro-anomaly-checkpoints-{now/d}-1>";
+
+    // The index name pattern to query the checkpoint index and all of its generations
+    public static final String ALL_AD_CHECKPOINT_INDEX_PATTERN = ".opendistro-anomaly-checkpoints*";
+
     /**
      * Constructor function
      *
@@ -114,6 +122,9 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
         });
 
         this.clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_MAX_PRIMARY_SHARDS, it -> maxPrimaryShards = it);
+
+        this.checkpointTtl = AD_CHECKPOINT_TTL.get(settings);
+        this.clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_CHECKPOINT_TTL, it -> checkpointTtl = it);
     }
 
     /**
@@ -187,13 +198,17 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
     }
 
     /**
-     * Checkpoint index exist or not.
+     * Checkpoint index to write to exist or not. Once time-partitioned checkpoints are enabled, only
+     * the write alias counts so that the first write creates a generation.
      *
      * @return true if checkpoint index exists
      */
     @Override
     public boolean doesCheckpointIndexExist() {
-        return doesIndexExist(ADCommonName.CHECKPOINT_INDEX_NAME);
+        if (doesAliasExist(ADCommonName.CHECKPOINT_INDEX_ALIAS)) {
+            return true;
+        }
+        return !TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled() && doesIndexExist(ADCommonName.CHECKPOINT_INDEX_NAME);
     }
 
     /**
@@ -239,6 +254,15 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
      */
     @Override
     public void initCheckpointIndex(ActionListener<CreateIndexResponse> actionListener) {
+        if (TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled()) {
+            initCheckpointGeneration(
+                AD_CHECKPOINT_GENERATION_INDEX_PATTERN,
+                ADCommonName.CHECKPOINT_INDEX_ALIAS,
+                ADIndex.CHECKPOINT,
+                actionListener
+            );
+            return;
+        }
         String mapping;
         try {
             mapping = getCheckpointMappings();
@@ -258,6 +282,7 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
             AD_RESULT_HISTORY_INDEX_PATTERN,
             ADIndex.RESULT
         );
+        rolloverCheckpointIndex(ADCommonName.CHECKPOINT_INDEX_ALIAS, AD_CHECKPOINT_GENERATION_INDEX_PATTERN, ADIndex.CHECKPOINT);
     }
 
     /**
@@ -32,18 +32,19 @@ import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
-import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.ad.settings.ADEnabledSetting;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.MatchQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.timeseries.common.exception.ResourceNotFoundException;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.ml.BinaryCheckpointCodec;
 import org.opensearch.timeseries.ml.CheckpointDao;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
@@ -83,6 +84,8 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
     public static final String ENTITY_THRESHOLD = "th";
     public static final String ENTITY_TRCF = "trcf";
     public static final String FIELD_MODELV2 = "modelV2";
+    // binary checkpoint: versioned (optionally compressed) protostuff bytes of a TRCF
+    public static final String FIELD_MODELV3 = "modelV3";
     public static final String DETECTOR_ID = "detectorId";
 
     private RandomCutForestMapper mapper;
@@ -145,6 +148,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
             client,
             clientUtil,
             ADCommonName.CHECKPOINT_INDEX_NAME,
+            ADCommonName.CHECKPOINT_INDEX_ALIAS,
             gson,
             maxCheckpointBytes,
             serializeRCFBufferPool,
@@ -209,22 +213,47 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         Map<String, Object> source = new HashMap<>();
 
         Optional<ThresholdedRandomCutForest> model = modelState.getModel();
+        boolean hasModel = false;
         if (model.isPresent()) {
             ThresholdedRandomCutForest entityModel = model.get();
 
-            Optional<String> serializedModel = toCheckpoint(entityModel, modelId);
-            if (!serializedModel.isPresent() || serializedModel.get().length() > maxCheckpointBytes) {
-                logger
-                    .warn(
-                        new ParameterizedMessage(
-                            "[{}]'s model is empty or too large: [{}] bytes",
-                            modelState.getModelId(),
-                            serializedModel.isPresent() ? serializedModel.get().length() : 0
-                        )
-                    );
-                return source;
+            if (ADEnabledSetting.isBinaryCheckpointEnabled()) {
+                Optional<byte[]> binaryModel = toBinaryCheckpoint(
+                    entityModel,
+                    modelId,
+                    ADEnabledSetting.isBinaryCheckpointCompressionEnabled()
+                );
+                if (!binaryModel.isPresent() || binaryModel.get().length > maxCheckpointBytes) {
+                    logger
+                        .warn(
+                            new ParameterizedMessage(
+                                "[{}]'s model is empty or too large: [{}] bytes",
+                                modelState.getModelId(),
+                                binaryModel.isPresent() ? binaryModel.get().length : 0
+                            )
+                        );
+                    return source;
+                }
+                source.put(FIELD_MODELV3, binaryModel.get());
+                // checkpoints are partially updated. Clear the string format so that readers
+                // won't pick up a stale model written before binary checkpoint is enabled.
+                source.put(FIELD_MODELV2, null);
+            } else {
+                Optional<String> serializedModel = toCheckpoint(entityModel, modelId);
+                if (!serializedModel.isPresent() || serializedModel.get().length() > maxCheckpointBytes) {
+                    logger
+                        .warn(
+                            new ParameterizedMessage(
+                                "[{}]'s model is empty or too large: [{}] bytes",
+                                modelState.getModelId(),
+                                serializedModel.isPresent() ? serializedModel.get().length() : 0
+                            )
+                        );
+                    return source;
+                }
+                source.put(FIELD_MODELV2, serializedModel.get());
             }
-            source.put(FIELD_MODELV2, serializedModel.get());
+            hasModel = true;
         }
 
         Optional<Sample[]> samples = toCheckpoint(modelState.getSamples());
@@ -233,7 +262,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         }
 
         // if there are no samples and no model, no need to index as other information are meta data
-        if (!source.containsKey(CommonName.SAMPLE_QUEUE) && !source.containsKey(FIELD_MODELV2)) {
+        if (!source.containsKey(CommonName.SAMPLE_QUEUE) && !hasModel) {
             return source;
         }
 
@@ -278,13 +307,53 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         });
     }
 
+    /**
+     * Serialize an EntityModel into the binary checkpoint format
+     * @param model input model
+     * @param modelId model id
+     * @param compress whether to compress the serialized bytes
+     * @return versioned checkpoint bytes
+     */
+    public Optional<byte[]> toBinaryCheckpoint(ThresholdedRandomCutForest model, String modelId, boolean compress) {
+        if (model == null) {
+            logger.warn("Empty model");
+            return Optional.empty();
+        }
+        try {
+            byte[] bytes = serialize(model);
+            return bytes == null ? Optional.empty() : Optional.of(BinaryCheckpointCodec.encode(bytes, compress));
+        } catch (Exception ex) {
+            logger.warn(new ParameterizedMessage("fail to generate checkpoint for [{}]", modelId), ex);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<byte[]> toCompactModel(ThresholdedRandomCutForest model, String modelId) {
+        return toBinaryCheckpoint(model, modelId, ADEnabledSetting.isBinaryCheckpointCompressionEnabled());
+    }
+
+    @Override
+    public Optional<ThresholdedRandomCutForest> fromCompactModel(byte[] bytes, String modelId) {
+        ThresholdedRandomCutForest trcf = toTrcf(bytes);
+        if (trcf == null) {
+            logger.warn(new ParameterizedMessage("fail to restore compact model [{}]", modelId));
+        }
+        return Optional.ofNullable(trcf);
+    }
+
     String toCheckpoint(ThresholdedRandomCutForest trcf) {
-        String checkpoint = null;
+        byte[] bytes = serialize(trcf);
+        return bytes == null ? null : Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private byte[] serialize(ThresholdedRandomCutForest trcf) {
+        byte[] checkpoint = null;
         Map.Entry<LinkedBuffer, Boolean> result = checkoutOrNewBuffer();
         LinkedBuffer buffer = result.getKey();
         boolean needCheckin = result.getValue();
         try {
-            checkpoint = toCheckpoint(trcf, buffer);
+            checkpoint = serialize(trcf, buffer);
         } catch (Exception e) {
             logger.error("Failed to serialize model", e);
             if (needCheckin) {
@@ -295,7 +364,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
                     logger.warn("Failed to invalidate buffer", x);
                 }
                 try {
-                    checkpoint = toCheckpoint(trcf, LinkedBuffer.allocate(serializeRCFBufferSize));
+                    checkpoint = serialize(trcf, LinkedBuffer.allocate(serializeRCFBufferSize));
                 } catch (Exception ex) {
                     logger.warn("Failed to generate checkpoint", ex);
                 }
@@ -312,13 +381,12 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return checkpoint;
     }
 
-    private String toCheckpoint(ThresholdedRandomCutForest trcf, LinkedBuffer buffer) {
+    private byte[] serialize(ThresholdedRandomCutForest trcf, LinkedBuffer buffer) {
         try {
-            byte[] bytes = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
+            return AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
                 ThresholdedRandomCutForestState trcfState = trcfMapper.toState(trcf);
                 return ProtostuffIOUtil.toByteArray(trcfState, trcfSchema, buffer);
             });
-            return Base64.getEncoder().encodeToString(bytes);
         } finally {
             buffer.clear();
         }
@@ -341,52 +409,48 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         try {
             return AccessController.doPrivileged((PrivilegedAction<ModelState<ThresholdedRandomCutForest>>) () -> {
                 Object modelObj = checkpoint.get(FIELD_MODELV2);
+                Object binaryModelObj = null;
                 if (modelObj == null) {
+                    // a binary checkpoint clears FIELD_MODELV2
+                    binaryModelObj = checkpoint.get(FIELD_MODELV3);
+                }
+                if (modelObj == null && binaryModelObj == null) {
                     // in case there is old -format checkpoint
                     modelObj = checkpoint.get(CommonName.FIELD_MODEL);
                 }
-                if (modelObj == null) {
+                if (modelObj == null && binaryModelObj == null) {
                     logger.warn(new ParameterizedMessage("Empty model for [{}]", modelId));
                     return null;
                 }
-                String model = (String) modelObj;
-                if (model.length() > maxCheckpointBytes) {
-                    logger.warn(new ParameterizedMessage("[{}]'s model too large: [{}] bytes", modelId, model.length()));
-                    return null;
-                }
-                JsonObject json = parser.parse(model).getAsJsonObject();
-                ThresholdedRandomCutForest trcf = null;
 
-                if (json.has(ENTITY_TRCF)) {
-                    trcf = toTrcf(json.getAsJsonPrimitive(ENTITY_TRCF).getAsString());
-                } else {
-                    Optional<RandomCutForest> rcf = Optional.empty();
-                    Optional<ThresholdingModel> threshold = Optional.empty();
-                    if (json.has(ENTITY_RCF)) {
-                        String serializedRCF = json.getAsJsonPrimitive(ENTITY_RCF).getAsString();
-                        rcf = deserializeRCFModel(serializedRCF, modelId);
-                    }
-                    if (json.has(ENTITY_THRESHOLD)) {
-                        // verified, don't need privileged call to get permission
-                        threshold = Optional
-                            .ofNullable(
-                                this.gson.fromJson(json.getAsJsonPrimitive(ENTITY_THRESHOLD).getAsString(), thresholdingModelClass)
+                ThresholdedRandomCutForest trcf = null;
+                Deque<Sample> sampleQueue = null;
+                if (binaryModelObj != null) {
+                    byte[] binaryModel = BinaryCheckpointCodec.toBytes(binaryModelObj);
+                    if (binaryModel == null || binaryModel.length > maxCheckpointBytes) {
+                        logger
+                            .warn(
+                                new ParameterizedMessage(
+                                    "[{}]'s model is empty or too large: [{}] bytes",
+                                    modelId,
+                                    binaryModel == null ? 0 : binaryModel.length
+                                )
                             );
+                        return null;
                     }
-
-                    if (rcf.isPresent()) {
-                        Optional<ThresholdedRandomCutForest> convertedTRCF = convertToTRCF(rcf.get(), threshold);
-                        // if checkpoint is corrupted (e.g., some unexpected checkpoint when we missed
-                        // the mark in backward compatibility), we are not gonna load the model part
-                        // the model will have to use live data to initialize
-                        if (convertedTRCF.isPresent()) {
-                            trcf = convertedTRCF.get();
-                        }
+                    trcf = toTrcf(binaryModel);
+                    sampleQueue = loadSampleQueue(checkpoint, modelId);
+                } else {
+                    String model = (String) modelObj;
+                    if (model.length() > maxCheckpointBytes) {
+                        logger.warn(new ParameterizedMessage("[{}]'s model too large: [{}] bytes", modelId, model.length()));
+                        return null;
                     }
+                    JsonObject json = parser.parse(model).getAsJsonObject();
+                    trcf = fromJsonCheckpoint(json, modelId);
+                    sampleQueue = processSampleQueue(json, checkpoint, modelId);
                 }
 
-                Deque<Sample> sampleQueue = processSampleQueue(json, checkpoint, modelId);
-
                 String lastCheckpointTimeString = (String) (checkpoint.get(CommonName.TIMESTAMP));
                 Instant timestamp = Instant.parse(lastCheckpointTimeString);
                 Entity entity = null;
@@ -420,6 +484,34 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         }
     }
 
+    private ThresholdedRandomCutForest fromJsonCheckpoint(JsonObject json, String modelId) {
+        if (json.has(ENTITY_TRCF)) {
+            return toTrcf(json.getAsJsonPrimitive(ENTITY_TRCF).getAsString());
+        }
+        Optional<RandomCutForest> rcf = Optional.empty();
+        Optional<ThresholdingModel> threshold = Optional.empty();
+        if (json.has(ENTITY_RCF)) {
+            String serializedRCF = json.getAsJsonPrimitive(ENTITY_RCF).getAsString();
+            rcf = deserializeRCFModel(serializedRCF, modelId);
+        }
+        if (json.has(ENTITY_THRESHOLD)) {
+            // verified, don't need privileged call to get permission
+            threshold = Optional
+                .ofNullable(this.gson.fromJson(json.getAsJsonPrimitive(ENTITY_THRESHOLD).getAsString(), thresholdingModelClass));
+        }
+
+        if (rcf.isPresent()) {
+            Optional<ThresholdedRandomCutForest> convertedTRCF = convertToTRCF(rcf.get(), threshold);
+            // if checkpoint is corrupted (e.g., some unexpected checkpoint when we missed
+            // the mark in backward compatibility), we are not gonna load the model part
+            // the model will have to use live data to initialize
+            if (convertedTRCF.isPresent()) {
+                return convertedTRCF.get();
+            }
+        }
+        return null;
+    }
+
     private Deque<Sample> processSampleQueue(JsonObject json, Map<String, Object> checkpoint, String modelId) {
         Deque<Sample> sampleQueue = new ArrayDeque<>();
         if (json.has(CommonName.ENTITY_SAMPLE)) {
@@ -445,6 +537,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
                     ProtostuffIOUtil.mergeFrom(bytes, state, trcfSchema);
                     return null;
                 });
+                disableParallelExecution(state.getForestState());
                 trcf = trcfMapper.toModel(state);
             } catch (RuntimeException e) {
                 logger.info("checkpoint to restore: " + checkpoint);
@@ -454,6 +547,30 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return trcf;
     }
 
+    /**
+     * Restore a TRCF from a binary checkpoint
+     * @param binaryCheckpoint versioned checkpoint bytes
+     * @return the restored model or null if the checkpoint is corrupted
+     */
+    ThresholdedRandomCutForest toTrcf(byte[] binaryCheckpoint) {
+        ThresholdedRandomCutForest trcf = null;
+        if (binaryCheckpoint != null && binaryCheckpoint.length > 0) {
+            try {
+                byte[] bytes = BinaryCheckpointCodec.decode(binaryCheckpoint, maxCheckpointBytes);
+                ThresholdedRandomCutForestState state = trcfSchema.newMessage();
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    ProtostuffIOUtil.mergeFrom(bytes, state, trcfSchema);
+                    return null;
+                });
+                disableParallelExecution(state.getForestState());
+                trcf = trcfMapper.toModel(state);
+            } catch (RuntimeException e) {
+                logger.error("Failed to deserialize binary TRCF model", e);
+            }
+        }
+        return trcf;
+    }
+
     private Optional<RandomCutForest> deserializeRCFModel(String checkpoint, String modelId) {
         if (checkpoint == null || checkpoint.isEmpty()) {
             return Optional.empty();
@@ -461,6 +578,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return Optional.ofNullable(AccessController.doPrivileged((PrivilegedAction<RandomCutForest>) () -> {
             try {
                 RandomCutForestState state = converter.convert(checkpoint, Precision.FLOAT_32);
+                disableParallelExecution(state);
                 return mapper.toModel(state);
             } catch (Exception e) {
                 logger.error("Unexpected error when deserializing " + modelId, e);
@@ -478,8 +596,11 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         if (response.isExists()) {
             try {
                 model = response.getSource().get(FIELD_MODELV2);
+                Object binaryModel = response.getSource().get(FIELD_MODELV3);
                 if (model != null) {
                     listener.onResponse(Optional.ofNullable(toTrcf((String) model)));
+                } else if (binaryModel != null) {
+                    listener.onResponse(Optional.ofNullable(toTrcf(BinaryCheckpointCodec.toBytes(binaryModel))));
                 } else {
                     Object modelV1 = response.getSource().get(CommonName.FIELD_MODEL);
                     Optional<RandomCutForest> forest = deserializeRCFModel((String) modelV1, rcfModelId);
@@ -520,19 +641,14 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
      * @param listener onResponse is called with the model checkpoint, or empty for no such model
      */
     public void getTRCFModel(String modelId, ActionListener<Optional<ThresholdedRandomCutForest>> listener) {
-        clientUtil
-            .<GetRequest, GetResponse>asyncRequest(
-                new GetRequest(indexName, modelId),
-                client::get,
-                ActionListener.wrap(response -> deserializeTRCFModel(response, modelId, listener), exception -> {
-                    // expected exception, don't print stack trace
-                    if (exception instanceof IndexNotFoundException) {
-                        listener.onResponse(Optional.empty());
-                    } else {
-                        listener.onFailure(exception);
-                    }
-                })
-            );
+        getCheckpoint(modelId, ActionListener.wrap(response -> deserializeTRCFModel(response, modelId, listener), exception -> {
+            // expected exception, don't print stack trace
+            if (exception instanceof IndexNotFoundException) {
+                listener.onResponse(Optional.empty());
+            } else {
+                listener.onFailure(exception);
+            }
+        }));
     }
 
     /**
@@ -542,7 +658,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
      * @param listener onResponse is called with the model checkpoint, or empty for no such model
      */
     public void getThresholdModel(String modelId, ActionListener<Optional<ThresholdingModel>> listener) {
-        clientUtil.<GetRequest, GetResponse>asyncRequest(new GetRequest(indexName, modelId), client::get, ActionListener.wrap(response -> {
+        getCheckpoint(modelId, ActionListener.wrap(response -> {
             Optional<Object> thresholdCheckpoint = processThresholdModelCheckpoint(response);
             if (!thresholdCheckpoint.isPresent()) {
                 listener.onFailure(new ResourceNotFoundException("", "Fail to find model " + modelId));
@@ -590,7 +706,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
 
     @Override
     protected DeleteByQueryRequest createDeleteCheckpointRequest(String detectorId) {
-        return new DeleteByQueryRequest(indexName)
+        return new DeleteByQueryRequest(getCheckpointIndices())
             .setQuery(new MatchQueryBuilder(DETECTOR_ID, detectorId))
             .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
             .setAbortOnVersionConflict(false) // when current delete happens, previous might not finish.
@@ -492,7 +492,6 @@ public class ADModelManager extends
             .timeDecay(rcfTimeDecay)
             .outputAfter(rcfNumMinSamples)
             .initialAcceptFraction(initialAcceptFraction)
-            .parallelExecutionEnabled(false)
             .compact(true)
             .precision(Precision.FLOAT_32)
             .boundingBoxCacheFraction(TimeSeriesSettings.BATCH_BOUNDING_BOX_CACHE_RATIO)
@@ -513,21 +512,32 @@ public class ADModelManager extends
 
         ADColdStart.applyRule(trcfBuilder, detector);
 
-        ThresholdedRandomCutForest trcf = trcfBuilder.build();
+        // the preview model lives only for this call, so it can use parallel tree execution if the thread budget allows
+        int rcfThreads = memoryTracker.tryAcquireRCFThreads(TimeSeriesSettings.RCF_PARALLEL_THREADS_PER_MODEL);
+        trcfBuilder.parallelExecutionEnabled(rcfThreads > 0);
+        if (rcfThreads > 0) {
+            trcfBuilder.threadPoolSize(rcfThreads);
+        }
 
-        return IntStream.range(0, dataPoints.length).mapToObj(i -> {
-            // we don't have missing values in preview data. We have already filtered them out.
-            double[] point = dataPoints[i];
-            // Get the data end epoch milliseconds corresponding to this index and convert it to seconds
-            long timestampSecs = timeRanges.get(i).getValue() / 1000;
-            AnomalyDescriptor descriptor = trcf.process(point, timestampSecs); // Use the timestamp here
+        try {
+            ThresholdedRandomCutForest trcf = trcfBuilder.build();
 
-            if (descriptor != null) {
-                return toResult(trcf.getForest(), descriptor, point, false, detector);
-            }
+            return IntStream.range(0, dataPoints.length).mapToObj(i -> {
+                // we don't have missing values in preview data. We have already filtered them out.
+                double[] point = dataPoints[i];
+                // Get the data end epoch milliseconds corresponding to this index and convert it to seconds
+                long timestampSecs = timeRanges.get(i).getValue() / 1000;
+                AnomalyDescriptor descriptor = trcf.process(point, timestampSecs); // Use the timestamp here
 
-            return null;
-        }).collect(Collectors.toList());
+                if (descriptor != null) {
+                    return toResult(trcf.getForest(), descriptor, point, false, detector);
+                }
+
+                return null;
+            }).collect(Collectors.toList());
+        } finally {
+            memoryTracker.releaseRCFThreads(rcfThreads);
+        }
     }
 
     /**
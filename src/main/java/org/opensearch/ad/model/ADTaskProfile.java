@@ -15,7 +15,9 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.opensearch.Version;
@@ -42,6 +44,9 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
     public static final String RUNNING_ENTITIES_COUNT_FIELD = "running_entities_count";
     public static final String RUNNING_ENTITIES_FIELD = "running_entities";
     public static final String LATEST_HC_TASK_RUN_TIME_FIELD = "latest_hc_task_run_time";
+    public static final String PIECE_STAGE_TIMINGS_FIELD = "piece_stage_timings";
+    // first version that sends piece stage timings
+    public static final Version PIECE_STAGE_TIMINGS_VERSION = Version.fromString("3.3.0");
 
     private Boolean thresholdModelTrained;
     private Integer thresholdModelTrainingDataSize;
@@ -52,6 +57,8 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
     private Integer runningEntitiesCount;
     private List<String> runningEntities;
     private Long latestHCTaskRunTime;
+    // stage name -> time spent, see BatchTaskStageTimings
+    private Map<String, Long> pieceStageTimings;
     protected List<EntityTaskProfile> entityTaskProfiles;
 
     public ADTaskProfile() {
@@ -130,6 +137,9 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
                 this.entityTaskProfiles = input.readList(EntityTaskProfile::new);
             }
             this.latestHCTaskRunTime = input.readOptionalLong();
+            if (input.getVersion().onOrAfter(PIECE_STAGE_TIMINGS_VERSION) && input.readBoolean()) {
+                this.pieceStageTimings = input.readMap(StreamInput::readString, StreamInput::readLong);
+            }
         }
     }
 
@@ -172,6 +182,14 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
                 out.writeBoolean(false);
             }
             out.writeOptionalLong(latestHCTaskRunTime);
+            if (out.getVersion().onOrAfter(PIECE_STAGE_TIMINGS_VERSION)) {
+                if (pieceStageTimings != null) {
+                    out.writeBoolean(true);
+                    out.writeMap(pieceStageTimings, StreamOutput::writeString, StreamOutput::writeLong);
+                } else {
+                    out.writeBoolean(false);
+                }
+            }
         }
     }
 
@@ -206,6 +224,9 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
         if (latestHCTaskRunTime != null) {
             xContentBuilder.field(LATEST_HC_TASK_RUN_TIME_FIELD, latestHCTaskRunTime);
         }
+        if (pieceStageTimings != null) {
+            xContentBuilder.field(PIECE_STAGE_TIMINGS_FIELD, pieceStageTimings);
+        }
         if (entityTaskProfiles != null && entityTaskProfiles.size() > 0) {
             xContentBuilder.field(ENTITY_TASK_PROFILE_FIELD, entityTaskProfiles.toArray());
         }
@@ -230,6 +251,7 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
         List<String> runningEntities = null;
         List<EntityTaskProfile> entityTaskProfiles = null;
         Long latestHCTaskRunTime = null;
+        Map<String, Long> pieceStageTimings = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -296,12 +318,21 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
                 case LATEST_HC_TASK_RUN_TIME_FIELD:
                     latestHCTaskRunTime = parser.longValue();
                     break;
+                case PIECE_STAGE_TIMINGS_FIELD:
+                    pieceStageTimings = new HashMap<>();
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                        String stage = parser.currentName();
+                        parser.nextToken();
+                        pieceStageTimings.put(stage, parser.longValue());
+                    }
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new ADTaskProfile(
+        ADTaskProfile profile = new ADTaskProfile(
             adTask,
             rcfTotalUpdates,
             thresholdModelTrained,
@@ -318,6 +349,8 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
             runningEntities,
             latestHCTaskRunTime
         );
+        profile.setPieceStageTimings(pieceStageTimings);
+        return profile;
     }
 
     public Boolean getThresholdModelTrained() {
@@ -392,6 +425,14 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
         this.runningEntities = runningEntities;
     }
 
+    public Map<String, Long> getPieceStageTimings() {
+        return pieceStageTimings;
+    }
+
+    public void setPieceStageTimings(Map<String, Long> pieceStageTimings) {
+        this.pieceStageTimings = pieceStageTimings;
+    }
+
     public List<EntityTaskProfile> getEntityTaskProfiles() {
         return entityTaskProfiles;
     }
@@ -420,6 +461,7 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
             && Objects.equals(runningEntitiesCount, that.runningEntitiesCount)
             && Objects.equals(runningEntities, that.runningEntities)
             && Objects.equals(latestHCTaskRunTime, that.latestHCTaskRunTime)
+            && Objects.equals(pieceStageTimings, that.pieceStageTimings)
             && Objects.equals(entityTaskProfiles, that.entityTaskProfiles);
     }
 
@@ -439,7 +481,8 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
                 runningEntities,
                 entityTaskProfiles,
                 latestHCTaskRunTime,
-                entityTaskProfiles
+                entityTaskProfiles,
+                pieceStageTimings
             );
         return hash;
     }
@@ -482,6 +525,8 @@ public class ADTaskProfile extends TaskProfile<ADTask> {
             + latestHCTaskRunTime
             + ", entityTaskProfiles="
             + entityTaskProfiles
+            + ", pieceStageTimings="
+            + pieceStageTimings
             + '}';
     }
 
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
 import org.opensearch.ad.ml.ThresholdingResult;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.ParseField;
@@ -69,6 +70,12 @@ public class AnomalyResult extends IndexableResult {
     // unused currently. added since odfe 1.4
     public static final String IS_ANOMALY_FIELD = "is_anomaly";
     public static final String FEATURE_IMPUTED = "feature_imputed";
+    public static final String ROLLUP_FIELD = "rollup";
+
+    /**
+     * Nodes on or after this version send the rollup statistics of summary results.
+     */
+    public static final Version ROLLUP_VERSION = Version.fromString("3.3.0");
 
     private final Double anomalyScore;
     private final Double anomalyGrade;
@@ -199,6 +206,9 @@ public class AnomalyResult extends IndexableResult {
     // whether a feature value is imputed or not
     private List<FeatureImputed> featureImputed;
 
+    // statistics of the non-anomalous results a summary result stands for. Null for other results.
+    private final ResultRollup rollup;
+
     // used when indexing exception or error or an empty result
     public AnomalyResult(
         String detectorId,
@@ -261,6 +271,56 @@ public class AnomalyResult extends IndexableResult {
         List<ExpectedValueList> expectedValuesList,
         Double threshold,
         List<FeatureImputed> featureImputed
+    ) {
+        this(
+            configId,
+            taskId,
+            anomalyScore,
+            anomalyGrade,
+            confidence,
+            featureData,
+            dataStartTime,
+            dataEndTime,
+            executionStartTime,
+            executionEndTime,
+            error,
+            entity,
+            user,
+            schemaVersion,
+            modelId,
+            approxAnomalyStartTime,
+            relevantAttribution,
+            pastValues,
+            expectedValuesList,
+            threshold,
+            featureImputed,
+            null
+        );
+    }
+
+    public AnomalyResult(
+        String configId,
+        String taskId,
+        Double anomalyScore,
+        Double anomalyGrade,
+        Double confidence,
+        List<FeatureData> featureData,
+        Instant dataStartTime,
+        Instant dataEndTime,
+        Instant executionStartTime,
+        Instant executionEndTime,
+        String error,
+        Optional<Entity> entity,
+        User user,
+        Integer schemaVersion,
+        String modelId,
+        Instant approxAnomalyStartTime,
+        List<DataByFeatureId> relevantAttribution,
+        List<DataByFeatureId> pastValues,
+        List<ExpectedValueList> expectedValuesList,
+        Double threshold,
+        List<FeatureImputed> featureImputed,
+        ResultRollup rollup
     ) {
         super(
             configId,
@@ -285,6 +345,7 @@ public class AnomalyResult extends IndexableResult {
         this.expectedValuesList = expectedValuesList;
         this.threshold = threshold;
         this.featureImputed = featureImputed;
+        this.rollup = rollup;
     }
 
     /**
@@ -610,6 +671,12 @@ public class AnomalyResult extends IndexableResult {
         } else {
             this.featureImputed = null;
         }
+
+        if (input.getVersion().onOrAfter(ROLLUP_VERSION) && input.readBoolean()) {
+            this.rollup = new ResultRollup(input);
+        } else {
+            this.rollup = null;
+        }
     }
 
     @Override
@@ -688,6 +755,9 @@ public class AnomalyResult extends IndexableResult {
         if (featureImputed != null && featureImputed.size() > 0) {
             xContentBuilder.array(FEATURE_IMPUTED, featureImputed.toArray());
         }
+        if (rollup != null) {
+            xContentBuilder.field(ROLLUP_FIELD, rollup);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -713,6 +783,7 @@ public class AnomalyResult extends IndexableResult {
         List<ExpectedValueList> expectedValues = new ArrayList<>();
         Double threshold = null;
         List<FeatureImputed> featureImputed = null;
+        ResultRollup rollup = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -799,6 +870,9 @@ public class AnomalyResult extends IndexableResult {
                         featureImputed.add(FeatureImputed.parse(parser));
                     }
                     break;
+                case ROLLUP_FIELD:
+                    rollup = ResultRollup.parse(parser);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -826,7 +900,8 @@ public class AnomalyResult extends IndexableResult {
             pastValues,
             expectedValues,
             threshold,
-            featureImputed
+            featureImputed,
+            rollup
         );
     }
 
@@ -849,7 +924,8 @@ public class AnomalyResult extends IndexableResult {
             && Objects.equal(pastValues, that.pastValues)
             && Objects.equal(expectedValuesList, that.expectedValuesList)
             && Objects.equal(threshold, that.threshold)
-            && Objects.equal(featureImputed, that.featureImputed);
+            && Objects.equal(featureImputed, that.featureImputed)
+            && Objects.equal(rollup, that.rollup);
     }
 
     @Generated
@@ -868,7 +944,8 @@ public class AnomalyResult extends IndexableResult {
                 pastValues,
                 expectedValuesList,
                 threshold,
-                featureImputed
+                featureImputed,
+                rollup
             );
         return result;
     }
@@ -889,6 +966,7 @@ public class AnomalyResult extends IndexableResult {
                 .append("expectedValuesList", StringUtils.join(expectedValuesList, "|"))
                 .append("threshold", threshold)
                 .append("featureImputed", featureImputed)
+                .append("rollup", rollup)
                 .toString();
     }
 
@@ -936,6 +1014,13 @@ public class AnomalyResult extends IndexableResult {
         return featureImputed;
     }
 
+    /**
+     * @return statistics of the results a summary result stands for, or null if this is not a summary result
+     */
+    public ResultRollup getRollup() {
+        return rollup;
+    }
+
     /**
      * Anomaly result index consists of overwhelmingly (99.5%) zero-grade non-error documents.
      * This function exclude the majority case.
@@ -995,6 +1080,10 @@ public class AnomalyResult extends IndexableResult {
         } else {
             out.writeVInt(0);
         }
+
+        if (out.getVersion().onOrAfter(ROLLUP_VERSION)) {
+            out.writeOptionalWriteable(rollup);
+        }
     }
 
     public static AnomalyResult getDummyResult() {
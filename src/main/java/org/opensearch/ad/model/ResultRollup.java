@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.model;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import com.google.common.base.Objects;
+
+/**
+ * Statistics of consecutive non-anomalous results of a model folded into one summary result.
+ *
+ */
+public class ResultRollup implements ToXContentObject, Writeable {
+
+    public static final String COUNT_FIELD = "count";
+    public static final String MIN_SCORE_FIELD = "min_score";
+    public static final String MAX_SCORE_FIELD = "max_score";
+    public static final String AVG_SCORE_FIELD = "avg_score";
+    public static final String FEATURES_FIELD = "features";
+
+    private final int count;
+    private final double minScore;
+    private final double maxScore;
+    private final double avgScore;
+    private final List<FeatureRollup> features;
+
+    public ResultRollup(int count, double minScore, double maxScore, double avgScore, List<FeatureRollup> features) {
+        this.count = count;
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.avgScore = avgScore;
+        this.features = features;
+    }
+
+    public ResultRollup(StreamInput input) throws IOException {
+        this.count = input.readVInt();
+        this.minScore = input.readDouble();
+        this.maxScore = input.readDouble();
+        this.avgScore = input.readDouble();
+        this.features = input.readList(FeatureRollup::new);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return builder
+            .startObject()
+            .field(COUNT_FIELD, count)
+            .field(MIN_SCORE_FIELD, minScore)
+            .field(MAX_SCORE_FIELD, maxScore)
+            .field(AVG_SCORE_FIELD, avgScore)
+            .array(FEATURES_FIELD, features.toArray())
+            .endObject();
+    }
+
+    public static ResultRollup parse(XContentParser parser) throws IOException {
+        int count = 0;
+        double minScore = Double.NaN;
+        double maxScore = Double.NaN;
+        double avgScore = Double.NaN;
+        List<FeatureRollup> features = new ArrayList<>();
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case COUNT_FIELD:
+                    count = parser.intValue();
+                    break;
+                case MIN_SCORE_FIELD:
+                    minScore = parser.doubleValue();
+                    break;
+                case MAX_SCORE_FIELD:
+                    maxScore = parser.doubleValue();
+                    break;
+                case AVG_SCORE_FIELD:
+                    avgScore = parser.doubleValue();
+                    break;
+                case FEATURES_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        features.add(FeatureRollup.parse(parser));
+                    }
+                    break;
+                default:
+                    // the unknown field and it's children should be ignored
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new ResultRollup(count, minScore, maxScore, avgScore, features);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(count);
+        out.writeDouble(minScore);
+        out.writeDouble(maxScore);
+        out.writeDouble(avgScore);
+        out.writeList(features);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ResultRollup that = (ResultRollup) o;
+        return count == that.count
+            && Double.compare(minScore, that.minScore) == 0
+            && Double.compare(maxScore, that.maxScore) == 0
+            && Double.compare(avgScore, that.avgScore) == 0
+            && Objects.equal(features, that.features);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(count, minScore, maxScore, avgScore, features);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMinScore() {
+        return minScore;
+    }
+
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    public double getAvgScore() {
+        return avgScore;
+    }
+
+    public List<FeatureRollup> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Statistics of a feature's values over the folded results
+     *
+     */
+    public static class FeatureRollup implements ToXContentObject, Writeable {
+        public static final String FEATURE_ID_FIELD = "feature_id";
+        public static final String MIN_FIELD = "min";
+        public static final String MAX_FIELD = "max";
+        public static final String AVG_FIELD = "avg";
+
+        private final String featureId;
+        private final double min;
+        private final double max;
+        private final double avg;
+
+        public FeatureRollup(String featureId, double min, double max, double avg) {
+            this.featureId = featureId;
+            this.min = min;
+            this.max = max;
+            this.avg = avg;
+        }
+
+        public FeatureRollup(StreamInput input) throws IOException {
+            this.featureId = input.readString();
+            this.min = input.readDouble();
+            this.max = input.readDouble();
+            this.avg = input.readDouble();
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return builder
+                .startObject()
+                .field(FEATURE_ID_FIELD, featureId)
+                .field(MIN_FIELD, min)
+                .field(MAX_FIELD, max)
+                .field(AVG_FIELD, avg)
+                .endObject();
+        }
+
+        public static FeatureRollup parse(XContentParser parser) throws IOException {
+            String featureId = null;
+            double min = Double.NaN;
+            double max = Double.NaN;
+            double avg = Double.NaN;
+
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                switch (fieldName) {
+                    case FEATURE_ID_FIELD:
+                        featureId = parser.text();
+                        break;
+                    case MIN_FIELD:
+                        min = parser.doubleValue();
+                        break;
+                    case MAX_FIELD:
+                        max = parser.doubleValue();
+                        break;
+                    case AVG_FIELD:
+                        avg = parser.doubleValue();
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+            return new FeatureRollup(featureId, min, max, avg);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(featureId);
+            out.writeDouble(min);
+            out.writeDouble(max);
+            out.writeDouble(avg);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FeatureRollup that = (FeatureRollup) o;
+            return Objects.equal(featureId, that.featureId)
+                && Double.compare(min, that.min) == 0
+                && Double.compare(max, that.max) == 0
+                && Double.compare(avg, that.avg) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(featureId, min, max, avg);
+        }
+
+        public String getFeatureId() {
+            return featureId;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getAvg() {
+            return avg;
+        }
+    }
+}
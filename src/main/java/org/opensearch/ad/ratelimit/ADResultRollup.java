@@ -0,0 +1,306 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ratelimit;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.model.ResultRollup;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.timeseries.model.Config;
+import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.model.FeatureData;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+
+/**
+ * Folds consecutive non-anomalous real-time results of a model into periodic summary results.
+ *
+ * A model's window of folded results is closed and written as one summary result when
+ * <ul>
+ * <li>it holds the configured number of results,</li>
+ * <li>the model produces an anomaly or an error, which is written individually after the summary, or</li>
+ * <li>the model stops producing results for two detector intervals.</li>
+ * </ul>
+ * Idle windows are closed as results arrive and by the hourly maintenance, which also covers
+ * detectors that stopped. The number of open windows is bounded; once the bound is reached,
+ * results of models without an open window are written individually.
+ * A summary result has a zero anomaly grade, the highest anomaly score and the average feature
+ * values of the window, spans the data and execution times of the window, and carries the
+ * count and score and feature statistics of the window in its rollup field.
+ *
+ * Windows live in memory only. The results of open windows are lost if the node leaves the cluster.
+ */
+public class ADResultRollup {
+    private static final long SWEEP_INTERVAL_MILLIS = 60_000L;
+    private static final int IDLE_INTERVALS = 2;
+
+    private final Clock clock;
+    private final int maxWindows;
+    // model Id, or config Id of single-stream detectors -> open window
+    private final Map<String, Window> windows;
+    private final AtomicLong lastSweepMillis;
+
+    public ADResultRollup(Clock clock) {
+        this(clock, AnomalyDetectorSettings.MAX_RESULT_ROLLUP_WINDOWS);
+    }
+
+    public ADResultRollup(Clock clock, int maxWindows) {
+        this.clock = clock;
+        this.maxWindows = maxWindows;
+        this.windows = new ConcurrentHashMap<>();
+        this.lastSweepMillis = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * Folds a result into the window of its model unless it is an anomaly or an error, or
+     * the model has no open window and the number of open windows is at its bound.
+     *
+     * @param result result to fold
+     * @param config detector config
+     * @param maxResults the number of results at which a window is closed
+     * @return write requests to send now: the summary of a closed window and the result itself if it is not folded
+     */
+    public List<ADResultWriteRequest> add(AnomalyResult result, Config config, int maxResults) {
+        List<ADResultWriteRequest> toWrite = new ArrayList<>();
+        String key = result.getModelId() != null ? result.getModelId() : result.getConfigId();
+        // the bound is soft: concurrent adds may open a few windows past it
+        boolean fold = isFoldable(result) && (windows.size() < maxWindows || windows.containsKey(key));
+        long now = clock.millis();
+        windows.compute(key, (k, window) -> {
+            if (window != null && (false == fold || false == window.accepts(result, config))) {
+                toWrite.add(window.close(now));
+                window = null;
+            }
+            if (false == fold) {
+                return null;
+            }
+            if (window == null) {
+                window = new Window(result, config);
+            }
+            window.add(result, now);
+            if (window.count >= maxResults) {
+                toWrite.add(window.close(now));
+                return null;
+            }
+            return window;
+        });
+        if (false == fold) {
+            toWrite.add(createWriteRequest(result, config, now));
+        }
+        return toWrite;
+    }
+
+    /**
+     * Closes the windows of models that produced no result for two detector intervals.
+     * Runs at most once a minute.
+     *
+     * @return summaries of the closed windows
+     */
+    public List<ADResultWriteRequest> sweep() {
+        long now = clock.millis();
+        long lastSweep = lastSweepMillis.get();
+        if (now - lastSweep < SWEEP_INTERVAL_MILLIS || false == lastSweepMillis.compareAndSet(lastSweep, now)) {
+            return new ArrayList<>();
+        }
+        return closeIdleWindows(now);
+    }
+
+    /**
+     * Closes the windows of models that produced no result for two detector intervals, including
+     * those of stopped detectors, which no longer trigger a sweep.
+     *
+     * @return summaries of the closed windows
+     */
+    public List<ADResultWriteRequest> maintenance() {
+        return closeIdleWindows(clock.millis());
+    }
+
+    private List<ADResultWriteRequest> closeIdleWindows(long now) {
+        List<ADResultWriteRequest> toWrite = new ArrayList<>();
+        for (String key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) -> {
+                if (now - window.lastUpdateMillis > IDLE_INTERVALS * window.frequencyMillis) {
+                    toWrite.add(window.close(now));
+                    return null;
+                }
+                return window;
+            });
+        }
+        return toWrite;
+    }
+
+    /**
+     * @return the number of open windows
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private static boolean isFoldable(AnomalyResult result) {
+        return false == result.isHighPriority()
+            && result.getTaskId() == null
+            && result.getAnomalyScore() != null
+            && false == result.getAnomalyScore().isNaN()
+            && result.getFeatureData() != null
+            && result.getDataStartTime() != null
+            && result.getDataEndTime() != null;
+    }
+
+    private static ADResultWriteRequest createWriteRequest(AnomalyResult result, Config config, long now) {
+        return new ADResultWriteRequest(
+            now + config.getFrequencyInMilliseconds(),
+            config.getId(),
+            result.getAnomalyGrade() != null && result.getAnomalyGrade() > 0 ? RequestPriority.HIGH : RequestPriority.MEDIUM,
+            result,
+            config.getCustomResultIndexOrAlias(),
+            config.getFlattenResultIndexAlias()
+        );
+    }
+
+    private static class Window {
+        private final String configId;
+        private final long frequencyMillis;
+        private final String resultIndex;
+        private final String flattenResultIndex;
+        private final String modelId;
+        private final Optional<Entity> entity;
+        private final List<FeatureData> firstFeatures;
+        private final double[] featureMin;
+        private final double[] featureMax;
+        private final double[] featureSum;
+        private final int[] featureCount;
+
+        private Instant dataStartTime;
+        private Instant dataEndTime;
+        private Instant executionStartTime;
+        private Instant executionEndTime;
+        private Double confidence;
+        private User user;
+        private Integer schemaVersion;
+        private int count;
+        private double minScore;
+        private double maxScore;
+        private double scoreSum;
+        private long lastUpdateMillis;
+
+        Window(AnomalyResult first, Config config) {
+            this.configId = config.getId();
+            this.frequencyMillis = config.getFrequencyInMilliseconds();
+            this.resultIndex = config.getCustomResultIndexOrAlias();
+            this.flattenResultIndex = config.getFlattenResultIndexAlias();
+            this.modelId = first.getModelId();
+            this.entity = first.getEntity();
+            this.firstFeatures = first.getFeatureData();
+            int numFeatures = firstFeatures.size();
+            this.featureMin = new double[numFeatures];
+            this.featureMax = new double[numFeatures];
+            this.featureSum = new double[numFeatures];
+            this.featureCount = new int[numFeatures];
+            this.dataStartTime = first.getDataStartTime();
+            this.executionStartTime = first.getExecutionStartTime();
+            this.minScore = Double.MAX_VALUE;
+            this.maxScore = -Double.MAX_VALUE;
+        }
+
+        boolean accepts(AnomalyResult result, Config config) {
+            List<FeatureData> features = result.getFeatureData();
+            if (features.size() != firstFeatures.size()
+                || false == Objects.equals(resultIndex, config.getCustomResultIndexOrAlias())
+                || false == Objects.equals(flattenResultIndex, config.getFlattenResultIndexAlias())) {
+                return false;
+            }
+            for (int i = 0; i < features.size(); i++) {
+                if (false == Objects.equals(features.get(i).getFeatureId(), firstFeatures.get(i).getFeatureId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(AnomalyResult result, long now) {
+            double score = result.getAnomalyScore();
+            minScore = Math.min(minScore, score);
+            maxScore = Math.max(maxScore, score);
+            scoreSum += score;
+            count++;
+
+            List<FeatureData> features = result.getFeatureData();
+            for (int i = 0; i < features.size(); i++) {
+                Double value = features.get(i).getData();
+                if (value == null || value.isNaN()) {
+                    continue;
+                }
+                featureMin[i] = featureCount[i] == 0 ? value : Math.min(featureMin[i], value);
+                featureMax[i] = featureCount[i] == 0 ? value : Math.max(featureMax[i], value);
+                featureSum[i] += value;
+                featureCount[i]++;
+            }
+
+            dataEndTime = result.getDataEndTime();
+            executionEndTime = result.getExecutionEndTime();
+            confidence = result.getConfidence();
+            user = result.getUser();
+            schemaVersion = result.getSchemaVersion();
+            lastUpdateMillis = now;
+        }
+
+        ADResultWriteRequest close(long now) {
+            List<FeatureData> averages = new ArrayList<>(firstFeatures.size());
+            List<ResultRollup.FeatureRollup> featureRollups = new ArrayList<>(firstFeatures.size());
+            for (int i = 0; i < firstFeatures.size(); i++) {
+                FeatureData feature = firstFeatures.get(i);
+                if (featureCount[i] == 0) {
+                    // no valid value in the window
+                    continue;
+                }
+                double avg = featureSum[i] / featureCount[i];
+                averages.add(new FeatureData(feature.getFeatureId(), feature.getFeatureName(), avg));
+                featureRollups.add(new ResultRollup.FeatureRollup(feature.getFeatureId(), featureMin[i], featureMax[i], avg));
+            }
+            AnomalyResult summary = new AnomalyResult(
+                configId,
+                null,
+                maxScore,
+                0d,
+                confidence,
+                averages,
+                dataStartTime,
+                dataEndTime,
+                executionStartTime,
+                executionEndTime,
+                null,
+                entity,
+                user,
+                schemaVersion,
+                modelId,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new ResultRollup(count, minScore, maxScore, scoreSum / count, featureRollups)
+            );
+            return new ADResultWriteRequest(
+                now + frequencyMillis,
+                configId,
+                RequestPriority.MEDIUM,
+                summary,
+                resultIndex,
+                flattenResultIndex
+            );
+        }
+    }
+}
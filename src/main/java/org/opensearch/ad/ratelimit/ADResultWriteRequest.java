@@ -14,6 +14,7 @@ package org.opensearch.ad.ratelimit;
 import java.io.IOException;
 
 import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.settings.ADEnabledSetting;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
 import org.opensearch.timeseries.ratelimit.ResultWriteRequest;
@@ -28,7 +29,19 @@ public class ADResultWriteRequest extends ResultWriteRequest<AnomalyResult> {
         String resultIndex,
         String flattenResultIndex
     ) {
-        super(expirationEpochMs, detectorId, priority, result, resultIndex, flattenResultIndex);
+        this(expirationEpochMs, detectorId, priority, result, resultIndex, flattenResultIndex, ADEnabledSetting.isPreserializedResultEnabled());
+    }
+
+    public ADResultWriteRequest(
+        long expirationEpochMs,
+        String detectorId,
+        RequestPriority priority,
+        AnomalyResult result,
+        String resultIndex,
+        String flattenResultIndex,
+        boolean encodeResult
+    ) {
+        super(expirationEpochMs, detectorId, priority, result, resultIndex, flattenResultIndex, encodeResult);
     }
 
     public ADResultWriteRequest(StreamInput in) throws IOException {
@@ -5,6 +5,7 @@
 
 package org.opensearch.ad.ratelimit;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +15,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ad.ml.ThresholdingResult;
 import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.settings.ADEnabledSetting;
+import org.opensearch.ad.settings.ADNumericSetting;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
@@ -25,10 +28,16 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
     private static final Logger LOG = LogManager.getLogger(ADSaveResultStrategy.class);
     private int resultMappingVersion;
     private ADResultWriteWorker resultWriteWorker;
+    private ADResultRollup resultRollup;
 
     public ADSaveResultStrategy(int resultMappingVersion, ADResultWriteWorker resultWriteWorker) {
+        this(resultMappingVersion, resultWriteWorker, new ADResultRollup(Clock.systemUTC()));
+    }
+
+    public ADSaveResultStrategy(int resultMappingVersion, ADResultWriteWorker resultWriteWorker, ADResultRollup resultRollup) {
         this.resultMappingVersion = resultMappingVersion;
         this.resultWriteWorker = resultWriteWorker;
+        this.resultRollup = resultRollup;
     }
 
     @Override
@@ -83,17 +92,29 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
 
     @Override
     public void saveResult(AnomalyResult result, Config config) {
-        resultWriteWorker
-            .put(
-                new ADResultWriteRequest(
-                    System.currentTimeMillis() + config.getFrequencyInMilliseconds(),
-                    config.getId(),
-                    result.getAnomalyGrade() > 0 ? RequestPriority.HIGH : RequestPriority.MEDIUM,
-                    result,
-                    config.getCustomResultIndexOrAlias(),
-                    config.getFlattenResultIndexAlias()
-                )
-            );
+        if (ADEnabledSetting.isResultRollupEnabled()) {
+            putAll(resultRollup.add(result, config, ADNumericSetting.resultRollupIntervals()));
+        } else {
+            resultWriteWorker
+                .put(
+                    new ADResultWriteRequest(
+                        System.currentTimeMillis() + config.getFrequencyInMilliseconds(),
+                        config.getId(),
+                        result.getAnomalyGrade() > 0 ? RequestPriority.HIGH : RequestPriority.MEDIUM,
+                        result,
+                        config.getCustomResultIndexOrAlias(),
+                        config.getFlattenResultIndexAlias()
+                    )
+                );
+        }
+        // windows are swept even after rollup is disabled so that no summary is held back
+        putAll(resultRollup.sweep());
+    }
+
+    private void putAll(List<ADResultWriteRequest> writeRequests) {
+        if (!writeRequests.isEmpty()) {
+            resultWriteWorker.putAll(writeRequests);
+        }
     }
 
     @Override
@@ -126,6 +147,10 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
                         null
                     );
                 for (AnomalyResult r : indexableResults) {
+                    if (ADEnabledSetting.isResultRollupEnabled()) {
+                        writeRequests.addAll(resultRollup.add(r, config, ADNumericSetting.resultRollupIntervals()));
+                        continue;
+                    }
                     writeRequests
                         .add(
                             new ADResultWriteRequest(
@@ -140,9 +165,15 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
                 }
             }
         }
+        writeRequests.addAll(resultRollup.sweep());
         LOG.debug("writeRequests: {}, resultWriteWorker: {}", writeRequests.size(), resultWriteWorker);
         if (!writeRequests.isEmpty()) {
             resultWriteWorker.putAll(writeRequests);
         }
     }
+
+    @Override
+    public void maintenance() {
+        putAll(resultRollup.maintenance());
+    }
 }
@@ -42,6 +42,16 @@ public class ADEnabledSetting extends DynamicNumericSetting {
 
     public static final String DOOR_KEEPER_IN_CACHE_ENABLED = "plugins.anomaly_detection.door_keeper_in_cache.enabled";
 
+    public static final String BINARY_CHECKPOINT_ENABLED = "plugins.anomaly_detection.binary_checkpoint.enabled";
+
+    public static final String BINARY_CHECKPOINT_COMPRESSION_ENABLED = "plugins.anomaly_detection.binary_checkpoint_compression.enabled";
+
+    public static final String PIPELINED_BATCH_TASK_ENABLED = "plugins.anomaly_detection.pipelined_batch_task.enabled";
+
+    public static final String PRESERIALIZED_RESULT_ENABLED = "plugins.anomaly_detection.preserialized_result.enabled";
+
+    public static final String RESULT_ROLLUP_ENABLED = "plugins.anomaly_detection.result_rollup.enabled";
+
     public static final Map<String, Setting<?>> settings = unmodifiableMap(new HashMap<String, Setting<?>>() {
         {
             Setting LegacyADEnabledSetting = Setting.boolSetting(LEGACY_OPENDISTRO_AD_ENABLED, true, NodeScope, Dynamic, Deprecated);
@@ -86,6 +96,45 @@ public class ADEnabledSetting extends DynamicNumericSetting {
              * keep those detectors from getting results.
              */
             put(DOOR_KEEPER_IN_CACHE_ENABLED, Setting.boolSetting(DOOR_KEEPER_IN_CACHE_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether entity model checkpoints are written as a binary field instead of
+             * a Base64 string wrapped in JSON. Readers understand both formats. Disabled by
+             * default so that nodes of older versions in a mixed cluster can still read
+             * checkpoints written by newer nodes.
+             */
+            put(BINARY_CHECKPOINT_ENABLED, Setting.boolSetting(BINARY_CHECKPOINT_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether binary checkpoints are deflate-compressed. Only takes effect when
+             * binary checkpoint is enabled.
+             */
+            put(
+                BINARY_CHECKPOINT_COMPRESSION_ENABLED,
+                Setting.boolSetting(BINARY_CHECKPOINT_COMPRESSION_ENABLED, true, NodeScope, Dynamic)
+            );
+
+            /**
+             * Whether historical analysis fetches the next piece and indexes results of the
+             * previous piece while scoring the current one. Pipelined pieces run back to back
+             * without the piece interval; the number of in-flight result writes is bounded and
+             * an open circuit breaker falls back to one piece at a time.
+             */
+            put(PIPELINED_BATCH_TASK_ENABLED, Setting.boolSetting(PIPELINED_BATCH_TASK_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether a result is encoded into its JSON document once when it is created and carried
+             * as bytes to the bulk request instead of being serialized as an object over transport and
+             * encoded again when indexed.
+             */
+            put(PRESERIALIZED_RESULT_ENABLED, Setting.boolSetting(PRESERIALIZED_RESULT_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether consecutive non-anomalous real-time results of a model are folded into
+             * periodic summary documents instead of being indexed one by one. Anomalies and
+             * errors are still indexed individually.
+             */
+            put(RESULT_ROLLUP_ENABLED, Setting.boolSetting(RESULT_ROLLUP_ENABLED, false, NodeScope, Dynamic));
         }
     });
 
@@ -131,4 +180,44 @@ public class ADEnabledSetting extends DynamicNumericSetting {
     public static boolean isDoorKeeperInCacheEnabled() {
         return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.DOOR_KEEPER_IN_CACHE_ENABLED);
     }
+
+    /**
+     * If enabled, entity model checkpoints are saved as versioned binary fields.
+     * @return whether binary checkpoint is enabled or not.
+     */
+    public static boolean isBinaryCheckpointEnabled() {
+        return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED);
+    }
+
+    /**
+     * If enabled, binary checkpoints are deflate-compressed.
+     * @return whether binary checkpoint compression is enabled or not.
+     */
+    public static boolean isBinaryCheckpointCompressionEnabled() {
+        return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_COMPRESSION_ENABLED);
+    }
+
+    /**
+     * If enabled, historical analysis overlaps fetching, scoring, and indexing of consecutive pieces.
+     * @return whether pipelined batch task is enabled or not.
+     */
+    public static boolean isPipelinedBatchTaskEnabled() {
+        return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.PIPELINED_BATCH_TASK_ENABLED);
+    }
+
+    /**
+     * If enabled, results are encoded once when they are created.
+     * @return whether pre-serialized result is enabled or not.
+     */
+    public static boolean isPreserializedResultEnabled() {
+        return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.PRESERIALIZED_RESULT_ENABLED);
+    }
+
+    /**
+     * If enabled, non-anomalous real-time results are indexed as periodic summaries.
+     * @return whether result rollup is enabled or not.
+     */
+    public static boolean isResultRollupEnabled() {
+        return ADEnabledSetting.getInstance().getSettingValue(ADEnabledSetting.RESULT_ROLLUP_ENABLED);
+    }
 }
@@ -27,6 +27,12 @@ public class ADNumericSetting extends DynamicNumericSetting {
 
     public static final String JVM_HEAP_USAGE_THRESHOLD = "plugins.anomaly_detection.jvm_heap_usage_threshold";
 
+    public static final String MAX_PAGES_IN_FLIGHT = "plugins.anomaly_detection.max_pages_in_flight";
+
+    public static final String ENTITY_PROCESSING_CHUNKS = "plugins.anomaly_detection.entity_processing_chunks";
+
+    public static final String RESULT_ROLLUP_INTERVALS = "plugins.anomaly_detection.result_rollup_intervals";
+
     private static final Map<String, Setting<?>> settings = unmodifiableMap(new HashMap<String, Setting<?>>() {
         {
             // how many categorical fields we support
@@ -44,6 +50,25 @@ public class ADNumericSetting extends DynamicNumericSetting {
                 JVM_HEAP_USAGE_THRESHOLD,
                 Setting.intSetting(JVM_HEAP_USAGE_THRESHOLD, 95, 0, 98, Setting.Property.NodeScope, Setting.Property.Dynamic)
             );
+            // How many entity pages of an HC detector can be fetched but not yet sent to model nodes.
+            // 1 fetches the next page after the current page is received. Larger values request the
+            // next page before parsing the current one and keep up to that many pages in memory.
+            put(
+                MAX_PAGES_IN_FLIGHT,
+                Setting.intSetting(MAX_PAGES_IN_FLIGHT, 1, 1, 16, Setting.Property.NodeScope, Setting.Property.Dynamic)
+            );
+            // How many chunks a model node splits the entities of an HC detector page into. Each chunk
+            // is one task on the AD thread pool, so this bounds the tasks a page queues.
+            put(
+                ENTITY_PROCESSING_CHUNKS,
+                Setting.intSetting(ENTITY_PROCESSING_CHUNKS, 8, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic)
+            );
+            // How many consecutive non-anomalous results of a model are folded into one summary
+            // document when result rollup is enabled.
+            put(
+                RESULT_ROLLUP_INTERVALS,
+                Setting.intSetting(RESULT_ROLLUP_INTERVALS, 12, 2, 1440, Setting.Property.NodeScope, Setting.Property.Dynamic)
+            );
         }
     });
 
@@ -72,4 +97,25 @@ public class ADNumericSetting extends DynamicNumericSetting {
     public static int getJVMHeapUsageThreshold() {
         return ADNumericSetting.getInstance().getSettingValue(ADNumericSetting.JVM_HEAP_USAGE_THRESHOLD);
     }
+
+    /**
+     * @return the max number of HC entity pages fetched but not yet sent to model nodes
+     */
+    public static int maxPagesInFlight() {
+        return ADNumericSetting.getInstance().getSettingValue(ADNumericSetting.MAX_PAGES_IN_FLIGHT);
+    }
+
+    /**
+     * @return the max number of chunks entities of an HC detector page are processed in
+     */
+    public static int entityProcessingChunks() {
+        return ADNumericSetting.getInstance().getSettingValue(ADNumericSetting.ENTITY_PROCESSING_CHUNKS);
+    }
+
+    /**
+     * @return the max number of non-anomalous results folded into one summary document
+     */
+    public static int resultRollupIntervals() {
+        return ADNumericSetting.getInstance().getSettingValue(ADNumericSetting.RESULT_ROLLUP_INTERVALS);
+    }
 }
@@ -383,6 +383,9 @@ public final class AnomalyDetectorSettings {
             Setting.Property.Dynamic
         );
 
+    // Maximum number of result bulk requests a pipelined batch task keeps in flight
+    public static final int MAX_IN_FLIGHT_PIECE_WRITES = 2;
+
     // Maximum number of entities we support for historical analysis.
     public static final int MAX_TOP_ENTITIES_LIMIT_FOR_HISTORICAL_ANALYSIS = 10_000;
     public static final Setting<Integer> MAX_TOP_ENTITIES_FOR_HISTORICAL_ANALYSIS = Setting
@@ -671,4 +674,7 @@ public final class AnomalyDetectorSettings {
     // The reason we need a max is because user could give an arbitrarly large interval where we don't know even
     // with multiplying the interval down how many intervals will be tried.
     public static final int MAX_TIMES_DECREASING_INTERVAL = 10;
+
+    // max open result rollup windows on a node; a window takes a few hundred bytes
+    public static final int MAX_RESULT_ROLLUP_WINDOWS = 50_000;
 }
@@ -47,8 +47,20 @@ public class ADBatchTaskCache {
     private String cancelReason;
     private String cancelledBy;
     private Entity entity;
+    private final BatchTaskStageTimings stageTimings = new BatchTaskStageTimings();
+    // threads reserved for parallel tree execution of the RCF model. 0 means sequential execution.
+    private final int rcfThreads;
 
     protected ADBatchTaskCache(ADTask adTask) {
+        this(adTask, 0);
+    }
+
+    /**
+     * @param adTask AD task
+     * @param rcfThreads threads reserved for parallel tree execution of the RCF model, 0 for sequential execution
+     */
+    protected ADBatchTaskCache(ADTask adTask, int rcfThreads) {
+        this.rcfThreads = rcfThreads;
         this.detectorId = adTask.getConfigId();
         this.taskId = adTask.getTaskId();
         this.detectorTaskId = adTask.getConfigLevelTaskId();
@@ -67,7 +79,7 @@ public class ADBatchTaskCache {
             .sampleSize(TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
             .outputAfter(TimeSeriesSettings.NUM_MIN_SAMPLES)
             .initialAcceptFraction(TimeSeriesSettings.NUM_MIN_SAMPLES * 1.0d / TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
-            .parallelExecutionEnabled(false)
+            .parallelExecutionEnabled(rcfThreads > 0)
             .compact(true)
             .precision(Precision.FLOAT_32)
             .boundingBoxCacheFraction(TimeSeriesSettings.BATCH_BOUNDING_BOX_CACHE_RATIO)
@@ -86,6 +98,10 @@ public class ADBatchTaskCache {
             rcfBuilder.forestMode(ForestMode.STANDARD);
         }
 
+        if (rcfThreads > 0) {
+            rcfBuilder.threadPoolSize(rcfThreads);
+        }
+
         ADColdStart.applyRule(rcfBuilder, detector);
 
         rcfModel = rcfBuilder.build();
@@ -104,6 +120,10 @@ public class ADBatchTaskCache {
         return detectorTaskId;
     }
 
+    protected int getRcfThreads() {
+        return rcfThreads;
+    }
+
     protected ThresholdedRandomCutForest getTRcfModel() {
         return rcfModel;
     }
@@ -140,6 +160,10 @@ public class ADBatchTaskCache {
         return entity;
     }
 
+    protected BatchTaskStageTimings getStageTimings() {
+        return stageTimings;
+    }
+
     protected void cancel(String reason, String userName) {
         this.cancelled.compareAndSet(false, true);
         this.cancelReason = reason;
@@ -15,6 +15,7 @@ import static org.opensearch.ad.constant.ADCommonMessages.NO_ELIGIBLE_NODE_TO_RU
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.BATCH_TASK_PIECE_INTERVAL_SECONDS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.BATCH_TASK_PIECE_SIZE;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_BATCH_TASK_PER_NODE;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_IN_FLIGHT_PIECE_WRITES;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_RUNNING_ENTITIES_PER_DETECTOR_FOR_HISTORICAL_ANALYSIS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_TOP_ENTITIES_FOR_HISTORICAL_ANALYSIS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_TOP_ENTITIES_LIMIT_FOR_HISTORICAL_ANALYSIS;
@@ -37,9 +38,11 @@ import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.ad.constant.ADCommonMessages;
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
@@ -59,7 +62,6 @@ import org.opensearch.ad.transport.ADBatchTaskRemoteExecutionAction;
 import org.opensearch.ad.transport.ADStatsNodesAction;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.InjectSecurity;
@@ -95,6 +97,7 @@ import org.opensearch.timeseries.model.FeatureData;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.model.TaskState;
 import org.opensearch.timeseries.model.TimeSeriesTask;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.transport.StatsNodeResponse;
@@ -317,12 +320,14 @@ public class ADBatchTaskRunner {
      */
     public void getTopEntities(ADTask adTask, ActionListener<String> internalHCListener) {
         getDateRangeOfSourceData(adTask, (dataStartTime, dataEndTime) -> {
-            PriorityTracker priorityTracker = new PriorityTracker(
-                Clock.systemUTC(),
-                adTask.getDetector().getIntervalInSeconds(),
-                adTask.getDetectionDateRange().getStartTime().toEpochMilli(),
-                MAX_TOP_ENTITIES_LIMIT_FOR_HISTORICAL_ANALYSIS
-            );
+            PriorityTracker priorityTracker = PriorityTracker
+                .create(
+                    Clock.systemUTC(),
+                    adTask.getDetector().getIntervalInSeconds(),
+                    adTask.getDetectionDateRange().getStartTime().toEpochMilli(),
+                    MAX_TOP_ENTITIES_LIMIT_FOR_HISTORICAL_ANALYSIS,
+                    TimeSeriesEnabledSetting.isIndexedPriorityTrackerEnabled()
+                );
             long detectorInterval = adTask.getDetector().getIntervalInMilliseconds();
             logger
                 .debug(
@@ -916,6 +921,15 @@ public class ADBatchTaskRunner {
                                         adTask.getConfigId(),
                                         adTask.getTaskId()
                                     );
+                                if (ADEnabledSetting.isPipelinedBatchTaskEnabled()) {
+                                    BatchTaskPipeline pipeline = new BatchTaskPipeline(
+                                        MAX_IN_FLIGHT_PIECE_WRITES,
+                                        adTaskCacheManager.getStageTimings(adTask.getTaskId()),
+                                        internalListener
+                                    );
+                                    runPipelinedPiece(adTask, pipeline, dataStartTime, dataStartTime, dataEndTime, interval);
+                                    return;
+                                }
                                 getFeatureData(
                                     adTask,
                                     dataStartTime, // first piece start time
@@ -1060,11 +1074,30 @@ public class ADBatchTaskRunner {
             // and skip current piece if error caused by bad data.
             internalListener.onFailure(exception);
         });
+        fetchPiece(adTask, pieceStartTime, pieceEndTime, actionListener);
+    }
+
+    /**
+     * Query feature data of a piece. The listener runs on the batch task thread pool.
+     *
+     * @param adTask task information
+     * @param pieceStartTime piece start time
+     * @param pieceEndTime piece end time
+     * @param listener listener of feature data keyed by interval start time
+     */
+    private void fetchPiece(
+        ADTask adTask,
+        long pieceStartTime,
+        long pieceEndTime,
+        ActionListener<Map<Long, Optional<double[]>>> listener
+    ) {
+        BatchTaskStageTimings timings = adTaskCacheManager.getStageTimings(adTask.getTaskId());
+        long start = System.nanoTime();
         ThreadedActionListener<Map<Long, Optional<double[]>>> threadedActionListener = new ThreadedActionListener<>(
             logger,
             threadPool,
             AD_BATCH_TASK_THREAD_POOL_NAME,
-            actionListener,
+            ActionListener.runBefore(listener, () -> timings.recordFetch(System.nanoTime() - start)),
             false
         );
 
@@ -1083,6 +1116,30 @@ public class ADBatchTaskRunner {
         Instant executeStartTime,
         ActionListener<String> internalListener
     ) {
+        List<AnomalyResult> anomalyResults = scorePiece(adTask, dataPoints, pieceStartTime, dataEndTime, interval, executeStartTime);
+        storeAnomalyResultAndRunNextPiece(adTask, pieceEndTime, dataStartTime, dataEndTime, interval, internalListener, anomalyResults);
+    }
+
+    /**
+     * Score feature data of a piece with the task's model.
+     *
+     * @param adTask task information
+     * @param dataPoints feature data keyed by interval start time
+     * @param pieceStartTime piece start time
+     * @param dataEndTime data end time in milliseconds
+     * @param interval detector interval in milliseconds
+     * @param executeStartTime when we start running the piece
+     * @return anomaly results of the piece
+     */
+    private List<AnomalyResult> scorePiece(
+        ADTask adTask,
+        Map<Long, Optional<double[]>> dataPoints,
+        long pieceStartTime,
+        long dataEndTime,
+        long interval,
+        Instant executeStartTime
+    ) {
+        long start = System.nanoTime();
         String taskId = adTask.getTaskId();
         ThresholdedRandomCutForest trcf = adTaskCacheManager.getTRcfModel(taskId);
 
@@ -1147,6 +1204,40 @@ public class ADBatchTaskRunner {
             }
         }
 
+        adTaskCacheManager.getStageTimings(taskId).recordScore(System.nanoTime() - start);
+        return anomalyResults;
+    }
+
+    private void storeAnomalyResultAndRunNextPiece(
+        ADTask adTask,
+        long pieceEndTime,
+        long dataStartTime,
+        long dataEndTime,
+        long interval,
+        ActionListener<String> internalListener,
+        List<AnomalyResult> anomalyResults
+    ) {
+        indexAnomalyResults(adTask, anomalyResults, ActionListener.wrap(r -> {
+            try {
+                runNextPiece(adTask, pieceEndTime, dataStartTime, dataEndTime, interval, internalListener);
+            } catch (Exception e) {
+                internalListener.onFailure(e);
+            }
+        }, e -> {
+            logger.error("Fail to bulk index anomaly result", e);
+            internalListener.onFailure(e);
+        }));
+    }
+
+    /**
+     * Bulk index anomaly results of a piece as the user who started the task. The listener runs on
+     * the batch task thread pool.
+     *
+     * @param adTask task information
+     * @param anomalyResults anomaly results
+     * @param listener listener of the bulk response
+     */
+    private void indexAnomalyResults(ADTask adTask, List<AnomalyResult> anomalyResults, ActionListener<BulkResponse> listener) {
         String user;
         List<String> roles;
         if (adTask.getUser() == null) {
@@ -1160,79 +1251,172 @@ public class ADBatchTaskRunner {
             roles = adTask.getUser().getRoles();
         }
         String resultIndex = adTask.getDetector().getCustomResultIndexOrAlias();
+        String detectorId = adTask.getConfigId();
+        BatchTaskStageTimings timings = adTaskCacheManager.getStageTimings(adTask.getTaskId());
+        long start = System.nanoTime();
+        ActionListener<BulkResponse> actionListener = new ThreadedActionListener<>(
+            logger,
+            threadPool,
+            AD_BATCH_TASK_THREAD_POOL_NAME,
+            ActionListener.runBefore(listener, () -> timings.recordWrite(System.nanoTime() - start)),
+            false
+        );
 
         if (resultIndex == null) {
             // if result index is null, store anomaly result directly
-            storeAnomalyResultAndRunNextPiece(
-                adTask,
-                pieceEndTime,
-                dataStartTime,
-                dataEndTime,
-                interval,
-                internalListener,
-                anomalyResults,
-                resultIndex,
-                null
-            );
+            anomalyResultBulkIndexHandler.bulk(resultIndex, anomalyResults, detectorId, actionListener);
             return;
         }
 
         try (InjectSecurity injectSecurity = new InjectSecurity(adTask.getTaskId(), settings, client.threadPool().getThreadContext())) {
             // Injecting user role to verify if the user has permissions to write result to result index.
             injectSecurity.inject(user, roles);
-            storeAnomalyResultAndRunNextPiece(
-                adTask,
-                pieceEndTime,
-                dataStartTime,
-                dataEndTime,
-                interval,
-                internalListener,
-                anomalyResults,
-                resultIndex,
-                () -> injectSecurity.close()
-            );
+            anomalyResultBulkIndexHandler
+                .bulk(resultIndex, anomalyResults, detectorId, ActionListener.runBefore(actionListener, () -> injectSecurity.close()));
         } catch (Exception exception) {
             logger.error("Failed to inject user roles", exception);
-            internalListener.onFailure(exception);
+            listener.onFailure(exception);
         }
     }
 
-    private void storeAnomalyResultAndRunNextPiece(
+    /**
+     * Run a piece in pipelined mode. Once the piece's data arrives, the next piece is prefetched
+     * and the results of this piece are indexed in the background while the next piece is scored.
+     * As in sequential mode, the feature query of a piece starts a piece interval after the data of
+     * the previous piece arrived.
+     *
+     * @param adTask task information
+     * @param pipeline pipeline state of the task
+     * @param pieceStartTime piece start time
+     * @param dataStartTime data start time in milliseconds
+     * @param dataEndTime data end time in milliseconds
+     * @param interval detector interval in milliseconds
+     */
+    private void runPipelinedPiece(
+        ADTask adTask,
+        BatchTaskPipeline pipeline,
+        long pieceStartTime,
+        long dataStartTime,
+        long dataEndTime,
+        long interval
+    ) {
+        long pieceEndTime = Math.min(pieceStartTime + pieceSize * interval, dataEndTime);
+        Instant executeStartTime = Instant.now();
+        ActionListener<Map<Long, Optional<double[]>>> dataListener = ActionListener.wrap(dataPoints -> {
+            if (pipeline.isFailed()) {
+                return;
+            }
+            // no prefetch when memory is short
+            if (pieceEndTime < dataEndTime && false == adCircuitBreakerService.isOpen()) {
+                long nextPieceEndTime = Math.min(pieceEndTime + pieceSize * interval, dataEndTime);
+                pipeline.prefetch(pieceEndTime, listener -> fetchPieceAfterInterval(adTask, pieceEndTime, nextPieceEndTime, listener));
+            }
+            Runnable next = () -> runNextPipelinedPiece(adTask, pipeline, pieceEndTime, dataStartTime, dataEndTime, interval);
+            if (dataPoints.size() == 0) {
+                logger.debug("No data in current piece with end time: " + pieceEndTime);
+                next.run();
+                return;
+            }
+            List<AnomalyResult> anomalyResults = scorePiece(adTask, dataPoints, pieceStartTime, dataEndTime, interval, executeStartTime);
+            pipeline.write(listener -> indexAnomalyResults(adTask, anomalyResults, listener), next);
+        }, exception -> {
+            logger.debug("Fail to get feature data by batch for this piece with end time: " + pieceEndTime);
+            pipeline.fail(exception);
+        });
+
+        try {
+            if (pipeline.takePrefetched(pieceStartTime, dataListener)) {
+                return;
+            }
+            if (pieceStartTime == dataStartTime) {
+                fetchPiece(adTask, pieceStartTime, pieceEndTime, dataListener);
+            } else {
+                fetchPieceAfterInterval(adTask, pieceStartTime, pieceEndTime, dataListener);
+            }
+        } catch (Exception e) {
+            pipeline.fail(e);
+        }
+    }
+
+    private void fetchPieceAfterInterval(
         ADTask adTask,
+        long pieceStartTime,
         long pieceEndTime,
+        ActionListener<Map<Long, Optional<double[]>>> listener
+    ) {
+        threadPool.schedule(() -> {
+            try {
+                fetchPiece(adTask, pieceStartTime, pieceEndTime, listener);
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }, TimeValue.timeValueSeconds(pieceIntervalSeconds), AD_BATCH_TASK_THREAD_POOL_NAME);
+    }
+
+    /**
+     * Update task progress and move on to the next piece in pipelined mode. The task finishes
+     * once all pieces are scored and their results indexed.
+     *
+     * @param adTask task information
+     * @param pipeline pipeline state of the task
+     * @param pieceStartTime next piece start time
+     * @param dataStartTime data start time in milliseconds
+     * @param dataEndTime data end time in milliseconds
+     * @param interval detector interval in milliseconds
+     */
+    private void runNextPipelinedPiece(
+        ADTask adTask,
+        BatchTaskPipeline pipeline,
+        long pieceStartTime,
         long dataStartTime,
         long dataEndTime,
-        long interval,
-        ActionListener<String> internalListener,
-        List<AnomalyResult> anomalyResults,
-        String resultIndex,
-        CheckedRunnable<?> runBefore
+        long interval
     ) {
-        ActionListener actionListener = new ThreadedActionListener<>(
-            logger,
-            threadPool,
-            AD_BATCH_TASK_THREAD_POOL_NAME,
-            ActionListener.wrap(r -> {
-                try {
-                    runNextPiece(adTask, pieceEndTime, dataStartTime, dataEndTime, interval, internalListener);
-                } catch (Exception e) {
-                    internalListener.onFailure(e);
-                }
-            }, e -> {
-                logger.error("Fail to bulk index anomaly result", e);
-                internalListener.onFailure(e);
-            }),
-            false
-        );
+        if (pipeline.isFailed()) {
+            return;
+        }
+        ActionListener<String> internalListener = pipeline.getListener();
+        if (pieceStartTime >= dataEndTime) {
+            pipeline.whenDrained(() -> runNextPiece(adTask, pieceStartTime, dataStartTime, dataEndTime, interval, internalListener));
+            return;
+        }
+        if (adCircuitBreakerService.isOpen()) {
+            // memory is short: don't keep results in flight while working on the next piece
+            pipeline.whenDrained(() -> updatePipelinedPieceProgress(adTask, pipeline, pieceStartTime, dataStartTime, dataEndTime, interval));
+        } else {
+            updatePipelinedPieceProgress(adTask, pipeline, pieceStartTime, dataStartTime, dataEndTime, interval);
+        }
+    }
 
-        String detectorId = adTask.getConfigId();
-        anomalyResultBulkIndexHandler
-            .bulk(
-                resultIndex,
-                anomalyResults,
-                detectorId,
-                runBefore == null ? actionListener : ActionListener.runBefore(actionListener, runBefore)
+    private void updatePipelinedPieceProgress(
+        ADTask adTask,
+        BatchTaskPipeline pipeline,
+        long pieceStartTime,
+        long dataStartTime,
+        long dataEndTime,
+        long interval
+    ) {
+        try {
+            float initProgress = checkInitProgress(adTask);
+            checkIfADTaskCancelledAndCleanupCache(adTask);
+            checkClusterState(adTask);
+            updateTaskProgress(
+                adTask,
+                pieceStartTime,
+                dataStartTime,
+                dataEndTime,
+                initProgress,
+                ActionListener
+                    .wrap(
+                        r -> threadPool
+                            .executor(AD_BATCH_TASK_THREAD_POOL_NAME)
+                            .execute(() -> runPipelinedPiece(adTask, pipeline, pieceStartTime, dataStartTime, dataEndTime, interval)),
+                        pipeline::fail
+                    )
             );
+        } catch (Exception e) {
+            pipeline.fail(e);
+        }
     }
 
     private void runNextPiece(
@@ -1246,13 +1430,7 @@ public class ADBatchTaskRunner {
         String taskId = adTask.getTaskId();
         String detectorId = adTask.getConfigId();
         String detectorTaskId = adTask.getConfigLevelTaskId();
-        float initProgress = calculateInitProgress(taskId);
-        String taskState = initProgress >= 1.0f ? TaskState.RUNNING.name() : TaskState.INIT.name();
-        logger.debug("Init progress: {}, taskState:{}, task id: {}", initProgress, taskState, taskId);
-
-        if (initProgress >= 1.0f && adTask.isHistoricalEntityTask()) {
-            updateDetectorLevelTaskState(detectorId, adTask.getParentTaskId(), TaskState.RUNNING.name());
-        }
+        float initProgress = checkInitProgress(adTask);
 
         if (pieceStartTime < dataEndTime) {
             checkIfADTaskCancelledAndCleanupCache(adTask);
@@ -1268,37 +1446,27 @@ public class ADBatchTaskRunner {
                         pieceEndTime,
                         interval
                     );
-                float taskProgress = (float) (pieceStartTime - dataStartTime) / (dataEndTime - dataStartTime);
-                logger.debug("Task progress: {}, task id:{}, detector id:{}", taskProgress, taskId, detectorId);
-                adTaskManager
-                    .updateTask(
-                        taskId,
-                        ImmutableMap
-                            .of(
-                                TimeSeriesTask.STATE_FIELD,
-                                taskState,
-                                TimeSeriesTask.CURRENT_PIECE_FIELD,
+                updateTaskProgress(
+                    adTask,
+                    pieceStartTime,
+                    dataStartTime,
+                    dataEndTime,
+                    initProgress,
+                    ActionListener
+                        .wrap(
+                            r -> getFeatureData(
+                                adTask,
                                 pieceStartTime,
-                                TimeSeriesTask.TASK_PROGRESS_FIELD,
-                                taskProgress,
-                                TimeSeriesTask.INIT_PROGRESS_FIELD,
-                                initProgress
+                                pieceEndTime,
+                                dataStartTime,
+                                dataEndTime,
+                                interval,
+                                Instant.now(),
+                                internalListener
                             ),
-                        ActionListener
-                            .wrap(
-                                r -> getFeatureData(
-                                    adTask,
-                                    pieceStartTime,
-                                    pieceEndTime,
-                                    dataStartTime,
-                                    dataEndTime,
-                                    interval,
-                                    Instant.now(),
-                                    internalListener
-                                ),
-                                e -> internalListener.onFailure(e)
-                            )
-                    );
+                            e -> internalListener.onFailure(e)
+                        )
+                );
             }, TimeValue.timeValueSeconds(pieceIntervalSeconds), AD_BATCH_TASK_THREAD_POOL_NAME);
         } else {
             logger
@@ -1331,6 +1499,50 @@ public class ADBatchTaskRunner {
         }
     }
 
+    /**
+     * Calculate init progress of task and mark HC detector level task as running once an entity finishes init.
+     *
+     * @param adTask task information
+     * @return init progress
+     */
+    private float checkInitProgress(ADTask adTask) {
+        float initProgress = calculateInitProgress(adTask.getTaskId());
+        logger.debug("Init progress: {}, task id: {}", initProgress, adTask.getTaskId());
+        if (initProgress >= 1.0f && adTask.isHistoricalEntityTask()) {
+            updateDetectorLevelTaskState(adTask.getConfigId(), adTask.getParentTaskId(), TaskState.RUNNING.name());
+        }
+        return initProgress;
+    }
+
+    private void updateTaskProgress(
+        ADTask adTask,
+        long pieceStartTime,
+        long dataStartTime,
+        long dataEndTime,
+        float initProgress,
+        ActionListener<UpdateResponse> listener
+    ) {
+        String taskState = initProgress >= 1.0f ? TaskState.RUNNING.name() : TaskState.INIT.name();
+        float taskProgress = (float) (pieceStartTime - dataStartTime) / (dataEndTime - dataStartTime);
+        logger.debug("Task progress: {}, task id:{}, detector id:{}", taskProgress, adTask.getTaskId(), adTask.getConfigId());
+        adTaskManager
+            .updateTask(
+                adTask.getTaskId(),
+                ImmutableMap
+                    .of(
+                        TimeSeriesTask.STATE_FIELD,
+                        taskState,
+                        TimeSeriesTask.CURRENT_PIECE_FIELD,
+                        pieceStartTime,
+                        TimeSeriesTask.TASK_PROGRESS_FIELD,
+                        taskProgress,
+                        TimeSeriesTask.INIT_PROGRESS_FIELD,
+                        initProgress
+                    ),
+                listener
+            );
+    }
+
     private void updateDetectorLevelTaskState(String detectorId, String detectorTaskId, String newState) {
         ExecutorFunction function = () -> adTaskManager
             .updateTask(detectorTaskId, ImmutableMap.of(TimeSeriesTask.STATE_FIELD, newState), ActionListener.wrap(r -> {
@@ -146,11 +146,19 @@ public class ADTaskCacheManager extends TaskCacheManager {
         }
         checkRunningTaskLimit();
         long neededCacheSize = calculateADTaskCacheSize(adTask);
-        if (!memoryTracker.canAllocateReserved(neededCacheSize)) {
+        if (!memoryTracker.tryConsumeMemory(neededCacheSize, true, HISTORICAL_SINGLE_ENTITY_DETECTOR)) {
             throw new LimitExceededException("Not enough memory to run detector");
         }
-        memoryTracker.consumeMemory(neededCacheSize, true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
-        ADBatchTaskCache taskCache = new ADBatchTaskCache(adTask);
+        // a node runs few historical tasks at a time, so their models can afford parallel tree execution
+        int rcfThreads = memoryTracker.tryAcquireRCFThreads(TimeSeriesSettings.RCF_PARALLEL_THREADS_PER_MODEL);
+        ADBatchTaskCache taskCache;
+        try {
+            taskCache = new ADBatchTaskCache(adTask, rcfThreads);
+        } catch (RuntimeException e) {
+            memoryTracker.releaseRCFThreads(rcfThreads);
+            memoryTracker.releaseMemory(neededCacheSize, true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
+            throw e;
+        }
         taskCache.getCacheMemorySize().set(neededCacheSize);
         batchTaskCaches.put(taskId, taskCache);
         if (adTask.isHistoricalEntityTask()) {
@@ -241,6 +249,31 @@ public class ADTaskCacheManager extends TaskCacheManager {
         taskCache.setThresholdModelTrained(trained);
     }
 
+    /**
+     * Get stage timings of task.
+     * If task doesn't exist in cache, will throw {@link java.lang.IllegalArgumentException}.
+     *
+     * @param taskId AD task id
+     * @return stage timings
+     */
+    public BatchTaskStageTimings getStageTimings(String taskId) {
+        return getBatchTaskCache(taskId).getStageTimings();
+    }
+
+    /**
+     * Get stage timings summed over local tasks of detector.
+     *
+     * @param detectorId detector id
+     * @return stage timings, null if no task of detector is running on this node
+     */
+    public Map<String, Long> getStageTimingsOfDetector(String detectorId) {
+        Map<String, Long> timings = null;
+        for (ADBatchTaskCache taskCache : getBatchTaskCacheByDetectorId(detectorId)) {
+            timings = BatchTaskStageTimings.merge(timings, taskCache.getStageTimings().toMap());
+        }
+        return timings;
+    }
+
     /**
      * Check if task exists in cache.
      *
@@ -344,6 +377,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
         if (taskCache != null) {
             logger.debug("Remove batch task from cache, task id: {}", taskId);
             memoryTracker.releaseMemory(taskCache.getCacheMemorySize().get(), true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
+            memoryTracker.releaseRCFThreads(taskCache.getRcfThreads());
             batchTaskCaches.remove(taskId);
             ADHCBatchTaskRunState hcBatchTaskRunState = getHCBatchTaskRunState(detectorId, detectorTaskId);
             if (hcBatchTaskRunState != null) {
@@ -487,6 +521,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * Clear all tasks.
      */
     public void clear() {
+        batchTaskCaches.values().forEach(taskCache -> memoryTracker.releaseRCFThreads(taskCache.getRcfThreads()));
         batchTaskCaches.clear();
         detectorTasks.clear();
     }
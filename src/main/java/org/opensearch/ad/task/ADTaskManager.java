@@ -1589,6 +1589,7 @@ public class ADTaskManager extends TaskManager<ADTaskCacheManager, ADTaskType, A
                     entityTaskProfiles.add(entityTaskProfile);
                 });
                 detectorTaskProfile.setEntityTaskProfiles(entityTaskProfiles);
+                detectorTaskProfile.setPieceStageTimings(taskCacheManager.getStageTimingsOfDetector(detectorId));
             }
         } else {
             if (tasksOfDetector.size() > 1) {
@@ -1612,6 +1613,7 @@ public class ADTaskManager extends TaskManager<ADTaskCacheManager, ADTaskType, A
                 // Can't use adTaskCacheManager.getDetectorTaskSlots(detectorId) here as task may run on worker node.
                 // Detector task slots stored in coordinating node cache.
                 detectorTaskProfile.setDetectorTaskSlots(1);
+                detectorTaskProfile.setPieceStageTimings(taskCacheManager.getStageTimingsOfDetector(detectorId));
             }
         }
         threadPool.executor(AD_BATCH_TASK_THREAD_POOL_NAME).execute(() -> {
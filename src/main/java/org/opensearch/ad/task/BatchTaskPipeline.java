@@ -0,0 +1,239 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.task;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+
+/**
+ * Overlaps the stages of consecutive pieces of a historical analysis task.
+ *
+ * Scoring must stay sequential as every piece updates the same model, but the feature query of
+ * piece N+1 and the result bulk of piece N-1 don't depend on it. While piece N is scored:
+ * <ul>
+ * <li>the data of piece N+1 is fetched ahead (one piece at most), and</li>
+ * <li>results of earlier pieces are indexed without waiting for acknowledgement, up to a number
+ * of in-flight writes. Scoring waits for a write slot when the budget is used up.</li>
+ * </ul>
+ * The first failure is reported to the task listener and later stages are dropped. Only the
+ * stall time is recorded here; the stages record their own time.
+ */
+public class BatchTaskPipeline {
+    private final int maxInFlightWrites;
+    private final BatchTaskStageTimings timings;
+    private final ActionListener<String> listener;
+
+    private boolean failed;
+    private int inFlightWrites;
+    // scoring continuation waiting for a write slot
+    private Runnable blockedOnWrite;
+    private long blockedSince;
+    private Runnable onDrained;
+
+    // the prefetched piece
+    private long prefetchStartTime;
+    private boolean prefetchDone;
+    private Map<Long, Optional<double[]>> prefetchedData;
+    private Exception prefetchFailure;
+    private ActionListener<Map<Long, Optional<double[]>>> prefetchConsumer;
+    private long consumerSince;
+
+    /**
+     * @param maxInFlightWrites maximum number of result bulk requests in flight
+     * @param timings stage timings of the task
+     * @param listener task listener, notified at most once through this pipeline
+     */
+    public BatchTaskPipeline(int maxInFlightWrites, BatchTaskStageTimings timings, ActionListener<String> listener) {
+        this.maxInFlightWrites = Math.max(1, maxInFlightWrites);
+        this.timings = timings;
+        this.listener = listener;
+        this.prefetchStartTime = -1;
+    }
+
+    /**
+     * Starts fetching the data of a piece ahead of scoring it.
+     * @param pieceStartTime piece start time
+     * @param fetcher issues the feature query of the piece
+     */
+    public void prefetch(long pieceStartTime, Consumer<ActionListener<Map<Long, Optional<double[]>>>> fetcher) {
+        synchronized (this) {
+            if (failed || prefetchStartTime >= 0) {
+                return;
+            }
+            prefetchStartTime = pieceStartTime;
+            prefetchDone = false;
+        }
+        fetcher.accept(ActionListener.wrap(data -> onPrefetched(data, null), e -> onPrefetched(null, e)));
+    }
+
+    private void onPrefetched(Map<Long, Optional<double[]>> data, Exception e) {
+        ActionListener<Map<Long, Optional<double[]>>> consumer;
+        long stall = 0;
+        synchronized (this) {
+            consumer = prefetchConsumer;
+            if (consumer == null) {
+                prefetchDone = true;
+                prefetchedData = data;
+                prefetchFailure = e;
+                return;
+            }
+            stall = System.nanoTime() - consumerSince;
+            clearPrefetch();
+        }
+        timings.recordStall(stall);
+        deliver(consumer, data, e);
+    }
+
+    /**
+     * Hands the prefetched data of a piece to the consumer, waiting for the fetch if it is still running.
+     * @param pieceStartTime piece start time
+     * @param consumer consumer of the data
+     * @return false if the piece was not prefetched, in which case the caller fetches it
+     */
+    public boolean takePrefetched(long pieceStartTime, ActionListener<Map<Long, Optional<double[]>>> consumer) {
+        Map<Long, Optional<double[]>> data;
+        Exception e;
+        synchronized (this) {
+            if (prefetchStartTime != pieceStartTime) {
+                return false;
+            }
+            if (false == prefetchDone) {
+                prefetchConsumer = consumer;
+                consumerSince = System.nanoTime();
+                return true;
+            }
+            data = prefetchedData;
+            e = prefetchFailure;
+            clearPrefetch();
+        }
+        deliver(consumer, data, e);
+        return true;
+    }
+
+    private void clearPrefetch() {
+        prefetchStartTime = -1;
+        prefetchDone = false;
+        prefetchedData = null;
+        prefetchFailure = null;
+        prefetchConsumer = null;
+    }
+
+    private void deliver(ActionListener<Map<Long, Optional<double[]>>> consumer, Map<Long, Optional<double[]>> data, Exception e) {
+        if (e != null) {
+            consumer.onFailure(e);
+        } else {
+            consumer.onResponse(data);
+        }
+    }
+
+    /**
+     * Starts a result write and continues with the next stage without waiting for it,
+     * unless the in-flight write budget is used up.
+     * @param writer issues the bulk request
+     * @param next what to do once the write is started
+     */
+    public void write(Consumer<ActionListener<BulkResponse>> writer, Runnable next) {
+        synchronized (this) {
+            if (failed) {
+                return;
+            }
+            if (inFlightWrites >= maxInFlightWrites) {
+                blockedOnWrite = () -> write(writer, next);
+                blockedSince = System.nanoTime();
+                return;
+            }
+            inFlightWrites++;
+        }
+        writer.accept(ActionListener.wrap(r -> onWriteDone(null), e -> onWriteDone(e)));
+        next.run();
+    }
+
+    private void onWriteDone(Exception e) {
+        Runnable blocked = null;
+        Runnable drained = null;
+        long stall = 0;
+        boolean report = false;
+        synchronized (this) {
+            inFlightWrites--;
+            if (e != null && false == failed) {
+                failed = true;
+                report = true;
+            }
+            if (false == failed) {
+                blocked = blockedOnWrite;
+                stall = System.nanoTime() - blockedSince;
+                if (inFlightWrites == 0) {
+                    drained = onDrained;
+                    onDrained = null;
+                }
+            }
+            blockedOnWrite = null;
+        }
+        if (report) {
+            listener.onFailure(e);
+            return;
+        }
+        if (blocked != null) {
+            timings.recordStall(stall);
+            blocked.run();
+        }
+        if (drained != null) {
+            drained.run();
+        }
+    }
+
+    /**
+     * Runs the action once all in-flight writes are acknowledged.
+     * @param action action to run
+     */
+    public void whenDrained(Runnable action) {
+        synchronized (this) {
+            if (failed) {
+                return;
+            }
+            if (inFlightWrites > 0) {
+                onDrained = action;
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * Fails the task unless it failed already.
+     * @param e failure
+     */
+    public void fail(Exception e) {
+        synchronized (this) {
+            if (failed) {
+                return;
+            }
+            failed = true;
+            blockedOnWrite = null;
+            onDrained = null;
+        }
+        listener.onFailure(e);
+    }
+
+    public synchronized boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * @return listener that reports failures through the pipeline so that the task listener is notified once
+     */
+    public ActionListener<String> getListener() {
+        return ActionListener.wrap(r -> {
+            if (false == isFailed()) {
+                listener.onResponse(r);
+            }
+        }, this::fail);
+    }
+}
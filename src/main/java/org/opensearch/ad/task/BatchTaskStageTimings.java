@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time a historical analysis task spent in each stage of its pieces.
+ *
+ * Fetch, score, and write are the wall time of each stage summed over pieces. When pieces are
+ * pipelined, stages overlap, so their sum exceeds the elapsed time. Stall is the time scoring
+ * waited for the next piece's data or for a result write slot, so a small stall means the
+ * pipeline kept the model busy.
+ */
+public class BatchTaskStageTimings {
+    public static final String PIECES = "pieces";
+    public static final String FETCH_MILLIS = "fetch_ms";
+    public static final String SCORE_MILLIS = "score_ms";
+    public static final String WRITE_MILLIS = "write_ms";
+    public static final String STALL_MILLIS = "stall_ms";
+
+    private final LongAdder pieces = new LongAdder();
+    private final LongAdder fetchNanos = new LongAdder();
+    private final LongAdder scoreNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final LongAdder stallNanos = new LongAdder();
+
+    public void recordFetch(long nanos) {
+        fetchNanos.add(nanos);
+    }
+
+    /**
+     * @param nanos time taken to score a piece
+     */
+    public void recordScore(long nanos) {
+        pieces.increment();
+        scoreNanos.add(nanos);
+    }
+
+    public void recordWrite(long nanos) {
+        writeNanos.add(nanos);
+    }
+
+    public void recordStall(long nanos) {
+        stallNanos.add(nanos);
+    }
+
+    /**
+     * @return scored pieces and milliseconds spent in each stage
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new HashMap<>();
+        map.put(PIECES, pieces.sum());
+        map.put(FETCH_MILLIS, TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum()));
+        map.put(SCORE_MILLIS, TimeUnit.NANOSECONDS.toMillis(scoreNanos.sum()));
+        map.put(WRITE_MILLIS, TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()));
+        map.put(STALL_MILLIS, TimeUnit.NANOSECONDS.toMillis(stallNanos.sum()));
+        return map;
+    }
+
+    /**
+     * Adds up timings of several tasks, e.g. entity tasks of an HC detector.
+     * @param left timings, can be null
+     * @param right timings, can be null
+     * @return sum of both, null if both are null
+     */
+    public static Map<String, Long> merge(Map<String, Long> left, Map<String, Long> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        Map<String, Long> merged = new HashMap<>(left);
+        right.forEach((stage, value) -> merged.merge(stage, value, Long::sum));
+        return merged;
+    }
+}
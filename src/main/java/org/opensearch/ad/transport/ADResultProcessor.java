@@ -17,6 +17,7 @@ import org.opensearch.ad.indices.ADIndexManagement;
 import org.opensearch.ad.model.ADTask;
 import org.opensearch.ad.model.ADTaskType;
 import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.settings.ADNumericSetting;
 import org.opensearch.ad.stats.ADStats;
 import org.opensearch.ad.task.ADTaskCacheManager;
 import org.opensearch.ad.task.ADTaskManager;
@@ -33,6 +34,7 @@ import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.cluster.HashRing;
+import org.opensearch.timeseries.feature.CompositeRetriever;
 import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.model.FeatureData;
 import org.opensearch.timeseries.stats.StatNames;
@@ -91,6 +93,20 @@ public class ADResultProcessor extends
         );
     }
 
+    @Override
+    protected int getMaxPagesInFlight() {
+        return ADNumericSetting.maxPagesInFlight();
+    }
+
+    @Override
+    protected CompositeRetriever.PageFetchTracker createPageFetchTracker() {
+        return new PageFetchStatsTracker(
+            StatNames.AD_HC_PAGE_FETCH_COUNT,
+            StatNames.AD_HC_PAGE_FETCH_LATENCY_MS,
+            StatNames.AD_HC_PAGES_IN_FLIGHT
+        );
+    }
+
     @Override
     protected AnomalyResultResponse createResultResponse(
         List<FeatureData> features,
@@ -29,6 +29,8 @@ import org.opensearch.ad.ratelimit.ADCheckpointWriteWorker;
 import org.opensearch.ad.ratelimit.ADColdEntityWorker;
 import org.opensearch.ad.ratelimit.ADColdStartWorker;
 import org.opensearch.ad.ratelimit.ADSaveResultStrategy;
+import org.opensearch.ad.settings.ADNumericSetting;
+import org.opensearch.ad.stats.ADStats;
 import org.opensearch.ad.task.ADTaskCacheManager;
 import org.opensearch.ad.task.ADTaskManager;
 import org.opensearch.common.inject.Inject;
@@ -36,7 +38,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.transport.AbstractEntityResultTransportAction;
+import org.opensearch.timeseries.transport.EntityResultProcessor;
 import org.opensearch.transport.TransportService;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
@@ -74,7 +78,8 @@ public class EntityADResultTransportAction extends
         ADCheckpointReadWorker checkpointReadQueue,
         ADColdEntityWorker coldEntityQueue,
         ThreadPool threadPool,
-        ADRealTimeInferencer inferencer
+        ADRealTimeInferencer inferencer,
+        ADStats adStats
     ) {
         super(
             EntityADResultAction.NAME,
@@ -87,7 +92,22 @@ public class EntityADResultTransportAction extends
             TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME,
             checkpointReadQueue,
             coldEntityQueue,
-            inferencer
+            inferencer,
+            adStats
+        );
+    }
+
+    @Override
+    protected int getEntityProcessingChunks() {
+        return ADNumericSetting.entityProcessingChunks();
+    }
+
+    @Override
+    protected EntityResultProcessor.ProcessingTracker createProcessingTracker() {
+        return new ProcessingStatsTracker(
+            StatNames.AD_HC_ENTITIES_PROCESSED_COUNT,
+            StatNames.AD_HC_ENTITY_PROCESSING_MS,
+            StatNames.AD_HC_ENTITY_TASK_REJECTED_COUNT
         );
     }
 
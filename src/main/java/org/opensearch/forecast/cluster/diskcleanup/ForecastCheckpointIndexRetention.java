@@ -8,6 +8,7 @@ package org.opensearch.forecast.cluster.diskcleanup;
 import java.time.Clock;
 import java.time.Duration;
 
+import org.opensearch.forecast.constant.ForecastCommonName;
 import org.opensearch.forecast.indices.ForecastIndex;
 import org.opensearch.timeseries.cluster.diskcleanup.BaseModelCheckpointIndexRetention;
 import org.opensearch.timeseries.cluster.diskcleanup.IndexCleanup;
@@ -15,7 +16,13 @@ import org.opensearch.timeseries.cluster.diskcleanup.IndexCleanup;
 public class ForecastCheckpointIndexRetention extends BaseModelCheckpointIndexRetention {
 
     public ForecastCheckpointIndexRetention(Duration defaultCheckpointTtl, Clock clock, IndexCleanup indexCleanup) {
-        super(defaultCheckpointTtl, clock, indexCleanup, ForecastIndex.CHECKPOINT.getIndexName());
+        super(
+            defaultCheckpointTtl,
+            clock,
+            indexCleanup,
+            ForecastIndex.CHECKPOINT.getIndexName(),
+            ForecastCommonName.FORECAST_CHECKPOINT_INDEX_ALIAS
+        );
     }
 
 }
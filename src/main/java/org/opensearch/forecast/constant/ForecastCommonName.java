@@ -30,6 +30,8 @@ public class ForecastCommonName {
     // ======================================
     // index name for forecast checkpoint of each model. One model one document.
     public static final String FORECAST_CHECKPOINT_INDEX_NAME = ".opensearch-forecast-checkpoints";
+    // The alias of the checkpoint generation in which to write checkpoints when checkpoints are time-partitioned
+    public static final String FORECAST_CHECKPOINT_INDEX_ALIAS = ".opensearch-forecast-checkpoints-write";
     // index name for forecast state. Will store forecast task in this index as well.
     public static final String FORECAST_STATE_INDEX = ".opensearch-forecast-state";
     // The alias of the index in which to write forecast result history. Not a hidden index.
@@ -13,6 +13,7 @@ package org.opensearch.forecast.indices;
 
 import static org.opensearch.forecast.constant.ForecastCommonName.DUMMY_FORECAST_RESULT_ID;
 import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_CHECKPOINT_INDEX_MAPPING_FILE;
+import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_CHECKPOINT_TTL;
 import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_MAX_PRIMARY_SHARDS;
 import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_RESULTS_INDEX_MAPPING_FILE;
 import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_RESULT_HISTORY_MAX_DOCS_PER_SHARD;
@@ -48,6 +49,7 @@ import org.opensearch.timeseries.common.exception.EndRunException;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.function.ExecutorFunction;
 import org.opensearch.timeseries.indices.IndexManagement;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
 import org.opensearch.transport.client.Client;
 
@@ -60,6 +62,12 @@ public class ForecastIndexManagement extends IndexManagement<ForecastIndex> {
     // The index name pattern to query all forecast results, history and current forecast results
     public static final String ALL_FORECAST_RESULTS_INDEX_PATTERN = "opensearch-forecast-results*";
 
+    // The index name pattern of time-partitioned checkpoint generations
+    public static final String FORECAST_CHECKPOINT_GENERATION_INDEX_PATTERN = "<.opensearch-forecast-checkpoints-{now/d}-1>";
+
+    // The index name pattern to query the checkpoint index and all of its generations
+    public static final String ALL_FORECAST_CHECKPOINT_INDEX_PATTERN = ".opensearch-forecast-checkpoints*";
+
     /**
      * Constructor function
      *
@@ -116,6 +124,9 @@ public class ForecastIndexManagement extends IndexManagement<ForecastIndex> {
 
         this.clusterService.getClusterSettings().addSettingsUpdateConsumer(FORECAST_MAX_PRIMARY_SHARDS, it -> maxPrimaryShards = it);
 
+        this.checkpointTtl = FORECAST_CHECKPOINT_TTL.get(settings);
+        this.clusterService.getClusterSettings().addSettingsUpdateConsumer(FORECAST_CHECKPOINT_TTL, it -> checkpointTtl = it);
+
         this.updateRunningTimes = 0;
     }
 
@@ -174,13 +185,18 @@ public class ForecastIndexManagement extends IndexManagement<ForecastIndex> {
     }
 
     /**
-     * Checkpoint index exist or not.
+     * Checkpoint index to write to exist or not. Once time-partitioned checkpoints are enabled, only
+     * the write alias counts so that the first write creates a generation.
      *
      * @return true if checkpoint index exists
      */
     @Override
     public boolean doesCheckpointIndexExist() {
-        return doesIndexExist(ForecastCommonName.FORECAST_CHECKPOINT_INDEX_NAME);
+        if (doesAliasExist(ForecastCommonName.FORECAST_CHECKPOINT_INDEX_ALIAS)) {
+            return true;
+        }
+        return !TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled()
+            && doesIndexExist(ForecastCommonName.FORECAST_CHECKPOINT_INDEX_NAME);
     }
 
     /**
@@ -209,6 +225,15 @@ public class ForecastIndexManagement extends IndexManagement<ForecastIndex> {
      */
     @Override
     public void initCheckpointIndex(ActionListener<CreateIndexResponse> actionListener) {
+        if (TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled()) {
+            initCheckpointGeneration(
+                FORECAST_CHECKPOINT_GENERATION_INDEX_PATTERN,
+                ForecastCommonName.FORECAST_CHECKPOINT_INDEX_ALIAS,
+                ForecastIndex.CHECKPOINT,
+                actionListener
+            );
+            return;
+        }
         String mapping;
         try {
             mapping = getCheckpointMappings();
@@ -229,6 +254,11 @@ public class ForecastIndexManagement extends IndexManagement<ForecastIndex> {
             FORECAST_RESULT_HISTORY_INDEX_PATTERN,
             ForecastIndex.RESULT
         );
+        rolloverCheckpointIndex(
+            ForecastCommonName.FORECAST_CHECKPOINT_INDEX_ALIAS,
+            FORECAST_CHECKPOINT_GENERATION_INDEX_PATTERN,
+            ForecastIndex.CHECKPOINT
+        );
     }
 
     /**
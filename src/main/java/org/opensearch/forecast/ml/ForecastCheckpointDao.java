@@ -26,7 +26,6 @@ import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
-import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.core.action.ActionListener;
@@ -84,6 +83,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
             client,
             clientUtil,
             ForecastIndex.CHECKPOINT.getIndexName(),
+            ForecastCommonName.FORECAST_CHECKPOINT_INDEX_ALIAS,
             gson,
             maxCheckpointBytes,
             serializeRCFBufferPool,
@@ -240,6 +240,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
                     ProtostuffIOUtil.mergeFrom(bytes, state, rcfCasterSchema);
                     return null;
                 });
+                disableParallelExecution(state.getForestState());
                 rcfCaster = mapper.toModel(state);
             } catch (RuntimeException e) {
                 logger.error("Failed to deserialize RCFCaster model", e);
@@ -255,19 +256,14 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
      * @param listener onResponse is called with the model checkpoint, or empty for no such model
      */
     public void getCasterModel(String modelId, ActionListener<Optional<RCFCaster>> listener) {
-        clientUtil
-            .<GetRequest, GetResponse>asyncRequest(
-                new GetRequest(indexName, modelId),
-                client::get,
-                ActionListener.wrap(response -> deserializeRCFCasterModel(response, modelId, listener), exception -> {
-                    // expected exception, don't print stack trace
-                    if (exception instanceof IndexNotFoundException) {
-                        listener.onResponse(Optional.empty());
-                    } else {
-                        listener.onFailure(exception);
-                    }
-                })
-            );
+        getCheckpoint(modelId, ActionListener.wrap(response -> deserializeRCFCasterModel(response, modelId, listener), exception -> {
+            // expected exception, don't print stack trace
+            if (exception instanceof IndexNotFoundException) {
+                listener.onResponse(Optional.empty());
+            } else {
+                listener.onFailure(exception);
+            }
+        }));
     }
 
     /**
@@ -328,7 +324,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         // with exponential back off. If the maximum retry limit is reached, processing
         // halts and all failed requests are returned in the response. Any delete
         // requests that completed successfully still stick, they are not rolled back.
-        DeleteByQueryRequest deleteRequest = new DeleteByQueryRequest(indexName)
+        DeleteByQueryRequest deleteRequest = new DeleteByQueryRequest(getCheckpointIndices())
             .setQuery(new MatchQueryBuilder(ForecastCommonName.FORECASTER_ID_KEY, forecasterId))
             .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
             .setAbortOnVersionConflict(false) // when current delete happens, previous might not finish.
@@ -356,7 +352,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
 
     @Override
     protected DeleteByQueryRequest createDeleteCheckpointRequest(String configId) {
-        return new DeleteByQueryRequest(indexName)
+        return new DeleteByQueryRequest(getCheckpointIndices())
             .setQuery(new MatchQueryBuilder(ForecastCommonName.FORECASTER_ID_KEY, configId))
             .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
             .setAbortOnVersionConflict(false) // when current delete happens, previous might not finish.
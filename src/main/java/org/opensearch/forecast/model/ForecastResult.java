@@ -17,10 +17,13 @@ import static org.opensearch.forecast.constant.ForecastCommonName.DUMMY_FORECAST
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.opensearch.Version;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -29,6 +32,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.forecast.constant.ForecastCommonName;
+import org.opensearch.forecast.settings.ForecastEnabledSetting;
 import org.opensearch.timeseries.annotation.Generated;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.constant.CommonValue;
@@ -41,6 +45,11 @@ import com.google.common.base.Objects;
 
 /**
  * Include result returned from RCF model and feature data.
+ *
+ * A result is either the actual value of an interval, the forecast of one feature at one horizon step,
+ * or, in the compact format, the actual value together with the forecasts of all features and horizon
+ * steps. Compact results store forecasts horizon-major in the same fields as per-step results, which
+ * become arrays, so that existing queries keep matching them.
  */
 public class ForecastResult extends IndexableResult {
     public static final String PARSE_FIELD_NAME = "ForecastResult";
@@ -58,6 +67,8 @@ public class ForecastResult extends IndexableResult {
     public static final String FORECAST_DATA_START_TIME_FIELD = "forecast_data_start_time";
     public static final String FORECAST_DATA_END_TIME_FIELD = "forecast_data_end_time";
     public static final String HORIZON_INDEX_FIELD = "horizon_index";
+    // first version that sends the forecasts of compact results
+    public static final Version COMPACT_RESULT_VERSION = Version.fromString("3.3.0");
 
     private final String featureId;
     private final Float forecastValue;
@@ -69,6 +80,12 @@ public class ForecastResult extends IndexableResult {
     private final Integer horizonIndex;
     protected final Double dataQuality;
     private final String entityId;
+    // compact format only: forecasts of all horizon steps and features, horizon-major
+    private final float[] forecastValues;
+    private final float[] lowerBounds;
+    private final float[] upperBounds;
+    // compact format only: interval widths of the last horizon step, one per feature
+    private final float[] confidenceIntervalWidths;
 
     // used when indexing exception or error or a feature only result
     public ForecastResult(
@@ -127,6 +144,61 @@ public class ForecastResult extends IndexableResult {
         Instant forecastDataStartTime,
         Instant forecastDataEndTime,
         Integer horizonIndex
+    ) {
+        this(
+            forecasterId,
+            taskId,
+            dataQuality,
+            featureData,
+            dataStartTime,
+            dataEndTime,
+            executionStartTime,
+            executionEndTime,
+            error,
+            entity,
+            user,
+            schemaVersion,
+            featureId,
+            forecastValue,
+            lowerBound,
+            upperBound,
+            forecastDataStartTime,
+            forecastDataEndTime,
+            horizonIndex,
+            null,
+            null,
+            null
+        );
+    }
+
+    /**
+     * A compact result carries forecastValues, lowerBounds, and upperBounds instead of featureId,
+     * forecastValue, lowerBound, and upperBound. Its horizonIndex is the number of horizon steps and
+     * its forecast data time range covers all of them.
+     */
+    private ForecastResult(
+        String forecasterId,
+        String taskId,
+        Double dataQuality,
+        List<FeatureData> featureData,
+        Instant dataStartTime,
+        Instant dataEndTime,
+        Instant executionStartTime,
+        Instant executionEndTime,
+        String error,
+        Optional<Entity> entity,
+        User user,
+        Integer schemaVersion,
+        String featureId,
+        Float forecastValue,
+        Float lowerBound,
+        Float upperBound,
+        Instant forecastDataStartTime,
+        Instant forecastDataEndTime,
+        Integer horizonIndex,
+        float[] forecastValues,
+        float[] lowerBounds,
+        float[] upperBounds
     ) {
         super(
             forecasterId,
@@ -151,6 +223,23 @@ public class ForecastResult extends IndexableResult {
         this.forecastDataEndTime = forecastDataEndTime;
         this.horizonIndex = horizonIndex;
         this.entityId = getEntityId(entity, configId);
+        this.forecastValues = forecastValues;
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+        this.confidenceIntervalWidths = lastStepIntervalWidths(lowerBounds, upperBounds, horizonIndex);
+    }
+
+    private static float[] lastStepIntervalWidths(float[] lowerBounds, float[] upperBounds, Integer horizon) {
+        if (lowerBounds == null || upperBounds == null || horizon == null || horizon <= 0) {
+            return null;
+        }
+        int inputLength = lowerBounds.length / horizon;
+        int lastStep = (horizon - 1) * inputLength;
+        float[] widths = new float[inputLength];
+        for (int j = 0; j < inputLength; j++) {
+            widths[j] = safeAbsoluteDifference(lowerBounds[lastStep + j], upperBounds[lastStep + j]);
+        }
+        return widths;
     }
 
     public static List<ForecastResult> fromRawRCFCasterResult(
@@ -182,24 +271,84 @@ public class ForecastResult extends IndexableResult {
             numberOfForecasts = forecastsValues.length / inputLength;
         }
 
+        float[] values = null;
+        float[] lowers = null;
+        float[] uppers = null;
+        Instant forecastDataStartTime = null;
+        Instant forecastDataEndTime = null;
+        Integer horizon = null;
+        if (numberOfForecasts > 0) {
+            int length = numberOfForecasts * inputLength;
+            values = Arrays.copyOf(forecastsValues, length);
+            lowers = Arrays.copyOf(forecastsLowers, length);
+            uppers = Arrays.copyOf(forecastsUppers, length);
+            forecastDataStartTime = dataEndTime;
+            forecastDataEndTime = dataEndTime.plusMillis(intervalMillis * numberOfForecasts);
+            horizon = numberOfForecasts;
+        }
+
+        ForecastResult compact = new ForecastResult(
+            forecasterId,
+            taskId,
+            Math.min(1, dataQuality),
+            featureData,
+            dataStartTime,
+            dataEndTime,
+            executionStartTime,
+            executionEndTime,
+            error,
+            entity,
+            user,
+            schemaVersion,
+            null,
+            null,
+            null,
+            null,
+            forecastDataStartTime,
+            forecastDataEndTime,
+            horizon,
+            values,
+            lowers,
+            uppers
+        );
+
+        if (ForecastEnabledSetting.isCompactResultEnabled()) {
+            return Collections.singletonList(compact);
+        }
+        return compact.expand();
+    }
+
+    /**
+     * Splits a compact result into the actual value result and one result per horizon step per
+     * feature, the way results are stored when compact format is disabled.
+     * @return expanded results, or this result if it is not compact
+     */
+    public List<ForecastResult> expand() {
+        if (false == isCompact()) {
+            return Collections.singletonList(this);
+        }
+        int numberOfForecasts = horizonIndex;
+        int inputLength = forecastValues.length / numberOfForecasts;
+        long intervalMillis = (forecastDataEndTime.toEpochMilli() - forecastDataStartTime.toEpochMilli()) / numberOfForecasts;
+
         // +1 for actual value
-        List<ForecastResult> convertedForecastValues = new ArrayList<>(numberOfForecasts + 1);
+        List<ForecastResult> convertedForecastValues = new ArrayList<>(numberOfForecasts * inputLength + 1);
 
         // store feature data and forecast value separately for easy query on feature data
         // we can join them using forecasterId, entityId, and executionStartTime/executionEndTime
         convertedForecastValues
             .add(
                 new ForecastResult(
-                    forecasterId,
+                    configId,
                     taskId,
-                    Math.min(1, dataQuality),
+                    dataQuality,
                     featureData,
                     dataStartTime,
                     dataEndTime,
                     executionStartTime,
                     executionEndTime,
                     error,
-                    entity,
+                    optionalEntity,
                     user,
                     schemaVersion,
                     null,
@@ -211,39 +360,39 @@ public class ForecastResult extends IndexableResult {
                     null
                 )
             );
-        Instant forecastDataStartTime = dataEndTime;
+        Instant stepStartTime = forecastDataStartTime;
 
         for (int i = 0; i < numberOfForecasts; i++) {
-            Instant forecastDataEndTime = forecastDataStartTime.plusMillis(intervalMillis);
+            Instant stepEndTime = stepStartTime.plusMillis(intervalMillis);
             for (int j = 0; j < inputLength; j++) {
                 int k = i * inputLength + j;
                 convertedForecastValues
                     .add(
                         new ForecastResult(
-                            forecasterId,
+                            configId,
                             taskId,
-                            Math.min(1, dataQuality),
+                            dataQuality,
                             null,
                             dataStartTime,
                             dataEndTime,
                             executionStartTime,
                             executionEndTime,
                             error,
-                            entity,
+                            optionalEntity,
                             user,
                             schemaVersion,
                             featureData.get(j).getFeatureId(),
-                            forecastsValues[k],
-                            forecastsLowers[k],
-                            forecastsUppers[k],
-                            forecastDataStartTime,
-                            forecastDataEndTime,
+                            forecastValues[k],
+                            lowerBounds[k],
+                            upperBounds[k],
+                            stepStartTime,
+                            stepEndTime,
                             // horizon starts from 1
                             i + 1
                         )
                     );
             }
-            forecastDataStartTime = forecastDataEndTime;
+            stepStartTime = stepEndTime;
         }
 
         return convertedForecastValues;
@@ -261,6 +410,16 @@ public class ForecastResult extends IndexableResult {
         this.forecastDataEndTime = input.readOptionalInstant();
         this.horizonIndex = input.readOptionalInt();
         this.entityId = input.readOptionalString();
+        if (input.getVersion().onOrAfter(COMPACT_RESULT_VERSION) && input.readBoolean()) {
+            this.forecastValues = input.readFloatArray();
+            this.lowerBounds = input.readFloatArray();
+            this.upperBounds = input.readFloatArray();
+        } else {
+            this.forecastValues = null;
+            this.lowerBounds = null;
+            this.upperBounds = null;
+        }
+        this.confidenceIntervalWidths = lastStepIntervalWidths(lowerBounds, upperBounds, horizonIndex);
     }
 
     @Override
@@ -309,6 +468,18 @@ public class ForecastResult extends IndexableResult {
         if (forecastValue != null) {
             xContentBuilder.field(VALUE_FIELD, forecastValue);
         }
+        if (forecastValues != null) {
+            xContentBuilder.array(VALUE_FIELD, forecastValues);
+        }
+        if (lowerBounds != null) {
+            xContentBuilder.array(LOWER_BOUND_FIELD, lowerBounds);
+        }
+        if (upperBounds != null) {
+            xContentBuilder.array(UPPER_BOUND_FIELD, upperBounds);
+        }
+        if (confidenceIntervalWidths != null) {
+            xContentBuilder.array(INTERVAL_WIDTH_FIELD, confidenceIntervalWidths);
+        }
         if (lowerBound != null) {
             xContentBuilder.field(LOWER_BOUND_FIELD, lowerBound);
         }
@@ -325,7 +496,8 @@ public class ForecastResult extends IndexableResult {
             xContentBuilder.field(FORECAST_DATA_END_TIME_FIELD, forecastDataEndTime.toEpochMilli());
         }
         // the document with the actual value should not contain horizonIndex
-        // its horizonIndex is -1. Actual forecast value starts from horizon index 1
+        // its horizonIndex is -1. Actual forecast value starts from horizon index 1.
+        // A compact document records the horizon, which matches the horizon index of the last step.
         if (horizonIndex != null && horizonIndex > 0) {
             xContentBuilder.field(HORIZON_INDEX_FIELD, horizonIndex);
         }
@@ -357,6 +529,9 @@ public class ForecastResult extends IndexableResult {
         Instant forecastDataStartTime = null;
         Instant forecastDataEndTime = null;
         Integer horizonIndex = null;
+        float[] forecastValues = null;
+        float[] lowerBounds = null;
+        float[] upperBounds = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -405,13 +580,25 @@ public class ForecastResult extends IndexableResult {
                     featureId = parser.text();
                     break;
                 case LOWER_BOUND_FIELD:
-                    lowerBound = parser.floatValue();
+                    if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                        lowerBounds = parseFloatArray(parser);
+                    } else {
+                        lowerBound = parser.floatValue();
+                    }
                     break;
                 case UPPER_BOUND_FIELD:
-                    upperBound = parser.floatValue();
+                    if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                        upperBounds = parseFloatArray(parser);
+                    } else {
+                        upperBound = parser.floatValue();
+                    }
                     break;
                 case VALUE_FIELD:
-                    forecastValue = parser.floatValue();
+                    if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                        forecastValues = parseFloatArray(parser);
+                    } else {
+                        forecastValue = parser.floatValue();
+                    }
                     break;
                 case FORECAST_DATA_START_TIME_FIELD:
                     forecastDataStartTime = ParseUtils.toInstant(parser);
@@ -450,10 +637,25 @@ public class ForecastResult extends IndexableResult {
             upperBound,
             forecastDataStartTime,
             forecastDataEndTime,
-            horizonIndex
+            horizonIndex,
+            forecastValues,
+            lowerBounds,
+            upperBounds
         );
     }
 
+    private static float[] parseFloatArray(XContentParser parser) throws IOException {
+        List<Float> values = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            values.add(parser.floatValue());
+        }
+        float[] array = new float[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
     @Generated
     @Override
     public boolean equals(Object o) {
@@ -476,7 +678,10 @@ public class ForecastResult extends IndexableResult {
             && Objects.equal(forecastDataStartTime, that.forecastDataStartTime)
             && Objects.equal(forecastDataEndTime, that.forecastDataEndTime)
             && Objects.equal(horizonIndex, that.horizonIndex)
-            && Objects.equal(entityId, that.entityId);
+            && Objects.equal(entityId, that.entityId)
+            && Arrays.equals(forecastValues, that.forecastValues)
+            && Arrays.equals(lowerBounds, that.lowerBounds)
+            && Arrays.equals(upperBounds, that.upperBounds);
     }
 
     @Generated
@@ -497,6 +702,9 @@ public class ForecastResult extends IndexableResult {
                 horizonIndex,
                 entityId
             );
+        result = prime * result + Arrays.hashCode(forecastValues);
+        result = prime * result + Arrays.hashCode(lowerBounds);
+        result = prime * result + Arrays.hashCode(upperBounds);
         return result;
     }
 
@@ -516,6 +724,9 @@ public class ForecastResult extends IndexableResult {
                 .append("forecastDataEndTime", forecastDataEndTime)
                 .append("horizonIndex", horizonIndex)
                 .append("entityId", entityId)
+                .append("forecastValues", forecastValues)
+                .append("lowerBounds", lowerBounds)
+                .append("upperBounds", upperBounds)
                 .toString();
     }
 
@@ -533,6 +744,16 @@ public class ForecastResult extends IndexableResult {
         out.writeOptionalInstant(forecastDataEndTime);
         out.writeOptionalInt(horizonIndex);
         out.writeOptionalString(entityId);
+        if (out.getVersion().onOrAfter(COMPACT_RESULT_VERSION)) {
+            if (forecastValues != null) {
+                out.writeBoolean(true);
+                out.writeFloatArray(forecastValues);
+                out.writeFloatArray(lowerBounds);
+                out.writeFloatArray(upperBounds);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     public static ForecastResult getDummyResult() {
@@ -601,6 +822,25 @@ public class ForecastResult extends IndexableResult {
         return entityId;
     }
 
+    /**
+     * @return whether the result holds the forecasts of all horizon steps and features
+     */
+    public boolean isCompact() {
+        return forecastValues != null;
+    }
+
+    public float[] getForecastValues() {
+        return forecastValues;
+    }
+
+    public float[] getLowerBounds() {
+        return lowerBounds;
+    }
+
+    public float[] getUpperBounds() {
+        return upperBounds;
+    }
+
     /**
      * Safely calculates the absolute difference between two Float values.
      *
@@ -617,7 +857,7 @@ public class ForecastResult extends IndexableResult {
      * @return The absolute difference between the two values, or null if any input is null.
      *         If the result is NaN or Infinity, returns Float.MAX_VALUE.
      */
-    public Float safeAbsoluteDifference(Float a, Float b) {
+    public static Float safeAbsoluteDifference(Float a, Float b) {
         // Check for null values
         if (a == null || b == null) {
             return null; // or throw an exception, or handle as per your requirements
@@ -15,6 +15,7 @@ import java.io.IOException;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.settings.ForecastEnabledSetting;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
 import org.opensearch.timeseries.ratelimit.ResultWriteRequest;
 
@@ -28,7 +29,19 @@ public class ForecastResultWriteRequest extends ResultWriteRequest<ForecastResul
         String resultIndex,
         String flattenResultIndex
     ) {
-        super(expirationEpochMs, forecasterId, priority, result, resultIndex, flattenResultIndex);
+        this(expirationEpochMs, forecasterId, priority, result, resultIndex, flattenResultIndex, ForecastEnabledSetting.isPreserializedResultEnabled());
+    }
+
+    public ForecastResultWriteRequest(
+        long expirationEpochMs,
+        String forecasterId,
+        RequestPriority priority,
+        ForecastResult result,
+        String resultIndex,
+        String flattenResultIndex,
+        boolean encodeResult
+    ) {
+        super(expirationEpochMs, forecasterId, priority, result, resultIndex, flattenResultIndex, encodeResult);
     }
 
     public ForecastResultWriteRequest(StreamInput in) throws IOException {
@@ -136,4 +136,9 @@ public class ForecastSaveResultStrategy implements SaveResultStrategy<ForecastRe
         }
         resultWriteWorker.putAll(writeRequests);
     }
+
+    @Override
+    public void maintenance() {
+        // results are written as they come, nothing is held back
+    }
 }
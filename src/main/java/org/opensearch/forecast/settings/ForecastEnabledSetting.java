@@ -27,12 +27,29 @@ public class ForecastEnabledSetting extends DynamicNumericSetting {
      */
     public static final String FORECAST_ENABLED = "plugins.forecast.enabled";
 
+    public static final String COMPACT_RESULT_ENABLED = "plugins.forecast.compact_result.enabled";
+
+    public static final String PRESERIALIZED_RESULT_ENABLED = "plugins.forecast.preserialized_result.enabled";
+
     public static final Map<String, Setting<?>> settings = unmodifiableMap(new HashMap<String, Setting<?>>() {
         {
             /**
              * forecast enable/disable setting
              */
             put(FORECAST_ENABLED, Setting.boolSetting(FORECAST_ENABLED, true, NodeScope, Dynamic));
+
+            /**
+             * Whether an inference is stored as a single result document holding the forecasts of
+             * all horizon steps and features as arrays instead of one document per step and feature.
+             */
+            put(COMPACT_RESULT_ENABLED, Setting.boolSetting(COMPACT_RESULT_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether a result is encoded into its JSON document once when it is created and carried
+             * as bytes to the bulk request instead of being serialized as an object over transport and
+             * encoded again when indexed.
+             */
+            put(PRESERIALIZED_RESULT_ENABLED, Setting.boolSetting(PRESERIALIZED_RESULT_ENABLED, false, NodeScope, Dynamic));
         }
     });
 
@@ -54,4 +71,20 @@ public class ForecastEnabledSetting extends DynamicNumericSetting {
     public static boolean isForecastEnabled() {
         return ForecastEnabledSetting.getInstance().getSettingValue(ForecastEnabledSetting.FORECAST_ENABLED);
     }
+
+    /**
+     * If enabled, forecast results of an entity and interval are indexed as one compact document.
+     * @return whether compact forecast result is enabled or not.
+     */
+    public static boolean isCompactResultEnabled() {
+        return ForecastEnabledSetting.getInstance().getSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED);
+    }
+
+    /**
+     * If enabled, results are encoded once when they are created.
+     * @return whether pre-serialized result is enabled or not.
+     */
+    public static boolean isPreserializedResultEnabled() {
+        return ForecastEnabledSetting.getInstance().getSettingValue(ForecastEnabledSetting.PRESERIALIZED_RESULT_ENABLED);
+    }
 }
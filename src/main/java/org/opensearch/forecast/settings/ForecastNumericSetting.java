@@ -24,6 +24,10 @@ public class ForecastNumericSetting extends DynamicNumericSetting {
      */
     public static final String CATEGORY_FIELD_LIMIT = "plugins.forecast.category_field_limit";
 
+    public static final String MAX_PAGES_IN_FLIGHT = "plugins.forecast.max_pages_in_flight";
+
+    public static final String ENTITY_PROCESSING_CHUNKS = "plugins.forecast.entity_processing_chunks";
+
     private static final Map<String, Setting<?>> settings = unmodifiableMap(new HashMap<String, Setting<?>>() {
         {
             // how many categorical fields we support
@@ -36,6 +40,18 @@ public class ForecastNumericSetting extends DynamicNumericSetting {
                 CATEGORY_FIELD_LIMIT,
                 Setting.intSetting(CATEGORY_FIELD_LIMIT, 2, 0, 5, Setting.Property.NodeScope, Setting.Property.Dynamic)
             );
+            // How many entity pages of an HC forecaster can be fetched but not yet sent to model nodes.
+            // 1 disables prefetch.
+            put(
+                MAX_PAGES_IN_FLIGHT,
+                Setting.intSetting(MAX_PAGES_IN_FLIGHT, 1, 1, 16, Setting.Property.NodeScope, Setting.Property.Dynamic)
+            );
+            // How many chunks a model node splits the entities of an HC forecaster page into.
+            // Each chunk is one task on the forecast thread pool.
+            put(
+                ENTITY_PROCESSING_CHUNKS,
+                Setting.intSetting(ENTITY_PROCESSING_CHUNKS, 8, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic)
+            );
         }
     });
 
@@ -56,4 +72,18 @@ public class ForecastNumericSetting extends DynamicNumericSetting {
     public static int maxCategoricalFields() {
         return ForecastNumericSetting.getInstance().getSettingValue(ForecastNumericSetting.CATEGORY_FIELD_LIMIT);
     }
+
+    /**
+     * @return the max number of HC entity pages fetched but not yet sent to model nodes
+     */
+    public static int maxPagesInFlight() {
+        return ForecastNumericSetting.getInstance().getSettingValue(ForecastNumericSetting.MAX_PAGES_IN_FLIGHT);
+    }
+
+    /**
+     * @return the max number of chunks entities of an HC forecaster page are processed in
+     */
+    public static int entityProcessingChunks() {
+        return ForecastNumericSetting.getInstance().getSettingValue(ForecastNumericSetting.ENTITY_PROCESSING_CHUNKS);
+    }
 }
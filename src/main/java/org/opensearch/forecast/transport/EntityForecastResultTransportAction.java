@@ -30,13 +30,17 @@ import org.opensearch.forecast.ratelimit.ForecastColdEntityWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
+import org.opensearch.forecast.settings.ForecastNumericSetting;
+import org.opensearch.forecast.stats.ForecastStats;
 import org.opensearch.forecast.task.ForecastTaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.transport.AbstractEntityResultTransportAction;
+import org.opensearch.timeseries.transport.EntityResultProcessor;
 import org.opensearch.transport.TransportService;
 
 import com.amazon.randomcutforest.parkservices.RCFCaster;
@@ -75,7 +79,8 @@ public class EntityForecastResultTransportAction extends
         ForecastCheckpointReadWorker checkpointReadQueue,
         ForecastColdEntityWorker coldEntityQueue,
         ThreadPool threadPool,
-        ForecastRealTimeInferencer inferencer
+        ForecastRealTimeInferencer inferencer,
+        ForecastStats forecastStats
     ) {
         super(
             EntityForecastResultAction.NAME,
@@ -88,7 +93,22 @@ public class EntityForecastResultTransportAction extends
             TimeSeriesAnalyticsPlugin.FORECAST_THREAD_POOL_NAME,
             checkpointReadQueue,
             coldEntityQueue,
-            inferencer
+            inferencer,
+            forecastStats
+        );
+    }
+
+    @Override
+    protected int getEntityProcessingChunks() {
+        return ForecastNumericSetting.entityProcessingChunks();
+    }
+
+    @Override
+    protected EntityResultProcessor.ProcessingTracker createProcessingTracker() {
+        return new ProcessingStatsTracker(
+            StatNames.FORECAST_HC_ENTITIES_PROCESSED_COUNT,
+            StatNames.FORECAST_HC_ENTITY_PROCESSING_MS,
+            StatNames.FORECAST_HC_ENTITY_TASK_REJECTED_COUNT
         );
     }
 }
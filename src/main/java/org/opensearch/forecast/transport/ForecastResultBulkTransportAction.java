@@ -64,31 +64,29 @@ public class ForecastResultBulkTransportAction extends
 
         if (indexingPressurePercent <= softLimit) {
             for (ForecastResultWriteRequest resultWriteRequest : results) {
-                addResult(bulkRequest, resultWriteRequest.getResult(), resultWriteRequest.getResultIndex());
+                addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getResultIndex());
                 if (resultWriteRequest.getFlattenResultIndex() != null) {
-                    addResult(bulkRequest, resultWriteRequest.getResult(), resultWriteRequest.getFlattenResultIndex());
+                    addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getFlattenResultIndex());
                 }
             }
         } else if (indexingPressurePercent <= hardLimit) {
             // exceed soft limit (60%) but smaller than hard limit (90%)
             float acceptProbability = 1 - indexingPressurePercent;
             for (ForecastResultWriteRequest resultWriteRequest : results) {
-                ForecastResult result = resultWriteRequest.getResult();
                 if (random.nextFloat() < acceptProbability) {
-                    addResult(bulkRequest, result, resultWriteRequest.getResultIndex());
+                    addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getResultIndex());
                     if (resultWriteRequest.getFlattenResultIndex() != null) {
-                        addResult(bulkRequest, result, resultWriteRequest.getFlattenResultIndex());
+                        addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getFlattenResultIndex());
                     }
                 }
             }
         } else {
             // if exceeding hard limit, only index error result
             for (ForecastResultWriteRequest resultWriteRequest : results) {
-                ForecastResult result = resultWriteRequest.getResult();
-                if (result.isHighPriority()) {
-                    addResult(bulkRequest, result, resultWriteRequest.getResultIndex());
+                if (resultWriteRequest.isHighPriority()) {
+                    addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getResultIndex());
                     if (resultWriteRequest.getFlattenResultIndex() != null) {
-                        addResult(bulkRequest, result, resultWriteRequest.getFlattenResultIndex());
+                        addResult(bulkRequest, resultWriteRequest, resultWriteRequest.getFlattenResultIndex());
                     }
                 }
             }
@@ -23,6 +23,7 @@ import org.opensearch.forecast.indices.ForecastIndexManagement;
 import org.opensearch.forecast.model.ForecastResult;
 import org.opensearch.forecast.model.ForecastTask;
 import org.opensearch.forecast.model.ForecastTaskType;
+import org.opensearch.forecast.settings.ForecastNumericSetting;
 import org.opensearch.forecast.stats.ForecastStats;
 import org.opensearch.forecast.task.ForecastTaskManager;
 import org.opensearch.threadpool.ThreadPool;
@@ -30,6 +31,7 @@ import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.cluster.HashRing;
+import org.opensearch.timeseries.feature.CompositeRetriever;
 import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.model.FeatureData;
 import org.opensearch.timeseries.stats.StatNames;
@@ -92,6 +94,20 @@ public class ForecastResultProcessor extends
         );
     }
 
+    @Override
+    protected int getMaxPagesInFlight() {
+        return ForecastNumericSetting.maxPagesInFlight();
+    }
+
+    @Override
+    protected CompositeRetriever.PageFetchTracker createPageFetchTracker() {
+        return new PageFetchStatsTracker(
+            StatNames.FORECAST_HC_PAGE_FETCH_COUNT,
+            StatNames.FORECAST_HC_PAGE_FETCH_LATENCY_MS,
+            StatNames.FORECAST_HC_PAGES_IN_FLIGHT
+        );
+    }
+
     @Override
     protected ForecastResultResponse createResultResponse(
         List<FeatureData> features,
@@ -598,7 +598,9 @@ public class SearchTopForecastResultTransportAction extends
         QueryBuilder rangeQuery = generateDateFilter(request, forecaster);
         boolQueryBuilder = boolQueryBuilder.filter(rangeQuery);
 
-        // we only look for documents containing forecasts
+        // we only look for documents containing forecasts.
+        // A compact result holds all forecasts of an entity as arrays in the same fields. Queries and
+        // aggregations below see them as multi-valued fields and rank compact and per-step documents alike.
         boolQueryBuilder.filter(new ExistsQueryBuilder(ForecastResult.VALUE_FIELD));
 
         FilterBy filterBy = request.getFilterBy();
@@ -635,8 +637,11 @@ public class SearchTopForecastResultTransportAction extends
             case MIN_CONFIDENCE_INTERVAL_WIDTH:
             case MAX_CONFIDENCE_INTERVAL_WIDTH:
                 // Include only documents where horizon_index is configured horizon (indicating the "latest" forecast).
+                // A compact document records the horizon as horizon_index and only the interval widths of its last step.
                 return QueryBuilders.termQuery(ForecastResult.HORIZON_INDEX_FIELD, forecaster.getHorizon());
             case DISTANCE_TO_THRESHOLD_VALUE:
+                // a compact document matches if any of its forecasts does. The max (or min) aggregation
+                // ranking entities then picks a matching forecast as well.
                 RangeQueryBuilder res = QueryBuilders.rangeQuery(ForecastResult.VALUE_FIELD);
                 Float threshold = request.getThreshold();
                 switch (request.getRelationToThreshold()) {
@@ -13,9 +13,9 @@ package org.opensearch.timeseries;
 
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MODEL_MAX_SIZE_PERCENTAGE;
 
-import java.util.EnumMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +36,15 @@ import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
  * - Decide if memory can be allocated based on the current usage and the heap limit.
  * - Estimate the memory size for a ThresholdedRandomCutForest model based on various parameters.
  *
+ * Accounting runs on every cache put/remove, cold start, and batch task, so it is lock-free:
+ * each counter is an AtomicLong, and {@link #tryConsumeMemory} checks the limit and consumes
+ * in one compare-and-set so that concurrent callers cannot overshoot the limit together.
+ * Overall and per-origin counters are updated one after another, so a reader can briefly see
+ * one updated before the other. That is fine for limit checks, and {@link #syncMemoryState}
+ * corrects any drift when the caches recompute their usage.
+ *
+ * The tracker also accounts for threads RCF models use for parallel tree execution, which run
+ * outside of the plugin thread pools and are bounded by a node-wide budget.
  */
 public class MemoryTracker {
     private static final Logger LOG = LogManager.getLogger(MemoryTracker.class);
@@ -43,20 +52,28 @@ public class MemoryTracker {
     public enum Origin {
         REAL_TIME_DETECTOR,
         HISTORICAL_SINGLE_ENTITY_DETECTOR,
-        REAL_TIME_FORECASTER
+        REAL_TIME_FORECASTER,
+        // entity model Ids memoized across configs, see ModelIdMemo
+        MODEL_ID_MEMO,
+        // sketches guarding real-time cold start retries, see ModelColdStart
+        COLD_START_DOOR_KEEPER
     }
 
     // memory tracker for total consumption of bytes
-    protected long totalMemoryBytes;
-    protected final Map<Origin, Long> totalMemoryBytesByOrigin;
+    protected final AtomicLong totalMemoryBytes;
+    // indexed by Origin ordinal
+    protected final AtomicLong[] totalMemoryBytesByOrigin;
     // reserved for models. Cannot be deleted at will.
-    protected long reservedMemoryBytes;
-    protected final Map<Origin, Long> reservedMemoryBytesByOrigin;
+    protected final AtomicLong reservedMemoryBytes;
+    protected final AtomicLong[] reservedMemoryBytesByOrigin;
     protected long heapSize;
-    protected long heapLimitBytes;
+    protected volatile long heapLimitBytes;
     // we observe threshold model uses a fixed size array and the size is the same
     protected int thresholdModelBytes;
     protected CircuitBreakerService timeSeriesCircuitBreakerService;
+    // threads models with parallel tree execution may use in total. 0 disables parallel tree execution.
+    protected volatile int rcfThreadBudget;
+    protected final AtomicInteger rcfThreadsInUse;
 
     /**
      * Constructor
@@ -72,10 +89,10 @@ public class MemoryTracker {
         ClusterService clusterService,
         CircuitBreakerService timeSeriesCircuitBreakerService
     ) {
-        this.totalMemoryBytes = 0;
-        this.totalMemoryBytesByOrigin = new EnumMap<Origin, Long>(Origin.class);
-        this.reservedMemoryBytes = 0;
-        this.reservedMemoryBytesByOrigin = new EnumMap<Origin, Long>(Origin.class);
+        this.totalMemoryBytes = new AtomicLong();
+        this.totalMemoryBytesByOrigin = newOriginCounters();
+        this.reservedMemoryBytes = new AtomicLong();
+        this.reservedMemoryBytesByOrigin = newOriginCounters();
         this.heapSize = jvmService.info().getMem().getHeapMax().getBytes();
         this.heapLimitBytes = (long) (heapSize * modelMaxSizePercentage);
         if (clusterService != null) {
@@ -86,6 +103,16 @@ public class MemoryTracker {
 
         this.thresholdModelBytes = 180_000;
         this.timeSeriesCircuitBreakerService = timeSeriesCircuitBreakerService;
+        this.rcfThreadBudget = 0;
+        this.rcfThreadsInUse = new AtomicInteger();
+    }
+
+    private static AtomicLong[] newOriginCounters() {
+        AtomicLong[] counters = new AtomicLong[Origin.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new AtomicLong();
+        }
+        return counters;
     }
 
     /**
@@ -93,8 +120,8 @@ public class MemoryTracker {
      * @return whether there is enough memory for the required bytes.  This is
      * true when circuit breaker is closed and there is enough reserved memory.
      */
-    public synchronized boolean canAllocateReserved(long requiredBytes) {
-        return (false == timeSeriesCircuitBreakerService.isOpen() && reservedMemoryBytes + requiredBytes <= heapLimitBytes);
+    public boolean canAllocateReserved(long requiredBytes) {
+        return (false == timeSeriesCircuitBreakerService.isOpen() && reservedMemoryBytes.get() + requiredBytes <= heapLimitBytes);
     }
 
     /**
@@ -102,37 +129,56 @@ public class MemoryTracker {
      * @return whether there is enough memory for the required bytes.  This is
      * true when circuit breaker is closed and there is enough overall memory.
      */
-    public synchronized boolean canAllocate(long bytes) {
-        return false == timeSeriesCircuitBreakerService.isOpen() && totalMemoryBytes + bytes <= heapLimitBytes;
+    public boolean canAllocate(long bytes) {
+        return false == timeSeriesCircuitBreakerService.isOpen() && totalMemoryBytes.get() + bytes <= heapLimitBytes;
     }
 
-    public synchronized void consumeMemory(long memoryToConsume, boolean reserved, Origin origin) {
-        totalMemoryBytes += memoryToConsume;
-        adjustOriginMemoryConsumption(memoryToConsume, origin, totalMemoryBytesByOrigin);
-        if (reserved) {
-            reservedMemoryBytes += memoryToConsume;
-            adjustOriginMemoryConsumption(memoryToConsume, origin, reservedMemoryBytesByOrigin);
+    /**
+     * Consumes memory only if it can be allocated, i.e., {@link #canAllocateReserved} for reserved
+     * memory and {@link #canAllocate} otherwise, as one atomic step.
+     *
+     * @param memoryToConsume bytes to consume
+     * @param reserved whether the bytes are reserved
+     * @param origin Origin
+     * @return whether the memory was consumed
+     */
+    public boolean tryConsumeMemory(long memoryToConsume, boolean reserved, Origin origin) {
+        if (timeSeriesCircuitBreakerService.isOpen()) {
+            return false;
         }
-    }
+        AtomicLong limited = reserved ? reservedMemoryBytes : totalMemoryBytes;
+        long limit = heapLimitBytes;
+        long current;
+        do {
+            current = limited.get();
+            if (current + memoryToConsume > limit) {
+                return false;
+            }
+        } while (false == limited.compareAndSet(current, current + memoryToConsume));
 
-    private void adjustOriginMemoryConsumption(long memoryToConsume, Origin origin, Map<Origin, Long> mapToUpdate) {
-        Long originTotalMemoryBytes = mapToUpdate.getOrDefault(origin, 0L);
-        mapToUpdate.put(origin, originTotalMemoryBytes + memoryToConsume);
+        if (reserved) {
+            totalMemoryBytes.addAndGet(memoryToConsume);
+            reservedMemoryBytesByOrigin[origin.ordinal()].addAndGet(memoryToConsume);
+        }
+        totalMemoryBytesByOrigin[origin.ordinal()].addAndGet(memoryToConsume);
+        return true;
     }
 
-    public synchronized void releaseMemory(long memoryToShed, boolean reserved, Origin origin) {
-        totalMemoryBytes -= memoryToShed;
-        adjustOriginMemoryRelease(memoryToShed, origin, totalMemoryBytesByOrigin);
+    public void consumeMemory(long memoryToConsume, boolean reserved, Origin origin) {
+        totalMemoryBytes.addAndGet(memoryToConsume);
+        totalMemoryBytesByOrigin[origin.ordinal()].addAndGet(memoryToConsume);
         if (reserved) {
-            reservedMemoryBytes -= memoryToShed;
-            adjustOriginMemoryRelease(memoryToShed, origin, reservedMemoryBytesByOrigin);
+            reservedMemoryBytes.addAndGet(memoryToConsume);
+            reservedMemoryBytesByOrigin[origin.ordinal()].addAndGet(memoryToConsume);
         }
     }
 
-    private void adjustOriginMemoryRelease(long memoryToConsume, Origin origin, Map<Origin, Long> mapToUpdate) {
-        Long originTotalMemoryBytes = mapToUpdate.get(origin);
-        if (originTotalMemoryBytes != null) {
-            mapToUpdate.put(origin, originTotalMemoryBytes - memoryToConsume);
+    public void releaseMemory(long memoryToShed, boolean reserved, Origin origin) {
+        totalMemoryBytes.addAndGet(-memoryToShed);
+        totalMemoryBytesByOrigin[origin.ordinal()].addAndGet(-memoryToShed);
+        if (reserved) {
+            reservedMemoryBytes.addAndGet(-memoryToShed);
+            reservedMemoryBytesByOrigin[origin.ordinal()].addAndGet(-memoryToShed);
         }
     }
 
@@ -348,8 +394,8 @@ public class MemoryTracker {
      * Bytes to remove to keep AD memory usage within the limit
      * @return bytes to remove
      */
-    public synchronized long memoryToShed() {
-        return totalMemoryBytes - heapLimitBytes;
+    public long memoryToShed() {
+        return totalMemoryBytes.get() - heapLimitBytes;
     }
 
     /**
@@ -361,7 +407,7 @@ public class MemoryTracker {
     }
 
     public long getTotalMemoryBytes() {
-        return totalMemoryBytes;
+        return totalMemoryBytes.get();
     }
 
     /**
@@ -372,9 +418,11 @@ public class MemoryTracker {
      * @param reservedBytes reserved bytes from recomputing
      * @return whether memory adjusted due to mismatch
      */
-    public synchronized boolean syncMemoryState(Origin origin, long totalBytes, long reservedBytes) {
-        long recordedTotalBytes = totalMemoryBytesByOrigin.getOrDefault(origin, 0L);
-        long recordedReservedBytes = reservedMemoryBytesByOrigin.getOrDefault(origin, 0L);
+    public boolean syncMemoryState(Origin origin, long totalBytes, long reservedBytes) {
+        AtomicLong originTotalMemoryBytes = totalMemoryBytesByOrigin[origin.ordinal()];
+        AtomicLong originReservedMemoryBytes = reservedMemoryBytesByOrigin[origin.ordinal()];
+        long recordedTotalBytes = originTotalMemoryBytes.get();
+        long recordedReservedBytes = originReservedMemoryBytes.get();
         if (totalBytes == recordedTotalBytes && reservedBytes == recordedReservedBytes) {
             return false;
         }
@@ -392,14 +440,13 @@ public class MemoryTracker {
                         reservedBytes
                     )
             );
-        // reserved bytes mismatch
-        long reservedDiff = reservedBytes - recordedReservedBytes;
-        reservedMemoryBytesByOrigin.put(origin, reservedBytes);
-        reservedMemoryBytes += reservedDiff;
-
-        long totalDiff = totalBytes - recordedTotalBytes;
-        totalMemoryBytesByOrigin.put(origin, totalBytes);
-        totalMemoryBytes += totalDiff;
+        // reserved bytes mismatch. Swap and apply the difference to what was recorded at the time of
+        // the swap so that concurrent consumption or release in between is not lost.
+        long reservedDiff = reservedBytes - originReservedMemoryBytes.getAndSet(reservedBytes);
+        reservedMemoryBytes.addAndGet(reservedDiff);
+
+        long totalDiff = totalBytes - originTotalMemoryBytes.getAndSet(totalBytes);
+        totalMemoryBytes.addAndGet(totalDiff);
         return true;
     }
 
@@ -411,9 +458,6 @@ public class MemoryTracker {
      * Determines if hosting is allowed based on the estimated size of a given ThresholdedRandomCutForest and
      * the available memory resources.
      *
-     * <p>This method synchronizes access to ensure that checks and operations related to resource availability
-     * are thread-safe.
-     *
      * @param configId      The identifier for the configuration being checked. Used in error messages.
      * @param trcf          The ThresholdedRandomCutForest to estimate the size for.
      * @return              True if the system can allocate the required bytes to host the trcf.
@@ -424,7 +468,7 @@ public class MemoryTracker {
      * boolean canHost = isHostingAllowed("config123", myTRCF);
      * }</pre>
      */
-    public synchronized boolean isHostingAllowed(String configId, ThresholdedRandomCutForest trcf) {
+    public boolean isHostingAllowed(String configId, ThresholdedRandomCutForest trcf) {
         long requiredBytes = estimateTRCFModelSize(trcf);
         if (canAllocateReserved(requiredBytes)) {
             return true;
@@ -435,7 +479,7 @@ public class MemoryTracker {
                     .format(
                         Locale.ROOT,
                         "Exceeded memory limit. New size is %d bytes and max limit is %d bytes",
-                        reservedMemoryBytes + requiredBytes,
+                        reservedMemoryBytes.get() + requiredBytes,
                         heapLimitBytes
                     )
             );
@@ -476,4 +520,49 @@ public class MemoryTracker {
             caster.getForecastHorizon()
         );
     }
+
+    /**
+     * Set the number of threads models may use in total for parallel tree execution. Lowering
+     * the budget does not take threads back from models holding them.
+     *
+     * @param threads thread budget
+     */
+    public void setRCFThreadBudget(int threads) {
+        this.rcfThreadBudget = Math.max(0, threads);
+    }
+
+    /**
+     * Try to reserve threads for the parallel tree execution of one model. Fewer than two threads
+     * are not worth forking for, so the model runs sequentially in that case.
+     *
+     * @param maxThreads most threads the model can use
+     * @return number of reserved threads, or 0 if the model should run sequentially
+     */
+    public int tryAcquireRCFThreads(int maxThreads) {
+        while (true) {
+            int inUse = rcfThreadsInUse.get();
+            int granted = Math.min(maxThreads, rcfThreadBudget - inUse);
+            if (granted < 2) {
+                return 0;
+            }
+            if (rcfThreadsInUse.compareAndSet(inUse, inUse + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Return threads reserved with {@link #tryAcquireRCFThreads}.
+     *
+     * @param threads number of threads to return
+     */
+    public void releaseRCFThreads(int threads) {
+        if (threads > 0) {
+            rcfThreadsInUse.addAndGet(-threads);
+        }
+    }
+
+    public int getRCFThreadsInUse() {
+        return rcfThreadsInUse.get();
+    }
 }
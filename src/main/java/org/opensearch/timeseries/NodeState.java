@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Job;
 
@@ -27,6 +28,8 @@ public class NodeState implements ExpiringState {
     private String configId;
     // config definition
     private Config configDef;
+    // sequence number of the config document the definition is parsed from
+    private long configSeqNo;
     // last access time
     private Instant lastAccessTime;
     // last error.
@@ -49,6 +52,7 @@ public class NodeState implements ExpiringState {
     public NodeState(String configId, Clock clock) {
         this.configId = configId;
         this.configDef = null;
+        this.configSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
         this.lastAccessTime = clock.instant();
         this.exception = Optional.empty();
         this.clock = clock;
@@ -76,10 +80,28 @@ public class NodeState implements ExpiringState {
      * @param configDef Analysis configuration object
      */
     public void setConfigDef(Config configDef) {
+        setConfigDef(configDef, SequenceNumbers.UNASSIGNED_SEQ_NO);
+    }
+
+    /**
+     *
+     * @param configDef Analysis configuration object
+     * @param configSeqNo sequence number of the config document
+     */
+    public void setConfigDef(Config configDef, long configSeqNo) {
         this.configDef = configDef;
+        this.configSeqNo = configSeqNo;
         refreshLastUpdateTime();
     }
 
+    /**
+     *
+     * @return sequence number of the config document the definition is parsed from
+     */
+    public long getConfigSeqNo() {
+        return configSeqNo;
+    }
+
     /**
      *
      * @return last exception if any
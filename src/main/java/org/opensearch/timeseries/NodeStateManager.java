@@ -31,6 +31,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
@@ -40,6 +41,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.XContentParserUtils;
 import org.opensearch.forecast.constant.ForecastCommonName;
 import org.opensearch.forecast.model.Forecaster;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.timeseries.common.exception.EndRunException;
 import org.opensearch.timeseries.constant.CommonMessages;
 import org.opensearch.timeseries.constant.CommonName;
@@ -48,6 +50,8 @@ import org.opensearch.timeseries.ml.SingleStreamModelIdMapper;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Job;
 import org.opensearch.timeseries.transport.BackPressureRouting;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheAction;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheRequest;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.timeseries.util.ExceptionUtil;
 import org.opensearch.timeseries.util.RestHandlerUtils;
@@ -186,6 +190,9 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
      * Get config and execute consumer function.
      * [Important!] Make sure listener returns in function
      *
+     * Always reads the config index as callers like starting a job or deleting a config
+     * must see the latest definition. A newer definition replaces the cached one, if any.
+     *
      * @param configId config id
      * @param analysisType analysis type
      * @param function consumer function.
@@ -219,6 +226,7 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
                 } else {
                     throw new UnsupportedOperationException("This method is not supported");
                 }
+                refreshCachedConfig(configId, config, response.getSeqNo());
 
                 function.accept(Optional.of(config));
             } catch (Exception e) {
@@ -278,8 +286,7 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
                 }
 
                 if (cache) {
-                    NodeState state = states.computeIfAbsent(configID, configId -> new NodeState(configId, clock));
-                    state.setConfigDef(config);
+                    cacheConfig(states.computeIfAbsent(configID, configId -> new NodeState(configId, clock)), config, response.getSeqNo());
                 }
 
                 listener.onResponse(Optional.of(config));
@@ -291,6 +298,94 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
         }, listener::onFailure);
     }
 
+    /**
+     * Caches a config definition unless a newer one is cached or the cached one was invalidated by a newer document.
+     * Unassigned sequence numbers are not compared.
+     *
+     * @param state node state of the config
+     * @param config config definition
+     * @param seqNo sequence number of the config document
+     */
+    private void cacheConfig(NodeState state, Config config, long seqNo) {
+        synchronized (state) {
+            long cachedSeqNo = state.getConfigSeqNo();
+            if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO || cachedSeqNo == SequenceNumbers.UNASSIGNED_SEQ_NO || seqNo >= cachedSeqNo) {
+                state.setConfigDef(config, seqNo);
+            }
+        }
+    }
+
+    /**
+     * Replaces a cached config definition with one read from the config index.
+     *
+     * @param configId config id
+     * @param config config definition
+     * @param seqNo sequence number of the config document
+     */
+    private void refreshCachedConfig(String configId, Config config, long seqNo) {
+        NodeState state = states.get(configId);
+        if (state == null || state.getConfigDef() == null) {
+            return;
+        }
+        if (config.getEnabledFeatureIds().isEmpty()) {
+            // let the next cached lookup read the config again and end the run
+            invalidateConfig(configId, SequenceNumbers.UNASSIGNED_SEQ_NO);
+            return;
+        }
+        cacheConfig(state, config, seqNo);
+    }
+
+    /**
+     * Drops the cached definition of a config that was updated or deleted. Called on every node after the
+     * config index changes so that cached lookups don't return a stale definition.
+     *
+     * @param configId config id
+     * @param seqNo sequence number of the config document change. Cached definitions read from an older
+     *  document are dropped, and the definition is cached again only if read from this or a newer document.
+     *  If unassigned, the cached definition is dropped regardless of its sequence number.
+     */
+    public void invalidateConfig(String configId, long seqNo) {
+        NodeState state = states.get(configId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO
+                || state.getConfigSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO
+                || state.getConfigSeqNo() < seqNo) {
+                state.setConfigDef(null, seqNo);
+            }
+        }
+    }
+
+    /**
+     * Tells all nodes to drop the cached definition of a config that was updated or deleted.
+     * Does not wait for nodes to respond. A node that misses the request reads the config
+     * again once its node state expires.
+     *
+     * @param client client to send the request
+     * @param configId config id
+     * @param seqNo sequence number of the config document change
+     */
+    public static void broadcastConfigInvalidation(Client client, String configId, long seqNo) {
+        // internal action, not authorized for the calling user
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    InvalidateConfigCacheAction.INSTANCE,
+                    new InvalidateConfigCacheRequest(configId, seqNo),
+                    ActionListener.wrap(response -> {
+                        if (response.hasFailures()) {
+                            LOG.warn("Fail to invalidate cached config {} on some nodes: {}", configId, response.failures());
+                        }
+                    }, e -> LOG.warn("Fail to invalidate cached config " + configId, e))
+                );
+        } catch (Exception e) {
+            // never fail the config change because of the cache
+            LOG.warn("Fail to invalidate cached config " + configId, e);
+        }
+    }
+
     /**
      * Get the exception of an analysis.  The method has side effect.
      * We reset error after calling the method because
@@ -10,6 +10,7 @@ import static org.opensearch.core.rest.RestStatus.NOT_FOUND;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +47,7 @@ import org.opensearch.timeseries.indices.TimeSeriesIndex;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.ConfigProfile;
 import org.opensearch.timeseries.model.ConfigState;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.InitProgressProfile;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.model.Job;
@@ -53,9 +55,11 @@ import org.opensearch.timeseries.model.ModelProfileOnNode;
 import org.opensearch.timeseries.model.ProfileName;
 import org.opensearch.timeseries.model.TaskType;
 import org.opensearch.timeseries.model.TimeSeriesTask;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
+import org.opensearch.timeseries.transport.ProfileNodeResponse;
 import org.opensearch.timeseries.transport.ProfileRequest;
 import org.opensearch.timeseries.transport.ProfileResponse;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
@@ -230,7 +234,11 @@ public abstract class ProfileRunner<TaskCacheManagerType extends TaskCacheManage
                     // total number of listeners we need to define. Needed by MultiResponsesDelegateActionListener to decide
                     // when to consolidate results and return to users
                     if (profilesToCollect.contains(ProfileName.TOTAL_ENTITIES)) {
-                        profileEntityStats(delegateListener, config);
+                        if (TimeSeriesEnabledSetting.isEntityCardinalitySketchEnabled() && job.isEnabled()) {
+                            profileEntityStatsFromSketches(delegateListener, config);
+                        } else {
+                            profileEntityStats(delegateListener, config);
+                        }
                     }
                     if (profilesToCollect.contains(ProfileName.COORDINATING_NODE)
                         || profilesToCollect.contains(ProfileName.TOTAL_SIZE_IN_BYTES)
@@ -262,6 +270,49 @@ public abstract class ProfileRunner<TaskCacheManagerType extends TaskCacheManage
         }));
     }
 
+    /**
+     * Estimate total entities by merging the entity sketches that a running HC config's realtime runs keep on
+     * coordinating nodes. The sketches count the entities streamed since the runs started rather than all
+     * entities in the source index. Falls back to the exact aggregation until a sketch has covered all
+     * entities of at least one interval.
+     *
+     * @param listener returns collected profiles
+     * @param config Config accessor
+     */
+    private void profileEntityStatsFromSketches(MultiResponsesDelegateActionListener<ConfigProfileType> listener, Config config) {
+        List<String> categoryField = config.getCategoryFields();
+        if (!config.isHighCardinality() || categoryField.size() > maxCategoricalFields) {
+            listener.onResponse(createProfileBuilder().build());
+            return;
+        }
+        ProfileRequest profileRequest = new ProfileRequest(
+            config.getId(),
+            Collections.singleton(ProfileName.TOTAL_ENTITIES),
+            nodeFilter.getEligibleDataNodes()
+        );
+        client.execute(profileAction, profileRequest, ActionListener.wrap(profileResponse -> {
+            EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+            for (ProfileNodeResponse nodeResponse : profileResponse.getNodes()) {
+                if (nodeResponse.getEntityCardinalitySketch() != null) {
+                    sketch.merge(nodeResponse.getEntityCardinalitySketch());
+                }
+            }
+            if (sketch.isComplete()) {
+                long totalEntities = sketch.estimate();
+                if (categoryField.size() > 1) {
+                    // same cap as the composite aggregation used for multiple category fields
+                    totalEntities = Math.min(totalEntities, maxTotalEntitiesToTrack);
+                }
+                listener.onResponse(createProfileBuilder().totalEntities(totalEntities).build());
+            } else {
+                profileEntityStats(listener, config);
+            }
+        }, exception -> {
+            logger.warn("Fail to get entity sketches, counting total entities exactly for " + config.getId(), exception);
+            profileEntityStats(listener, config);
+        }));
+    }
+
     private void profileEntityStats(MultiResponsesDelegateActionListener<ConfigProfileType> listener, Config config) {
         List<String> categoryField = config.getCategoryFields();
         if (!config.isHighCardinality() || categoryField.size() > maxCategoricalFields) {
@@ -13,12 +13,12 @@ package org.opensearch.timeseries;
 
 import static java.util.Collections.unmodifiableList;
 import static org.opensearch.ad.constant.ADCommonName.ANOMALY_RESULT_INDEX_ALIAS;
-import static org.opensearch.ad.constant.ADCommonName.CHECKPOINT_INDEX_NAME;
 import static org.opensearch.ad.constant.ADCommonName.DETECTION_STATE_INDEX;
+import static org.opensearch.ad.indices.ADIndexManagement.ALL_AD_CHECKPOINT_INDEX_PATTERN;
 import static org.opensearch.ad.indices.ADIndexManagement.ALL_AD_RESULTS_INDEX_PATTERN;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_COOLDOWN_MINUTES;
-import static org.opensearch.forecast.constant.ForecastCommonName.FORECAST_CHECKPOINT_INDEX_NAME;
 import static org.opensearch.forecast.constant.ForecastCommonName.FORECAST_STATE_INDEX;
+import static org.opensearch.forecast.indices.ForecastIndexManagement.ALL_FORECAST_CHECKPOINT_INDEX_PATTERN;
 import static org.opensearch.timeseries.constant.CommonName.JOB_INDEX;
 
 import java.security.AccessController;
@@ -277,6 +277,7 @@ import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.caching.ModelSpillFile;
 import org.opensearch.timeseries.cluster.ADDataMigrator;
 import org.opensearch.timeseries.cluster.ClusterEventListener;
 import org.opensearch.timeseries.cluster.ClusterManagerEventListener;
@@ -288,17 +289,24 @@ import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.feature.SearchFeatureDao;
 import org.opensearch.timeseries.function.ThrowingSupplierWrapper;
 import org.opensearch.timeseries.model.Job;
+import org.opensearch.timeseries.model.ModelIdMemo;
 import org.opensearch.timeseries.ratelimit.CheckPointMaintainRequestAdapter;
 import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
+import org.opensearch.timeseries.stats.suppliers.BatchWorkerSupplier;
 import org.opensearch.timeseries.stats.suppliers.CounterSupplier;
 import org.opensearch.timeseries.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.timeseries.stats.suppliers.InactiveModelSupplier;
+import org.opensearch.timeseries.stats.suppliers.RatioSupplier;
 import org.opensearch.timeseries.stats.suppliers.SettableSupplier;
+import org.opensearch.timeseries.stats.suppliers.ValidatedMappingCacheSupplier;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.transport.CronAction;
 import org.opensearch.timeseries.transport.CronTransportAction;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheAction;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheTransportAction;
 import org.opensearch.timeseries.transport.handler.ResultBulkIndexingHandler;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
@@ -366,6 +374,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
     private ADBatchTaskRunner adBatchTaskRunner;
     // package private for testing
     GenericObjectPool<LinkedBuffer> serializeRCFBufferPool;
+    private ModelSpillFile adModelSpillFile;
     private NodeStateManager stateManager;
     private ExecuteADResultResponseRecorder adResultResponseRecorder;
     private ExecuteForecastResultResponseRecorder forecastResultResponseRecorder;
@@ -576,6 +585,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
 
         Random random = new Random(42);
 
+        TimeSeriesEnabledSetting.getInstance().init(clusterService);
+
         // =====================
         // AD components
         // =====================
@@ -599,6 +610,16 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
         double adModelMaxSizePercent = AnomalyDetectorSettings.AD_MODEL_MAX_SIZE_PERCENTAGE.get(settings);
 
         MemoryTracker adMemoryTracker = new MemoryTracker(jvmService, adModelMaxSizePercent, clusterService, circuitBreakerService);
+        ModelIdMemo.getInstance().setMemoryTracker(adMemoryTracker);
+        // historical analysis and preview models can run their trees in parallel within the processors the AD thread pools leave
+        int maxRCFThreadBudget = maxRCFThreadBudget(settings);
+        adMemoryTracker.setRCFThreadBudget(Math.min(TimeSeriesSettings.RCF_PARALLEL_THREAD_BUDGET.get(settings), maxRCFThreadBudget));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                TimeSeriesSettings.RCF_PARALLEL_THREAD_BUDGET,
+                it -> adMemoryTracker.setRCFThreadBudget(Math.min(it, maxRCFThreadBudget))
+            );
 
         ADCheckpointDao adCheckpoint = new ADCheckpointDao(
             client,
@@ -698,6 +719,15 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
         // CheckPointMaintainRequestAdapter, and CheckpointMaintainWorker
         adCacheProvider.set(adPriorityCache);
 
+        adModelSpillFile = new ModelSpillFile(
+            environment.tmpFile().resolve("timeseries"),
+            "ad-models-",
+            TimeSeriesSettings.MODEL_SPILL_FILE_BYTES
+        );
+        // files of a previous run of this node
+        adModelSpillFile.deleteStaleFiles();
+        adPriorityCache.setModelSpillFile(adModelSpillFile);
+
         ADColdStart adEntityColdStarter = new ADColdStart(
             getClock(),
             threadPool,
@@ -715,6 +745,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             (int) (AD_COOLDOWN_MINUTES.get(settings).getMinutes()),
             anomalyDetectionIndices.getSchemaVersion(ADIndex.RESULT)
         );
+        adEntityColdStarter.setMemoryTracker(adMemoryTracker);
 
         ADModelManager adModelManager = new ADModelManager(
             adCheckpoint,
@@ -809,6 +840,12 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             adCheckpointWriteQueue
         );
 
+        BatchWorkerSupplier adBatchWorkerSupplier = new BatchWorkerSupplier();
+        adBatchWorkerSupplier.register(adCheckpointWriteQueue);
+        adBatchWorkerSupplier.register(adResultWriteQueue);
+        CounterSupplier adEntitiesProcessedSupplier = new CounterSupplier();
+        CounterSupplier adEntityProcessingMsSupplier = new CounterSupplier();
+
         Map<String, TimeSeriesStat<?>> adStatsMap = ImmutableMap
             .<String, TimeSeriesStat<?>>builder()
             // ad stats
@@ -836,6 +873,22 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             .put(StatNames.AD_TOTAL_BATCH_TASK_EXECUTION_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
             .put(StatNames.AD_BATCH_TASK_FAILURE_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
             .put(StatNames.AD_MODEL_CORRUTPION_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.AD_HC_PAGE_FETCH_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.AD_HC_PAGE_FETCH_LATENCY_MS.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.AD_HC_PAGES_IN_FLIGHT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.AD_BATCH_WORKERS.getName(), new TimeSeriesStat<>(false, adBatchWorkerSupplier))
+            .put(StatNames.AD_INACTIVE_MODELS.getName(), new TimeSeriesStat<>(false, new InactiveModelSupplier(adCacheProvider)))
+            .put(StatNames.AD_HC_ENTITIES_PROCESSED_COUNT.getName(), new TimeSeriesStat<>(false, adEntitiesProcessedSupplier))
+            .put(StatNames.AD_HC_ENTITY_PROCESSING_MS.getName(), new TimeSeriesStat<>(false, adEntityProcessingMsSupplier))
+            .put(
+                StatNames.AD_HC_ENTITIES_PER_MS.getName(),
+                new TimeSeriesStat<>(false, new RatioSupplier(adEntitiesProcessedSupplier, adEntityProcessingMsSupplier))
+            )
+            .put(StatNames.AD_HC_ENTITY_TASK_REJECTED_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(
+                StatNames.AD_RESULT_INDEX_MAPPING_CACHE.getName(),
+                new TimeSeriesStat<>(false, new ValidatedMappingCacheSupplier(anomalyDetectionIndices))
+            )
             .put(
                 StatNames.MODEL_INFORMATION.getName(),
                 new TimeSeriesStat<>(false, new ADModelsOnNodeSupplier(adModelManager, adCacheProvider, settings, clusterService))
@@ -896,6 +949,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             adCheckpointWriteQueue,
             adInferencer
         );
+        adBatchWorkerSupplier.register(adCheckpointReadQueue);
 
         ADColdEntityWorker adColdEntityQueue = new ADColdEntityWorker(
             heapSizeBytes,
@@ -1128,6 +1182,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             TimeSeriesSettings.MAX_COLD_START_ROUNDS,
             forecastIndices.getSchemaVersion(ForecastIndex.RESULT)
         );
+        forecastColdStarter.setMemoryTracker(forecastMemoryTracker);
 
         ForecastModelManager forecastModelManager = new ForecastModelManager(
             forecastCheckpoint,
@@ -1207,6 +1262,12 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             forecastCheckpointWriteQueue
         );
 
+        BatchWorkerSupplier forecastBatchWorkerSupplier = new BatchWorkerSupplier();
+        forecastBatchWorkerSupplier.register(forecastCheckpointWriteQueue);
+        forecastBatchWorkerSupplier.register(forecastResultWriteQueue);
+        CounterSupplier forecastEntitiesProcessedSupplier = new CounterSupplier();
+        CounterSupplier forecastEntityProcessingMsSupplier = new CounterSupplier();
+
         Map<String, TimeSeriesStat<?>> forecastStatsMap = ImmutableMap
             .<String, TimeSeriesStat<?>>builder()
             // forecast stats
@@ -1230,6 +1291,21 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             .put(StatNames.SINGLE_STREAM_FORECASTER_COUNT.getName(), new TimeSeriesStat<>(true, new SettableSupplier()))
             .put(StatNames.HC_FORECASTER_COUNT.getName(), new TimeSeriesStat<>(true, new SettableSupplier()))
             .put(StatNames.FORECAST_MODEL_CORRUPTION_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.FORECAST_HC_PAGE_FETCH_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.FORECAST_HC_PAGE_FETCH_LATENCY_MS.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.FORECAST_HC_PAGES_IN_FLIGHT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(StatNames.FORECAST_BATCH_WORKERS.getName(), new TimeSeriesStat<>(false, forecastBatchWorkerSupplier))
+            .put(StatNames.FORECAST_HC_ENTITIES_PROCESSED_COUNT.getName(), new TimeSeriesStat<>(false, forecastEntitiesProcessedSupplier))
+            .put(StatNames.FORECAST_HC_ENTITY_PROCESSING_MS.getName(), new TimeSeriesStat<>(false, forecastEntityProcessingMsSupplier))
+            .put(
+                StatNames.FORECAST_HC_ENTITIES_PER_MS.getName(),
+                new TimeSeriesStat<>(false, new RatioSupplier(forecastEntitiesProcessedSupplier, forecastEntityProcessingMsSupplier))
+            )
+            .put(StatNames.FORECAST_HC_ENTITY_TASK_REJECTED_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()))
+            .put(
+                StatNames.FORECAST_RESULT_INDEX_MAPPING_CACHE.getName(),
+                new TimeSeriesStat<>(false, new ValidatedMappingCacheSupplier(forecastIndices))
+            )
             .put(
                 StatNames.MODEL_INFORMATION.getName(),
                 new TimeSeriesStat<>(false, new ForecastModelsOnNodeSupplier(forecastCacheProvider, settings, clusterService))
@@ -1283,6 +1359,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             forecastCheckpointWriteQueue,
             forecastInferencer
         );
+        forecastBatchWorkerSupplier.register(forecastCheckpointReadQueue);
 
         ForecastColdEntityWorker forecastColdEntityQueue = new ForecastColdEntityWorker(
             heapSizeBytes,
@@ -1429,16 +1506,14 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new ScalingExecutorBuilder(
                     AD_THREAD_POOL_NAME,
                     1,
-                    // HCAD can be heavy after supporting 1 million entities.
-                    // Limit to use at most half of the processors.
-                    Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2),
+                    adThreadPoolSize(settings),
                     TimeValue.timeValueMinutes(10),
                     AD_THREAD_POOL_PREFIX + AD_THREAD_POOL_NAME
                 ),
                 new ScalingExecutorBuilder(
                     AD_BATCH_TASK_THREAD_POOL_NAME,
                     1,
-                    Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 8),
+                    adBatchTaskThreadPoolSize(settings),
                     TimeValue.timeValueMinutes(10),
                     AD_THREAD_POOL_PREFIX + AD_BATCH_TASK_THREAD_POOL_NAME
                 ),
@@ -1455,6 +1530,28 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             );
     }
 
+    private static int adThreadPoolSize(Settings settings) {
+        // HCAD can be heavy after supporting 1 million entities.
+        // Limit to use at most half of the processors.
+        return Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2);
+    }
+
+    private static int adBatchTaskThreadPoolSize(Settings settings) {
+        return Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 8);
+    }
+
+    /**
+     * RCF parallel tree execution uses threads outside of the plugin thread pools. Cap the
+     * thread budget to the processors left when the AD thread pools are fully busy.
+     *
+     * @param settings node settings
+     * @return max number of threads RCF models may use for parallel tree execution
+     */
+    static int maxRCFThreadBudget(Settings settings) {
+        return Math
+            .max(0, OpenSearchExecutors.allocatedProcessors(settings) - adThreadPoolSize(settings) - adBatchTaskThreadPoolSize(settings));
+    }
+
     @Override
     public List<Setting<?>> getSettings() {
         List<Setting<?>> adEnabledSetting = ADEnabledSetting.getInstance().getSettings();
@@ -1622,7 +1719,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 TimeSeriesSettings.BACKOFF_MINUTES,
                 TimeSeriesSettings.COOLDOWN_MINUTES,
                 // tasks
-                TimeSeriesSettings.MAX_CACHED_DELETED_TASKS
+                TimeSeriesSettings.MAX_CACHED_DELETED_TASKS,
+                // parallel tree execution
+                TimeSeriesSettings.RCF_PARALLEL_THREAD_BUDGET
             );
         return unmodifiableList(
             Stream
@@ -1666,6 +1765,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new ActionHandler<>(ThresholdResultAction.INSTANCE, ThresholdResultTransportAction.class),
                 new ActionHandler<>(AnomalyResultAction.INSTANCE, AnomalyResultTransportAction.class),
                 new ActionHandler<>(CronAction.INSTANCE, CronTransportAction.class),
+                new ActionHandler<>(InvalidateConfigCacheAction.INSTANCE, InvalidateConfigCacheTransportAction.class),
                 new ActionHandler<>(ADStatsNodesAction.INSTANCE, ADStatsNodesTransportAction.class),
                 new ActionHandler<>(ADProfileAction.INSTANCE, ADProfileTransportAction.class),
                 new ActionHandler<>(RCFPollingAction.INSTANCE, RCFPollingTransportAction.class),
@@ -1724,9 +1824,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
         systemIndexDescriptors.add(new SystemIndexDescriptor(ADCommonName.CONFIG_INDEX, "Anomaly detection config index"));
         systemIndexDescriptors.add(new SystemIndexDescriptor(ForecastCommonName.CONFIG_INDEX, "Forecasting config index"));
         systemIndexDescriptors.add(new SystemIndexDescriptor(ALL_AD_RESULTS_INDEX_PATTERN, "AD result index pattern"));
-        systemIndexDescriptors.add(new SystemIndexDescriptor(CHECKPOINT_INDEX_NAME, "AD Checkpoints index"));
+        systemIndexDescriptors.add(new SystemIndexDescriptor(ALL_AD_CHECKPOINT_INDEX_PATTERN, "AD Checkpoints index pattern"));
         systemIndexDescriptors.add(new SystemIndexDescriptor(DETECTION_STATE_INDEX, "AD State index"));
-        systemIndexDescriptors.add(new SystemIndexDescriptor(FORECAST_CHECKPOINT_INDEX_NAME, "Forecast Checkpoints index"));
+        systemIndexDescriptors.add(new SystemIndexDescriptor(ALL_FORECAST_CHECKPOINT_INDEX_PATTERN, "Forecast Checkpoints index pattern"));
         systemIndexDescriptors.add(new SystemIndexDescriptor(FORECAST_STATE_INDEX, "Forecast state index"));
         systemIndexDescriptors.add(new SystemIndexDescriptor(JOB_INDEX, "Time Series Analytics job index"));
         return systemIndexDescriptors;
@@ -1757,6 +1857,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
 
     @Override
     public void close() {
+        if (adModelSpillFile != null) {
+            adModelSpillFile.close();
+        }
         if (serializeRCFBufferPool != null) {
             try {
                 AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
@@ -19,12 +19,14 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.timeseries.ExpiringState;
 import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.MemoryTracker.Origin;
@@ -66,6 +68,8 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
     protected final PriorityTracker priorityTracker;
     // key is model id
     protected final ConcurrentHashMap<String, ModelState<RCFModelType>> items;
+    // called with an evicted state before its model is cleared
+    private volatile Consumer<ModelState<RCFModelType>> evictionListener;
 
     public CacheBuffer(
         int minimumCapacity,
@@ -109,6 +113,10 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         return expired(lastUsedTime, stateTtl, clock.instant());
     }
 
+    public void setEvictionListener(Consumer<ModelState<RCFModelType>> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
     public void setCheckpointIntervalHrs(int checkpointIntervalHrs) {
         this.checkpointIntervalHrs = checkpointIntervalHrs;
         // 0 can cause java.lang.ArithmeticException: / by zero
@@ -309,6 +317,16 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
                 // regardless of last checkpoint time. whether If we don't save,
                 // we throw the new samples and might never be able to initialize the model
                 checkpointWriteQueue.write(valueRemoved, valueRemoved.getModel().isEmpty(), RequestPriority.MEDIUM);
+
+                // a corrupted model removed without saving a checkpoint is not worth keeping
+                Consumer<ModelState<RCFModelType>> listener = evictionListener;
+                if (listener != null) {
+                    try {
+                        listener.accept(valueRemoved);
+                    } catch (Exception e) {
+                        LOG.warn(new ParameterizedMessage("Fail to process evicted model [{}]", keyToRemove), e);
+                    }
+                }
             }
 
             valueRemoved.clear();
@@ -440,7 +458,27 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         // We have memory tracking correction to fix incorrect memory usage record.
         // put from other threads: not a problem as the entry is associated with
         // entityModelId and our put is idempotent
-        put(entityModelId, value, value.getPriority());
+        put(entityModelId, value, value.getPriority(), false);
+    }
+
+    /**
+     * Insert the model state if the dedicated cache has a free slot or the shared cache has
+     * memory for it. Shared cache memory is checked and consumed in one step so that
+     * concurrent inserts cannot overshoot the memory limit together.
+     * @param entityModelId the model Id
+     * @param value the ModelState
+     * @return whether the model state is inserted
+     */
+    public boolean tryPut(String entityModelId, ModelState<RCFModelType> value) {
+        if (items.containsKey(entityModelId) || dedicatedCacheAvailable()) {
+            put(entityModelId, value);
+            return true;
+        }
+        if (false == memoryTracker.tryConsumeMemory(memoryConsumptionPerModel, false, origin)) {
+            return false;
+        }
+        put(entityModelId, value, value.getPriority(), true);
+        return true;
     }
 
     /**
@@ -448,8 +486,9 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
     * @param entityModelId the model Id
     * @param value the ModelState
     * @param priority the priority
+    * @param sharedMemoryConsumed whether the caller has consumed shared cache memory for the model
     */
-    private void put(String entityModelId, ModelState<RCFModelType> value, float priority) {
+    private void put(String entityModelId, ModelState<RCFModelType> value, float priority, boolean sharedMemoryConsumed) {
         ModelState<RCFModelType> contentNode = items.get(entityModelId);
         if (contentNode == null) {
             priorityTracker.addPriority(entityModelId, priority);
@@ -459,12 +498,20 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
             // shared cache empty means we are consuming reserved cache.
             // Since we have already considered them while allocating CacheBuffer,
             // skip bookkeeping.
-            if (!sharedCacheEmpty()) {
+            if (sharedCacheEmpty()) {
+                // another thread freed a dedicated slot in the meantime
+                if (sharedMemoryConsumed) {
+                    memoryTracker.releaseMemory(memoryConsumptionPerModel, false, origin);
+                }
+            } else if (false == sharedMemoryConsumed) {
                 memoryTracker.consumeMemory(memoryConsumptionPerModel, false, origin);
             }
         } else {
             update(entityModelId);
             items.put(entityModelId, value);
+            if (sharedMemoryConsumed) {
+                memoryTracker.releaseMemory(memoryConsumptionPerModel, false, origin);
+            }
         }
     }
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Serialized models of inactive entities, oldest first.
+ *
+ * When an entity is evicted from the active cache, its model is dropped and has to be read
+ * back from the checkpoint index when the entity returns. A serialized (and usually compressed)
+ * model is a fraction of the size of the in-memory model, so we can afford to keep recently
+ * evicted models around and skip the checkpoint read for entities that come back soon.
+ *
+ * The tier does not talk to MemoryTracker itself. Callers account the returned byte deltas
+ * so that the tier is shed before active models when memory is short.
+ */
+public class CompressedModelTier {
+    public static final String MODELS = "models";
+    public static final String STORED_BYTES = "stored_bytes";
+    public static final String COMPRESSION_RATIO = "compression_ratio";
+    public static final String INFLATE_COUNT = "inflate_count";
+    public static final String INFLATE_LATENCY_AVG_MICROS = "inflate_latency_avg_us";
+    public static final String INFLATE_LATENCY_MAX_MICROS = "inflate_latency_max_us";
+
+    public static class StoredModel {
+        private final String modelId;
+        private final String configId;
+        private final byte[] bytes;
+        // estimated memory of the inflated model
+        private final long modelBytes;
+        // time of the model's last checkpoint. The checkpoint write queued on eviction updates
+        // it once the write is prepared, so it is read when the model is inflated.
+        private final Supplier<Instant> lastCheckpointTime;
+
+        StoredModel(String modelId, String configId, byte[] bytes, long modelBytes, Supplier<Instant> lastCheckpointTime) {
+            this.modelId = modelId;
+            this.configId = configId;
+            this.bytes = bytes;
+            this.modelBytes = modelBytes;
+            this.lastCheckpointTime = lastCheckpointTime;
+        }
+
+        public String getModelId() {
+            return modelId;
+        }
+
+        public String getConfigId() {
+            return configId;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public long getModelBytes() {
+            return modelBytes;
+        }
+
+        /**
+         * @return time of the last checkpoint the stored model is at least as new as
+         */
+        public Instant getLastCheckpointTime() {
+            return lastCheckpointTime.get();
+        }
+    }
+
+    // model id -> stored model in insertion order
+    private final LinkedHashMap<String, StoredModel> models;
+    private long storedBytes;
+    private long inflatedModelBytes;
+    private long inflateCount;
+    private long inflateNanos;
+    private long maxInflateNanos;
+
+    public CompressedModelTier() {
+        this.models = new LinkedHashMap<>();
+    }
+
+    /**
+     * Stores a serialized model, replacing the previously stored bytes of the same model.
+     * @param modelId model id
+     * @param configId config id
+     * @param bytes serialized model
+     * @param modelBytes estimated memory of the inflated model
+     * @param lastCheckpointTime time of the model's last checkpoint
+     * @return bytes released by the replaced entry, 0 if there was none
+     */
+    public synchronized long put(String modelId, String configId, byte[] bytes, long modelBytes, Supplier<Instant> lastCheckpointTime) {
+        long released = release(models.remove(modelId));
+        models.put(modelId, new StoredModel(modelId, configId, bytes, modelBytes, lastCheckpointTime));
+        storedBytes += bytes.length;
+        inflatedModelBytes += modelBytes;
+        return released;
+    }
+
+    /**
+     * @param modelId model id
+     * @return the removed model or null if the model is not stored
+     */
+    public synchronized StoredModel remove(String modelId) {
+        StoredModel removed = models.remove(modelId);
+        release(removed);
+        return removed;
+    }
+
+    public synchronized boolean contains(String modelId) {
+        return models.containsKey(modelId);
+    }
+
+    /**
+     * @param predicate which models to remove
+     * @return released bytes
+     */
+    public synchronized long removeIf(Predicate<StoredModel> predicate) {
+        long released = 0;
+        Iterator<StoredModel> iterator = models.values().iterator();
+        while (iterator.hasNext()) {
+            StoredModel model = iterator.next();
+            if (predicate.test(model)) {
+                iterator.remove();
+                released += release(model);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Removes the oldest models until at least the given number of bytes is released or the tier is empty.
+     * @param bytesToShed bytes to release
+     * @return released bytes
+     */
+    public long shed(long bytesToShed) {
+        return shed(bytesToShed, model -> {});
+    }
+
+    /**
+     * Removes the oldest models until at least the given number of bytes is released or the tier is empty.
+     * @param bytesToShed bytes to release
+     * @param onShed called with each removed model
+     * @return released bytes
+     */
+    public synchronized long shed(long bytesToShed, Consumer<StoredModel> onShed) {
+        long released = 0;
+        Iterator<StoredModel> iterator = models.values().iterator();
+        while (released < bytesToShed && iterator.hasNext()) {
+            StoredModel model = iterator.next();
+            iterator.remove();
+            released += release(model);
+            onShed.accept(model);
+        }
+        return released;
+    }
+
+    /**
+     * @return released bytes
+     */
+    public synchronized long clear() {
+        long released = storedBytes;
+        models.clear();
+        storedBytes = 0;
+        inflatedModelBytes = 0;
+        return released;
+    }
+
+    private long release(StoredModel model) {
+        if (model == null) {
+            return 0;
+        }
+        storedBytes -= model.getBytes().length;
+        inflatedModelBytes -= model.getModelBytes();
+        return model.getBytes().length;
+    }
+
+    /**
+     * @param nanos time taken to deserialize a stored model
+     */
+    public synchronized void recordInflate(long nanos) {
+        inflateCount++;
+        inflateNanos += nanos;
+        maxInflateNanos = Math.max(maxInflateNanos, nanos);
+    }
+
+    /**
+     * @param modelBytes estimated memory of an inflated model
+     * @return expected stored bytes of the model given the compression of stored models, 0 if no model is stored
+     */
+    public synchronized long estimateStoredBytes(long modelBytes) {
+        return inflatedModelBytes == 0 ? 0 : modelBytes * storedBytes / inflatedModelBytes;
+    }
+
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public synchronized int size() {
+        return models.size();
+    }
+
+    /**
+     * @return stored models and bytes, ratio of estimated inflated model memory to stored bytes, and inflate latency
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(MODELS, models.size());
+        stats.put(STORED_BYTES, storedBytes);
+        stats.put(COMPRESSION_RATIO, storedBytes == 0 ? 0d : (double) inflatedModelBytes / storedBytes);
+        stats.put(INFLATE_COUNT, inflateCount);
+        stats.put(INFLATE_LATENCY_AVG_MICROS, inflateCount == 0 ? 0L : inflateNanos / inflateCount / 1000);
+        stats.put(INFLATE_LATENCY_MAX_MICROS, maxInflateNanos / 1000);
+        return stats;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A fixed-size, lock-free door keeper backed by a count-min sketch of 4-bit counters.
+ *
+ * Unlike {@link ExactDoorKeeper}, memory does not grow with the number of entities
+ * and we don't drop all history at once. Instead, we age the sketch by halving every
+ * counter once we have seen expectedInsertions insertions or the reset interval
+ * has passed (TinyLFU, https://arxiv.org/abs/1512.00727). Popular entities keep
+ * part of their frequency while one-off entities are forgotten.
+ *
+ * The sketch may overestimate a frequency (never underestimate), so an unpopular
+ * entity can occasionally pass the door keeper early. This is fine as the door
+ * keeper only saves work and does not guard correctness.
+ */
+public class CountMinDoorKeeper extends DoorKeeper {
+    private static final Logger LOG = LogManager.getLogger(CountMinDoorKeeper.class);
+
+    // number of hash functions. Each one uses its own 4 counters within a long.
+    static final int DEPTH = 4;
+    // 4-bit counters. Saturate at 15, well above any count threshold we use.
+    static final int MAX_COUNT = 15;
+    static final int MIN_TABLE_LENGTH = 64;
+    // 32 MB
+    static final int MAX_TABLE_LENGTH = 1 << 22;
+    // clears the bit shifted in from the neighboring counter after halving
+    private static final long HALVE_MASK = 0x7777777777777777L;
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final long sampleSize;
+    private final AtomicLong additions;
+
+    public CountMinDoorKeeper(long expectedInsertions, Duration resetInterval, Clock clock, int countThreshold) {
+        super(resetInterval, clock, countThreshold);
+        int tableLength = tableLength(expectedInsertions);
+        this.table = new AtomicLongArray(tableLength);
+        this.tableMask = tableLength - 1;
+        this.sampleSize = Math.max(MIN_TABLE_LENGTH, expectedInsertions);
+        this.additions = new AtomicLong();
+        this.lastMaintenanceTime = clock.instant();
+    }
+
+    private static int tableLength(long expectedInsertions) {
+        // Each long holds 16 counters, 4 per hash function, so every hash function has
+        // 2 * expectedInsertions counters to choose from. With DEPTH hash functions, this
+        // keeps the false positive rate of a full window at a few percent.
+        long target = Math.max(MIN_TABLE_LENGTH, expectedInsertions / 2);
+        return (int) Math.min(MAX_TABLE_LENGTH, Long.highestOneBit(target - 1) << 1);
+    }
+
+    /**
+     * @param expectedInsertions expected number of insertions within one reset interval
+     * @return bytes a sketch created with expectedInsertions holds, so callers can check memory before creating it
+     */
+    public static long estimateMemoryBytes(long expectedInsertions) {
+        return (long) tableLength(expectedInsertions) * Long.BYTES;
+    }
+
+    @Override
+    protected void increment(String item) {
+        long hash = HASH.hashUnencodedChars(item).asLong();
+        int h1 = (int) hash;
+        // odd so that different hash functions never collapse into the same one
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < DEPTH; i++) {
+            int combined = h1 + i * h2;
+            incrementAt((combined >>> 2) & tableMask, offset(combined, i));
+        }
+
+        // only one thread sees the exact value, so we age once per sample
+        if (additions.incrementAndGet() == sampleSize) {
+            age();
+        }
+    }
+
+    private void incrementAt(int index, int offset) {
+        while (true) {
+            long current = table.get(index);
+            if (((current >>> offset) & 0xfL) == MAX_COUNT) {
+                return;
+            }
+            if (table.compareAndSet(index, current, current + (1L << offset))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected int frequency(String item) {
+        long hash = HASH.hashUnencodedChars(item).asLong();
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            int combined = h1 + i * h2;
+            int count = (int) ((table.get((combined >>> 2) & tableMask) >>> offset(combined, i)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * @param combined combined hash
+     * @param depth index of hash function
+     * @return bit offset of the counter within a long
+     */
+    private static int offset(int combined, int depth) {
+        return ((combined & 3) + (depth << 2)) << 2;
+    }
+
+    /**
+     * Halve all counters. Concurrent increments are not lost as we update each long with CAS.
+     */
+    private void age() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, value -> (value >>> 1) & HALVE_MASK);
+        }
+        // half of the frequency mass is left after halving
+        additions.updateAndGet(value -> value / 2);
+        lastMaintenanceTime = clock.instant();
+    }
+
+    /**
+     * We age the sketch when its reset interval is reached
+     */
+    @Override
+    public void maintenance() {
+        if (isMaintenanceDue()) {
+            LOG.debug("aging door keeper sketch");
+            age();
+        }
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (long) table.length() * Long.BYTES;
+    }
+}
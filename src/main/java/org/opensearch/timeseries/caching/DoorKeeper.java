@@ -14,67 +14,57 @@ package org.opensearch.timeseries.caching;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.opensearch.timeseries.ExpiringState;
 import org.opensearch.timeseries.MaintenanceState;
 
 /**
- * A hashmap thats track the exact frequency of each element and reset regularly.
+ * Tracks how often an element (e.g., entity model id) has been seen within a
+ * time window so that we can filter out unpopular elements that are not
+ * likely to appear more than a few times.
  *
  * The name of door keeper derives from https://arxiv.org/abs/1512.00727
  *
  */
-public class DoorKeeper implements MaintenanceState, ExpiringState {
-    private final Logger LOG = LogManager.getLogger(DoorKeeper.class);
-    // stores entity's model id
-    private final long expectedInsertions;
-    private Map<String, Integer> frequencyMap;
-    private Instant lastMaintenanceTime;
-    private final Duration resetInterval;
-    private final Clock clock;
-    private Instant lastAccessTime;
-    private final int countThreshold;
+public abstract class DoorKeeper implements MaintenanceState, ExpiringState {
+    protected final Duration resetInterval;
+    protected final Clock clock;
+    protected final int countThreshold;
+    protected volatile Instant lastMaintenanceTime;
+    private volatile Instant lastAccessTime;
 
-    public DoorKeeper(long expectedInsertions, Duration resetInterval, Clock clock, int countThreshold) {
-        this.expectedInsertions = expectedInsertions;
+    protected DoorKeeper(Duration resetInterval, Clock clock, int countThreshold) {
         this.resetInterval = resetInterval;
         this.clock = clock;
         this.countThreshold = countThreshold;
         this.lastAccessTime = clock.instant();
-        maintenance();
-    }
-
-    public void put(String modelId) {
-        this.lastAccessTime = clock.instant();
-        this.frequencyMap.put(modelId, this.frequencyMap.getOrDefault(modelId, 0) + 1);
-        if (frequencyMap.size() > expectedInsertions) {
-            reset();
-        }
     }
 
     /**
-     * We reset the bloom filter when bloom filter is null or it is state ttl is reached
+     * Create a door keeper.
+     *
+     * @param expectedInsertions expected number of insertions within one reset interval
+     * @param resetInterval how often we forget frequency history
+     * @param clock clock
+     * @param countThreshold frequency an element needs to pass the door keeper
+     * @param useSketch whether to use a fixed-size count-min sketch instead of an exact frequency map
+     * @return the door keeper
      */
-    @Override
-    public void maintenance() {
-        if (frequencyMap == null || lastMaintenanceTime.plus(resetInterval).isBefore(clock.instant())) {
-            LOG.debug("maintaining for doorkeeper");
-            reset();
+    public static DoorKeeper create(long expectedInsertions, Duration resetInterval, Clock clock, int countThreshold, boolean useSketch) {
+        if (useSketch) {
+            return new CountMinDoorKeeper(expectedInsertions, resetInterval, clock, countThreshold);
         }
+        return new ExactDoorKeeper(expectedInsertions, resetInterval, clock, countThreshold);
     }
 
-    private void reset() {
-        frequencyMap = new HashMap<>();
-        lastMaintenanceTime = clock.instant();
+    public void put(String modelId) {
+        this.lastAccessTime = clock.instant();
+        increment(modelId);
     }
 
     public boolean appearsMoreThanOrEqualToThreshold(String item) {
         this.lastAccessTime = clock.instant();
-        return this.frequencyMap.getOrDefault(item, 0) >= countThreshold;
+        return frequency(item) >= countThreshold;
     }
 
     @Override
@@ -82,4 +72,26 @@ public class DoorKeeper implements MaintenanceState, ExpiringState {
         // ignore stateTtl since we have customized resetInterval
         return expired(lastAccessTime, resetInterval, clock.instant());
     }
+
+    protected boolean isMaintenanceDue() {
+        return lastMaintenanceTime == null || lastMaintenanceTime.plus(resetInterval).isBefore(clock.instant());
+    }
+
+    /**
+     * Record one more occurrence of the element.
+     * @param item element like model id
+     */
+    protected abstract void increment(String item);
+
+    /**
+     * @param item element like model id
+     * @return (estimated) number of occurrences of the element since history was last forgotten
+     */
+    protected abstract int frequency(String item);
+
+    /**
+     * @return bytes held by the door keeper that should be accounted in MemoryTracker. 0 if
+     *  the door keeper's memory grows with the number of tracked elements and is not accounted.
+     */
+    public abstract long getMemoryBytes();
 }
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A hashmap thats track the exact frequency of each element and reset regularly.
+ *
+ */
+public class ExactDoorKeeper extends DoorKeeper {
+    private static final Logger LOG = LogManager.getLogger(ExactDoorKeeper.class);
+    // stores entity's model id
+    private final long expectedInsertions;
+    private Map<String, Integer> frequencyMap;
+
+    public ExactDoorKeeper(long expectedInsertions, Duration resetInterval, Clock clock, int countThreshold) {
+        super(resetInterval, clock, countThreshold);
+        this.expectedInsertions = expectedInsertions;
+        maintenance();
+    }
+
+    @Override
+    protected void increment(String modelId) {
+        this.frequencyMap.put(modelId, this.frequencyMap.getOrDefault(modelId, 0) + 1);
+        if (frequencyMap.size() > expectedInsertions) {
+            reset();
+        }
+    }
+
+    /**
+     * We reset the frequency map when it is null or it is state ttl is reached
+     */
+    @Override
+    public void maintenance() {
+        if (frequencyMap == null || isMaintenanceDue()) {
+            LOG.debug("maintaining for doorkeeper");
+            reset();
+        }
+    }
+
+    private void reset() {
+        frequencyMap = new HashMap<>();
+        lastMaintenanceTime = clock.instant();
+    }
+
+    @Override
+    protected int frequency(String item) {
+        return this.frequencyMap.getOrDefault(item, 0);
+    }
+
+    /**
+     * The map grows with the number of entities and is bounded by expectedInsertions,
+     * so we don't account it.
+     */
+    @Override
+    public long getMemoryBytes() {
+        return 0;
+    }
+}
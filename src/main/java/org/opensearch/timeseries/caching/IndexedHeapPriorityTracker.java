@@ -0,0 +1,279 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Clock;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * A {@link PriorityTracker} backed by an indexed binary min-heap over primitive arrays.
+ *
+ * Each entity id is interned to an int slot once. Priorities live in a float array
+ * indexed by slot, and the heap stores slots. Updating an existing entity's priority
+ * changes a float and sifts its slot in place, so the per-hit path allocates nothing,
+ * whereas the skip list based tracker removes and re-inserts a node on every update.
+ *
+ * Ordering is the same as {@link PriorityTracker}: by priority, then by the
+ * lexicographical order of entity ids. Priorities use the same landmark-epoch
+ * decay, so there is no need to touch other entities when time passes.
+ *
+ * Methods synchronize on the tracker. A detector's tracker is mostly accessed by one
+ * thread at a time, while other detectors only read its minimum during replacement.
+ */
+public class IndexedHeapPriorityTracker extends PriorityTracker {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // entity id -> slot
+    private final Map<String, Integer> slots;
+    // slot -> entity id
+    private String[] keys;
+    // slot -> priority
+    private float[] priorities;
+    // slot -> position in heap, -1 if the slot is free
+    private int[] positions;
+    // heap position -> slot
+    private int[] heap;
+    // stack of released slots for reuse
+    private int[] freeSlots;
+    private int freeSlotCount;
+    // number of used slots, both live and released
+    private int slotCount;
+    private int size;
+
+    public IndexedHeapPriorityTracker(Clock clock, long intervalSecs, long landmarkEpoch, int maxEntities) {
+        super(clock, intervalSecs, landmarkEpoch, maxEntities);
+        // +1 since we add a new entity before evicting the minimum
+        int capacity = Math.min(INITIAL_CAPACITY, maxEntities + 1);
+        this.slots = new HashMap<>();
+        this.keys = new String[capacity];
+        this.priorities = new float[capacity];
+        this.positions = new int[capacity];
+        this.heap = new int[capacity];
+        this.freeSlots = new int[capacity];
+        this.freeSlotCount = 0;
+        this.slotCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public synchronized Optional<Entry<String, Float>> getMinimumScaledPriority() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int smallest = heap[0];
+        return Optional.of(new SimpleImmutableEntry<>(keys[smallest], getScaledPriority(priorities[smallest])));
+    }
+
+    @Override
+    public synchronized Optional<Entry<String, Float>> getMinimumPriority() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int smallest = heap[0];
+        return Optional.of(new SimpleImmutableEntry<>(keys[smallest], priorities[smallest]));
+    }
+
+    @Override
+    public synchronized Optional<String> getMinimumPriorityEntityId() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(keys[heap[0]]);
+    }
+
+    @Override
+    public synchronized Optional<String> getHighestPriorityEntityId() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        // the maximum of a min-heap is one of the leaves
+        int largest = heap[size / 2];
+        for (int i = size / 2 + 1; i < size; i++) {
+            if (less(largest, heap[i])) {
+                largest = heap[i];
+            }
+        }
+        return Optional.of(keys[largest]);
+    }
+
+    @Override
+    public synchronized float updatePriority(String entityId) {
+        Integer slot = slots.get(entityId);
+        int current = slot == null ? insert(entityId, 0f) : slot;
+        float priority = getUpdatedPriority(priorities[current]);
+        priorities[current] = priority;
+        fix(positions[current]);
+
+        adjustSizeIfRequired();
+        return priority;
+    }
+
+    @Override
+    public synchronized void addPriority(String entityId, float priority) {
+        Integer slot = slots.get(entityId);
+        if (slot == null) {
+            insert(entityId, priority);
+        } else {
+            priorities[slot] = priority;
+            fix(positions[slot]);
+        }
+
+        adjustSizeIfRequired();
+    }
+
+    @Override
+    public synchronized void removePriority(String entityId) {
+        Integer slot = slots.remove(entityId);
+        if (slot == null) {
+            return;
+        }
+        int position = positions[slot];
+        size--;
+        if (position != size) {
+            moveTo(heap[size], position);
+            fix(position);
+        }
+        keys[slot] = null;
+        positions[slot] = -1;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    @Override
+    public synchronized void clearPriority() {
+        slots.clear();
+        Arrays.fill(keys, 0, slotCount, null);
+        freeSlotCount = 0;
+        slotCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public synchronized List<String> getTopNEntities(int n) {
+        int limit = Math.min(n, size);
+        List<String> entities = new ArrayList<>(Math.max(limit, 0));
+        if (limit <= 0) {
+            return entities;
+        }
+        // Sort a copy of the heap. This is called once per maintenance or top-entity
+        // query rather than per hit, so we keep the hot path free of extra structures.
+        Integer[] ordered = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ordered[i] = heap[i];
+        }
+        Arrays.sort(ordered, (a, b) -> compare(b, a));
+        for (int i = 0; i < limit; i++) {
+            entities.add(keys[ordered[i]]);
+        }
+        return entities;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    private void adjustSizeIfRequired() {
+        if (size > maxEntities) {
+            removePriority(keys[heap[0]]);
+        }
+    }
+
+    private int insert(String entityId, float priority) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == keys.length) {
+                grow();
+            }
+            slot = slotCount++;
+        }
+        slots.put(entityId, slot);
+        keys[slot] = entityId;
+        priorities[slot] = priority;
+        moveTo(slot, size);
+        size++;
+        siftUp(size - 1);
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min((long) maxEntities + 1, Math.max(keys.length + 1L, keys.length * 2L));
+        keys = Arrays.copyOf(keys, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    /**
+     * Restore heap order after the priority at the position changed in either direction.
+     * @param position heap position
+     */
+    private void fix(int position) {
+        if (!siftUp(position)) {
+            siftDown(position);
+        }
+    }
+
+    private boolean siftUp(int position) {
+        int slot = heap[position];
+        int start = position;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!less(slot, heap[parent])) {
+                break;
+            }
+            moveTo(heap[parent], position);
+            position = parent;
+        }
+        moveTo(slot, position);
+        return position != start;
+    }
+
+    private void siftDown(int position) {
+        int slot = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], slot)) {
+                break;
+            }
+            moveTo(heap[child], position);
+            position = child;
+        }
+        moveTo(slot, position);
+    }
+
+    private void moveTo(int slot, int position) {
+        heap[position] = slot;
+        positions[slot] = position;
+    }
+
+    private boolean less(int slot, int otherSlot) {
+        return compare(slot, otherSlot) < 0;
+    }
+
+    // consistent with PriorityNodeComparator
+    private int compare(int slot, int otherSlot) {
+        int cmp = Float.compare(priorities[slot], priorities[otherSlot]);
+        if (cmp == 0) {
+            cmp = keys[slot].compareTo(keys[otherSlot]);
+        }
+        return cmp;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.PrivilegedExceptionAction;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A node-local, memory-mapped file of serialized models of evicted entities.
+ *
+ * When memory is short, serialized models that would otherwise be dropped are written here so
+ * that a returning entity reads its model from local disk (usually the page cache) instead of
+ * the checkpoint index.
+ *
+ * The file is a ring: models are appended at the write position and, once the end of the file
+ * is reached, writing wraps around and overwrites the oldest models. Reading a model removes it,
+ * as the model goes back to the cache, so write order is also least recently used order.
+ *
+ * Only the index of the file lives in the heap. The file is created with a unique name on first
+ * write, so nodes sharing a temp directory don't collide, and deleted on close. It is locked while
+ * open, so that files left over from a crash can be told apart from files of other live nodes and
+ * deleted on startup.
+ *
+ * The file is sparse. Before it is created, the file system must have room for all of it; if the
+ * disk still fills up and a write to the mapping fails, the file is closed and not used again.
+ */
+public class ModelSpillFile implements Closeable {
+    private static final Logger LOG = LogManager.getLogger(ModelSpillFile.class);
+
+    public static final String MODELS = "models";
+    public static final String STORED_BYTES = "stored_bytes";
+    public static final String CAPACITY_BYTES = "capacity_bytes";
+    public static final String HITS = "hits";
+    public static final String EVICTIONS = "evictions";
+
+    private static final String SUFFIX = ".spill";
+
+    public static class SpilledModel {
+        private final String modelId;
+        private final String configId;
+        private final int offset;
+        private final int length;
+        // time of the model's last checkpoint, read when the model is taken
+        private final Supplier<Instant> lastCheckpointTime;
+
+        SpilledModel(String modelId, String configId, int offset, int length, Supplier<Instant> lastCheckpointTime) {
+            this.modelId = modelId;
+            this.configId = configId;
+            this.offset = offset;
+            this.length = length;
+            this.lastCheckpointTime = lastCheckpointTime;
+        }
+
+        public String getModelId() {
+            return modelId;
+        }
+
+        public String getConfigId() {
+            return configId;
+        }
+
+        boolean overlaps(int from, int to) {
+            return offset < to && offset + length > from;
+        }
+    }
+
+    private final Path directory;
+    private final String prefix;
+    private final int capacity;
+    // model id -> location in the file, oldest first
+    private final LinkedHashMap<String, SpilledModel> models;
+    private Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean closed;
+    private int writePosition;
+    private long storedBytes;
+    private long hits;
+    private long evictions;
+
+    /**
+     * @param directory directory to create the file in
+     * @param prefix file name prefix
+     * @param capacityBytes size of the file. A single mapping cannot exceed 2GB.
+     */
+    public ModelSpillFile(Path directory, String prefix, long capacityBytes) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(0, capacityBytes));
+        this.models = new LinkedHashMap<>();
+        this.closed = false;
+        this.writePosition = 0;
+    }
+
+    /**
+     * Writes a serialized model, overwriting the oldest models if the file is full.
+     * @param modelId model id
+     * @param configId config id
+     * @param bytes serialized model
+     * @param lastCheckpointTime time of the model's last checkpoint
+     * @return whether the model is written
+     */
+    public synchronized boolean put(String modelId, String configId, byte[] bytes, Supplier<Instant> lastCheckpointTime) {
+        if (closed || bytes.length == 0 || bytes.length > capacity || false == ensureOpen()) {
+            return false;
+        }
+        discard(models.remove(modelId));
+
+        int start = writePosition;
+        if (start + bytes.length > capacity) {
+            // not enough room before the end of the file. Skip the tail and wrap around.
+            evictOverlapping(start, capacity);
+            start = 0;
+        }
+        evictOverlapping(start, start + bytes.length);
+
+        try {
+            buffer.put(start, bytes);
+        } catch (InternalError e) {
+            // access to a page of the mapping failed, e.g., the disk is full
+            LOG.error("Fail to write model spill file " + path + ". Won't retry.", e);
+            closeQuietly();
+            return false;
+        }
+        models.put(modelId, new SpilledModel(modelId, configId, start, bytes.length, lastCheckpointTime));
+        storedBytes += bytes.length;
+        writePosition = start + bytes.length;
+        return true;
+    }
+
+    /**
+     * Removes the oldest models that overlap with [from, to). Models are laid out in write order
+     * starting from the write position, so the overlapping models are the oldest ones.
+     */
+    private void evictOverlapping(int from, int to) {
+        Iterator<SpilledModel> iterator = models.values().iterator();
+        while (iterator.hasNext()) {
+            SpilledModel oldest = iterator.next();
+            if (false == oldest.overlaps(from, to)) {
+                break;
+            }
+            iterator.remove();
+            discard(oldest);
+            evictions++;
+        }
+    }
+
+    /**
+     * Reads and removes a model.
+     * @param modelId model id
+     * @param checkpointTime time of the entity's checkpoint
+     * @return serialized model or null if the model is not in the file or is older than the checkpoint
+     */
+    public synchronized byte[] take(String modelId, Instant checkpointTime) {
+        SpilledModel model = models.remove(modelId);
+        if (model == null) {
+            return null;
+        }
+        discard(model);
+        if (model.lastCheckpointTime.get().isBefore(checkpointTime)) {
+            // another node has hosted the entity and saved a newer checkpoint since the model was spilled
+            return null;
+        }
+        byte[] bytes = new byte[model.length];
+        try {
+            buffer.get(model.offset, bytes);
+        } catch (InternalError e) {
+            LOG.error("Fail to read model spill file " + path + ". Won't retry.", e);
+            closeQuietly();
+            return null;
+        }
+        hits++;
+        return bytes;
+    }
+
+    /**
+     * @param modelId model id
+     * @return whether the model was in the file
+     */
+    public synchronized boolean remove(String modelId) {
+        SpilledModel removed = models.remove(modelId);
+        discard(removed);
+        return removed != null;
+    }
+
+    public synchronized boolean contains(String modelId) {
+        return models.containsKey(modelId);
+    }
+
+    /**
+     * @param predicate which models to remove
+     * @return the number of removed models
+     */
+    public synchronized int removeIf(Predicate<SpilledModel> predicate) {
+        int removed = 0;
+        Iterator<SpilledModel> iterator = models.values().iterator();
+        while (iterator.hasNext()) {
+            SpilledModel model = iterator.next();
+            if (predicate.test(model)) {
+                iterator.remove();
+                discard(model);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void discard(SpilledModel model) {
+        if (model != null) {
+            storedBytes -= model.length;
+        }
+    }
+
+    private boolean ensureOpen() {
+        if (buffer != null) {
+            return true;
+        }
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                Files.createDirectories(directory);
+                long usableBytes = Files.getFileStore(directory).getUsableSpace();
+                if (usableBytes < capacity) {
+                    throw new IOException(
+                        String.format(Locale.ROOT, "Need %d bytes, but only %d bytes are usable", capacity, usableBytes)
+                    );
+                }
+                path = Files.createTempFile(directory, prefix, SUFFIX);
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                // held until the channel is closed
+                channel.tryLock();
+                // the file grows to capacity. It stays sparse until written.
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            LOG.error("Fail to open model spill file in " + directory + ". Won't retry.", e);
+            // don't try again on every eviction
+            closeQuietly();
+            return false;
+        }
+    }
+
+    /**
+     * Delete files with this file's prefix that no live node holds, i.e., files left over from a crash.
+     * Their models may be stale and are never read.
+     * @return the number of deleted files
+     */
+    public synchronized int deleteStaleFiles() {
+        return AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
+            if (false == Files.isDirectory(directory)) {
+                return 0;
+            }
+            int deleted = 0;
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    if (file.equals(path)) {
+                        continue;
+                    }
+                    if (isStale(file)) {
+                        Files.deleteIfExists(file);
+                        deleted++;
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Fail to delete stale model spill files in " + directory, e);
+            }
+            if (deleted > 0) {
+                LOG.info("Deleted {} stale model spill files in {}", deleted, directory);
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * @param file spill file
+     * @return whether no live node holds the file's lock
+     */
+    private static boolean isStale(Path file) {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            try (FileLock fileLock = fileChannel.tryLock()) {
+                // another process holds the lock if null
+                return fileLock != null;
+            }
+        } catch (OverlappingFileLockException e) {
+            // held by another spill file of this JVM
+            return false;
+        } catch (IOException e) {
+            LOG.warn("Fail to check model spill file " + file, e);
+            return false;
+        }
+    }
+
+    public synchronized int size() {
+        return models.size();
+    }
+
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * @return stored models and bytes, file size, reads, and models overwritten before being read
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(MODELS, models.size());
+        stats.put(STORED_BYTES, storedBytes);
+        stats.put(CAPACITY_BYTES, (long) capacity);
+        stats.put(HITS, hits);
+        stats.put(EVICTIONS, evictions);
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        closed = true;
+        models.clear();
+        storedBytes = 0;
+        // the mapping is released when the buffer is garbage collected
+        buffer = null;
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            try {
+                if (channel != null) {
+                    // closing the channel releases the lock
+                    channel.close();
+                }
+                if (path != null) {
+                    Files.deleteIfExists(path);
+                }
+            } catch (IOException e) {
+                LOG.warn("Fail to delete model spill file " + path, e);
+            }
+            return null;
+        });
+        channel = null;
+    }
+}
@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -30,6 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,11 +56,14 @@ import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.indices.TimeSeriesIndex;
 import org.opensearch.timeseries.ml.CheckpointDao;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.Sample;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.model.ModelIdMemo;
 import org.opensearch.timeseries.model.ModelProfile;
 import org.opensearch.timeseries.ratelimit.CheckpointMaintainWorker;
 import org.opensearch.timeseries.ratelimit.CheckpointWriteWorker;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DateUtils;
 
@@ -70,6 +76,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         TimeSeriesCache<RCFModelType> {
 
     private static final Logger LOG = LogManager.getLogger(PriorityCache.class);
+    static final String SPILL_STATS = "spill";
 
     // detector id -> CacheBuffer, weight based
     private final Map<String, CacheBufferType> activeEnities;
@@ -82,9 +89,10 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     private final int numberOfTrees;
     protected final Clock clock;
     protected final Duration modelTtl;
-    // A bloom filter placed in front of inactive entity cache to
+    // A frequency filter placed in front of inactive entity cache to
     // filter out unpopular items that are not likely to appear more
-    // than once. Key is detector id
+    // than once. Key is detector id. Sketch-based door keepers are
+    // accounted in memoryTracker as shared memory.
     private Map<String, DoorKeeper> doorKeepers;
     private ThreadPool threadPool;
     private String threadPoolName;
@@ -98,6 +106,11 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     // mapping config id to priority tracker.
     // Used to track entity priorities
     private Map<String, PriorityTracker> priorityTrackerMap;
+    // serialized models of evicted entities. Accounted in memoryTracker as shared
+    // memory and shed before active models.
+    private final CompressedModelTier compressedModels;
+    // serialized models that don't fit in memory. Null if the node has no spill file.
+    private volatile ModelSpillFile spillFile;
 
     public PriorityCache(
         CheckpointDaoType checkpointDao,
@@ -156,6 +169,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         });
         this.origin = origin;
         this.priorityTrackerMap = new ConcurrentHashMap<>();
+        this.compressedModels = new CompressedModelTier();
     }
 
     @Override
@@ -170,15 +184,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         // during maintenance period, stop putting new entries
         if (!maintenanceLock.isLocked() && modelState == null) {
             if (isDoorKeeperInCacheEnabled()) {
-                DoorKeeper doorKeeper = doorKeepers.computeIfAbsent(configId, id -> {
-                    // reset every 60 intervals
-                    return new DoorKeeper(
-                        TimeSeriesSettings.DOOR_KEEPER_FOR_CACHE_MAX_INSERTION,
-                        config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ),
-                        clock,
-                        TimeSeriesSettings.CACHE_DOOR_KEEPER_COUNT_THRESHOLD
-                    );
-                });
+                DoorKeeper doorKeeper = doorKeepers.computeIfAbsent(configId, id -> createDoorKeeper(config));
 
                 // first few hits, ignore
                 // since door keeper may get reset during maintenance, it is possible
@@ -226,12 +232,14 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
 
                 // update state using new priority or create a new one
                 PriorityTracker tracker = priorityTrackerMap.computeIfAbsent(configId, id -> {
-                    return new PriorityTracker(
-                        clock,
-                        config.getIntervalInSeconds(),
-                        clock.instant().getEpochSecond(),
-                        TimeSeriesSettings.MAX_TRACKING_ENTITIES
-                    );
+                    return PriorityTracker
+                        .create(
+                            clock,
+                            config.getIntervalInSeconds(),
+                            clock.instant().getEpochSecond(),
+                            TimeSeriesSettings.MAX_TRACKING_ENTITIES,
+                            TimeSeriesEnabledSetting.isIndexedPriorityTrackerEnabled()
+                        );
                 });
                 state.setPriority(tracker.getUpdatedPriority(state.getPriority()));
 
@@ -273,6 +281,36 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
 
         CacheBufferType buffer = computeBufferIfAbsent(config, configId);
 
+        byte[] inflatedBytes = null;
+        Instant checkpointTime = toUpdate.getLastCheckpointTime();
+        if (toUpdate.getModel().isEmpty()) {
+            // e.g., cold start has not trained a model yet. Reuse the evicted model if we still have it
+            // and it is at least as new as the checkpoint the state was restored from.
+            Optional<byte[]> bytes = takeCompressedModel(modelId, checkpointTime);
+            if (bytes.isPresent()) {
+                Optional<RCFModelType> model = deserializeCompressedModel(bytes.get(), modelId);
+                if (model.isPresent()) {
+                    toUpdate.setModel(model.get());
+                    inflatedBytes = bytes.get();
+                }
+            }
+        } else {
+            // the stored model is stale now
+            releaseCompressedModel(modelId);
+        }
+
+        if (tryAdmit(buffer, modelId, configId, toUpdate)) {
+            return true;
+        }
+
+        if (inflatedBytes != null) {
+            // the entity is not hosted, so keep the stored model for the next time it comes back
+            storeCompressedModel(modelId, configId, inflatedBytes, buffer.getMemoryConsumptionPerModel(), () -> checkpointTime);
+        }
+        return false;
+    }
+
+    private boolean tryAdmit(CacheBufferType buffer, String modelId, String configId, ModelState<RCFModelType> toUpdate) {
         Optional<ModelState<RCFModelType>> state = getStateFromInactiveEntiiyCache(modelId);
         ModelState<RCFModelType> modelState = null;
         if (state.isPresent()) {
@@ -286,15 +324,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         toUpdate.setPriority(priority);
 
         // current buffer's dedicated cache has free slots or can allocate in shared cache
-        if (buffer.dedicatedCacheAvailable() || memoryTracker.canAllocate(buffer.getMemoryConsumptionPerModel())) {
-            // buffer.put will call MemoryTracker.consumeMemory
-            buffer.put(modelId, toUpdate);
-            return true;
-        }
-
-        if (memoryTracker.canAllocate(buffer.getMemoryConsumptionPerModel())) {
-            // buffer.put will call MemoryTracker.consumeMemory
-            buffer.put(modelId, toUpdate);
+        if (buffer.tryPut(modelId, toUpdate)) {
             return true;
         }
 
@@ -334,6 +364,218 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         inActiveEntities.put(removed.getModelId(), removed);
     }
 
+    /**
+     * Keep a serialized copy of an evicted model if enabled and there is room for it. Eviction happens
+     * on the inference path, so serialization runs on the thread pool.
+     * @param removed evicted state that still has its model
+     * @param modelBytes estimated memory of the model
+     */
+    private void compressInactiveModel(ModelState<RCFModelType> removed, long modelBytes) {
+        if (false == TimeSeriesEnabledSetting.isCompressedInactiveModelsEnabled() || removed.getEntity().isEmpty()) {
+            return;
+        }
+        // the evicted state's model is cleared once the listener returns
+        Optional<RCFModelType> model = removed.getModel();
+        if (model.isEmpty()) {
+            return;
+        }
+        long expectedBytes = compressedModels.estimateStoredBytes(modelBytes);
+        if (expectedBytes > 0 && false == memoryTracker.canAllocate(expectedBytes) && false == canSpill()) {
+            // the serialized model would be dropped anyway
+            return;
+        }
+        String modelId = removed.getModelId();
+        String configId = removed.getConfigId();
+        Supplier<Instant> lastCheckpointTime = removed::getLastCheckpointTime;
+        threadPool.executor(threadPoolName).execute(() -> {
+            if (isActive(configId, modelId)) {
+                // hosted again in the meantime
+                return;
+            }
+            Optional<byte[]> bytes = checkpointDao.toCompactModel(model.get(), modelId);
+            if (bytes.isPresent()) {
+                storeCompressedModel(modelId, configId, bytes.get(), modelBytes, lastCheckpointTime);
+            }
+        });
+    }
+
+    /**
+     * Keep a serialized model in memory if there is memory for it. Otherwise, spill it to disk if enabled.
+     * @param modelId Model Id
+     * @param configId Config Id
+     * @param bytes serialized model
+     * @param modelBytes estimated memory of the model
+     * @param lastCheckpointTime time of the model's last checkpoint
+     */
+    private void storeCompressedModel(
+        String modelId,
+        String configId,
+        byte[] bytes,
+        long modelBytes,
+        Supplier<Instant> lastCheckpointTime
+    ) {
+        if (false == memoryTracker.tryConsumeMemory(bytes.length, false, origin)) {
+            spill(modelId, configId, bytes, lastCheckpointTime);
+            return;
+        }
+        long released = compressedModels.put(modelId, configId, bytes, modelBytes, lastCheckpointTime);
+        if (released > 0) {
+            memoryTracker.releaseMemory(released, false, origin);
+        }
+    }
+
+    private boolean canSpill() {
+        return spillFile != null && TimeSeriesEnabledSetting.isModelSpillEnabled();
+    }
+
+    private void spill(String modelId, String configId, byte[] bytes, Supplier<Instant> lastCheckpointTime) {
+        ModelSpillFile file = spillFile;
+        if (file != null && TimeSeriesEnabledSetting.isModelSpillEnabled()) {
+            file.put(modelId, configId, bytes, lastCheckpointTime);
+        }
+    }
+
+    private void releaseCompressedModel(String modelId) {
+        CompressedModelTier.StoredModel removed = compressedModels.remove(modelId);
+        if (removed != null) {
+            memoryTracker.releaseMemory(removed.getBytes().length, false, origin);
+        }
+        ModelSpillFile file = spillFile;
+        if (file != null) {
+            file.remove(modelId);
+        }
+    }
+
+    private void releaseCompressedModels(Predicate<String> modelIdPredicate, Predicate<String> configIdPredicate) {
+        long released = compressedModels
+            .removeIf(model -> modelIdPredicate.test(model.getModelId()) || configIdPredicate.test(model.getConfigId()));
+        if (released > 0) {
+            memoryTracker.releaseMemory(released, false, origin);
+        }
+        ModelSpillFile file = spillFile;
+        if (file != null) {
+            file.removeIf(model -> modelIdPredicate.test(model.getModelId()) || configIdPredicate.test(model.getConfigId()));
+        }
+    }
+
+    /**
+     * Release memory taken by serialized models, spilling them to disk if enabled.
+     * @param bytesToShed bytes to release
+     * @return released bytes
+     */
+    private long shedCompressedModels(long bytesToShed) {
+        long released = compressedModels
+            .shed(bytesToShed, model -> spill(model.getModelId(), model.getConfigId(), model.getBytes(), model::getLastCheckpointTime));
+        if (released > 0) {
+            memoryTracker.releaseMemory(released, false, origin);
+        }
+        return released;
+    }
+
+    /**
+     * Remove a serialized model from memory or the spill file and deserialize it.
+     * @param modelId Model Id
+     * @param checkpointTime time of the entity's checkpoint
+     * @return the model or empty if it is not stored, older than the checkpoint, or corrupted
+     */
+    private Optional<RCFModelType> inflate(String modelId, Instant checkpointTime) {
+        return takeCompressedModel(modelId, checkpointTime).flatMap(bytes -> deserializeCompressedModel(bytes, modelId));
+    }
+
+    private Optional<RCFModelType> deserializeCompressedModel(byte[] bytes, String modelId) {
+        long startNanos = System.nanoTime();
+        Optional<RCFModelType> model = checkpointDao.fromCompactModel(bytes, modelId);
+        compressedModels.recordInflate(System.nanoTime() - startNanos);
+        return model;
+    }
+
+    /**
+     * Remove a serialized model from memory or the spill file.
+     * @param modelId Model Id
+     * @param checkpointTime time of the entity's checkpoint
+     * @return the serialized model or empty if it is not stored or older than the checkpoint
+     */
+    private Optional<byte[]> takeCompressedModel(String modelId, Instant checkpointTime) {
+        byte[] bytes = null;
+        CompressedModelTier.StoredModel stored = compressedModels.remove(modelId);
+        if (stored != null) {
+            memoryTracker.releaseMemory(stored.getBytes().length, false, origin);
+            if (stored.getLastCheckpointTime().isBefore(checkpointTime)) {
+                // another node has hosted the entity and saved a newer checkpoint since we kept the model
+                ModelSpillFile file = spillFile;
+                if (file != null) {
+                    file.remove(modelId);
+                }
+                return Optional.empty();
+            }
+            bytes = stored.getBytes();
+        }
+        ModelSpillFile file = spillFile;
+        if (file != null) {
+            if (bytes == null) {
+                bytes = file.take(modelId, checkpointTime);
+            } else {
+                // the spilled copy, if any, is stale
+                file.remove(modelId);
+            }
+        }
+        return Optional.ofNullable(bytes);
+    }
+
+    @Override
+    public boolean hasInactiveModel(String modelId) {
+        ModelSpillFile file = spillFile;
+        return compressedModels.contains(modelId) || (file != null && file.contains(modelId));
+    }
+
+    @Override
+    public Optional<ModelState<RCFModelType>> inflateInactiveModel(String modelId, Instant checkpointTime, Deque<Sample> samples) {
+        if (false == hasInactiveModel(modelId)) {
+            return Optional.empty();
+        }
+        ModelState<RCFModelType> inactive = inActiveEntities.getIfPresent(modelId);
+        if (inactive == null || inactive.getEntity().isEmpty()) {
+            // the inactive state has expired or been replaced by an empty one. Without
+            // its entity and priority, the stored model is useless.
+            releaseCompressedModel(modelId);
+            return Optional.empty();
+        }
+        Optional<RCFModelType> model = inflate(modelId, checkpointTime);
+        if (model.isEmpty()) {
+            return Optional.empty();
+        }
+        ModelState<RCFModelType> restored = new ModelState<>(
+            model.get(),
+            modelId,
+            inactive.getConfigId(),
+            inactive.getModelType(),
+            clock,
+            inactive.getPriority(),
+            inactive.getEntity(),
+            // samples were saved in the checkpoint and cleared on eviction
+            samples
+        );
+        restored.setLastCheckpointTime(checkpointTime);
+        return Optional.of(restored);
+    }
+
+    @Override
+    public Map<String, Object> getInactiveModelStats() {
+        Map<String, Object> stats = compressedModels.getStats();
+        ModelSpillFile file = spillFile;
+        if (file != null) {
+            stats.put(SPILL_STATS, file.getStats());
+        }
+        return stats;
+    }
+
+    /**
+     * @param spillFile node-local file for serialized models that don't fit in memory
+     */
+    public void setModelSpillFile(ModelSpillFile spillFile) {
+        this.spillFile = spillFile;
+    }
+
     private void addEntity(List<Entity> destination, Entity entity, String configId) {
         // It's possible our doorkeepr prevented the entity from entering inactive entities cache
         if (entity != null) {
@@ -467,31 +709,66 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         return Pair.of(hotEntities, coldEntities);
     }
 
+    /**
+     * Create the door keeper of a config. A sketch is sized by the number of entity models the
+     * node can host for the config instead of the maximum insertions, as entities beyond that
+     * cannot enter the cache anyway. If the memory limit leaves no room for the sketch, we fall
+     * back to the exact door keeper whose memory grows with the entities it sees.
+     *
+     * @param config config accessor
+     * @return the door keeper
+     */
+    private DoorKeeper createDoorKeeper(Config config) {
+        // reset (or age, for sketch) every 60 intervals
+        Duration resetInterval = config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ);
+        if (TimeSeriesEnabledSetting.isDoorKeeperSketchEnabled()) {
+            long bytesPerEntityModel = getRequiredMemoryPerEntity(config, memoryTracker, numberOfTrees);
+            long hostableModels = bytesPerEntityModel > 0 ? memoryTracker.getHeapLimit() / bytesPerEntityModel : 0;
+            long expectedInsertions = Math
+                .min(TimeSeriesSettings.DOOR_KEEPER_FOR_CACHE_MAX_INSERTION, Math.max(hcDedicatedCacheSize, hostableModels));
+            if (memoryTracker.tryConsumeMemory(CountMinDoorKeeper.estimateMemoryBytes(expectedInsertions), false, origin)) {
+                return DoorKeeper
+                    .create(expectedInsertions, resetInterval, clock, TimeSeriesSettings.CACHE_DOOR_KEEPER_COUNT_THRESHOLD, true);
+            }
+            LOG.info("Not enough memory for door keeper sketch of {}, use exact door keeper", config.getId());
+        }
+        return DoorKeeper
+            .create(
+                TimeSeriesSettings.DOOR_KEEPER_FOR_CACHE_MAX_INSERTION,
+                resetInterval,
+                clock,
+                TimeSeriesSettings.CACHE_DOOR_KEEPER_COUNT_THRESHOLD,
+                false
+            );
+    }
+
     public CacheBufferType computeBufferIfAbsent(Config config, String configId) {
         CacheBufferType buffer = activeEnities.get(configId);
         if (buffer == null) {
             long bytesPerEntityModel = getRequiredMemoryPerEntity(config, memoryTracker, numberOfTrees);
             long requiredBytes = bytesPerEntityModel * (config.isHighCardinality() ? hcDedicatedCacheSize : 1);
-            if (memoryTracker.canAllocateReserved(requiredBytes)) {
-                memoryTracker.consumeMemory(requiredBytes, true, origin);
+            if (memoryTracker.tryConsumeMemory(requiredBytes, true, origin)) {
                 buffer = createEmptyCacheBuffer(
                     config,
                     bytesPerEntityModel,
                     priorityTrackerMap
                         .getOrDefault(
                             configId,
-                            new PriorityTracker(
-                                clock,
-                                config.getIntervalInSeconds(),
-                                clock.instant().getEpochSecond(),
-                                TimeSeriesSettings.MAX_TRACKING_ENTITIES
-                            )
+                            PriorityTracker
+                                .create(
+                                    clock,
+                                    config.getIntervalInSeconds(),
+                                    clock.instant().getEpochSecond(),
+                                    TimeSeriesSettings.MAX_TRACKING_ENTITIES,
+                                    TimeSeriesEnabledSetting.isIndexedPriorityTrackerEnabled()
+                                )
                         )
                 );
+                buffer.setEvictionListener(removed -> compressInactiveModel(removed, bytesPerEntityModel));
                 activeEnities.put(configId, buffer);
                 // There can be race conditions between tryClearUpMemory and
                 // activeEntities.put above as tryClearUpMemory accesses activeEnities too.
-                // Put tryClearUpMemory after consumeMemory to prevent that.
+                // Put tryClearUpMemory after tryConsumeMemory to prevent that.
                 tryClearUpMemory();
             } else {
                 throw new LimitExceededException(configId, CommonMessages.MEMORY_LIMIT_EXCEEDED_ERR_MSG);
@@ -562,6 +839,10 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     private void clearMemory() {
         recalculateUsedMemory();
         long memoryToShed = memoryTracker.memoryToShed();
+        if (memoryToShed > 0) {
+            // shed serialized models of evicted entities before evicting active ones
+            memoryToShed -= shedCompressedModels(memoryToShed);
+        }
         PriorityQueue<Triple<Float, CacheBufferType, String>> removalCandiates = null;
         if (memoryToShed > 0) {
             // sort the triple in an ascending order of priority
@@ -604,6 +885,13 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
 
     }
 
+    private void removeDoorKeeper(String configId) {
+        DoorKeeper removed = doorKeepers.remove(configId);
+        if (removed != null && removed.getMemoryBytes() > 0) {
+            memoryTracker.releaseMemory(removed.getMemoryBytes(), false, origin);
+        }
+    }
+
     /**
      * Recalculate memory consumption in case of bugs/race conditions when allocating/releasing memory
      */
@@ -615,6 +903,10 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
             reserved += buffer.getReservedBytes();
             shared += buffer.getBytesInSharedCache();
         }
+        for (DoorKeeper doorKeeper : doorKeepers.values()) {
+            shared += doorKeeper.getMemoryBytes();
+        }
+        shared += compressedModels.getStoredBytes();
         memoryTracker.syncMemoryState(origin, reserved + shared, reserved);
     }
 
@@ -653,7 +945,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 DoorKeeper doorKeeper = doorKeeperEntry.getValue();
                 // doorKeeper has its own state ttl
                 if (doorKeeper.expired(null)) {
-                    doorKeepers.remove(configId);
+                    removeDoorKeeper(configId);
                 } else {
                     doorKeeper.maintenance();
                 }
@@ -679,10 +971,12 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         if (buffer != null) {
             buffer.clear();
         }
+        releaseCompressedModels(modelId -> false, id -> configId.equals(id));
         priorityTrackerMap.remove(configId);
         checkpointDao.deleteModelCheckpointByConfigId(configId);
-        doorKeepers.remove(configId);
+        removeDoorKeeper(configId);
         priorityTrackerMap.remove(configId);
+        ModelIdMemo.getInstance().clear(configId);
     }
 
     /**
@@ -843,6 +1137,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     @Override
     public void releaseMemoryForOpenCircuitBreaker() {
         maintainInactiveCache();
+        shedCompressedModels(Long.MAX_VALUE);
 
         tryClearUpMemory();
         activeEnities.values().stream().forEach(cacheBuffer -> {
@@ -862,6 +1157,10 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         // force maintenance of the cache. ref: https://tinyurl.com/pyy3p9v6
         inActiveEntities.cleanUp();
 
+        // drop serialized models whose inactive states have expired. asMap().containsKey
+        // does not count as an access, so it does not extend the states' lifetime.
+        releaseCompressedModels(modelId -> false == inActiveEntities.asMap().containsKey(modelId), configId -> false);
+
         // // make sure no model has been stored due to bugs
         for (ModelState<RCFModelType> state : inActiveEntities.asMap().values()) {
             Optional<RCFModelType> modelOptional = state.getModel();
@@ -970,6 +1269,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 addIntoInactiveCache(removed);
             }
         }
+        releaseCompressedModel(modelId);
         checkpointDao
             .deleteModelCheckpoint(
                 modelId,
@@ -148,7 +148,7 @@ public class PriorityTracker {
     // shift and the half life is not too fast or slow .
     private final int DECAY_CONSTANT;
     // the max number of entities to track
-    private final int maxEntities;
+    protected final int maxEntities;
 
     /**
      * Create a priority tracker for a detector.  Detector and priority tracker
@@ -169,6 +169,23 @@ public class PriorityTracker {
         this.maxEntities = maxEntities;
     }
 
+    /**
+     * Create a priority tracker for a detector.
+     *
+     * @param clock Used to get current time.
+     * @param intervalSecs Detector interval seconds.
+     * @param landmarkEpoch The epoch time when the priority tracking starts.
+     * @param maxEntities the max number of entities to track
+     * @param indexedHeap whether to use {@link IndexedHeapPriorityTracker}
+     * @return the priority tracker
+     */
+    public static PriorityTracker create(Clock clock, long intervalSecs, long landmarkEpoch, int maxEntities, boolean indexedHeap) {
+        if (indexedHeap) {
+            return new IndexedHeapPriorityTracker(clock, intervalSecs, landmarkEpoch, maxEntities);
+        }
+        return new PriorityTracker(clock, intervalSecs, landmarkEpoch, maxEntities);
+    }
+
     /**
      * Get the minimum priority entity and compute its scaled priority.
      * Used to compare entity priorities among detectors.
@@ -271,9 +288,13 @@ public class PriorityTracker {
      * @param entityId Entity Id
      */
     public void removePriority(String entityId) {
-        // remove if the key matches; priority does not matter
-        priorityList.remove(new PriorityNode(entityId, 0));
-        key2Priority.remove(entityId);
+        // The skip list is ordered by priority first, so we need the stored node
+        // (with its current priority) to locate it. A probe node with a made-up
+        // priority would not be found.
+        PriorityNode node = key2Priority.remove(entityId);
+        if (node != null) {
+            priorityList.remove(node);
+        }
     }
 
     /**
@@ -5,8 +5,11 @@
 
 package org.opensearch.timeseries.caching;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -15,6 +18,7 @@ import org.opensearch.timeseries.CleanState;
 import org.opensearch.timeseries.MaintenanceState;
 import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.Sample;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.ModelProfile;
@@ -155,6 +159,31 @@ public interface TimeSeriesCache<RCFModelType extends ThresholdedRandomCutForest
      */
     void removeModel(String configId, String entityModelId);
 
+    /**
+     * Whether an inactive entity's model is kept in memory in serialized form
+     * @param entityModelId Model Id
+     * @return true if the model may be restored without deserializing its checkpoint
+     */
+    boolean hasInactiveModel(String entityModelId);
+
+    /**
+     * Restore an inactive entity's state, including its model, from memory. The entity may have
+     * been hosted by another node since its model was kept, so the model is only restored if it
+     * is at least as new as the entity's checkpoint. The serialized model is dropped from memory
+     * whether or not the restore succeeds.
+     * @param entityModelId Model Id
+     * @param checkpointTime time of the entity's checkpoint
+     * @param samples samples saved in the checkpoint
+     * @return the restored state or empty if the model is not kept in memory, is older than the
+     *  checkpoint, or cannot be restored
+     */
+    Optional<ModelState<RCFModelType>> inflateInactiveModel(String entityModelId, Instant checkpointTime, Deque<Sample> samples);
+
+    /**
+     * @return number, size, compression ratio, and inflate latency of inactive models kept in memory
+     */
+    Map<String, Object> getInactiveModelStats();
+
     /**
     *
     * @param config Detector config accessor
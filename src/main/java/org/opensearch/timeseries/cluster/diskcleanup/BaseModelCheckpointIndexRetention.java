@@ -32,6 +32,10 @@ import org.opensearch.timeseries.constant.CommonName;
  *     Before multi-entity detectors, there is daily cron job to clean up the inactive checkpoints longer than some configurable days.
  *     We will keep the this logic, and add new clean up way based on shard size.
  * </p>
+ * <p>
+ *     Once checkpoints are time-partitioned behind a write alias, rollover bounds the shard size and
+ *     retention drops whole expired generations instead of deleting checkpoints by query.
+ * </p>
  */
 public class BaseModelCheckpointIndexRetention implements Runnable {
     private static final Logger LOG = LogManager.getLogger(BaseModelCheckpointIndexRetention.class);
@@ -46,21 +50,38 @@ public class BaseModelCheckpointIndexRetention implements Runnable {
     private final Clock clock;
     private final IndexCleanup indexCleanup;
     private final String checkpointIndexName;
+    private final String checkpointIndexAlias;
 
     public BaseModelCheckpointIndexRetention(
         Duration defaultCheckpointTtl,
         Clock clock,
         IndexCleanup indexCleanup,
-        String checkpointIndexName
+        String checkpointIndexName,
+        String checkpointIndexAlias
     ) {
         this.defaultCheckpointTtl = defaultCheckpointTtl;
         this.clock = clock;
         this.indexCleanup = indexCleanup;
         this.checkpointIndexName = checkpointIndexName;
+        this.checkpointIndexAlias = checkpointIndexAlias;
     }
 
     @Override
     public void run() {
+        if (indexCleanup.doesAliasExist(checkpointIndexAlias)) {
+            indexCleanup
+                .deleteExpiredGenerations(
+                    checkpointIndexName,
+                    clock.millis() - defaultCheckpointTtl.toMillis(),
+                    ActionListener
+                        .wrap(
+                            deleted -> LOG.debug("{} checkpoint generations deleted", deleted),
+                            // The generations will be deleted in next scheduled windows. No need for retrying.
+                            exception -> LOG.error("Fail to delete expired checkpoint generations", exception)
+                        )
+                );
+            return;
+        }
         indexCleanup
             .deleteDocsByQuery(
                 checkpointIndexName,
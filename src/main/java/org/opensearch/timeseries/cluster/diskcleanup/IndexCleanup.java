@@ -11,16 +11,20 @@
 
 package org.opensearch.timeseries.cluster.diskcleanup;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
 import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.admin.indices.stats.ShardStats;
 import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
@@ -28,6 +32,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.index.store.StoreStats;
+import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
 
@@ -98,6 +103,44 @@ public class IndexCleanup {
         client.admin().indices().stats(indicesStatsRequest, listener);
     }
 
+    /**
+     * Alias exists or not
+     * @param alias Alias name
+     * @return true if the alias exists
+     */
+    public boolean doesAliasExist(String alias) {
+        return clusterService.state().metadata().hasAlias(alias);
+    }
+
+    /**
+     * Delete time-partitioned checkpoint generations holding only expired checkpoints. A generation
+     * stops taking writes when the next one is created, so it expires once the next one was created
+     * before the expiry time. The newest generation is never deleted.
+     * @param checkpointIndexName checkpoint index name. Generations are named after it.
+     * @param expiryEpochMillis checkpoints written before this time are expired
+     * @param listener called with the number of deleted generations
+     */
+    public void deleteExpiredGenerations(String checkpointIndexName, long expiryEpochMillis, ActionListener<Integer> listener) {
+        List<IndexMetadata> generations = IndexManagement.getCheckpointGenerations(clusterService.state().metadata(), checkpointIndexName);
+        List<String> toDelete = new ArrayList<>();
+        for (int i = 1; i < generations.size(); i++) {
+            if (generations.get(i - 1).getCreationDate() <= expiryEpochMillis) {
+                toDelete.add(generations.get(i).getIndex().getName());
+            }
+        }
+        if (toDelete.isEmpty()) {
+            listener.onResponse(0);
+            return;
+        }
+
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.admin().indices().delete(new DeleteIndexRequest(toDelete.toArray(new String[0])), ActionListener.wrap(response -> {
+                LOG.info("Deleted expired checkpoint generations: {}", toDelete);
+                listener.onResponse(toDelete.size());
+            }, listener::onFailure));
+        }
+    }
+
     /**
      * Delete docs based on query request
      * @param indexName index name
@@ -79,6 +79,9 @@ public class CompositeRetriever extends AbstractRetriever {
     private IndexNameExpressionResolver indexNameExpressionResolver;
     private ClusterService clusterService;
     private AnalysisType context;
+    // max number of pages fetched but not released by the consumer. 1 disables prefetch.
+    private final int maxPagesInFlight;
+    private final PageFetchTracker tracker;
 
     public CompositeRetriever(
         long dataStartEpoch,
@@ -94,7 +97,9 @@ public class CompositeRetriever extends AbstractRetriever {
         int pageSize,
         IndexNameExpressionResolver indexNameExpressionResolver,
         ClusterService clusterService,
-        AnalysisType context
+        AnalysisType context,
+        int maxPagesInFlight,
+        PageFetchTracker tracker
     ) {
         this.dataStartEpoch = dataStartEpoch;
         this.dataEndEpoch = dataEndEpoch;
@@ -110,6 +115,44 @@ public class CompositeRetriever extends AbstractRetriever {
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.clusterService = clusterService;
         this.context = context;
+        this.maxPagesInFlight = Math.max(1, maxPagesInFlight);
+        this.tracker = tracker;
+    }
+
+    public CompositeRetriever(
+        long dataStartEpoch,
+        long dataEndEpoch,
+        Config config,
+        NamedXContentRegistry xContent,
+        Client client,
+        SecurityClientUtil clientUtil,
+        long expirationEpochMs,
+        Clock clock,
+        Settings settings,
+        int maxEntitiesPerInterval,
+        int pageSize,
+        IndexNameExpressionResolver indexNameExpressionResolver,
+        ClusterService clusterService,
+        AnalysisType context
+    ) {
+        this(
+            dataStartEpoch,
+            dataEndEpoch,
+            config,
+            xContent,
+            client,
+            clientUtil,
+            expirationEpochMs,
+            clock,
+            settings,
+            maxEntitiesPerInterval,
+            pageSize,
+            indexNameExpressionResolver,
+            clusterService,
+            context,
+            1,
+            PageFetchTracker.NOOP
+        );
     }
 
     // a constructor that provide default value of clock
@@ -182,6 +225,91 @@ public class CompositeRetriever extends AbstractRetriever {
         return new PageIterator(searchSourceBuilder);
     }
 
+    /**
+     * Callbacks about page fetches, e.g., to report stats. A page is in flight from the
+     * time its search is issued until the consumer releases it or the search fails.
+     */
+    public interface PageFetchTracker {
+        PageFetchTracker NOOP = new PageFetchTracker() {
+        };
+
+        /**
+         * A search for a page is issued
+         */
+        default void onFetchStarted() {}
+
+        /**
+         * A page's search response arrived
+         * @param tookMillis time between issuing the search and receiving a non-empty response, including retries
+         */
+        default void onPageFetched(long tookMillis) {}
+
+        /**
+         * A page is released by the consumer or its search failed
+         */
+        default void onPageReleased() {}
+    }
+
+    /**
+     * Parses the buckets of a composite aggregation page into entity features. Package-private for benchmarks.
+     * @param buckets composite aggregation buckets
+     * @return entity features ordered by the enabled feature ids of the config
+     */
+    Map<Entity, double[]> parseBuckets(List<? extends Bucket> buckets) {
+        Map<Entity, double[]> results = new HashMap<>();
+        /*
+         *
+         * Example composite aggregation:
+         *
+         "aggregations": {
+            "my_buckets": {
+                "after_key": {
+                    "service": "app_6",
+                    "host": "server_3"
+                },
+                "buckets": [
+                    {
+                        "key": {
+                            "service": "app_6",
+                            "host": "server_3"
+                        },
+                        "doc_count": 1,
+                        "the_max": {
+                            "value": -38.0
+                        },
+                        "the_min": {
+                            "value": -38.0
+                        }
+                    }
+                ]
+           }
+         }
+         */
+        for (Bucket bucket : buckets) {
+            Optional<double[]> featureValues = parseBucket(bucket, config.getEnabledFeatureIds(), true);
+            // bucket.getKey() returns a map of categorical field like "host" and its value like "server_1"
+            if (featureValues.isPresent() && bucket.getKey() != null) {
+                results.put(Entity.createEntityByReordering(bucket.getKey()), featureValues.get());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Iterates pages sequentially as each composite search needs the after key of the
+     * previous page.
+     *
+     * There are two modes:
+     * 1) If maxPagesInFlight is 1, the consumer pulls pages with hasNext and next.
+     * 2) Otherwise, the consumer calls prefetch once and the iterator pushes pages to the
+     *  listener. We issue the search for the next page as soon as the after key of the
+     *  current page is known, before parsing its buckets, so the search overlaps with
+     *  parsing and fanning out the current page. To bound memory, at most maxPagesInFlight
+     *  pages can be fetched but not released. The consumer calls release after it has
+     *  fanned out a page.
+     *
+     * In both modes, the consumer should call release once for each page it receives.
+     */
     public class PageIterator {
         private SearchSourceBuilder source;
         // a map from categorical field name to values (type: java.lang.Comparable)
@@ -189,12 +317,27 @@ public class CompositeRetriever extends AbstractRetriever {
         // number of iterations so far
         private int iterations;
         private long startMs;
+        // The following fields are used in prefetch mode and guarded by this.
+        // pages fetched or being fetched that are not released yet
+        private int pagesInFlight;
+        // whether a search is outstanding
+        private boolean searching;
+        // number of pages being handed over to the listener
+        private int delivering;
+        // no more pages will be fetched
+        private boolean exhausted;
+        private ActionListener<Page> prefetchListener;
+        private Runnable onExhausted;
 
         public PageIterator(SearchSourceBuilder source) {
             this.source = source;
             this.afterKey = null;
             this.iterations = 0;
             this.startMs = clock.millis();
+            this.pagesInFlight = 0;
+            this.searching = false;
+            this.delivering = 0;
+            this.exhausted = false;
         }
 
         /**
@@ -202,7 +345,81 @@ public class CompositeRetriever extends AbstractRetriever {
          * @param listener Listener to return results
          */
         public void next(ActionListener<Page> listener) {
+            search(listener);
+        }
+
+        /**
+         * @return whether pages are prefetched and pushed to the listener passed to prefetch
+         */
+        public boolean isPrefetching() {
+            return maxPagesInFlight > 1;
+        }
+
+        /**
+         * Start fetching pages in prefetch mode. Fetching stops on the first failure.
+         *
+         * Searches are issued in after key order, but the next search starts before the
+         * current page is parsed and handed over. So pages can reach the listener out of
+         * after key order and on different threads at the same time, up to maxPagesInFlight
+         * of them. The listener must be thread-safe and must not depend on page order.
+         *
+         * @param listener Listener to return results
+         * @param onExhausted called once after the last page has been handed to the listener
+         *  when no more pages will be fetched. Not called after a failure.
+         */
+        public void prefetch(ActionListener<Page> listener, Runnable onExhausted) {
+            synchronized (this) {
+                this.prefetchListener = listener;
+                this.onExhausted = onExhausted;
+            }
+            fetchIfPossible();
+        }
+
+        /**
+         * The consumer is done with a page. In prefetch mode, this may trigger the fetch
+         * of the next page if we have reached maxPagesInFlight.
+         */
+        public void release() {
+            tracker.onPageReleased();
+            if (false == isPrefetching()) {
+                return;
+            }
+            synchronized (this) {
+                pagesInFlight--;
+            }
+            fetchIfPossible();
+        }
+
+        private void fetchIfPossible() {
+            boolean fetch = false;
+            Runnable finished = null;
+            synchronized (this) {
+                if (exhausted || searching || prefetchListener == null) {
+                    return;
+                }
+                if (hasNext()) {
+                    if (pagesInFlight < maxPagesInFlight) {
+                        searching = true;
+                        pagesInFlight++;
+                        fetch = true;
+                    }
+                } else if (delivering == 0) {
+                    // wait for pages being handed over so that onExhausted runs after the last page reaches the listener
+                    exhausted = true;
+                    finished = onExhausted;
+                }
+            }
+            if (fetch) {
+                search(prefetchListener);
+            } else if (finished != null) {
+                finished.run();
+            }
+        }
+
+        private void search(ActionListener<Page> listener) {
             iterations++;
+            tracker.onFetchStarted();
+            long fetchStartMs = clock.millis();
 
             // inject user role while searching.
 
@@ -210,12 +427,16 @@ public class CompositeRetriever extends AbstractRetriever {
             final ActionListener<SearchResponse> searchResponseListener = new ActionListener<SearchResponse>() {
                 @Override
                 public void onResponse(SearchResponse response) {
-                    processResponse(response, () -> client.search(searchRequest, this), listener);
+                    if (isPrefetching()) {
+                        processPrefetchedResponse(response, () -> client.search(searchRequest, this), fetchStartMs, listener);
+                    } else {
+                        processResponse(response, () -> client.search(searchRequest, this), fetchStartMs, listener);
+                    }
                 }
 
                 @Override
                 public void onFailure(Exception e) {
-                    listener.onFailure(e);
+                    fail(e, listener);
                 }
             };
             // using the original context in listener as user roles have no permissions for internal operations like fetching a
@@ -231,21 +452,106 @@ public class CompositeRetriever extends AbstractRetriever {
                 );
         }
 
-        private void processResponse(SearchResponse response, Runnable retry, ActionListener<Page> listener) {
+        private void fail(Exception e, ActionListener<Page> listener) {
+            if (isPrefetching()) {
+                synchronized (this) {
+                    searching = false;
+                    pagesInFlight--;
+                    exhausted = true;
+                }
+            }
+            tracker.onPageReleased();
+            listener.onFailure(e);
+        }
+
+        private void processResponse(SearchResponse response, Runnable retry, long fetchStartMs, ActionListener<Page> listener) {
+            boolean handedOver = false;
             try {
                 if (shouldRetryDueToEmptyPage(response)) {
                     updateCompositeAfterKey(response, source);
                     retry.run();
                     return;
                 }
+                tracker.onPageFetched(clock.millis() - fetchStartMs);
 
                 Page page = analyzePage(response);
                 if (afterKey != null) {
                     updateCompositeAfterKey(response, source);
                 }
+                handedOver = true;
                 listener.onResponse(page);
             } catch (Exception ex) {
-                listener.onFailure(ex);
+                if (false == handedOver) {
+                    fail(ex, listener);
+                } else {
+                    // the page has been handed over and is released by the consumer
+                    listener.onFailure(ex);
+                }
+            }
+        }
+
+        private void processPrefetchedResponse(SearchResponse response, Runnable retry, long fetchStartMs, ActionListener<Page> listener) {
+            CompositeAggregation composite = null;
+            int bucketCount = 0;
+            try {
+                if (shouldRetryDueToEmptyPage(response)) {
+                    updateCompositeAfterKey(response, source);
+                    retry.run();
+                    return;
+                }
+                tracker.onPageFetched(clock.millis() - fetchStartMs);
+
+                composite = getComposite(response)
+                    .orElseThrow(() -> new IllegalArgumentException(String.format(Locale.ROOT, "Empty resposne: %s", response)));
+                bucketCount = composite.getBuckets().size();
+                synchronized (this) {
+                    // count buckets before parsing them so that we can decide whether to fetch the next page.
+                    // Buckets without feature values are subtracted after parsing.
+                    totalResults += bucketCount;
+                    afterKey = composite.afterKey();
+                    if (afterKey != null) {
+                        updateSourceAfterKey(afterKey, source);
+                    }
+                    searching = false;
+                    delivering++;
+                }
+            } catch (Exception ex) {
+                fail(ex, listener);
+                return;
+            }
+
+            try {
+                // request the next page before parsing the current one
+                fetchIfPossible();
+
+                Page page;
+                try {
+                    Map<Entity, double[]> results = parseBuckets(composite.getBuckets());
+                    synchronized (this) {
+                        totalResults -= bucketCount - results.size();
+                    }
+                    page = new Page(results);
+                } catch (Exception ex) {
+                    synchronized (this) {
+                        pagesInFlight--;
+                        exhausted = true;
+                    }
+                    tracker.onPageReleased();
+                    listener.onFailure(ex);
+                    return;
+                }
+                try {
+                    listener.onResponse(page);
+                } catch (Exception ex) {
+                    // the page has been handed over and is released by the consumer
+                    listener.onFailure(ex);
+                }
+            } finally {
+                synchronized (this) {
+                    delivering--;
+                }
+                // the deferred fetch may have been blocked by our own estimate, or we were the last page
+                fetchIfPossible();
             }
         }
 
@@ -266,42 +572,7 @@ public class CompositeRetriever extends AbstractRetriever {
             }
 
             CompositeAggregation composite = compositeOptional.get();
-            Map<Entity, double[]> results = new HashMap<>();
-            /*
-             *
-             * Example composite aggregation:
-             *
-             "aggregations": {
-                "my_buckets": {
-                    "after_key": {
-                        "service": "app_6",
-                        "host": "server_3"
-                    },
-                    "buckets": [
-                        {
-                            "key": {
-                                "service": "app_6",
-                                "host": "server_3"
-                            },
-                            "doc_count": 1,
-                            "the_max": {
-                                "value": -38.0
-                            },
-                            "the_min": {
-                                "value": -38.0
-                            }
-                        }
-                    ]
-               }
-             }
-             */
-            for (Bucket bucket : composite.getBuckets()) {
-                Optional<double[]> featureValues = parseBucket(bucket, config.getEnabledFeatureIds(), true);
-                // bucket.getKey() returns a map of categorical field like "host" and its value like "server_1"
-                if (featureValues.isPresent() && bucket.getKey() != null) {
-                    results.put(Entity.createEntityByReordering(bucket.getKey()), featureValues.get());
-                }
-            }
+            Map<Entity, double[]> results = parseBuckets(composite.getBuckets());
 
             totalResults += results.size();
 
@@ -368,7 +639,7 @@ public class CompositeRetriever extends AbstractRetriever {
          * 2) next detection interval has not started
          * @return true if the iteration has more pages.
          */
-        public boolean hasNext() {
+        public synchronized boolean hasNext() {
             long now = clock.millis();
             if (expirationEpochMs <= now) {
                 LOG
@@ -399,6 +670,14 @@ public class CompositeRetriever extends AbstractRetriever {
             return (iterations == 0 || (totalResults > 0 && afterKey != null)) && expirationEpochMs > now && totalResults <= maxEntities;
         }
 
+        /**
+         * @return whether all pages have been fetched, as opposed to stopping early because time is up
+         *  or the entity limit was reached
+         */
+        public synchronized boolean isComplete() {
+            return iterations > 0 && afterKey == null;
+        }
+
         @Override
         public String toString() {
             ToStringBuilder toStringBuilder = new ToStringBuilder(this);
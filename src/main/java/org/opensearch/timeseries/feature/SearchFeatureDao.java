@@ -828,6 +828,10 @@ public class SearchFeatureDao extends AbstractRetriever {
         // We don't want to use default 0 for sum/count aggregation as it might cause false positives during scoring.
         // Terms aggregation only returns non-zero count values. If we use a lot of 0s during cold start,
         // we will see alarming very easily.
+        return parseColdStartDateRanges(aggs, docCountThreshold, config);
+    }
+
+    private List<Optional<double[]>> parseColdStartDateRanges(Aggregations aggs, long docCountThreshold, Config config) {
         return aggs
             .asList()
             .stream()
@@ -840,6 +844,95 @@ public class SearchFeatureDao extends AbstractRetriever {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Fetch cold start samples of several entities of the same config with one search.
+     *
+     * The search groups documents by entity with a composite aggregation and computes the same
+     * date range aggregation as {@link #getColdStartSamplesForPeriods} under each entity bucket,
+     * together with the entity's earliest timestamp as {@link #getMinDataTime} would return it.
+     * The caller is responsible for keeping the number of entities times the number of ranges
+     * under the cluster's max buckets limit.
+     *
+     * @param config config accessor
+     * @param ranges sample ranges in ascending order
+     * @param entities entities to fetch samples for
+     * @param includesEmptyBucket whether to include periods with no data
+     * @param context analysis context
+     * @param listener listener receiving each entity's earliest data time in epoch milliseconds and
+     *        its samples ordered by time. Entities without any document are absent from the map.
+     */
+    public void getColdStartSamplesForEntities(
+        Config config,
+        List<Entry<Long, Long>> ranges,
+        List<Entity> entities,
+        boolean includesEmptyBucket,
+        AnalysisType context,
+        ActionListener<Map<Entity, Pair<Long, List<Optional<double[]>>>>> listener
+    ) {
+        SearchRequest request = createBatchColdStartFeatureSearchRequest(config, ranges, entities);
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            listener.onResponse(parseBatchColdStartSampleResp(response, includesEmptyBucket, config));
+        }, listener::onFailure);
+
+        // inject user role while searching.
+        clientUtil
+            .<SearchRequest, SearchResponse>asyncRequestWithInjectedSecurity(
+                request,
+                client::search,
+                config.getId(),
+                client,
+                context,
+                searchResponseListener
+            );
+    }
+
+    /**
+     * Parses the response of a batched cold start search into each entity's samples.
+     *
+     * @param response the search response containing a composite aggregation keyed by entity
+     * @param includesEmptyBucket whether to include buckets with a document count of zero
+     * @param config the configuration object containing feature ids
+     * @return map from entity to its earliest data time and its samples in ascending order of time,
+     *         as parsed by {@link #parseColdStartSampleResp}
+     */
+    public Map<Entity, Pair<Long, List<Optional<double[]>>>> parseBatchColdStartSampleResp(
+        SearchResponse response,
+        boolean includesEmptyBucket,
+        Config config
+    ) {
+        Aggregations aggs = response.getAggregations();
+        if (aggs == null) {
+            logger.warn("Unexpected empty response");
+            return Collections.emptyMap();
+        }
+
+        long docCountThreshold = includesEmptyBucket ? -1 : 0;
+
+        Map<Entity, Pair<Long, List<Optional<double[]>>>> samples = new HashMap<>();
+        for (Aggregation agg : aggs) {
+            if (false == agg instanceof CompositeAggregation) {
+                continue;
+            }
+            for (CompositeAggregation.Bucket entityBucket : ((CompositeAggregation) agg).getBuckets()) {
+                if (entityBucket.getKey() == null || entityBucket.getAggregations() == null) {
+                    continue;
+                }
+                Aggregations entityAggs = entityBucket.getAggregations();
+                Min minTime = entityAggs.get(CommonName.AGG_NAME_MIN_TIME);
+                if (minTime == null || Double.isInfinite(minTime.getValue())) {
+                    // no document of the entity
+                    continue;
+                }
+                samples
+                    .put(
+                        Entity.createEntityByReordering(entityBucket.getKey()),
+                        Pair.of((long) minTime.getValue(), parseColdStartDateRanges(entityAggs, docCountThreshold, config))
+                    );
+            }
+        }
+        return samples;
+    }
+
     /**
      * Parses the timestamps of the buckets from a search response for cold start samples.
      *
@@ -1112,6 +1205,25 @@ public class SearchFeatureDao extends AbstractRetriever {
         }
     }
 
+    public SearchRequest createBatchColdStartFeatureSearchRequest(Config config, List<Entry<Long, Long>> ranges, List<Entity> entities) {
+        try {
+            SearchSourceBuilder searchSourceBuilder = ParseUtils.generateBatchColdStartQuery(config, ranges, entities, xContent);
+            return new SearchRequest(config.getIndices().toArray(new String[0]), searchSourceBuilder);
+        } catch (IOException e) {
+            logger
+                .warn(
+                    "Failed to create batched cold start feature search request for "
+                        + config.getId()
+                        + " from "
+                        + ranges.get(0).getKey()
+                        + " to "
+                        + ranges.get(ranges.size() - 1).getKey(),
+                    e
+                );
+            throw new IllegalStateException(e);
+        }
+    }
+
     public SearchRequest createColdStartFeatureSearchRequestForSingleFeature(
         Config detector,
         List<Entry<Long, Long>> ranges,
@@ -20,7 +20,9 @@ import java.net.URL;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -28,7 +30,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,9 +56,12 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.LocalNodeClusterManagerListener;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -132,6 +139,7 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
     protected volatile TimeValue historyRolloverPeriod;
     protected volatile Long historyMaxDocs;
     protected volatile TimeValue historyRetentionPeriod;
+    protected volatile TimeValue checkpointTtl;
     // result index mapping to valida custom index
     private Map<String, Object> RESULT_FIELD_CONFIGS;
     private String resultMapping;
@@ -140,6 +148,24 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
     protected String customResultIndexPrefix;
     private final ObjectMapper objectMapper = new ObjectMapper();
     protected String configIndexName;
+    // concrete custom result index -> outcome of its mapping validation
+    private final Map<String, ValidatedMapping> validatedMappings;
+    private final LongAdder validatedMappingHits;
+    private final LongAdder validatedMappingMisses;
+
+    public static final String VALIDATED_MAPPING_HITS = "hits";
+    public static final String VALIDATED_MAPPING_MISSES = "misses";
+    public static final String VALIDATED_INDICES = "indices";
+
+    private static class ValidatedMapping {
+        private final long mappingVersion;
+        private final boolean valid;
+
+        ValidatedMapping(long mappingVersion, boolean valid) {
+            this.mappingVersion = mappingVersion;
+            this.valid = valid;
+        }
+    }
 
     protected class IndexState {
         // keep track of whether the mapping version is up-to-date
@@ -198,6 +224,10 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
         this.configParser = configParser;
         this.customResultIndexPrefix = customResultIndexPrefix;
         this.configIndexName = configIndexName;
+        this.validatedMappings = new ConcurrentHashMap<>();
+        this.validatedMappingHits = new LongAdder();
+        this.validatedMappingMisses = new LongAdder();
+        this.clusterService.addListener(this::pruneValidatedMappings);
     }
 
     /**
@@ -1176,55 +1206,135 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
 
     /**
      * Check if custom result index has correct index mapping.
+     *
+     * The outcome is cached per concrete index and mapping version, so bulks into a custom result
+     * index don't resolve its alias and compare mappings on every interval. An alias is resolved
+     * to its write index from the local cluster state; a rollover moves the write index, which is
+     * validated on first write, and a mapping update bumps the mapping version. Only an alias
+     * without a write index among several indices is resolved with a get aliases request.
+     *
      * @param resultIndexOrAlias result index name or alias
      * @param thenDo listener returns true if result index mapping is valid.
      *
      */
     public void validateResultIndexMapping(String resultIndexOrAlias, ActionListener<Boolean> thenDo) {
-        getConcreteIndex(resultIndexOrAlias, ActionListener.wrap(concreteIndex -> {
-            try {
-                initResultMapping();
-                if (RESULT_FIELD_CONFIGS == null) {
-                    // failed to populate the field
-                    thenDo.onResponse(false);
-                }
-                IndexMetadata indexMetadata = clusterService.state().metadata().index(concreteIndex);
-                Map<String, Object> indexMapping = indexMetadata.mapping().sourceAsMap();
-                String propertyName = CommonName.PROPERTIES;
-                if (!indexMapping.containsKey(propertyName) || !(indexMapping.get(propertyName) instanceof LinkedHashMap)) {
-                    thenDo.onResponse(false);
-                }
-                LinkedHashMap<String, Object> mapping = (LinkedHashMap<String, Object>) indexMapping.get(propertyName);
-                boolean correctResultIndexMapping = true;
-
-                for (String fieldName : RESULT_FIELD_CONFIGS.keySet()) {
-                    Object defaultSchema = RESULT_FIELD_CONFIGS.get(fieldName);
-                    // the field might be a map or map of map
-                    // example: map: {type=date, format=strict_date_time||epoch_millis}
-                    // map of map: {type=nested, properties={likelihood={type=double}, value_list={type=nested,
-                    // properties={data={type=double},
-                    // feature_id={type=keyword}}}}}
-                    // if it is a map of map, Object.equals can compare them regardless of order
-                    if (!mapping.containsKey(fieldName)) {
-                        logger.warn("mapping mismatch due to missing {}", fieldName);
-                        correctResultIndexMapping = false;
-                        break;
-                    }
-                    Object actualSchema = mapping.get(fieldName);
-                    if (!isSchemaSuperset(actualSchema, defaultSchema)) {
-                        logger.warn("mapping mismatch due to {}", fieldName);
-                        correctResultIndexMapping = false;
-                        break;
-                    }
-                }
-                thenDo.onResponse(correctResultIndexMapping);
-            } catch (Exception e) {
-                logger.error("Failed to validate result index mapping for index " + concreteIndex, e);
-                thenDo.onResponse(false);
+        IndexMetadata resolved = resolveConcreteIndex(resultIndexOrAlias);
+        if (resolved != null) {
+            ValidatedMapping validated = validatedMappings.get(resolved.getIndex().getName());
+            if (validated != null && validated.mappingVersion == resolved.getMappingVersion()) {
+                validatedMappingHits.increment();
+                thenDo.onResponse(validated.valid);
+                return;
             }
+            validatedMappingMisses.increment();
+            thenDo.onResponse(validateAndCacheResultIndexMapping(resolved.getIndex().getName(), resolved));
+            return;
+        }
+        // the alias has several indices and none of them is the write index
+        validatedMappingMisses.increment();
+        getConcreteIndex(resultIndexOrAlias, ActionListener.wrap(concreteIndex -> {
+            IndexMetadata indexMetadata = concreteIndex == null ? null : clusterService.state().metadata().index(concreteIndex);
+            thenDo.onResponse(validateAndCacheResultIndexMapping(concreteIndex, indexMetadata));
         }, thenDo::onFailure));
     }
 
+    /**
+     * Validates the mapping of a concrete result index and caches the outcome under the index name.
+     *
+     * @param concreteIndex concrete index name
+     * @param indexMetadata metadata of the concrete index
+     * @return whether the mapping is valid
+     */
+    private boolean validateAndCacheResultIndexMapping(String concreteIndex, IndexMetadata indexMetadata) {
+        try {
+            initResultMapping();
+            if (RESULT_FIELD_CONFIGS == null || indexMetadata == null) {
+                // failed to populate the field, or the index is gone
+                return false;
+            }
+            boolean correctResultIndexMapping = isValidResultIndexMapping(indexMetadata);
+            validatedMappings.put(concreteIndex, new ValidatedMapping(indexMetadata.getMappingVersion(), correctResultIndexMapping));
+            return correctResultIndexMapping;
+        } catch (Exception e) {
+            logger.error("Failed to validate result index mapping for index " + concreteIndex, e);
+            return false;
+        }
+    }
+
+    private boolean isValidResultIndexMapping(IndexMetadata indexMetadata) {
+        Map<String, Object> indexMapping = indexMetadata.mapping().sourceAsMap();
+        String propertyName = CommonName.PROPERTIES;
+        if (!indexMapping.containsKey(propertyName) || !(indexMapping.get(propertyName) instanceof LinkedHashMap)) {
+            return false;
+        }
+        LinkedHashMap<String, Object> mapping = (LinkedHashMap<String, Object>) indexMapping.get(propertyName);
+
+        for (String fieldName : RESULT_FIELD_CONFIGS.keySet()) {
+            Object defaultSchema = RESULT_FIELD_CONFIGS.get(fieldName);
+            // the field might be a map or map of map
+            // example: map: {type=date, format=strict_date_time||epoch_millis}
+            // map of map: {type=nested, properties={likelihood={type=double}, value_list={type=nested,
+            // properties={data={type=double},
+            // feature_id={type=keyword}}}}}
+            // if it is a map of map, Object.equals can compare them regardless of order
+            if (!mapping.containsKey(fieldName)) {
+                logger.warn("mapping mismatch due to missing {}", fieldName);
+                return false;
+            }
+            Object actualSchema = mapping.get(fieldName);
+            if (!isSchemaSuperset(actualSchema, defaultSchema)) {
+                logger.warn("mapping mismatch due to {}", fieldName);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves an index or alias to its concrete index from the local cluster state.
+     * @param indexOrAliasName index or alias name
+     * @return metadata of the concrete index, the write index of an alias, or null if it cannot be resolved locally
+     */
+    private IndexMetadata resolveConcreteIndex(String indexOrAliasName) {
+        IndexAbstraction indexAbstraction = clusterService.state().metadata().getIndicesLookup().get(indexOrAliasName);
+        if (indexAbstraction == null) {
+            return null;
+        }
+        if (indexAbstraction.getType() == IndexAbstraction.Type.CONCRETE_INDEX) {
+            return indexAbstraction.getIndices().get(0);
+        }
+        if (indexAbstraction.getWriteIndex() != null) {
+            return indexAbstraction.getWriteIndex();
+        }
+        return indexAbstraction.getIndices().size() == 1 ? indexAbstraction.getIndices().get(0) : null;
+    }
+
+    /**
+     * Drops validated mappings of deleted indices and of indices whose mapping changed.
+     * @param event cluster changed event
+     */
+    private void pruneValidatedMappings(ClusterChangedEvent event) {
+        if (validatedMappings.isEmpty() || false == event.metadataChanged()) {
+            return;
+        }
+        Metadata metadata = event.state().metadata();
+        validatedMappings.entrySet().removeIf(entry -> {
+            IndexMetadata indexMetadata = metadata.index(entry.getKey());
+            return indexMetadata == null || indexMetadata.getMappingVersion() != entry.getValue().mappingVersion;
+        });
+    }
+
+    /**
+     * @return hits and misses of validated result index mappings, and the number of validated indices
+     */
+    public Map<String, Object> getValidatedMappingStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(VALIDATED_MAPPING_HITS, validatedMappingHits.sum());
+        stats.put(VALIDATED_MAPPING_MISSES, validatedMappingMisses.sum());
+        stats.put(VALIDATED_INDICES, validatedMappings.size());
+        return stats;
+    }
+
     /**
      * Recursively checks if schema1 is a superset of schema2.
      * @param schema1 the potential superset schema object
@@ -1414,6 +1524,107 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
         }
     }
 
+    /**
+     * Create the first time-partitioned checkpoint generation and point the checkpoint write alias to it.
+     *
+     * @param generationPattern date math name of the generation
+     * @param alias checkpoint write alias
+     * @param checkpointIndex checkpoint index type
+     * @param actionListener action called after create index
+     */
+    protected void initCheckpointGeneration(
+        String generationPattern,
+        String alias,
+        IndexType checkpointIndex,
+        ActionListener<CreateIndexResponse> actionListener
+    ) {
+        CreateIndexRequest request = new CreateIndexRequest(generationPattern)
+            .mapping(checkpointIndex.getMapping(), XContentType.JSON)
+            .alias(new Alias(alias));
+        choosePrimaryShards(request, true);
+        adminClient.indices().create(request, markMappingUpToDate(checkpointIndex, actionListener));
+    }
+
+    /**
+     * Move the checkpoint write alias to a new generation once the current one is old or large enough.
+     * Does nothing if checkpoints are not time-partitioned.
+     *
+     * @param alias checkpoint write alias
+     * @param generationPattern date math name of new generations
+     * @param checkpointIndex checkpoint index type
+     */
+    protected void rolloverCheckpointIndex(String alias, String generationPattern, IndexType checkpointIndex) {
+        if (!doesAliasExist(alias)) {
+            return;
+        }
+        RolloverRequest rolloverRequest = new RolloverRequest(alias, null);
+        CreateIndexRequest createRequest = rolloverRequest.getCreateIndexRequest();
+        createRequest.index(generationPattern).mapping(checkpointIndex.getMapping(), XContentType.JSON);
+        choosePrimaryShards(createRequest, true);
+        rolloverRequest.addMaxIndexAgeCondition(getCheckpointGenerationMaxAge(checkpointTtl));
+        rolloverRequest
+            .addMaxIndexSizeCondition(
+                new ByteSizeValue(TimeSeriesSettings.CHECKPOINT_GENERATION_MAX_SHARD_SIZE_IN_BYTE * getNumberOfPrimaryShards())
+            );
+        adminClient.indices().rolloverIndex(rolloverRequest, ActionListener.wrap(response -> {
+            if (response.isRolledOver()) {
+                logger.info("{} rolled over. Conditions were: {}", alias, response.getConditionStatus());
+            }
+        }, exception -> { logger.error("Fail to roll over checkpoint index", exception); }));
+    }
+
+    /**
+     * A checkpoint generation is dropped once the generation after it is older than the checkpoint ttl, so it
+     * lives for its max age plus the ttl, and a model checkpointed in every generation has a copy in each live one.
+     * Half the ttl keeps about three generations alive, which also bounds the generations a checkpoint read probes.
+     *
+     * @param checkpointTtl checkpoint ttl
+     * @return max age of a checkpoint generation before it is rolled over
+     */
+    public static TimeValue getCheckpointGenerationMaxAge(TimeValue checkpointTtl) {
+        return TimeValue
+            .timeValueMillis(Math.max(TimeSeriesSettings.MIN_CHECKPOINT_GENERATION_MAX_AGE.millis(), checkpointTtl.millis() / 2));
+    }
+
+    /**
+     * Concrete checkpoint indices, newest first: the generations rolled over behind the checkpoint write
+     * alias, followed by the checkpoint index written before checkpoints were time-partitioned. Checkpoints
+     * are only written to the newest generation, so the first generation holding a model has its latest write.
+     *
+     * @param checkpointIndexName checkpoint index name. Generations are named after it.
+     * @return names of checkpoint indices, newest first
+     */
+    public List<String> getCheckpointGenerations(String checkpointIndexName) {
+        List<String> generations = new ArrayList<>();
+        for (IndexMetadata indexMetadata : getCheckpointGenerations(clusterService.state().metadata(), checkpointIndexName)) {
+            generations.add(indexMetadata.getIndex().getName());
+        }
+        return generations;
+    }
+
+    /**
+     * @param metadata cluster metadata
+     * @param checkpointIndexName checkpoint index name. Generations are named after it.
+     * @return metadata of checkpoint indices, newest first
+     */
+    public static List<IndexMetadata> getCheckpointGenerations(Metadata metadata, String checkpointIndexName) {
+        List<IndexMetadata> generations = new ArrayList<>();
+        String generationPrefix = checkpointIndexName + "-";
+        // names sharing the checkpoint index name as prefix are adjacent in the sorted lookup
+        for (IndexAbstraction indexAbstraction : metadata
+            .getIndicesLookup()
+            .subMap(checkpointIndexName, checkpointIndexName + Character.MAX_VALUE)
+            .values()) {
+            String name = indexAbstraction.getName();
+            if (indexAbstraction.getType() == IndexAbstraction.Type.CONCRETE_INDEX
+                && (name.equals(checkpointIndexName) || name.startsWith(generationPrefix))) {
+                generations.add(indexAbstraction.getIndices().get(0));
+            }
+        }
+        generations.sort(Comparator.comparingLong(IndexMetadata::getCreationDate).reversed());
+        return generations;
+    }
+
     protected String getCustomResultIndexPattern(String customResultIndexAlias) {
         return String.format(Locale.ROOT, "<%s-history-{now/d}-1>", customResultIndexAlias);
     }
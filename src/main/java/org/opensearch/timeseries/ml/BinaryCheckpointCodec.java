@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes serialized models into the binary checkpoint format and back.
+ *
+ * A binary checkpoint is the protostuff bytes of a model state prefixed by a one-byte
+ * format version. The version tells the reader whether the payload is stored as is
+ * or deflate-compressed, so that we can add new layouts later without breaking
+ * checkpoints written by older nodes.
+ */
+public final class BinaryCheckpointCodec {
+    // payload is raw serialized bytes
+    public static final byte FORMAT_RAW = 1;
+    // payload is deflate-compressed serialized bytes
+    public static final byte FORMAT_DEFLATE = 2;
+
+    private static final int CHUNK_BYTES = 8192;
+
+    private BinaryCheckpointCodec() {}
+
+    /**
+     * Wrap serialized model bytes into a versioned binary checkpoint.
+     *
+     * @param serialized serialized model bytes
+     * @param compress whether to deflate the payload
+     * @return versioned checkpoint bytes
+     */
+    public static byte[] encode(byte[] serialized, boolean compress) {
+        if (!compress) {
+            byte[] encoded = new byte[serialized.length + 1];
+            encoded[0] = FORMAT_RAW;
+            System.arraycopy(serialized, 0, encoded, 1, serialized.length);
+            return encoded;
+        }
+
+        // RCF states are dominated by float/int arrays where BEST_SPEED already gets most of the gain
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(serialized);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, serialized.length / 2));
+            out.write(FORMAT_DEFLATE);
+            byte[] chunk = new byte[CHUNK_BYTES];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Unwrap a versioned binary checkpoint into serialized model bytes.
+     *
+     * @param encoded versioned checkpoint bytes
+     * @param maxBytes the max size of the serialized model we are willing to restore
+     * @return serialized model bytes
+     * @throws IllegalArgumentException when the format version is unknown, the payload is
+     *  corrupted, or the restored model exceeds maxBytes
+     */
+    public static byte[] decode(byte[] encoded, int maxBytes) {
+        if (encoded == null || encoded.length < 1) {
+            throw new IllegalArgumentException("Empty binary checkpoint");
+        }
+        byte format = encoded[0];
+        switch (format) {
+            case FORMAT_RAW:
+                if (encoded.length - 1 > maxBytes) {
+                    throw new IllegalArgumentException(String.format(Locale.ROOT, "Checkpoint too large: [%d] bytes", encoded.length - 1));
+                }
+                return Arrays.copyOfRange(encoded, 1, encoded.length);
+            case FORMAT_DEFLATE:
+                return inflate(encoded, maxBytes);
+            default:
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown checkpoint format [%d]", format));
+        }
+    }
+
+    /**
+     * OpenSearch returns a binary field as raw bytes for SMILE/CBOR sources and as a
+     * Base64 string for JSON sources. Normalize both to raw bytes.
+     *
+     * @param fieldValue value of a binary field in a document source
+     * @return raw bytes or null if the value is absent or of an unexpected type
+     */
+    public static byte[] toBytes(Object fieldValue) {
+        if (fieldValue instanceof byte[]) {
+            return (byte[]) fieldValue;
+        }
+        if (fieldValue instanceof String) {
+            String base64 = (String) fieldValue;
+            return base64.isEmpty() ? null : Base64.getDecoder().decode(base64);
+        }
+        return null;
+    }
+
+    private static byte[] inflate(byte[] encoded, int maxBytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxBytes, encoded.length * 3));
+            byte[] chunk = new byte[CHUNK_BYTES];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated binary checkpoint");
+                }
+                if (out.size() + read > maxBytes) {
+                    // guard against a corrupted or malicious payload inflating beyond what we can hold
+                    throw new IllegalArgumentException(String.format(Locale.ROOT, "Checkpoint too large: more than [%d] bytes", maxBytes));
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted binary checkpoint", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
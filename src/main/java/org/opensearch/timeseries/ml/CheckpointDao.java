@@ -15,8 +15,10 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
@@ -29,6 +31,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkAction;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
@@ -39,6 +42,7 @@ import org.opensearch.action.get.GetAction;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetAction;
+import org.opensearch.action.get.MultiGetItemResponse;
 import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.update.UpdateRequest;
@@ -49,13 +53,17 @@ import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.index.reindex.ScrollableHitSource;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.indices.TimeSeriesIndex;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
 
+import com.amazon.randomcutforest.state.ExecutionContext;
+import com.amazon.randomcutforest.state.RandomCutForestState;
 import com.google.gson.Gson;
 
 import io.protostuff.LinkedBuffer;
@@ -67,6 +75,12 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
     public static final String SEARCH_FAILURE_LOG_MSG = "Search failure while deleting checkpoints of";
     public static final String DOC_GOT_DELETED_LOG_MSG = "checkpoints docs get deleted";
     public static final String INDEX_DELETED_LOG_MSG = "Checkpoint index has been deleted.  Has nothing to do:";
+    // source of reads that only need a checkpoint's time and samples, i.e., processHCGetResponseTimeAndSamples
+    public static final FetchSourceContext TIME_AND_SAMPLES_SOURCE = new FetchSourceContext(
+        true,
+        new String[] { CommonName.TIMESTAMP, CommonName.SAMPLE_QUEUE },
+        new String[0]
+    );
 
     // dependencies
     protected final Client client;
@@ -74,6 +88,8 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
 
     // configuration
     protected final String indexName;
+    // write alias of time-partitioned checkpoint generations
+    protected final String indexAlias;
 
     protected Gson gson;
 
@@ -91,6 +107,7 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         Client client,
         ClientUtil clientUtil,
         String indexName,
+        String indexAlias,
         Gson gson,
         int maxCheckpointBytes,
         GenericObjectPool<LinkedBuffer> serializeRCFBufferPool,
@@ -101,6 +118,7 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         this.client = client;
         this.clientUtil = clientUtil;
         this.indexName = indexName;
+        this.indexAlias = indexAlias;
         this.gson = gson;
         this.maxCheckpointBytes = maxCheckpointBytes;
         this.serializeRCFBufferPool = serializeRCFBufferPool;
@@ -128,7 +146,7 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
      */
     protected void saveModelCheckpointAsync(Map<String, Object> source, String modelId, ActionListener<Void> listener) {
 
-        UpdateRequest updateRequest = new UpdateRequest(indexName, modelId);
+        UpdateRequest updateRequest = new UpdateRequest(getWriteIndex(), modelId);
         updateRequest.doc(source);
         // If the document does not already exist, the contents of the upsert element are inserted as a new document.
         // If the document exists, update fields in the map
@@ -181,6 +199,20 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
      * @param listener onReponse is called with null when the operation is completed
      */
     public void deleteModelCheckpoint(String modelId, ActionListener<Void> listener) {
+        if (isTimePartitioned()) {
+            // older generations may hold stale copies that reads would fall back to
+            BulkRequest bulkRequest = new BulkRequest();
+            for (String generation : getCheckpointIndices()) {
+                bulkRequest.add(new DeleteRequest(generation, modelId));
+            }
+            clientUtil.<BulkRequest, BulkResponse>execute(BulkAction.INSTANCE, bulkRequest, ActionListener.wrap(r -> {
+                if (r.hasFailures()) {
+                    logger.warn("Fail to delete checkpoint of {} from all generations: {}", modelId, r.buildFailureMessage());
+                }
+                listener.onResponse(null);
+            }, listener::onFailure));
+            return;
+        }
         clientUtil
             .<DeleteRequest, DeleteResponse>asyncRequest(
                 new DeleteRequest(indexName, modelId),
@@ -233,6 +265,14 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
     }
 
     public void batchWrite(BulkRequest request, ActionListener<BulkResponse> listener) {
+        String writeIndex = getWriteIndex();
+        if (!writeIndex.equals(indexName)) {
+            for (DocWriteRequest<?> docRequest : request.requests()) {
+                if (indexName.equals(docRequest.index())) {
+                    docRequest.index(writeIndex);
+                }
+            }
+        }
         if (indexUtil.doesCheckpointIndexExist()) {
             clientUtil.<BulkRequest, BulkResponse>execute(BulkAction.INSTANCE, request, listener);
         } else {
@@ -267,14 +307,171 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         return Optional.of(samples.toArray(new Sample[0]));
     }
 
+    /**
+     * Read checkpoints of multiple models. With time-partitioned checkpoints, models are first looked up
+     * in the newest generation, which holds most checkpoints. Only models missing there are looked up in
+     * older generations, where the newest generation holding a model wins.
+     *
+     * @param request multi-get request of checkpoint index items
+     * @param listener listener receiving one item response per requested item, in request order
+     */
     public void batchRead(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
-        clientUtil.<MultiGetRequest, MultiGetResponse>execute(MultiGetAction.INSTANCE, request, listener);
+        if (!isTimePartitioned()) {
+            clientUtil.<MultiGetRequest, MultiGetResponse>execute(MultiGetAction.INSTANCE, request, listener);
+            return;
+        }
+        String[] generations = getCheckpointIndices();
+        List<MultiGetRequest.Item> items = request.getItems();
+        MultiGetRequest newestRequest = new MultiGetRequest();
+        for (MultiGetRequest.Item item : items) {
+            newestRequest.add(toGenerationItem(item, generations[0]));
+        }
+        clientUtil.<MultiGetRequest, MultiGetResponse>execute(MultiGetAction.INSTANCE, newestRequest, ActionListener.wrap(newest -> {
+            MultiGetItemResponse[] responses = newest.getResponses().clone();
+            List<Integer> misses = new ArrayList<>();
+            for (int i = 0; i < responses.length; i++) {
+                if (isMiss(responses[i])) {
+                    misses.add(i);
+                }
+            }
+            int numOlderGenerations = generations.length - 1;
+            if (misses.isEmpty() || numOlderGenerations == 0) {
+                listener.onResponse(newest);
+                return;
+            }
+            MultiGetRequest olderRequest = new MultiGetRequest();
+            for (int i : misses) {
+                for (int j = 1; j < generations.length; j++) {
+                    olderRequest.add(toGenerationItem(items.get(i), generations[j]));
+                }
+            }
+            clientUtil.<MultiGetRequest, MultiGetResponse>execute(MultiGetAction.INSTANCE, olderRequest, ActionListener.wrap(older -> {
+                MultiGetItemResponse[] olderResponses = mergeGenerations(older, misses.size(), numOlderGenerations).getResponses();
+                for (int k = 0; k < misses.size(); k++) {
+                    int i = misses.get(k);
+                    // prefer a plain not-found response of the newest generation over a missing older generation
+                    if (false == isMiss(olderResponses[k]) || responses[i].isFailed()) {
+                        responses[i] = olderResponses[k];
+                    }
+                }
+                listener.onResponse(new MultiGetResponse(responses));
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    private static MultiGetRequest.Item toGenerationItem(MultiGetRequest.Item item, String generation) {
+        return new MultiGetRequest.Item(generation, item.id()).fetchSourceContext(item.fetchSourceContext());
+    }
+
+    /**
+     * @param response item response of a generation
+     * @return whether the generation does not hold the checkpoint, including when it has been dropped by retention
+     */
+    private static boolean isMiss(MultiGetItemResponse response) {
+        if (response.isFailed()) {
+            return response.getFailure().getFailure() instanceof IndexNotFoundException;
+        }
+        return false == response.getResponse().isExists();
+    }
+
+    /**
+     * Keep, for every requested model, the response of the newest generation holding its checkpoint.
+     * A failure of a newer generation fails the item since an older copy may be stale. A generation
+     * dropped by retention in the meantime counts as a miss.
+     *
+     * @param response responses of all generations, grouped by requested item
+     * @param numItems number of requested items
+     * @param numGenerations number of generations read per item
+     * @return one response per requested item
+     */
+    protected MultiGetResponse mergeGenerations(MultiGetResponse response, int numItems, int numGenerations) {
+        MultiGetItemResponse[] generationResponses = response.getResponses();
+        MultiGetItemResponse[] merged = new MultiGetItemResponse[numItems];
+        for (int i = 0; i < numItems; i++) {
+            MultiGetItemResponse chosen = null;
+            for (int j = 0; j < numGenerations; j++) {
+                MultiGetItemResponse candidate = generationResponses[i * numGenerations + j];
+                if (candidate.isFailed()) {
+                    if (!(candidate.getFailure().getFailure() instanceof IndexNotFoundException)) {
+                        chosen = candidate;
+                        break;
+                    }
+                    if (chosen == null) {
+                        chosen = candidate;
+                    }
+                } else if (candidate.getResponse().isExists()) {
+                    chosen = candidate;
+                    break;
+                } else if (chosen == null || chosen.isFailed()) {
+                    chosen = candidate;
+                }
+            }
+            merged[i] = chosen;
+        }
+        return new MultiGetResponse(merged);
     }
 
     public void read(GetRequest request, ActionListener<GetResponse> listener) {
+        if (isTimePartitioned()) {
+            getCheckpoint(request.id(), listener);
+            return;
+        }
         clientUtil.<GetRequest, GetResponse>execute(GetAction.INSTANCE, request, listener);
     }
 
+    /**
+     * Read the checkpoint of a model, falling back to older generations when checkpoints are time-partitioned.
+     *
+     * @param modelId model id
+     * @param listener listener receiving the checkpoint get response
+     */
+    protected void getCheckpoint(String modelId, ActionListener<GetResponse> listener) {
+        if (!isTimePartitioned()) {
+            clientUtil.<GetRequest, GetResponse>asyncRequest(new GetRequest(indexName, modelId), client::get, listener);
+            return;
+        }
+        MultiGetRequest request = new MultiGetRequest();
+        request.add(new MultiGetRequest.Item(indexName, modelId));
+        batchRead(request, ActionListener.wrap(response -> {
+            MultiGetItemResponse itemResponse = response.getResponses()[0];
+            if (itemResponse.isFailed()) {
+                listener.onFailure(itemResponse.getFailure().getFailure());
+            } else {
+                listener.onResponse(itemResponse.getResponse());
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * @return whether checkpoints are written to time generations behind the write alias
+     */
+    protected boolean isTimePartitioned() {
+        return indexUtil.doesAliasExist(indexAlias);
+    }
+
+    /**
+     * Checkpoints go to the write alias once it exists, or once time-partitioned checkpoints are enabled
+     * since then the first write creates the alias.
+     *
+     * @return index or alias to write checkpoints to
+     */
+    protected String getWriteIndex() {
+        if (isTimePartitioned() || TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled()) {
+            return indexAlias;
+        }
+        return indexName;
+    }
+
+    /**
+     * @return concrete checkpoint indices to read from or delete in, newest first
+     */
+    protected String[] getCheckpointIndices() {
+        if (!isTimePartitioned()) {
+            return new String[] { indexName };
+        }
+        return indexUtil.getCheckpointGenerations(indexName).toArray(new String[0]);
+    }
+
     /**
      * Delete checkpoints associated with a config.  Used in multi-entity detector.
      * @param configId Config Id
@@ -331,6 +528,27 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         }
     }
 
+    /**
+     * Read the time and samples of an entity checkpoint without deserializing its model. Used to
+     * decide whether a model kept in memory is at least as new as the checkpoint.
+     * @param response Checkpoint Index GetResponse
+     * @param modelId  Model Id
+     * @return the checkpoint time and samples, or empty if the checkpoint does not exist or has no valid time
+     */
+    public Optional<Map.Entry<Instant, Deque<Sample>>> processHCGetResponseTimeAndSamples(GetResponse response, String modelId) {
+        Optional<Map<String, Object>> checkpoint = processRawCheckpoint(response);
+        if (checkpoint.isEmpty() || false == checkpoint.get().get(CommonName.TIMESTAMP) instanceof String) {
+            return Optional.empty();
+        }
+        try {
+            Instant timestamp = Instant.parse((String) checkpoint.get().get(CommonName.TIMESTAMP));
+            return Optional.of(new SimpleImmutableEntry<>(timestamp, loadSampleQueue(checkpoint.get(), modelId)));
+        } catch (DateTimeParseException e) {
+            logger.warn("Invalid checkpoint time for " + modelId, e);
+            return Optional.empty();
+        }
+    }
+
     /**
      * Process a checkpoint GetResponse and return the EntityModel object
      * @param response Checkpoint Index GetResponse
@@ -356,6 +574,26 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
 
     public abstract Map<String, Object> toIndexSource(ModelState<RCFModelType> modelState) throws IOException;
 
+    /**
+     * Serialize a model into bytes kept in memory while its entity is inactive.
+     * @param model model to serialize
+     * @param modelId model id
+     * @return serialized bytes or empty if the model cannot be serialized this way
+     */
+    public Optional<byte[]> toCompactModel(RCFModelType model, String modelId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Restore a model serialized by {@link #toCompactModel}.
+     * @param bytes serialized bytes
+     * @param modelId model id
+     * @return the restored model or empty if the bytes are corrupted
+     */
+    public Optional<RCFModelType> fromCompactModel(byte[] bytes, String modelId) {
+        return Optional.empty();
+    }
+
     protected abstract DeleteByQueryRequest createDeleteCheckpointRequest(String configId);
 
     protected Deque<Sample> loadSampleQueue(Map<String, Object> checkpoint, String modelId) {
@@ -380,4 +618,21 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         // due to bugs). Better redo training.
         return sampleQueue;
     }
+
+    /**
+     * Checkpoints restore the execution settings a forest was saved with. Restored models serve real-time
+     * analysis, whose models run their trees sequentially outside the node's RCF thread budget, so drop
+     * parallel execution regardless of the checkpoint.
+     *
+     * @param forestState forest state read from a checkpoint
+     */
+    protected static void disableParallelExecution(RandomCutForestState forestState) {
+        if (forestState == null) {
+            return;
+        }
+        ExecutionContext executionContext = forestState.getExecutionContext();
+        if (executionContext != null) {
+            executionContext.setParallelExecutionEnabled(false);
+        }
+    }
 }
@@ -16,6 +16,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -23,6 +25,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.util.Throwables;
@@ -33,7 +36,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.CleanState;
 import org.opensearch.timeseries.MaintenanceState;
+import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.timeseries.caching.CountMinDoorKeeper;
 import org.opensearch.timeseries.caching.DoorKeeper;
 import org.opensearch.timeseries.common.exception.EndRunException;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
@@ -48,6 +53,7 @@ import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.IndexableResult;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.ExceptionUtil;
 
@@ -92,6 +98,8 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
     protected final String threadPoolName;
     protected final AnalysisType context;
     protected final int resultMappingVersion;
+    // null when door keeper sketches are not accounted
+    protected volatile MemoryTracker memoryTracker;
 
     public ModelColdStart(
         Duration modelTtl,
@@ -144,7 +152,9 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
             String id = doorKeeperEntry.getKey();
             DoorKeeper doorKeeper = doorKeeperEntry.getValue();
             if (doorKeeper.expired(modelTtl)) {
-                doorKeepers.remove(id);
+                if (doorKeepers.remove(id, doorKeeper)) {
+                    releaseDoorKeeper(doorKeeper);
+                }
             } else {
                 doorKeeper.maintenance();
             }
@@ -153,7 +163,54 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
 
     @Override
     public void clear(String id) {
-        doorKeepers.remove(id);
+        DoorKeeper removed = doorKeepers.remove(id);
+        if (removed != null) {
+            releaseDoorKeeper(removed);
+        }
+    }
+
+    /**
+     * Account door keeper sketches from now on. Door keepers created before are dropped as they were not accounted.
+     * @param memoryTracker memory tracker
+     */
+    public void setMemoryTracker(MemoryTracker memoryTracker) {
+        this.memoryTracker = memoryTracker;
+        doorKeepers.clear();
+    }
+
+    private DoorKeeper createDoorKeeper(Config config) {
+        // reset (or age, for sketch) every 60 intervals
+        Duration resetInterval = config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ);
+        if (TimeSeriesEnabledSetting.isDoorKeeperSketchEnabled()) {
+            MemoryTracker tracker = memoryTracker;
+            long sketchBytes = CountMinDoorKeeper.estimateMemoryBytes(TimeSeriesSettings.DOOR_KEEPER_FOR_COLD_STARTER_MAX_INSERTION);
+            if (tracker == null || tracker.tryConsumeMemory(sketchBytes, false, MemoryTracker.Origin.COLD_START_DOOR_KEEPER)) {
+                return DoorKeeper
+                    .create(
+                        TimeSeriesSettings.DOOR_KEEPER_FOR_COLD_STARTER_MAX_INSERTION,
+                        resetInterval,
+                        clock,
+                        TimeSeriesSettings.COLD_START_DOOR_KEEPER_COUNT_THRESHOLD,
+                        true
+                    );
+            }
+            logger.info("Not enough memory for cold start door keeper sketch of {}, use exact door keeper", config.getId());
+        }
+        return DoorKeeper
+            .create(
+                TimeSeriesSettings.DOOR_KEEPER_FOR_COLD_STARTER_MAX_INSERTION,
+                resetInterval,
+                clock,
+                TimeSeriesSettings.COLD_START_DOOR_KEEPER_COUNT_THRESHOLD,
+                false
+            );
+    }
+
+    private void releaseDoorKeeper(DoorKeeper doorKeeper) {
+        MemoryTracker tracker = memoryTracker;
+        if (tracker != null && doorKeeper.getMemoryBytes() > 0) {
+            tracker.releaseMemory(doorKeeper.getMemoryBytes(), false, MemoryTracker.Origin.COLD_START_DOOR_KEEPER);
+        }
     }
 
     /**
@@ -197,6 +254,102 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
         }, listener::onFailure));
     }
 
+    /**
+     * Train models of real-time entities of the same config. Instead of one search per entity,
+     * the training data of all entities cold started with the same data end time is fetched with
+     * one composite aggregation search per batch of entities. Requests of historical analysis
+     * and requests without entity are cold started one by one as in trainModel.
+     *
+     * @param configId Config Id
+     * @param coldStartRequests cold start requests of the config
+     * @param modelStates Model states. The i-th state belongs to the i-th request.
+     * @param listeners callbacks notified as in trainModel. The i-th listener belongs to the i-th request.
+     */
+    public void trainModels(
+        String configId,
+        List<FeatureRequest> coldStartRequests,
+        List<ModelState<RCFModelType>> modelStates,
+        List<ActionListener<List<IndexableResultType>>> listeners
+    ) {
+        if (coldStartRequests.size() != modelStates.size() || coldStartRequests.size() != listeners.size()) {
+            String err = String
+                .format(
+                    Locale.ROOT,
+                    "length mismatch: %d requests, %d model states, %d listeners",
+                    coldStartRequests.size(),
+                    modelStates.size(),
+                    listeners.size()
+                );
+            listeners.forEach(listener -> listener.onFailure(new IllegalArgumentException(err)));
+            return;
+        }
+
+        nodeStateManager.getConfig(configId, context, true, ActionListener.wrap(configOptional -> {
+            if (false == configOptional.isPresent()) {
+                logger.warn(new ParameterizedMessage("Config [{}] is not available.", configId));
+                listeners.forEach(listener -> listener.onFailure(new TimeSeriesException(configId, "fail to find config")));
+                return;
+            }
+
+            Config config = configOptional.get();
+
+            // key: data start time of the requests, which is the end time of their training data
+            Map<Long, Map<Entity, ActionListener<List<Sample>>>> batches = new HashMap<>();
+            for (int i = 0; i < coldStartRequests.size(); i++) {
+                FeatureRequest coldStartRequest = coldStartRequests.get(i);
+                ModelState<RCFModelType> modelState = modelStates.get(i);
+                ActionListener<List<IndexableResultType>> listener = listeners.get(i);
+
+                if (coldStartRequest.isRunOnce()
+                    || coldStartRequest.getTaskId() != null
+                    || false == coldStartRequest.getEntity().isPresent()
+                    || modelState == null
+                    || modelState.getSamples().size() >= this.numMinSamples) {
+                    trainModel(coldStartRequest, configId, modelState, listener);
+                    continue;
+                }
+
+                Optional<ActionListener<List<Sample>>> coldStartCallBack = prepareColdStart(
+                    modelState.getModelId(),
+                    coldStartRequest,
+                    modelState,
+                    config,
+                    listener
+                );
+                if (false == coldStartCallBack.isPresent()) {
+                    continue;
+                }
+
+                ActionListener<List<Sample>> threadedCallBack = new ThreadedActionListener<>(
+                    logger,
+                    threadPool,
+                    threadPoolName,
+                    coldStartCallBack.get(),
+                    false
+                );
+                ActionListener<List<Sample>> existing = batches
+                    .computeIfAbsent(coldStartRequest.getDataStartTimeMillis(), k -> new LinkedHashMap<>())
+                    .putIfAbsent(coldStartRequest.getEntity().get(), threadedCallBack);
+                if (existing != null) {
+                    // the same entity queued twice. Keep the batch keyed by entity and fetch the duplicate separately.
+                    try {
+                        threadPool.executor(threadPoolName).execute(() -> getColdStartData(configId, coldStartRequest, threadedCallBack));
+                    } catch (Exception e) {
+                        threadedCallBack.onFailure(e);
+                    }
+                }
+            }
+
+            for (Entry<Long, Map<Entity, ActionListener<List<Sample>>>> batch : batches.entrySet()) {
+                try {
+                    threadPool.executor(threadPoolName).execute(() -> getBatchColdStartData(config, batch.getKey(), batch.getValue()));
+                } catch (Exception e) {
+                    batch.getValue().values().forEach(callBack -> callBack.onFailure(e));
+                }
+            }
+        }, e -> listeners.forEach(listener -> listener.onFailure(e))));
+    }
+
     public void trainModelFromExistingSamples(ModelState<RCFModelType> modelState, Config config, String taskId) {
         if (modelState.getSamples().size() >= this.numMinSamples) {
             Deque<Sample> samples = modelState.getSamples();
@@ -220,18 +373,66 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
         ModelState<RCFModelType> modelState,
         Config config,
         ActionListener<List<IndexableResultType>> listener
+    ) {
+        Optional<ActionListener<List<Sample>>> coldStartCallBack = prepareColdStart(
+            modelId,
+            coldStartRequest,
+            modelState,
+            config,
+            listener
+        );
+        if (false == coldStartCallBack.isPresent()) {
+            return;
+        }
+
+        boolean earlyExit = true;
+        try {
+            threadPool
+                .executor(threadPoolName)
+                .execute(
+                    () -> getColdStartData(
+                        config.getId(),
+                        coldStartRequest,
+                        new ThreadedActionListener<>(logger, threadPool, threadPoolName, coldStartCallBack.get(), false)
+                    )
+                );
+            earlyExit = false;
+        } finally {
+            if (earlyExit) {
+                listener.onResponse(null);
+            }
+        }
+    }
+
+    /**
+     * Check whether a model can be cold started now and create the callback training the model
+     * from the fetched training data.
+     * @param modelId model Id corresponding to the entity
+     * @param coldStartRequest cold start request
+     * @param modelState model state
+     * @param config config accessor
+     * @param listener call back to send processed training data and last sample in the training data
+     * @return the training data callback, or empty if cold start is skipped. The listener has been
+     *  notified in the latter case.
+     */
+    private Optional<ActionListener<List<Sample>>> prepareColdStart(
+        String modelId,
+        FeatureRequest coldStartRequest,
+        ModelState<RCFModelType> modelState,
+        Config config,
+        ActionListener<List<IndexableResultType>> listener
     ) {
         logger.debug("Trigger cold start for {}", modelId);
 
         if (modelState == null) {
             listener.onFailure(new IllegalArgumentException(String.format(Locale.ROOT, "Cannot have empty model state")));
-            return;
+            return Optional.empty();
         }
 
         if (lastThrottledColdStartTime.plus(Duration.ofMinutes(coolDownMinutes)).isAfter(clock.instant())) {
             logger.info("Still in cool down.");
             listener.onResponse(null);
-            return;
+            return Optional.empty();
         }
 
         String configId = config.getId();
@@ -241,15 +442,7 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
                 // Won't retry real-time cold start within 60 intervals for an entity
                 // coldStartRequest.getTaskId() == null in real-time cold start
 
-                DoorKeeper doorKeeper = doorKeepers.computeIfAbsent(configId, id -> {
-                    // reset every 60 intervals
-                    return new DoorKeeper(
-                        TimeSeriesSettings.DOOR_KEEPER_FOR_COLD_STARTER_MAX_INSERTION,
-                        config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ),
-                        clock,
-                        TimeSeriesSettings.COLD_START_DOOR_KEEPER_COUNT_THRESHOLD
-                    );
-                });
+                DoorKeeper doorKeeper = doorKeepers.computeIfAbsent(configId, id -> createDoorKeeper(config));
 
                 // only use door keeper when this is for real time
                 if (doorKeeper.appearsMoreThanOrEqualToThreshold(modelId)) {
@@ -259,7 +452,7 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
                             TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ,
                             modelId
                         );
-                    return;
+                    return Optional.empty();
                 }
 
                 doorKeeper.put(modelId);
@@ -320,17 +513,8 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
                     listener.onFailure(e);
                 }
             });
-
-            threadPool
-                .executor(threadPoolName)
-                .execute(
-                    () -> getColdStartData(
-                        configId,
-                        coldStartRequest,
-                        new ThreadedActionListener<>(logger, threadPool, threadPoolName, coldStartCallBack, false)
-                    )
-                );
             earlyExit = false;
+            return Optional.of(coldStartCallBack);
         } finally {
             if (earlyExit) {
                 listener.onResponse(null);
@@ -358,54 +542,186 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
                 return;
             }
             Config config = configOp.get();
+            // also, since we want to use current feature to score, we don't use current interval
+            // [current start, current end] for training. So we fetch training data ending at current start
+            getColdStartData(config, coldStartRequest.getEntity(), coldStartRequest.getDataStartTimeMillis(), listener);
+        }, listener::onFailure);
+
+        nodeStateManager
+            .getConfig(
+                configId,
+                context,
+                // not run once means it is real time and we want to cache
+                !coldStartRequest.isRunOnce(),
+                new ThreadedActionListener<>(logger, threadPool, threadPoolName, getDetectorListener, false)
+            );
+    }
+
+    /**
+     * Get training data of an entity ending at the given time, starting from the entity's earliest data.
+     *
+     * @param config config accessor
+     * @param entity entity, empty for single-stream configs
+     * @param endTimeMs end time of the training data
+     * @param listener A callback listener for receiving training data.
+     */
+    private void getColdStartData(Config config, Optional<Entity> entity, long endTimeMs, ActionListener<List<Sample>> listener) {
+        ActionListener<Optional<Long>> minTimeListener = ActionListener.wrap(earliest -> {
+            if (earliest.isPresent()) {
+                long startTimeMs = earliest.get().longValue();
+
+                // End time uses milliseconds as start time is assumed to be in milliseconds.
+                // Opensearch uses a set of preconfigured formats to recognize and parse these
+                // strings into a long value
+                // representing milliseconds-since-the-epoch in UTC.
+                // More on https://tinyurl.com/wub4fk92
+                int numberOfSamples = selectNumberOfSamples(config);
+                // we start with round 0
+                getFeatures(listener, 0, new ArrayList<>(), config, entity, numberOfSamples, startTimeMs, endTimeMs);
+            } else {
+                listener.onResponse(new ArrayList<>());
+            }
+        }, listener::onFailure);
+
+        searchFeatureDao
+            .getMinDataTime(
+                config,
+                entity,
+                context,
+                new ThreadedActionListener<>(logger, threadPool, threadPoolName, minTimeListener, false)
+            );
+    }
+
+    /**
+     * Get training data for entities of the same config whose training data ends at the same time.
+     *
+     * Entities are searched in chunks small enough to stay under the bucket limit of a search.
+     * Each search also returns the earliest timestamp of every entity, so the separate min time
+     * lookup of getColdStartData is not needed. Entities that still lack samples after the first
+     * round and have older data continue probing history one by one as in getColdStartData.
+     * Entities missing from a search response are cold started one by one as well.
+     *
+     * @param config config accessor
+     * @param endTimeMs end time of the training data
+     * @param callBacks training data callbacks keyed by entity
+     */
+    private void getBatchColdStartData(Config config, long endTimeMs, Map<Entity, ActionListener<List<Sample>>> callBacks) {
+        int numberOfSamples = selectNumberOfSamples(config);
+        long startTimeMs = endTimeMs - numberOfSamples * config.getIntervalInMilliseconds();
+        List<Entry<Long, Long>> sampleRanges = searchFeatureDao
+            .getTrainSampleRanges((IntervalTimeConfiguration) config.getInterval(), startTimeMs, endTimeMs, numberOfSamples);
+
+        if (sampleRanges.isEmpty()) {
+            callBacks.values().forEach(callBack -> callBack.onResponse(new ArrayList<>()));
+            return;
+        }
+
+        int entitiesPerSearch = Math.max(1, TimeSeriesSettings.MAX_COLD_START_BATCH_BUCKETS / sampleRanges.size());
+        List<Entity> entities = new ArrayList<>(callBacks.keySet());
+        for (int from = 0; from < entities.size(); from += entitiesPerSearch) {
+            getBatchFeatures(
+                config,
+                entities.subList(from, Math.min(entities.size(), from + entitiesPerSearch)),
+                callBacks,
+                sampleRanges,
+                numberOfSamples,
+                endTimeMs
+            );
+        }
+    }
+
+    private void getBatchFeatures(
+        Config config,
+        List<Entity> entities,
+        Map<Entity, ActionListener<List<Sample>>> callBacks,
+        List<Entry<Long, Long>> sampleRanges,
+        int numberOfSamples,
+        long endTimeMs
+    ) {
+        ActionListener<Map<Entity, Pair<Long, List<Optional<double[]>>>>> getFeaturesListener = ActionListener.wrap(entityFeatures -> {
+            for (Entity entity : entities) {
+                ActionListener<List<Sample>> callBack = callBacks.get(entity);
+                Pair<Long, List<Optional<double[]>>> minTimeAndFeatures = entityFeatures.get(entity);
+                if (minTimeAndFeatures == null) {
+                    // Either the entity has no data or its bucket did not make it into the response, e.g., because
+                    // its key did not map back to the same entity. Fall back to the per-entity path, which
+                    // returns no samples in the former case.
+                    getColdStartData(config, Optional.of(entity), endTimeMs, callBack);
+                    continue;
+                }
 
-            ActionListener<Optional<Long>> minTimeListener = ActionListener.wrap(earliest -> {
-                if (earliest.isPresent()) {
-                    long startTimeMs = earliest.get().longValue();
-
-                    // End time uses milliseconds as start time is assumed to be in milliseconds.
-                    // Opensearch uses a set of preconfigured formats to recognize and parse these
-                    // strings into a long value
-                    // representing milliseconds-since-the-epoch in UTC.
-                    // More on https://tinyurl.com/wub4fk92
-                    // also, since we want to use current feature to score, we don't use current interval
-                    // [current start, current end] for training. So we fetch training data ending at current start
-                    long endTimeMs = coldStartRequest.getDataStartTimeMillis();
-                    int numberOfSamples = selectNumberOfSamples(config);
-                    // we start with round 0
+                List<Optional<double[]>> featureSamples = minTimeAndFeatures.getRight();
+                if (featureSamples.size() != sampleRanges.size()) {
+                    String err = String
+                        .format(
+                            Locale.ROOT,
+                            "length mismatch: totalNumSamples %d != time range length %d",
+                            featureSamples.size(),
+                            sampleRanges.size()
+                        );
+                    callBack.onFailure(new IllegalArgumentException(err));
+                    continue;
+                }
+
+                long entityStartTimeMs = minTimeAndFeatures.getLeft();
+                // like getColdStartData, only use ranges after the entity's earliest data
+                List<Sample> samples = toSamples(featureSamples, sampleRanges, entityStartTimeMs);
+
+                long earliestSampleStartTime = sampleRanges.get(0).getKey();
+                if (samples.size() >= numMinSamples || maxRoundofColdStart <= 1) {
+                    callBack.onResponse(samples);
+                } else {
+                    // getFeatures returns what we have if there is no older data
                     getFeatures(
-                        listener,
-                        0,
-                        new ArrayList<>(),
+                        callBack,
+                        1,
+                        samples,
                         config,
-                        coldStartRequest.getEntity(),
+                        Optional.of(entity),
                         numberOfSamples,
-                        startTimeMs,
-                        endTimeMs
+                        entityStartTimeMs,
+                        earliestSampleStartTime
                     );
-                } else {
-                    listener.onResponse(new ArrayList<>());
                 }
-            }, listener::onFailure);
+            }
+        }, e -> entities.forEach(entity -> callBacks.get(entity).onFailure(e)));
 
+        try {
             searchFeatureDao
-                .getMinDataTime(
+                .getColdStartSamplesForEntities(
                     config,
-                    coldStartRequest.getEntity(),
+                    sampleRanges,
+                    entities,
+                    // Accept empty bucket. See getFeatures.
+                    true,
                     context,
-                    new ThreadedActionListener<>(logger, threadPool, threadPoolName, minTimeListener, false)
+                    new ThreadedActionListener<>(logger, threadPool, threadPoolName, getFeaturesListener, false)
                 );
+        } catch (Exception e) {
+            entities.forEach(entity -> callBacks.get(entity).onFailure(e));
+        }
+    }
 
-        }, listener::onFailure);
-
-        nodeStateManager
-            .getConfig(
-                configId,
-                context,
-                // not run once means it is real time and we want to cache
-                !coldStartRequest.isRunOnce(),
-                new ThreadedActionListener<>(logger, threadPool, threadPoolName, getDetectorListener, false)
-            );
+    /**
+     * Convert features of sample ranges to samples
+     * @param featureSamples features in ascending order of time, one per range
+     * @param sampleRanges sample ranges in ascending order of time
+     * @param startTimeMs ranges starting before it are skipped
+     * @return samples of ranges with features
+     */
+    private List<Sample> toSamples(List<Optional<double[]>> featureSamples, List<Entry<Long, Long>> sampleRanges, long startTimeMs) {
+        List<Sample> samples = new ArrayList<>();
+        for (int index = 0; index < featureSamples.size(); index++) {
+            Optional<double[]> featuresOptional = featureSamples.get(index);
+            Entry<Long, Long> curRange = sampleRanges.get(index);
+            if (featuresOptional.isPresent() && curRange.getKey() >= startTimeMs) {
+                samples
+                    .add(
+                        new Sample(featuresOptional.get(), Instant.ofEpochMilli(curRange.getKey()), Instant.ofEpochMilli(curRange.getValue()))
+                    );
+            }
+        }
+        return samples;
     }
 
     /**
@@ -459,22 +775,8 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
             }
 
             // featuresSamples are in ascending order of time.
-
-            List<Sample> samples = new ArrayList<>();
-            for (int index = 0; index < featureSamples.size(); index++) {
-                Optional<double[]> featuresOptional = featureSamples.get(index);
-                if (featuresOptional.isPresent()) {
-                    Entry<Long, Long> curRange = sampleRanges.get(index);
-                    samples
-                        .add(
-                            new Sample(
-                                featuresOptional.get(),
-                                Instant.ofEpochMilli(curRange.getKey()),
-                                Instant.ofEpochMilli(curRange.getValue())
-                            )
-                        );
-                }
-            }
+            // sample ranges start no earlier than startTimeMs
+            List<Sample> samples = toSamples(featureSamples, sampleRanges, startTimeMs);
 
             List<Sample> concatenatedDataSample = null;
             // make sure the following logic making sense via checking lastRoundFirstStartTime > 0
@@ -9,14 +9,12 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -67,6 +65,8 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         MaintenanceState {
 
     private static final Logger LOG = LogManager.getLogger(RealTimeInferencer.class);
+    // power of 2 so that we can mask instead of mod
+    static final int LOCK_STRIPES = 1024;
     protected ModelManagerType modelManager;
     protected Stats stats;
     private String modelCorruptionStat;
@@ -79,12 +79,13 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
     // without waiting for the requests get finished processing. It can also happen in
     // production as the impute request and actual data scoring in the next interval
     // can happen at the same time.
-    private Map<String, ExpiringValue<Lock>> modelLocks;
+    // Locks are striped by model id so that we don't create and expire a lock per model.
+    // Two models sharing a stripe only delay each other by a retry.
+    private final ReentrantLock[] modelLocks;
     private ThreadPool threadPool;
     private String threadPoolName;
     // ensure we process samples in the ascending order of time in case race conditions.
-    private Map<String, ExpiringValue<TreeSet<Sample>>> sampleQueues;
-    private Comparator<Sample> sampleComparator;
+    private Map<String, ExpiringValue<SampleBuffer>> sampleQueues;
     private Clock clock;
     private SearchFeatureDao searchFeatureDao;
     private AnalysisType analysisContext;
@@ -112,9 +113,11 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         this.cache = cache;
         this.threadPool = threadPool;
         this.threadPoolName = threadPoolName;
-        this.modelLocks = new ConcurrentHashMap<>();
+        this.modelLocks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.modelLocks[i] = new ReentrantLock();
+        }
         this.sampleQueues = new ConcurrentHashMap<>();
-        this.sampleComparator = Comparator.comparing(Sample::getDataEndTime);
         this.clock = clock;
         this.searchFeatureDao = searchFeatureDao;
         this.analysisContext = analysisContext;
@@ -135,45 +138,40 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         ActionListener<Boolean> listener
     ) {
         String modelId = modelState.getModelId();
-        ExpiringValue<TreeSet<Sample>> expiringSampleQueue = sampleQueues
-            .computeIfAbsent(
-                modelId,
-                k -> new ExpiringValue<>(
-                    new TreeSet<>(sampleComparator),
-                    config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ).toMillis(),
-                    clock
-                )
-            );
-        TreeSet<Sample> queue = expiringSampleQueue.getValue();
+        SampleBuffer queue = getSampleQueue(modelId, config);
+        long intervalSeconds = config.getIntervalInSeconds();
         // model state might have samples that are not processed yet
-        addSamples(queue, modelState.getSamples(), config);
+        addSamples(queue, modelState.getSamples(), intervalSeconds);
         // record the last unprocessed historical sample's data end time
         // this is used to calculate the time gap between last input timestamp and current sample's data end time
-        Instant lastSampleDataEndTime = queue.isEmpty() ? Instant.MIN : queue.last().getDataEndTime();
+        long lastSampleDataEndSecs = queue.lastDataEndEpochSecond();
         // add current sample to queue
-        addSample(queue, sample, config);
+        queue.add(sample, intervalSeconds);
         Optional<RCFModelType> modelOptional = modelState.getModel();
         if (modelOptional.isPresent()) {
             // we need to use the latest sample in the queue to calculate the time gap because last scored RCF sample might not be the
             // latest sample in the queue
             long lastInputTimestampSecs = Math
-                .max(ModelUtil.getLastInputTimestampSeconds(modelOptional.get()), lastSampleDataEndTime.getEpochSecond());
+                .max(ModelUtil.getLastInputTimestampSeconds(modelOptional.get()), lastSampleDataEndSecs);
             // Current sample is already retrieved. We need to figure out how many data points before current sample.
             // We send data end time in seconds to rcf, so we need to find the gap between last input timestamp and current sample's data.
             long currentTimeSecs = sample.getDataEndTime().getEpochSecond();
             long diffSecs = currentTimeSecs - lastInputTimestampSecs;
-            LOG
-                .debug(
-                    "diffSecs:{} interval:{} maxFrequencyMultiple:{} lastInputTimestampSecs:{} currentTimeSecs:{}",
-                    diffSecs,
-                    config.getIntervalInSeconds(),
-                    TimeSeriesSettings.MAX_FREQUENCY_MULTIPLE,
-                    lastInputTimestampSecs,
-                    currentTimeSecs
-                );
+            // guard so that we don't box arguments for every entity in every interval
+            if (LOG.isDebugEnabled()) {
+                LOG
+                    .debug(
+                        "diffSecs:{} interval:{} maxFrequencyMultiple:{} lastInputTimestampSecs:{} currentTimeSecs:{}",
+                        diffSecs,
+                        intervalSeconds,
+                        TimeSeriesSettings.MAX_FREQUENCY_MULTIPLE,
+                        lastInputTimestampSecs,
+                        currentTimeSecs
+                    );
+            }
             // it is expected that the time gap is at least 1 interval. So 2 intervals is the minimum gap to fetch data.
-            long minGapSecs = 2 * config.getIntervalInSeconds();
-            if (diffSecs >= minGapSecs && diffSecs / config.getIntervalInSeconds() <= TimeSeriesSettings.MAX_FREQUENCY_MULTIPLE) {
+            long minGapSecs = 2 * intervalSeconds;
+            if (diffSecs >= minGapSecs && diffSecs / intervalSeconds <= TimeSeriesSettings.MAX_FREQUENCY_MULTIPLE) {
                 LOG.info("fetching features between {} and {}", lastInputTimestampSecs, currentTimeSecs);
                 // get features for the interval since last input timestamp and current sample's data start time
                 // getFeatures uses milliseconds as unit, so we need to convert seconds to milliseconds
@@ -189,7 +187,7 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
                     ActionListener.wrap(samples -> {
                         LOG.info("samples size: {}", samples.size());
                         for (Sample s : samples) {
-                            addSample(queue, s, config);
+                            queue.add(s, intervalSeconds);
                         }
                         processWithTimeout(modelState, config, taskId, sample, listener);
                     }, listener::onFailure)
@@ -222,65 +220,43 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         ActionListener<Boolean> listener
     ) {
         String modelId = modelState.getModelId();
-        ReentrantLock lock = (ReentrantLock) modelLocks
-            .computeIfAbsent(
-                modelId,
-                k -> new ExpiringValue<>(
-                    new ReentrantLock(),
-                    config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ).toMillis(),
-                    clock
-                )
-            )
-            .getValue();
+        Lock lock = getModelLock(modelId);
 
         boolean success = false;
         LOG.debug("try lock");
         if (lock.tryLock()) {
             LOG.debug("lock acquired");
             try {
-                TreeSet<Sample> queue = sampleQueues.get(modelId).getValue();
-                LOG.debug("queue size:{}", queue.size());
-                if (!queue.isEmpty()) {
-                    List<Sample> samples = new ArrayList<>(queue);
-                    queue.clear();
-
-                    double[][] points = new double[samples.size()][];
-                    long[] timestamps = new long[samples.size()];
-                    List<Instant> dataStarts = new ArrayList<>();
-                    List<Instant> dataEnds = new ArrayList<>();
-                    for (int i = 0; i < samples.size(); i++) {
-                        points[i] = samples.get(i).getValueList();
-                        Instant dataStart = samples.get(i).getDataStartTime();
-                        dataStarts.add(dataStart);
-                        Instant dataEnd = samples.get(i).getDataEndTime();
-                        dataEnds.add(dataEnd);
-                        timestamps[i] = dataEnd.getEpochSecond();
-                    }
-
+                SampleBuffer queue = getSampleQueue(modelId, config);
+                // the batch is reused by the next drain, which cannot happen before we unlock
+                SampleBuffer.Batch batch = queue.drain();
+                LOG.debug("queue size:{}", batch.size());
+                if (batch.size() > 0) {
                     RCFModelType model = modelState.getModel().get();
-                    LOG
-                        .debug(
-                            "Processing sequential points - timestamps: {}, entity: {}",
-                            Arrays.toString(timestamps),
-                            modelState.getEntity().map(Object::toString).orElse("null")
-                        );
-                    List<AnomalyDescriptor> results = model.processSequentially(points, timestamps, x -> true);
-                    List<RCFResultType> intermediateResults = new ArrayList<>();
+                    if (LOG.isDebugEnabled()) {
+                        LOG
+                            .debug(
+                                "Processing sequential points - timestamps: {}, entity: {}",
+                                Arrays.toString(batch.getTimestamps()),
+                                modelState.getEntity().map(Object::toString).orElse("null")
+                            );
+                    }
+                    List<AnomalyDescriptor> results = model.processSequentially(batch.getPoints(), batch.getTimestamps(), x -> true);
+                    List<RCFResultType> intermediateResults = new ArrayList<>(results.size());
                     for (int i = 0; i < results.size(); i++) {
-                        Sample sampleI = samples.get(i);
                         AnomalyDescriptor result = results.get(i);
                         RCFResultType rcfResult = modelManager
-                            .toResult(model.getForest(), result, sampleI.getValueList(), result.getMissingValues() != null, config);
+                            .toResult(model.getForest(), result, batch.getPoints()[i], result.getMissingValues() != null, config);
                         intermediateResults.add(rcfResult);
                     }
                     resultWriteWorker
                         .saveAllResults(
                             intermediateResults,
                             config,
-                            dataStarts,
-                            dataEnds,
+                            batch.getDataStarts(),
+                            batch.getDataEnds(),
                             modelId,
-                            Arrays.asList(points),
+                            batch.getPointList(),
                             modelState.getEntity(),
                             taskId
                         );
@@ -308,9 +284,7 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
                 listener.onFailure(e);
             } finally {
                 LOG.debug("unlock");
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
-                }
+                lock.unlock();
             }
         } else {
             long windowDelayMillis = config.getWindowDelay() == null
@@ -481,62 +455,60 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         }
     }
 
-    /**
-     * Adds a sample to the queue only if it's at least one detector interval apart from its potential neighbors (previous and next).
-     * This is to avoid an IllegalArgumentException from the RCF model due to out-of-order processing of timestamps.
-     * @param queue The queue to add the sample to.
-     * @param sample The sample to be added.
-     * @param config The detector configuration.
-     */
-    private void addSample(TreeSet<Sample> queue, Sample sample, Config config) {
-        long intervalSeconds = config.getIntervalInSeconds();
-        long sampleTime = sample.getDataStartTime().getEpochSecond();
-
-        Sample previousSample = queue.floor(sample);
-        Sample nextSample = queue.ceiling(sample);
-
-        LOG
-            .debug(
-                "lastSample: {} sample: {}",
-                previousSample == null ? "null" : previousSample.getDataStartTime().getEpochSecond(),
-                sample.getDataStartTime().getEpochSecond()
-            );
-
-        boolean previousGapOk = (previousSample == null)
-            || (sampleTime - previousSample.getDataStartTime().getEpochSecond() >= intervalSeconds);
-
-        boolean nextGapOk = (nextSample == null) || (nextSample.getDataStartTime().getEpochSecond() - sampleTime >= intervalSeconds);
-
-        if (previousGapOk && nextGapOk) {
-            queue.add(sample);
-        }
-    }
-
-    private void addSamples(TreeSet<Sample> queue, Deque<Sample> samples, Config config) {
+    private void addSamples(SampleBuffer queue, Deque<Sample> samples, long intervalSeconds) {
         if (samples != null) {
             for (Sample sample : samples) {
-                addSample(queue, sample, config);
+                queue.add(sample, intervalSeconds);
             }
         }
     }
 
+    private SampleBuffer getSampleQueue(String modelId, Config config) {
+        ExpiringValue<SampleBuffer> expiringSampleQueue = sampleQueues.get(modelId);
+        if (expiringSampleQueue == null) {
+            // only allocate the mapping function when the model is new to this node
+            expiringSampleQueue = sampleQueues
+                .computeIfAbsent(
+                    modelId,
+                    k -> new ExpiringValue<>(
+                        new SampleBuffer(
+                            SampleBuffer
+                                .expectedSamples(
+                                    config.getShingleSize() == null ? TimeSeriesSettings.DEFAULT_SHINGLE_SIZE : config.getShingleSize()
+                                )
+                        ),
+                        config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ).toMillis(),
+                        clock
+                    )
+                );
+        }
+        return expiringSampleQueue.getValue();
+    }
+
+    /**
+     * @param modelId model id
+     * @return the lock stripe guarding the model's scoring
+     */
+    public Lock getModelLock(String modelId) {
+        int hash = modelId.hashCode();
+        // spread higher bits as model ids of the same config share long prefixes
+        hash ^= (hash >>> 16);
+        return modelLocks[hash & (LOCK_STRIPES - 1)];
+    }
+
     @Override
     public void maintenance() {
         try {
             // clean up expired items
-            modelLocks.entrySet().removeIf(entry -> entry.getValue().isExpired());
             sampleQueues.entrySet().removeIf(entry -> entry.getValue().isExpired());
+            resultWriteWorker.maintenance();
         } catch (Exception e) {
             // will be thrown to transport broadcast handler
             throw new TimeSeriesException("Fail to maintain RealTimeInferencer", e);
         }
     }
 
-    public Map<String, ExpiringValue<Lock>> getModelLocks() {
-        return modelLocks;
-    }
-
-    public Map<String, ExpiringValue<TreeSet<Sample>>> getSampleQueues() {
+    public Map<String, ExpiringValue<SampleBuffer>> getSampleQueues() {
         return sampleQueues;
     }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A per-model ring buffer of samples ordered by data end time.
+ *
+ * Ordering and gap checks run on primitive copies of the sample timestamps, so adding a
+ * sample does not allocate unless the buffer has to grow. Feature values are not copied:
+ * we keep references to the samples' own arrays and hand them to RCF as is.
+ *
+ * Draining moves the samples into a {@link Batch} owned by the buffer. The batch is reused
+ * across drains and only reallocates its arrays when the number of drained samples changes,
+ * which it rarely does since we usually drain one sample per interval. The batch is
+ * only valid until the next drain, so callers must finish with it while holding the
+ * model's processing lock.
+ *
+ * Methods synchronize on the buffer as samples can be added from the feature fetching
+ * thread while another thread drains.
+ */
+public class SampleBuffer {
+    private Sample[] samples;
+    private long[] startSeconds;
+    private long[] endSeconds;
+    private int[] endNanos;
+    // physical index of the oldest sample
+    private int head;
+    private int size;
+    private final Batch batch;
+
+    /**
+     * @param expectedSamples the number of samples we expect to hold between two drains
+     */
+    public SampleBuffer(int expectedSamples) {
+        int capacity = capacityFor(expectedSamples);
+        this.samples = new Sample[capacity];
+        this.startSeconds = new long[capacity];
+        this.endSeconds = new long[capacity];
+        this.endNanos = new int[capacity];
+        this.head = 0;
+        this.size = 0;
+        this.batch = new Batch();
+    }
+
+    /**
+     * We usually buffer the current sample plus a few unprocessed ones from the model state,
+     * which are bounded by the shingle size. Gap filling can add more, in which case we grow.
+     *
+     * @param shingleSize config shingle size
+     * @return initial number of samples to size a buffer for
+     */
+    public static int expectedSamples(int shingleSize) {
+        return Math.max(shingleSize, 1) + 2;
+    }
+
+    private static int capacityFor(int expectedSamples) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSamples, 2) - 1) << 1;
+        return capacity > 0 ? capacity : 1 << 30;
+    }
+
+    /**
+     * Adds a sample only if it's at least one interval apart from its potential neighbors
+     * (previous and next). This is to avoid an IllegalArgumentException from the RCF model
+     * due to out-of-order processing of timestamps.
+     *
+     * @param sample sample to add
+     * @param intervalSeconds config interval in seconds
+     * @return whether the sample was added
+     */
+    public synchronized boolean add(Sample sample, long intervalSeconds) {
+        long sampleStart = sample.getDataStartTime().getEpochSecond();
+        long sampleEnd = sample.getDataEndTime().getEpochSecond();
+        int sampleEndNano = sample.getDataEndTime().getNano();
+
+        // first sample ending at or after the new one, i.e., TreeSet.ceiling
+        int ceiling = lowerBound(sampleEnd, sampleEndNano);
+        boolean sameEnd = ceiling < size && compareEnd(physical(ceiling), sampleEnd, sampleEndNano) == 0;
+        // last sample ending at or before the new one, i.e., TreeSet.floor
+        int floor = sameEnd ? ceiling : ceiling - 1;
+
+        boolean previousGapOk = floor < 0 || sampleStart - startSeconds[physical(floor)] >= intervalSeconds;
+        boolean nextGapOk = ceiling >= size || startSeconds[physical(ceiling)] - sampleStart >= intervalSeconds;
+        if (!previousGapOk || !nextGapOk || sameEnd) {
+            return false;
+        }
+
+        if (size == samples.length) {
+            grow();
+        }
+        // Samples usually arrive in time order, so we rarely shift. Otherwise, shift the
+        // shorter side, which for an older sample means moving the head back.
+        if (ceiling < size - ceiling) {
+            head = (head - 1) & (samples.length - 1);
+            for (int i = 0; i < ceiling; i++) {
+                move(physical(i + 1), physical(i));
+            }
+        } else {
+            for (int i = size; i > ceiling; i--) {
+                move(physical(i - 1), physical(i));
+            }
+        }
+        set(physical(ceiling), sample, sampleStart, sampleEnd, sampleEndNano);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return data end time in epoch seconds of the latest sample, or Instant.MIN's if empty
+     */
+    public synchronized long lastDataEndEpochSecond() {
+        return size == 0 ? Instant.MIN.getEpochSecond() : endSeconds[physical(size - 1)];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of sample slots, exposed for tests
+     */
+    synchronized int capacity() {
+        return samples.length;
+    }
+
+    /**
+     * Moves all buffered samples into the reusable batch in ascending order of time.
+     *
+     * @return the batch, empty if there are no buffered samples
+     */
+    public synchronized Batch drain() {
+        batch.reset(size);
+        for (int i = 0; i < size; i++) {
+            int index = physical(i);
+            batch.set(i, samples[index], endSeconds[index]);
+            // release the reference so that the sample can be garbage collected
+            samples[index] = null;
+        }
+        head = 0;
+        size = 0;
+        return batch;
+    }
+
+    private int physical(int logical) {
+        return (head + logical) & (samples.length - 1);
+    }
+
+    private int lowerBound(long seconds, int nanos) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareEnd(physical(mid), seconds, nanos) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // consistent with Instant.compareTo on data end times
+    private int compareEnd(int index, long seconds, int nanos) {
+        int cmp = Long.compare(endSeconds[index], seconds);
+        return cmp != 0 ? cmp : Integer.compare(endNanos[index], nanos);
+    }
+
+    private void set(int index, Sample sample, long start, long end, int endNano) {
+        samples[index] = sample;
+        startSeconds[index] = start;
+        endSeconds[index] = end;
+        endNanos[index] = endNano;
+    }
+
+    private void move(int from, int to) {
+        set(to, samples[from], startSeconds[from], endSeconds[from], endNanos[from]);
+    }
+
+    private void grow() {
+        int capacity = samples.length << 1;
+        Sample[] newSamples = new Sample[capacity];
+        long[] newStartSeconds = new long[capacity];
+        long[] newEndSeconds = new long[capacity];
+        int[] newEndNanos = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = physical(i);
+            newSamples[i] = samples[index];
+            newStartSeconds[i] = startSeconds[index];
+            newEndSeconds[i] = endSeconds[index];
+            newEndNanos[i] = endNanos[index];
+        }
+        samples = newSamples;
+        startSeconds = newStartSeconds;
+        endSeconds = newEndSeconds;
+        endNanos = newEndNanos;
+        head = 0;
+    }
+
+    /**
+     * Drained samples laid out the way RCF's sequential processing and result saving
+     * consume them. Reused across drains of the same buffer.
+     */
+    public static class Batch {
+        private Sample[] samples;
+        private double[][] points;
+        private long[] timestamps;
+        private List<double[]> pointList;
+        private final List<Instant> dataStarts;
+        private final List<Instant> dataEnds;
+        private int size;
+
+        Batch() {
+            this.samples = new Sample[0];
+            this.points = new double[0][];
+            this.timestamps = new long[0];
+            this.pointList = Arrays.asList(points);
+            this.dataStarts = new ArrayList<>();
+            this.dataEnds = new ArrayList<>();
+            this.size = 0;
+        }
+
+        private void reset(int newSize) {
+            if (newSize != points.length) {
+                // RCF expects arrays sized to the number of points
+                samples = new Sample[newSize];
+                points = new double[newSize][];
+                timestamps = new long[newSize];
+                pointList = Arrays.asList(points);
+            }
+            dataStarts.clear();
+            dataEnds.clear();
+            size = newSize;
+        }
+
+        private void set(int i, Sample sample, long endSecond) {
+            samples[i] = sample;
+            points[i] = sample.getValueList();
+            timestamps[i] = endSecond;
+            dataStarts.add(sample.getDataStartTime());
+            dataEnds.add(sample.getDataEndTime());
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Sample getSample(int i) {
+            return samples[i];
+        }
+
+        /**
+         * @return feature values, one row per sample
+         */
+        public double[][] getPoints() {
+            return points;
+        }
+
+        /**
+         * @return a list view of {@link #getPoints()}
+         */
+        public List<double[]> getPointList() {
+            return pointList;
+        }
+
+        /**
+         * @return data end times in epoch seconds, the timestamps we send to RCF
+         */
+        public long[] getTimestamps() {
+            return timestamps;
+        }
+
+        public List<Instant> getDataStarts() {
+            return dataStarts;
+        }
+
+        public List<Instant> getDataEnds() {
+            return dataEnds;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.timeseries.annotation.Generated;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Objects;
@@ -102,6 +103,34 @@ public class Entity implements ToXContentObject, Writeable {
         return new Entity(attrs);
     }
 
+    /**
+     * Create an entity from ordered attributes whose model Id is known, e.g., computed by the node that sent it
+     * @param attrs attribute map
+     * @param modelId model Id. Computed on demand if null.
+     * @return the created entity
+     */
+    public static Entity createEntityFromOrderedMap(SortedMap<String, String> attrs, String modelId) {
+        Entity entity = new Entity(attrs);
+        if (modelId != null) {
+            entity.modelId.set(modelId);
+        }
+        return entity;
+    }
+
+    /**
+     * Create an entity from ordered attributes whose model Id is known, sharing the memoized instance of the model Id
+     * @param attrs attribute map
+     * @param configId config Id
+     * @param modelId model Id. Computed on demand if null.
+     * @return the created entity
+     */
+    public static Entity createEntityFromOrderedMap(SortedMap<String, String> attrs, String configId, String modelId) {
+        if (modelId != null && TimeSeriesEnabledSetting.isModelIdMemoEnabled()) {
+            modelId = ModelIdMemo.getInstance().intern(configId, attrs, modelId);
+        }
+        return createEntityFromOrderedMap(attrs, modelId);
+    }
+
     private Entity(SortedMap<String, String> orderedAttrs) {
         this.attributes = orderedAttrs;
     }
@@ -278,7 +307,7 @@ public class Entity implements ToXContentObject, Writeable {
      * @param attributes Attributes of an entity
      * @return the model Id
      */
-    private static Optional<String> getModelId(String configId, SortedMap<String, String> attributes) {
+    static Optional<String> getModelId(String configId, SortedMap<String, String> attributes) {
         if (attributes.isEmpty()) {
             return Optional.empty();
         } else {
@@ -308,17 +337,28 @@ public class Entity implements ToXContentObject, Writeable {
      */
     public Optional<String> getModelId(String configId) {
         if (modelId.get() == null) {
-            // computing model id is not cheap and the result is deterministic. We only do it once.
-            Optional<String> computedModelId = Entity.getModelId(configId, attributes);
-            if (computedModelId.isPresent()) {
-                this.modelId.set(computedModelId.get());
-            } else {
+            // computing model id is not cheap and the result is deterministic. We only do it once
+            // per entity, and once per config across the entities parsed anew every interval.
+            if (attributes.isEmpty()) {
                 this.modelId.set(null);
+            } else if (TimeSeriesEnabledSetting.isModelIdMemoEnabled()) {
+                this.modelId
+                    .set(ModelIdMemo.getInstance().getOrCompute(configId, attributes, attrs -> Entity.getModelId(configId, attrs).get()));
+            } else {
+                this.modelId.set(Entity.getModelId(configId, attributes).get());
             }
         }
         return Optional.ofNullable(modelId.get());
     }
 
+    /**
+     * @param configId config Id
+     * @return the part of model Ids of the config's entities that precedes the attribute hash
+     */
+    public static String getModelIdPrefix(String configId) {
+        return configId + MODEL_ID_INFIX;
+    }
+
     public Map<String, String> getAttributes() {
         return attributes;
     }
@@ -157,6 +157,14 @@ public abstract class IndexableResult implements Writeable, ToXContentObject {
         return taskId;
     }
 
+    public User getUser() {
+        return user;
+    }
+
+    public Integer getSchemaVersion() {
+        return schemaVersion;
+    }
+
     /**
      * entityId equals to model Id. It is hard to explain to users what
      * modelId is. entityId is more user friendly.
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.opensearch.timeseries.MemoryTracker;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+/**
+ * A bounded memo of entity attributes to model Id, shared by all configs on a node.
+ *
+ * Entities are parsed anew from search results and transport requests every interval, so the
+ * model Id an {@link Entity} memoizes is lost with it and the next interval hashes the attributes
+ * again. The memo keeps the model Id across intervals and hands out a single String instance per
+ * model so that the cache buffer, the priority tracker, and the queues holding the same model
+ * don't each keep a copy of it.
+ *
+ * The number of memoized model Ids is bounded across configs, and once a memory tracker is set,
+ * every memoized model Id consumes its estimated size from the tracker. Model Ids are not
+ * memoized when the tracker has no memory for them. Model Ids are deterministic, so a dropped
+ * or skipped entry costs a recomputation and nothing else.
+ */
+public class ModelIdMemo {
+    private static final ModelIdMemo INSTANCE = new ModelIdMemo(
+        TimeSeriesSettings.MAX_MEMOIZED_MODEL_IDS,
+        TimeSeriesSettings.MODEL_ID_MEMO_TTL_HOURS
+    );
+
+    // cache entry, key pair, and the tree map and its entries without their strings
+    static final long ENTRY_OVERHEAD_BYTES = 160;
+    // per attribute: tree map entry
+    static final long ATTRIBUTE_OVERHEAD_BYTES = 40;
+    // per string: object header, hash, and array header
+    static final long STRING_OVERHEAD_BYTES = 40;
+
+    // (config Id, entity attributes) -> model Id
+    private final Cache<Map.Entry<String, SortedMap<String, String>>, String> memo;
+    private volatile MemoryTracker memoryTracker;
+
+    ModelIdMemo(int maxModelIds, long ttlHours) {
+        this.memo = CacheBuilder
+            .newBuilder()
+            .maximumSize(maxModelIds)
+            .expireAfterAccess(ttlHours, TimeUnit.HOURS)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    public static ModelIdMemo getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Account memoized model Ids from now on. Model Ids memoized before are dropped as they were not accounted.
+     * @param memoryTracker memory tracker
+     */
+    public void setMemoryTracker(MemoryTracker memoryTracker) {
+        memo.invalidateAll();
+        this.memoryTracker = memoryTracker;
+    }
+
+    /**
+     * @param configId config Id
+     * @param attributes entity attributes
+     * @param compute computes the model Id of the attributes on a miss
+     * @return the memoized model Id
+     */
+    public String getOrCompute(String configId, SortedMap<String, String> attributes, Function<SortedMap<String, String>, String> compute) {
+        Map.Entry<String, SortedMap<String, String>> key = new SimpleImmutableEntry<>(configId, attributes);
+        String modelId = memo.getIfPresent(key);
+        if (modelId != null) {
+            return modelId;
+        }
+        return memoize(key, compute.apply(attributes));
+    }
+
+    /**
+     * Returns the memoized instance of a model Id computed elsewhere, e.g., by the node that sent the entity,
+     * and memoizes the model Id if it is new.
+     *
+     * @param configId config Id
+     * @param attributes entity attributes
+     * @param modelId model Id of the attributes
+     * @return the memoized instance equal to modelId
+     */
+    public String intern(String configId, SortedMap<String, String> attributes, String modelId) {
+        Map.Entry<String, SortedMap<String, String>> key = new SimpleImmutableEntry<>(configId, attributes);
+        String memoized = memo.getIfPresent(key);
+        if (memoized == null) {
+            memoized = memoize(key, modelId);
+        }
+        return memoized.equals(modelId) ? memoized : modelId;
+    }
+
+    private String memoize(Map.Entry<String, SortedMap<String, String>> key, String modelId) {
+        MemoryTracker tracker = memoryTracker;
+        long bytes = estimateMemoryBytes(key, modelId);
+        if (tracker != null && false == tracker.tryConsumeMemory(bytes, false, MemoryTracker.Origin.MODEL_ID_MEMO)) {
+            return modelId;
+        }
+        String memoized = memo.asMap().putIfAbsent(key, modelId);
+        if (memoized == null) {
+            return modelId;
+        }
+        // memoized concurrently
+        if (tracker != null) {
+            tracker.releaseMemory(bytes, false, MemoryTracker.Origin.MODEL_ID_MEMO);
+        }
+        return memoized;
+    }
+
+    private void onRemoval(RemovalNotification<Map.Entry<String, SortedMap<String, String>>, String> notification) {
+        MemoryTracker tracker = memoryTracker;
+        // memoize never replaces a model Id
+        if (tracker != null && notification.getCause() != RemovalCause.REPLACED) {
+            long bytes = estimateMemoryBytes(notification.getKey(), notification.getValue());
+            tracker.releaseMemory(bytes, false, MemoryTracker.Origin.MODEL_ID_MEMO);
+        }
+    }
+
+    static long estimateMemoryBytes(Map.Entry<String, SortedMap<String, String>> key, String modelId) {
+        long bytes = ENTRY_OVERHEAD_BYTES + stringBytes(modelId);
+        for (Map.Entry<String, String> attribute : key.getValue().entrySet()) {
+            bytes += ATTRIBUTE_OVERHEAD_BYTES + stringBytes(attribute.getKey()) + stringBytes(attribute.getValue());
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        return STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    /**
+     * Drops the memoized model Ids of a config, e.g., when the config is deleted.
+     * @param configId config Id
+     */
+    public void clear(String configId) {
+        memo.asMap().keySet().removeIf(key -> key.getKey().equals(configId));
+    }
+
+    /**
+     * @return the number of memoized model Ids
+     */
+    public long size() {
+        return memo.size();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adjusts the batch size and concurrency of a {@link BatchWorker} with additive increase and
+ * multiplicative decrease (AIMD).
+ *
+ * After each batch, the worker reports how long the batch took and how many of its requests
+ * were rejected because of a full thread pool queue, indexing pressure, or a tripped circuit breaker.
+ * <ul>
+ * <li>Rejections mean we are overloading the cluster: halve both batch size and concurrency.</li>
+ * <li>A batch slower than the target latency means batches are too large for the cluster right
+ * now: halve the batch size.</li>
+ * <li>A full batch that finished in time without rejections means there is room: grow the batch
+ * size by a step and, once the batch size is at its ceiling, grow concurrency by one.</li>
+ * </ul>
+ * A partial batch finishing in time says nothing about capacity, so it leaves the limits alone.
+ *
+ * Batch size varies between 1 and {@link #MAX_BATCH_SIZE_MULTIPLIER} times the configured batch
+ * size. Concurrency varies between 1 and the configured concurrency, which is all the worker's
+ * semaphore allows anyway. Changing either setting resets the controller to the configured values.
+ *
+ * The last {@link #HISTORY_SIZE} adjustments are kept for the stats API.
+ */
+public class AdaptiveBatchController {
+    public static final String BATCH_SIZE = "batch_size";
+    public static final String CONCURRENCY = "concurrency";
+    public static final String CONFIGURED_BATCH_SIZE = "configured_batch_size";
+    public static final String CONFIGURED_CONCURRENCY = "configured_concurrency";
+    public static final String HISTORY = "history";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String REASON = "reason";
+    public static final String TOOK_MILLIS = "took_ms";
+    public static final String REQUESTS = "requests";
+    public static final String REJECTED = "rejected";
+
+    static final String REASON_REJECTED = "rejected";
+    static final String REASON_SLOW = "slow";
+    static final String REASON_HEALTHY = "healthy";
+    static final String REASON_RESET = "reset";
+
+    static final int HISTORY_SIZE = 20;
+    static final int MAX_BATCH_SIZE_MULTIPLIER = 2;
+    // batch size grows by 1/INCREASE_STEPS of the configured batch size, so after a halving
+    // it recovers in INCREASE_STEPS / 2 healthy batches
+    static final int INCREASE_STEPS = 10;
+
+    private final Clock clock;
+    private final long targetLatencyMillis;
+    private int configuredBatchSize;
+    private int configuredConcurrency;
+    private int batchSize;
+    private int concurrency;
+    private final Deque<Map<String, Object>> history;
+
+    /**
+     * @param clock clock to timestamp adjustments
+     * @param configuredBatchSize configured batch size of the worker
+     * @param configuredConcurrency configured concurrency of the worker
+     * @param targetLatency batches taking longer than this shrink the batch size
+     */
+    public AdaptiveBatchController(Clock clock, int configuredBatchSize, int configuredConcurrency, Duration targetLatency) {
+        this.clock = clock;
+        this.targetLatencyMillis = targetLatency.toMillis();
+        this.history = new ArrayDeque<>(HISTORY_SIZE);
+        this.configuredBatchSize = Math.max(1, configuredBatchSize);
+        this.configuredConcurrency = Math.max(1, configuredConcurrency);
+        this.batchSize = this.configuredBatchSize;
+        this.concurrency = this.configuredConcurrency;
+    }
+
+    public synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    public synchronized int getConcurrency() {
+        return concurrency;
+    }
+
+    public synchronized void setConfiguredBatchSize(int configuredBatchSize) {
+        this.configuredBatchSize = Math.max(1, configuredBatchSize);
+        reset();
+    }
+
+    public synchronized void setConfiguredConcurrency(int configuredConcurrency) {
+        this.configuredConcurrency = Math.max(1, configuredConcurrency);
+        reset();
+    }
+
+    private void reset() {
+        batchSize = configuredBatchSize;
+        concurrency = configuredConcurrency;
+        record(REASON_RESET, 0, 0, 0);
+    }
+
+    /**
+     * Adjusts batch size and concurrency after a batch finishes.
+     *
+     * @param requests the number of requests in the batch
+     * @param tookMillis how long the batch took
+     * @param rejected the number of requests rejected because the cluster is overloaded
+     */
+    public synchronized void onBatchCompleted(int requests, long tookMillis, int rejected) {
+        if (requests <= 0) {
+            return;
+        }
+        int maxBatchSize = configuredBatchSize * MAX_BATCH_SIZE_MULTIPLIER;
+        int newBatchSize = batchSize;
+        int newConcurrency = concurrency;
+        String reason;
+        if (rejected > 0) {
+            newBatchSize = Math.max(1, batchSize / 2);
+            newConcurrency = Math.max(1, concurrency / 2);
+            reason = REASON_REJECTED;
+        } else if (tookMillis > targetLatencyMillis) {
+            newBatchSize = Math.max(1, batchSize / 2);
+            reason = REASON_SLOW;
+        } else if (requests >= batchSize) {
+            if (batchSize < maxBatchSize) {
+                newBatchSize = Math.min(maxBatchSize, batchSize + Math.max(1, configuredBatchSize / INCREASE_STEPS));
+            } else {
+                newConcurrency = Math.min(configuredConcurrency, concurrency + 1);
+            }
+            reason = REASON_HEALTHY;
+        } else {
+            return;
+        }
+
+        if (newBatchSize != batchSize || newConcurrency != concurrency) {
+            batchSize = newBatchSize;
+            concurrency = newConcurrency;
+            record(reason, requests, tookMillis, rejected);
+        }
+    }
+
+    private void record(String reason, int requests, long tookMillis, int rejected) {
+        if (history.size() == HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        Map<String, Object> adjustment = new HashMap<>();
+        adjustment.put(TIMESTAMP, clock.millis());
+        adjustment.put(REASON, reason);
+        adjustment.put(REQUESTS, requests);
+        adjustment.put(TOOK_MILLIS, tookMillis);
+        adjustment.put(REJECTED, rejected);
+        adjustment.put(BATCH_SIZE, batchSize);
+        adjustment.put(CONCURRENCY, concurrency);
+        history.addLast(adjustment);
+    }
+
+    /**
+     * @return current and configured values plus recent adjustments, oldest first
+     */
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(BATCH_SIZE, batchSize);
+        map.put(CONCURRENCY, concurrency);
+        map.put(CONFIGURED_BATCH_SIZE, configuredBatchSize);
+        map.put(CONFIGURED_CONCURRENCY, configuredConcurrency);
+        List<Map<String, Object>> adjustments = new ArrayList<>(history.size());
+        for (Map<String, Object> adjustment : history) {
+            adjustments.add(new HashMap<>(adjustment));
+        }
+        map.put(HISTORY, adjustments);
+        return map;
+    }
+}
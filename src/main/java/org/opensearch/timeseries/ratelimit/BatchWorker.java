@@ -28,6 +28,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.opensearch.timeseries.util.ExceptionUtil;
 
 /**
  *
@@ -39,6 +42,7 @@ public abstract class BatchWorker<RequestType extends QueuedRequest, BatchReques
     ConcurrentWorker<RequestType> {
     private static final Logger LOG = LogManager.getLogger(BatchWorker.class);
     protected int batchSize;
+    protected final AdaptiveBatchController batchController;
 
     public BatchWorker(
         String queueName,
@@ -86,7 +90,33 @@ public abstract class BatchWorker<RequestType extends QueuedRequest, BatchReques
             context
         );
         this.batchSize = batchSizeSetting.get(settings);
-        clusterService.getClusterSettings().addSettingsUpdateConsumer(batchSizeSetting, it -> batchSize = it);
+        this.batchController = new AdaptiveBatchController(
+            clock,
+            batchSize,
+            concurrencySetting.get(settings),
+            TimeSeriesSettings.ADAPTIVE_BATCH_TARGET_LATENCY
+        );
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(batchSizeSetting, it -> {
+            batchSize = it;
+            batchController.setConfiguredBatchSize(it);
+        });
+    }
+
+    public AdaptiveBatchController getBatchController() {
+        return batchController;
+    }
+
+    @Override
+    protected int getConcurrencyLimit() {
+        if (TimeSeriesEnabledSetting.isAdaptiveBatchingEnabled()) {
+            return batchController.getConcurrency();
+        }
+        return super.getConcurrencyLimit();
+    }
+
+    @Override
+    protected void onConcurrencyUpdate(int newConcurrency) {
+        batchController.setConfiguredConcurrency(newConcurrency);
     }
 
     /**
@@ -107,7 +137,8 @@ public abstract class BatchWorker<RequestType extends QueuedRequest, BatchReques
     @Override
     protected void execute(Runnable afterProcessCallback, Runnable emptyQueueCallback) {
 
-        List<RequestType> toProcess = getRequests(batchSize);
+        final boolean adaptive = TimeSeriesEnabledSetting.isAdaptiveBatchingEnabled();
+        List<RequestType> toProcess = getRequests(adaptive ? batchController.getBatchSize() : batchSize);
         LOG.debug("Executing batch request for [{}] requests", toProcess.size());
 
         // it is possible other concurrent threads have drained the queue
@@ -123,13 +154,16 @@ public abstract class BatchWorker<RequestType extends QueuedRequest, BatchReques
 
             BatchRequestType batchRequest = toBatchRequest(toProcess);
 
-            ThreadedActionListener<BatchResponseType> listener = new ThreadedActionListener<>(
+            ActionListener<BatchResponseType> listener = new ThreadedActionListener<>(
                 LOG,
                 threadPool,
                 threadPoolName,
                 getResponseListener(toProcess, batchRequest),
                 false
             );
+            if (adaptive) {
+                listener = observeLatency(listener, toProcess.size());
+            }
 
             final ActionListener<BatchResponseType> listenerWithRelease = ActionListener.runAfter(listener, afterProcessCallback);
             executeBatchRequest(batchRequest, ActionListener.runAfter(listenerWithRelease, () -> {
@@ -142,6 +176,47 @@ public abstract class BatchWorker<RequestType extends QueuedRequest, BatchReques
         }
     }
 
+    /**
+     * Feeds took time and rejections of a batch to the batch controller before handing the
+     * response to the worker's listener.
+     */
+    private ActionListener<BatchResponseType> observeLatency(ActionListener<BatchResponseType> listener, int requests) {
+        final long startMillis = clock.millis();
+        return new ActionListener<BatchResponseType>() {
+            @Override
+            public void onResponse(BatchResponseType response) {
+                long measuredMillis = clock.millis() - startMillis;
+                batchController.onBatchCompleted(requests, getTookMillis(response, measuredMillis), countRejected(response));
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                batchController.onBatchCompleted(requests, clock.millis() - startMillis, ExceptionUtil.isOverloaded(e) ? requests : 0);
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Subclasses override this when the response reports how long the batch took on the cluster side.
+     * @param response batch response, can be null
+     * @param measuredMillis time between sending the batch and receiving the response
+     * @return how long the batch took
+     */
+    protected long getTookMillis(BatchResponseType response, long measuredMillis) {
+        return measuredMillis;
+    }
+
+    /**
+     * Subclasses override this to count requests in a batch rejected because the cluster is overloaded.
+     * @param response batch response, can be null
+     * @return the number of rejected requests
+     */
+    protected int countRejected(BatchResponseType response) {
+        return 0;
+    }
+
     /**
      * Used by subclasses to creates customized logic to handle batch responses
      * or errors.
@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * A bounded FIFO queue of requests backed by a ring buffer.
+ *
+ * Compared to a LinkedBlockingQueue, enqueuing does not allocate a node per request,
+ * draining a batch takes the lock once, and we keep a count of queued requests per
+ * config id so that checking whether a config has queued requests is O(1) instead of
+ * a scan.
+ *
+ * Many threads enqueue while one or more worker threads drain (concurrent workers
+ * can drain the same queue), so a single lock guards the state. Critical sections are
+ * short array operations. Size is also kept in a volatile field so that maintenance can
+ * read it without taking the lock.
+ *
+ * When the queue is full, enqueuing evicts the oldest request. Like the rest of the
+ * rate limiting workers, we prefer fresh requests over old ones during a backlog.
+ *
+ * The slot array grows lazily up to the bound, so an idle config does not pay for
+ * the full capacity. {@link #ramBytesUsed()} reports the exact slot array footprint.
+ *
+ * @param <RequestType> queued request type
+ */
+public class BoundedRequestQueue<RequestType extends QueuedRequest> {
+    static final int INITIAL_CAPACITY = 16;
+    // HashMap node, boxed counter and table slot per indexed config id. Key strings are
+    // shared with the requests, so we don't count them.
+    static final long BYTES_PER_INDEXED_CONFIG = 64;
+    private static final long SHALLOW_BYTES = RamUsageEstimator.shallowSizeOfInstance(BoundedRequestQueue.class);
+
+    private final ReentrantLock lock;
+    private final int maxCapacity;
+    private Object[] items;
+    // index of the oldest request
+    private int head;
+    private volatile int size;
+    // config id -> number of queued requests of the config
+    private final Map<String, int[]> configCounts;
+
+    /**
+     * @param maxCapacity the maximum number of queued requests
+     */
+    public BoundedRequestQueue(int maxCapacity) {
+        this.lock = new ReentrantLock();
+        this.maxCapacity = Math.max(1, maxCapacity);
+        this.items = new Object[Math.min(INITIAL_CAPACITY, this.maxCapacity)];
+        this.head = 0;
+        this.size = 0;
+        this.configCounts = new HashMap<>();
+    }
+
+    /**
+     * Enqueue a request, evicting the oldest one if the queue is full.
+     * @param request request to enqueue
+     * @return the evicted request or null if nothing was evicted
+     */
+    public RequestType offer(RequestType request) {
+        lock.lock();
+        try {
+            RequestType evicted = null;
+            if (size == items.length) {
+                if (items.length < maxCapacity) {
+                    grow();
+                } else {
+                    evicted = removeFirst();
+                }
+            }
+            items[(head + size) % items.length] = request;
+            size++;
+            index(request.getConfigId(), 1);
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the oldest request or null if the queue is empty
+     */
+    public RequestType poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : removeFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to maxElements of the oldest requests to the collection under one lock acquisition.
+     * @param collection collection to add requests to
+     * @param maxElements the maximum number of requests to move
+     * @return the number of moved requests
+     */
+    public int drainTo(Collection<? super RequestType> collection, int maxElements) {
+        lock.lock();
+        try {
+            int n = Math.min(size, maxElements);
+            for (int i = 0; i < n; i++) {
+                collection.add(removeFirst());
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards up to numberToRemove of the oldest requests.
+     * @param numberToRemove the maximum number of requests to remove
+     * @return the number of removed requests
+     */
+    public int remove(int numberToRemove) {
+        lock.lock();
+        try {
+            int n = Math.min(size, numberToRemove);
+            for (int i = 0; i < n; i++) {
+                removeFirst();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards requests from the head of the queue whose expiration is before the given time.
+     * @param nowMillis current epoch milliseconds
+     * @return the number of removed requests
+     */
+    public int removeExpired(long nowMillis) {
+        lock.lock();
+        try {
+            int removed = 0;
+            while (size > 0 && peekFirst().getExpirationEpochMs() < nowMillis) {
+                removeFirst();
+                removed++;
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean hasConfigId(String configId) {
+        lock.lock();
+        try {
+            return configCounts.containsKey(configId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return memory the queue itself occupies on top of the queued requests
+     */
+    public long ramBytesUsed() {
+        lock.lock();
+        try {
+            return SHALLOW_BYTES + RamUsageEstimator.shallowSizeOf(items) + configCounts.size() * BYTES_PER_INDEXED_CONFIG;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int capacity() {
+        lock.lock();
+        try {
+            return items.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RequestType peekFirst() {
+        return (RequestType) items[head];
+    }
+
+    private RequestType removeFirst() {
+        RequestType request = peekFirst();
+        items[head] = null;
+        head = (head + 1) % items.length;
+        size--;
+        index(request.getConfigId(), -1);
+        return request;
+    }
+
+    private void index(String configId, int delta) {
+        if (configId == null) {
+            return;
+        }
+        int[] count = configCounts.get(configId);
+        if (count == null) {
+            count = new int[1];
+            configCounts.put(configId, count);
+        }
+        count[0] += delta;
+        if (count[0] <= 0) {
+            configCounts.remove(configId);
+        }
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(maxCapacity, items.length * 2L);
+        Object[] newItems = new Object[capacity];
+        for (int i = 0; i < size; i++) {
+            newItems[i] = items[(head + i) % items.length];
+        }
+        items = newItems;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "BoundedRequestQueue[size=" + size + ", capacity=" + items.length + ", configs=" + configCounts.keySet() + "]";
+        } finally {
+            lock.unlock();
+        }
+    }
+}
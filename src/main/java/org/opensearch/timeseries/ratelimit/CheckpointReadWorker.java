@@ -14,6 +14,7 @@ package org.opensearch.timeseries.ratelimit;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,6 +26,8 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetItemResponse;
 import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
@@ -146,22 +149,44 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
      * Convert the input list of FeatureRequest to a multi-get request.
      * RateLimitedRequestWorker.getRequests has already limited the number of
      * requests in the input list. So toBatchRequest method can take the input
-     * and send the multi-get directly.
+     * and send the multi-get directly. We read checkpoints of models kept in
+     * memory by the cache too, as another node may have saved a newer one. For
+     * those models, we only need the checkpoint time and samples, so the model
+     * fields are left out of the read.
      * @return The converted multi-get request
      */
     @Override
     protected MultiGetRequest toBatchRequest(List<FeatureRequest> toProcess) {
         MultiGetRequest multiGetRequest = new MultiGetRequest();
+        TimeSeriesCache<RCFModelType> cache = cacheProvider.get();
         for (FeatureRequest request : toProcess) {
             String modelId = request.getModelId();
             if (null == modelId) {
                 continue;
             }
-            multiGetRequest.add(new MultiGetRequest.Item(checkpointIndexName, modelId));
+            MultiGetRequest.Item item = new MultiGetRequest.Item(checkpointIndexName, modelId);
+            if (cache.hasInactiveModel(modelId)) {
+                item.fetchSourceContext(CheckpointDao.TIME_AND_SAMPLES_SOURCE);
+            }
+            multiGetRequest.add(item);
         }
         return multiGetRequest;
     }
 
+    @Override
+    protected int countRejected(MultiGetResponse response) {
+        if (response == null) {
+            return 0;
+        }
+        int rejected = 0;
+        for (MultiGetItemResponse itemResponse : response.getResponses()) {
+            if (itemResponse.isFailed() && ExceptionUtil.isOverloaded(itemResponse.getFailure().getFailure())) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
     @Override
     protected ActionListener<MultiGetResponse> getResponseListener(List<FeatureRequest> toProcess, MultiGetRequest batchRequest) {
         return ActionListener.wrap(response -> {
@@ -256,7 +281,14 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
                 // don't need to proceed further since no checkpoint is available
                 return;
             }
-            processCheckpointIteration(0, toProcess, successfulRequests, retryableRequests);
+
+            Set<String> sourceLimitedModels = new HashSet<>();
+            for (MultiGetRequest.Item item : batchRequest.getItems()) {
+                if (item.fetchSourceContext() != null) {
+                    sourceLimitedModels.add(item.id());
+                }
+            }
+            processCheckpointIteration(0, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
         }, exception -> {
             LOG.warn("Exception while processing checkpoints", exception);
             if (ExceptionUtil.isOverloaded(exception)) {
@@ -275,7 +307,8 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
         int i,
         List<FeatureRequest> toProcess,
         Map<String, MultiGetItemResponse> successfulRequests,
-        Set<String> retryableRequests
+        Set<String> retryableRequests,
+        Set<String> sourceLimitedModels
     ) {
         if (i >= toProcess.size()) {
             return;
@@ -298,32 +331,54 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
 
             if (checkpointResponse != null) {
                 // successful requests
-                ModelState<RCFModelType> modelState = checkpointDao
-                    .processHCGetResponse(checkpointResponse.getResponse(), modelId, configId);
-
-                if (null == modelState) {
-                    // checkpoint is not available (e.g., too big or corrupted); cold start again
-                    // a long history can cause some entity not being able to initialized in time.
-                    coldStartWorker.put(origRequest);
-                    return;
-                }
-
-                nodeStateManager
-                    .getConfig(
+                GetResponse response = checkpointResponse.getResponse();
+                Optional<ModelState<RCFModelType>> inflated = inflateInactiveModel(response, modelId);
+                if (inflated.isPresent()) {
+                    processRestoredModel(
+                        origRequest,
+                        i,
                         configId,
-                        context,
-                        true,
-                        processIterationUsingConfig(
+                        toProcess,
+                        successfulRequests,
+                        retryableRequests,
+                        sourceLimitedModels,
+                        inflated.get()
+                    );
+                } else if (sourceLimitedModels.contains(modelId)) {
+                    // the model fields were left out of the read as we expected to restore the model from memory.
+                    // Read the full checkpoint to deserialize it.
+                    checkpointDao.read(new GetRequest(checkpointIndexName, modelId), ActionListener.wrap(fullResponse -> {
+                        ModelState<RCFModelType> modelState = checkpointDao.processHCGetResponse(fullResponse, modelId, configId);
+                        processRestoredModel(
                             origRequest,
                             i,
                             configId,
                             toProcess,
                             successfulRequests,
                             retryableRequests,
-                            modelState,
-                            modelId
-                        )
+                            sourceLimitedModels,
+                            modelState
+                        );
+                    }, exception -> {
+                        LOG.error("Fail to read checkpoint of " + modelId, exception);
+                        if (ExceptionUtil.isRetryAble(exception)) {
+                            super.put(origRequest);
+                        }
+                        processCheckpointIteration(i + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
+                    }));
+                } else {
+                    ModelState<RCFModelType> modelState = checkpointDao.processHCGetResponse(response, modelId, configId);
+                    processRestoredModel(
+                        origRequest,
+                        i,
+                        configId,
+                        toProcess,
+                        successfulRequests,
+                        retryableRequests,
+                        sourceLimitedModels,
+                        modelState
                     );
+                }
                 processNextInCallBack = true;
             } else if (retryableRequests != null && retryableRequests.contains(modelId)) {
                 // failed requests
@@ -331,11 +386,67 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
             }
         } finally {
             if (false == processNextInCallBack) {
-                processCheckpointIteration(i + 1, toProcess, successfulRequests, retryableRequests);
+                processCheckpointIteration(i + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
             }
         }
     }
 
+    /**
+     * Restore a model state from the model kept in memory by the cache if it is at least as new
+     * as the checkpoint.
+     * @param response checkpoint get response
+     * @param modelId Model Id
+     * @return the model state or empty if the cache keeps no model as new as the checkpoint
+     */
+    private Optional<ModelState<RCFModelType>> inflateInactiveModel(GetResponse response, String modelId) {
+        TimeSeriesCache<RCFModelType> cache = cacheProvider.get();
+        if (false == cache.hasInactiveModel(modelId)) {
+            return Optional.empty();
+        }
+        Optional<Map.Entry<Instant, Deque<Sample>>> checkpoint = checkpointDao.processHCGetResponseTimeAndSamples(response, modelId);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+        return cache.inflateInactiveModel(modelId, checkpoint.get().getKey(), checkpoint.get().getValue());
+    }
+
+    private void processRestoredModel(
+        FeatureRequest origRequest,
+        int i,
+        String configId,
+        List<FeatureRequest> toProcess,
+        Map<String, MultiGetItemResponse> successfulRequests,
+        Set<String> retryableRequests,
+        Set<String> sourceLimitedModels,
+        ModelState<RCFModelType> modelState
+    ) {
+        if (null == modelState) {
+            // checkpoint is not available (e.g., too big or corrupted); cold start again
+            // a long history can cause some entity not being able to initialized in time.
+            coldStartWorker.put(origRequest);
+            processCheckpointIteration(i + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
+            return;
+        }
+
+        nodeStateManager
+            .getConfig(
+                configId,
+                context,
+                true,
+                processIterationUsingConfig(
+                    origRequest,
+                    i,
+                    configId,
+                    toProcess,
+                    successfulRequests,
+                    retryableRequests,
+                    sourceLimitedModels,
+                    modelState,
+                    origRequest.getModelId()
+                )
+            );
+    }
+
     protected ActionListener<Optional<? extends Config>> processIterationUsingConfig(
         FeatureRequest origRequest,
         int index,
@@ -343,13 +454,14 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
         List<FeatureRequest> toProcess,
         Map<String, MultiGetItemResponse> successfulRequests,
         Set<String> retryableRequests,
+        Set<String> sourceLimitedModels,
         ModelState<RCFModelType> restoredModelState,
         String modelId
     ) {
         return ActionListenerExecutor.wrap(configOptional -> {
             if (configOptional.isEmpty()) {
                 LOG.warn(new ParameterizedMessage("Config [{}] is not available.", configId));
-                processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests);
+                processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
                 return;
             }
 
@@ -383,17 +495,17 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
                             }
                         }
 
-                        processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests);
+                        processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
                     }, e -> {
                         LOG.error("Failed to process checkpoint for model " + modelId, e);
                         nodeStateManager.setException(configId, e);
-                        processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests);
+                        processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
                     })
                 );
         }, exception -> {
             LOG.error(new ParameterizedMessage("fail to get checkpoint [{}]", modelId, exception));
             nodeStateManager.setException(configId, exception);
-            processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests);
+            processCheckpointIteration(index + 1, toProcess, successfulRequests, retryableRequests, sourceLimitedModels);
         }, threadPool.executor(threadPoolName));
     }
 }
@@ -25,6 +25,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
@@ -112,6 +113,25 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
         return bulkRequest;
     }
 
+    @Override
+    protected long getTookMillis(BulkResponse response, long measuredMillis) {
+        return response == null || response.getTook() == null ? measuredMillis : response.getTook().millis();
+    }
+
+    @Override
+    protected int countRejected(BulkResponse response) {
+        if (response == null || false == response.hasFailures()) {
+            return 0;
+        }
+        int rejected = 0;
+        for (BulkItemResponse r : response.getItems()) {
+            if (r.isFailed() && r.status() == RestStatus.TOO_MANY_REQUESTS) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
     @Override
     protected ActionListener<BulkResponse> getResponseListener(List<CheckpointWriteRequest> toProcess, BulkRequest batchRequest) {
         return ActionListener.wrap(response -> {
@@ -14,15 +14,20 @@ package org.opensearch.timeseries.ratelimit;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
@@ -47,6 +52,8 @@ import org.opensearch.timeseries.model.IndexableResult;
 import org.opensearch.timeseries.model.TaskState;
 import org.opensearch.timeseries.model.TaskType;
 import org.opensearch.timeseries.model.TimeSeriesTask;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
 import org.opensearch.timeseries.util.ExceptionUtil;
@@ -122,6 +129,73 @@ public abstract class ColdStartWorker<RCFModelType extends ThresholdedRandomCutF
         this.checkpointWriteWorker = checkpointWriteWorker;
     }
 
+    /**
+     * If batched cold start is enabled, drain up to {@link TimeSeriesSettings#COLD_START_BATCH_SIZE}
+     * requests from the selected queue and let the cold starter fetch the training data of each
+     * config's entities together. Otherwise, execute one request at a time.
+     */
+    @Override
+    protected void execute(Runnable afterProcessCallback, Runnable emptyQueueCallback) {
+        if (false == TimeSeriesEnabledSetting.isBatchedColdStartEnabled()) {
+            super.execute(afterProcessCallback, emptyQueueCallback);
+            return;
+        }
+
+        Optional<RequestQueue> queueOptional = selectNextQueue();
+        if (false == queueOptional.isPresent()) {
+            // no queue has requests
+            emptyQueueCallback.run();
+            return;
+        }
+
+        List<FeatureRequest> requests = new ArrayList<>();
+        queueOptional.get().drainTo(requests, TimeSeriesSettings.COLD_START_BATCH_SIZE);
+        if (requests.isEmpty()) {
+            emptyQueueCallback.run();
+            return;
+        }
+
+        // medium priority queues hold requests of one config, while high and low priority queues can mix configs
+        Map<String, List<FeatureRequest>> requestsByConfig = new LinkedHashMap<>();
+        for (FeatureRequest request : requests) {
+            requestsByConfig.computeIfAbsent(request.getConfigId(), k -> new ArrayList<>()).add(request);
+        }
+        requestsByConfig.keySet().stream().filter(Objects::nonNull).forEach(inflightConfigs::add);
+
+        final ActionListener<Void> handlerWithRelease = ActionListener
+            .runAfter(
+                ActionListener.wrap(afterProcessCallback),
+                () -> requestsByConfig.keySet().stream().filter(Objects::nonNull).forEach(inflightConfigs::remove)
+            );
+        final GroupedActionListener<Void> batchListener = new GroupedActionListener<>(
+            ActionListener.wrap(r -> handlerWithRelease.onResponse(null), handlerWithRelease::onFailure),
+            requests.size()
+        );
+
+        for (Map.Entry<String, List<FeatureRequest>> configRequests : requestsByConfig.entrySet()) {
+            String configId = configRequests.getKey();
+            List<FeatureRequest> coldStartRequests = new ArrayList<>();
+            List<ModelState<RCFModelType>> modelStates = new ArrayList<>();
+            List<ActionListener<List<IndexableResultType>>> coldStartListeners = new ArrayList<>();
+            for (FeatureRequest coldStartRequest : configRequests.getValue()) {
+                String modelId = coldStartRequest.getModelId();
+                if (null == configId || null == modelId) {
+                    String error = String.format(Locale.ROOT, "Fail to get model id for request %s", coldStartRequest);
+                    LOG.warn(error);
+                    batchListener.onFailure(new RuntimeException(error));
+                    continue;
+                }
+                ModelState<RCFModelType> modelState = createEmptyState(coldStartRequest, modelId, configId);
+                coldStartRequests.add(coldStartRequest);
+                modelStates.add(modelState);
+                coldStartListeners.add(createColdStartListener(coldStartRequest, modelState, batchListener));
+            }
+            if (false == coldStartRequests.isEmpty()) {
+                coldStarter.trainModels(configId, coldStartRequests, modelStates, coldStartListeners);
+            }
+        }
+    }
+
     @Override
     protected void executeRequest(FeatureRequest coldStartRequest, ActionListener<Void> listener) {
         String configId = coldStartRequest.getConfigId();
@@ -135,7 +209,26 @@ public abstract class ColdStartWorker<RCFModelType extends ThresholdedRandomCutF
         }
         ModelState<RCFModelType> modelState = createEmptyState(coldStartRequest, modelId, configId);
 
-        ActionListener<List<IndexableResultType>> coldStartListener = ActionListener.wrap(r -> {
+        coldStarter.trainModel(coldStartRequest, configId, modelState, createColdStartListener(coldStartRequest, modelState, listener));
+    }
+
+    /**
+     * Create the listener that scores the current feature, saves results, and hosts the model
+     * after cold start finishes.
+     * @param coldStartRequest cold start request
+     * @param modelState model state to train
+     * @param listener listener notified after everything finishes
+     * @return the cold start listener
+     */
+    private ActionListener<List<IndexableResultType>> createColdStartListener(
+        FeatureRequest coldStartRequest,
+        ModelState<RCFModelType> modelState,
+        ActionListener<Void> listener
+    ) {
+        String configId = coldStartRequest.getConfigId();
+        String modelId = modelState.getModelId();
+
+        return ActionListener.wrap(r -> {
             // task id equals to null means it is real time and we want to cache
             nodeStateManager.getConfig(configId, context, coldStartRequest.getTaskId() == null, ActionListener.wrap(configOptional -> {
                 try {
@@ -216,8 +309,6 @@ public abstract class ColdStartWorker<RCFModelType extends ThresholdedRandomCutF
                 listener.onFailure(e);
             }
         });
-
-        coldStarter.trainModel(coldStartRequest, configId, modelState, coldStartListener);
     }
 
     protected abstract ModelState<RCFModelType> createEmptyState(FeatureRequest coldStartRequest, String modelId, String configId);
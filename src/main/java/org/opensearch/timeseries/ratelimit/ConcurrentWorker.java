@@ -38,6 +38,7 @@ public abstract class ConcurrentWorker<RequestType extends QueuedRequest> extend
     private static final Logger LOG = LogManager.getLogger(ConcurrentWorker.class);
 
     private Semaphore permits;
+    private volatile int concurrency;
 
     private Instant lastExecuteTime;
     private Duration executionTtl;
@@ -110,8 +111,13 @@ public abstract class ConcurrentWorker<RequestType extends QueuedRequest> extend
             context
         );
 
-        this.permits = new Semaphore(concurrencySetting.get(settings));
-        clusterService.getClusterSettings().addSettingsUpdateConsumer(concurrencySetting, it -> permits = new Semaphore(it));
+        this.concurrency = concurrencySetting.get(settings);
+        this.permits = new Semaphore(concurrency);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(concurrencySetting, it -> {
+            concurrency = it;
+            permits = new Semaphore(it);
+            onConcurrencyUpdate(it);
+        });
 
         this.lastExecuteTime = clock.instant();
         this.executionTtl = executionTtl;
@@ -141,6 +147,11 @@ public abstract class ConcurrentWorker<RequestType extends QueuedRequest> extend
             // If restarted, the detector/forecaster won't actual until the previous process() finishes
             // and release the semaphore. Since real-time will retry in each interval. This is fine.
             if (permits.tryAcquire()) {
+                // permits track the configured concurrency. Subclasses may run fewer executions at a time.
+                if (concurrency - permits.availablePermits() > getConcurrencyLimit()) {
+                    permits.release();
+                    return;
+                }
                 try {
                     lastExecuteTime = clock.instant();
                     execute(() -> {
@@ -156,6 +167,21 @@ public abstract class ConcurrentWorker<RequestType extends QueuedRequest> extend
         });
     }
 
+    /**
+     * Executions in flight when a new one would start beyond this limit skip starting it. The
+     * finishing executions keep processing the queue.
+     * @return the maximum number of concurrent executions, the configured concurrency by default
+     */
+    protected int getConcurrencyLimit() {
+        return concurrency;
+    }
+
+    /**
+     * Called after the concurrency setting changes.
+     * @param newConcurrency new configured concurrency
+     */
+    protected void onConcurrencyUpdate(int newConcurrency) {}
+
     /**
      * Execute requests in toProcess.  The implementation needs to call cleanUp after done.
      * The 1st callback is executed after processing one request. So we keep looking for
@@ -46,6 +46,7 @@ import org.opensearch.timeseries.MaintenanceState;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 
 /**
  * HCAD can bombard Opensearch with “thundering herd” traffic, in which many entities
@@ -76,13 +77,21 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
          * to synchronize the access as this could penalize performance.
          */
         private Instant lastAccessTime;
-        // data structure to hold requests. Cannot be reassigned. This is to
-        // guarantee a RequestQueue's content cannot be null.
+        // data structure to hold requests. Cannot be reassigned. Exactly one of
+        // content and boundedContent is non-null, chosen when the RequestQueue is created.
         private final BlockingQueue<RequestType> content;
+        private final BoundedRequestQueue<RequestType> boundedContent;
 
         RequestQueue() {
             this.lastAccessTime = clock.instant();
-            this.content = new LinkedBlockingQueue<RequestType>();
+            if (TimeSeriesEnabledSetting.isBoundedRequestQueueEnabled()) {
+                // a single RequestQueue never needs to hold more than the whole worker's budget
+                this.content = null;
+                this.boundedContent = new BoundedRequestQueue<>(queueSize);
+            } else {
+                this.content = new LinkedBlockingQueue<RequestType>();
+                this.boundedContent = null;
+            }
         }
 
         @Override
@@ -91,15 +100,44 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         }
 
         public void put(RequestType request) throws InterruptedException {
-            this.content.put(request);
+            if (boundedContent != null) {
+                RequestType evicted = boundedContent.offer(request);
+                if (evicted != null) {
+                    LOG.debug("Queue full, evicted request [{}]", evicted);
+                }
+            } else {
+                this.content.put(request);
+            }
         }
 
         public int size() {
-            return this.content.size();
+            return boundedContent != null ? boundedContent.size() : this.content.size();
         }
 
         public boolean isEmpty() {
-            return content.size() == 0;
+            return size() == 0;
+        }
+
+        public RequestType poll() {
+            return boundedContent != null ? boundedContent.poll() : content.poll();
+        }
+
+        /**
+         * Move requests to the given list
+         * @param requests list to add requests to
+         * @param maxElements the maximum number of requests to move
+         * @return the number of moved requests
+         */
+        public int drainTo(List<RequestType> requests, int maxElements) {
+            return boundedContent != null ? boundedContent.drainTo(requests, maxElements) : content.drainTo(requests, maxElements);
+        }
+
+        /**
+         * @return memory used by the queue on top of the requests. Only bounded queues
+         * account for it. Linked queues are covered by the per-request size estimate.
+         */
+        public long ramBytesUsed() {
+            return boundedContent != null ? boundedContent.ramBytesUsed() : 0;
         }
 
         /**
@@ -108,6 +146,10 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
          * @return removed requests
          */
         public int drain(int numberToRemove) {
+            if (boundedContent != null) {
+                // consistent with the loop below, which removes one more than asked
+                return boundedContent.remove(numberToRemove + 1);
+            }
             int removed = 0;
             while (removed <= numberToRemove) {
                 if (content.poll() != null) {
@@ -148,6 +190,9 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
          * @return the number of removed requests
          */
         public int clearExpiredRequests() {
+            if (boundedContent != null) {
+                return boundedContent.removeExpired(clock.millis());
+            }
             int removed = 0;
             RequestType head = content.peek();
             while (head != null && head.getExpirationEpochMs() < clock.millis()) {
@@ -159,6 +204,9 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         }
 
         public boolean hasConfigId(String configId) {
+            if (boundedContent != null) {
+                return boundedContent.hasConfigId(configId);
+            }
             for (RequestType request : content) {
                 if (configId.equals(request.getConfigId())) {
                     return true;
@@ -271,7 +319,7 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
      * the next batches of messages in the round-robin schedule.
      * @return next queue to fetch requests
      */
-    protected Optional<BlockingQueue<RequestType>> selectNextQueue() {
+    protected Optional<RequestQueue> selectNextQueue() {
         if (true == requestQueues.isEmpty()) {
             return Optional.empty();
         }
@@ -300,7 +348,7 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
 
                 LOG.debug("Is queue empty: [{}] for queue id [{}]", requestQueue.isEmpty(), startId);
                 if (false == requestQueue.isEmpty()) {
-                    return Optional.of(requestQueue.content);
+                    return Optional.of(requestQueue);
                 }
             }
 
@@ -309,7 +357,7 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
             if (requestQueue != null) {
                 requestQueue.clearExpiredRequests();
                 if (false == requestQueue.isEmpty()) {
-                    return Optional.of(requestQueue.content);
+                    return Optional.of(requestQueue);
                 }
             }
             // if we haven't find a non-empty queue , return empty.
@@ -462,14 +510,19 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
     private int exceededSize() {
         Collection<RequestQueue> queues = requestQueues.values();
         int totalSize = 0;
+        long queueBytes = 0;
 
         // When faced with a backlog beyond the limit, we prefer fresh requests
         // and throws away old requests.
         // release space so that put won't block
         for (RequestQueue q : queues) {
             totalSize += q.size();
+            queueBytes += q.ramBytesUsed();
         }
-        return totalSize - queueSize;
+        // memory held by the queues themselves takes up room of that many requests
+        // in the maxHeapPercentForQueue budget
+        long queueOverhead = (queueBytes + singleRequestSize - 1) / singleRequestSize;
+        return (int) Math.min(Integer.MAX_VALUE, totalSize + queueOverhead - queueSize);
     }
 
     public boolean isQueueEmpty() {
@@ -507,28 +560,26 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         LOG.debug("Getting requests for [{}] requests", batchSize);
         List<RequestType> toProcess = new ArrayList<>(batchSize);
 
-        Set<BlockingQueue<RequestType>> selectedQueue = new HashSet<>();
+        Set<RequestQueue> selectedQueue = new HashSet<>();
 
         while (toProcess.size() < batchSize) {
-            Optional<BlockingQueue<RequestType>> queue = selectNextQueue();
+            Optional<RequestQueue> queue = selectNextQueue();
             LOG.debug("Selected queue [{}]", queue.isPresent() ? queue.get() : "No queue");
             if (false == queue.isPresent()) {
                 // no queue has requests
                 break;
             }
 
-            BlockingQueue<RequestType> nextToProcess = queue.get();
+            RequestQueue nextToProcess = queue.get();
             if (selectedQueue.contains(nextToProcess)) {
                 // we have gone around all of the queues
                 break;
             }
             selectedQueue.add(nextToProcess);
 
-            List<RequestType> requests = new ArrayList<>();
             // concurrent requests will wait to prevent concurrent draining.
             // This is fine since the operation is fast
-            nextToProcess.drainTo(requests, batchSize);
-            toProcess.addAll(requests);
+            nextToProcess.drainTo(toProcess, batchSize);
         }
 
         return toProcess;
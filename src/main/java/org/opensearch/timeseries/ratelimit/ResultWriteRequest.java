@@ -11,15 +11,36 @@
 
 package org.opensearch.timeseries.ratelimit;
 
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+
 import java.io.IOException;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.timeseries.model.IndexableResult;
+import org.opensearch.timeseries.util.RestHandlerUtils;
 
 public abstract class ResultWriteRequest<ResultType extends IndexableResult> extends QueuedRequest implements Writeable {
+    private static final Logger LOG = LogManager.getLogger(ResultWriteRequest.class);
+
+    /**
+     * Nodes on or after this version can exchange a result as its encoded document instead of
+     * the result object. The receiver indexes the bytes as they are and never materializes the result.
+     */
+    public static final Version RESULT_SOURCE_VERSION = Version.fromString("3.3.0");
+
+    // null once the result is encoded, so that a queued request doesn't hold both the result and its document
     private final ResultType result;
+    // JSON document of the result encoded where the result is created. Null if the result is encoded when indexed.
+    private final BytesReference resultSource;
+    private final boolean highPriority;
     // If resultIndex is null, result will be stored in default result index.
     private final String resultIndex;
     private final String flattenResultIndex;
@@ -31,30 +52,105 @@ public abstract class ResultWriteRequest<ResultType extends IndexableResult> ext
         ResultType result,
         String resultIndex,
         String flattenResultIndex
+    ) {
+        this(expirationEpochMs, configId, priority, result, resultIndex, flattenResultIndex, false);
+    }
+
+    /**
+     * @param expirationEpochMs expiration time in epoch milliseconds
+     * @param configId config Id
+     * @param priority request priority
+     * @param result result to index
+     * @param resultIndex custom result index or alias. Null for the default result index.
+     * @param flattenResultIndex flattened result index alias. Null if results are not flattened.
+     * @param encodeResult whether to encode the result document now so that neither transport
+     *  nor the bulk request serializes the result object again. The request keeps only the document
+     *  unless encoding fails.
+     */
+    public ResultWriteRequest(
+        long expirationEpochMs,
+        String configId,
+        RequestPriority priority,
+        ResultType result,
+        String resultIndex,
+        String flattenResultIndex,
+        boolean encodeResult
     ) {
         super(expirationEpochMs, configId, priority);
-        this.result = result;
+        this.resultSource = encodeResult ? encode(result) : null;
+        this.result = resultSource == null ? result : null;
+        this.highPriority = result.isHighPriority();
         this.resultIndex = resultIndex;
         this.flattenResultIndex = flattenResultIndex;
     }
 
     public ResultWriteRequest(StreamInput in, Reader<ResultType> resultReader) throws IOException {
-        this.result = resultReader.read(in);
+        if (in.getVersion().onOrAfter(RESULT_SOURCE_VERSION) && in.readBoolean()) {
+            this.result = null;
+            this.resultSource = in.readBytesReference();
+            this.highPriority = in.readBoolean();
+        } else {
+            this.result = resultReader.read(in);
+            this.resultSource = null;
+            this.highPriority = result.isHighPriority();
+        }
         this.resultIndex = in.readOptionalString();
         this.flattenResultIndex = in.readOptionalString();
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
-        result.writeTo(out);
+        if (out.getVersion().onOrAfter(RESULT_SOURCE_VERSION)) {
+            out.writeBoolean(resultSource != null);
+            if (resultSource != null) {
+                out.writeBytesReference(resultSource);
+                out.writeBoolean(highPriority);
+            } else {
+                result.writeTo(out);
+            }
+        } else if (result != null) {
+            result.writeTo(out);
+        } else {
+            // write requests are executed on the node that creates them. Encoded requests aren't sent to older nodes.
+            throw new IllegalStateException("Cannot send an encoded result to a node before " + RESULT_SOURCE_VERSION);
+        }
         out.writeOptionalString(resultIndex);
         out.writeOptionalString(flattenResultIndex);
     }
 
+    /**
+     * @param result result to encode
+     * @return JSON document of the result, or null if encoding fails, in which case the result is encoded when indexed
+     */
+    private static BytesReference encode(IndexableResult result) {
+        try (XContentBuilder builder = jsonBuilder()) {
+            return BytesReference.bytes(result.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE));
+        } catch (IOException e) {
+            LOG.error(new ParameterizedMessage("Failed to encode result of [{}]", result.getConfigId()), e);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @return the result, or null if the request carries the encoded document instead
+     */
     public ResultType getResult() {
         return result;
     }
 
+    /**
+     *
+     * @return JSON document of the result, or null if the result is encoded when indexed
+     */
+    public BytesReference getResultSource() {
+        return resultSource;
+    }
+
+    public boolean isHighPriority() {
+        return highPriority;
+    }
+
     public String getResultIndex() {
         return resultIndex;
     }
@@ -111,6 +111,18 @@ public abstract class ResultWriteWorker<ResultType extends IndexableResult, Resu
         resultHandler.flush(request, listener);
     }
 
+    /**
+     * Result bulk responses only carry the requests to retry, i.e., those failing with a retryable
+     * status such as 429 from rejected bulk shard requests.
+     */
+    @Override
+    protected int countRejected(ResultBulkResponse response) {
+        if (response == null || false == response.getRetryRequests().isPresent()) {
+            return 0;
+        }
+        return response.getRetryRequests().get().size();
+    }
+
     @Override
     protected ActionListener<ResultBulkResponse> getResponseListener(List<ResultWriteRequestType> toProcess, BatchRequestType bulkRequest) {
         return ActionListener.wrap(adResultBulkResponse -> {
@@ -40,4 +40,9 @@ public interface SaveResultStrategy<IndexableResultType extends IndexableResult,
         Optional<Entity> entity,
         String taskId
     );
+
+    /**
+     * Writes results held back for longer than their model's activity warrants. Called by the hourly maintenance.
+     */
+    void maintenance();
 }
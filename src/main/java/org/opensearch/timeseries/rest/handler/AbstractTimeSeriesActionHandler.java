@@ -34,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetFieldMappingsAction;
 import org.opensearch.action.admin.indices.mapping.get.GetFieldMappingsRequest;
@@ -73,6 +74,7 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.timeseries.AnalysisType;
+import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.common.exception.ValidationException;
 import org.opensearch.timeseries.constant.CommonMessages;
@@ -1086,6 +1088,10 @@ public abstract class AbstractTimeSeriesActionHandler<T extends ActionResponse,
                     return;
                 }
 
+                if (indexResponse.getResult() == DocWriteResponse.Result.UPDATED) {
+                    // drop the definition nodes cached before the update
+                    NodeStateManager.broadcastConfigInvalidation(client, indexResponse.getId(), indexResponse.getSeqNo());
+                }
                 listener.onResponse(createIndexConfigResponse(indexResponse, copiedConfig));
 
             }
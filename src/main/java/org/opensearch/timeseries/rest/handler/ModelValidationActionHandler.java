@@ -21,9 +21,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
@@ -45,12 +48,15 @@ import org.opensearch.timeseries.model.MergeableList;
 import org.opensearch.timeseries.model.TimeConfiguration;
 import org.opensearch.timeseries.model.ValidationAspect;
 import org.opensearch.timeseries.model.ValidationIssueType;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.transport.ValidateConfigResponse;
 import org.opensearch.timeseries.util.MultiResponsesDelegateActionListener;
 import org.opensearch.timeseries.util.SecurityClientUtil;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+
 /**
  * <p>This class executes all validation checks that are not blocking on the 'model' level.
  * This mostly involves checking if the data is generally dense enough to complete model training
@@ -58,8 +64,15 @@ import org.opensearch.transport.client.Client;
  * <p>Initially different bucket aggregations are executed with with every configuration applied and with
  * different varying intervals in order to find the best interval for the data. If no interval is found with all
  * configuration applied then each configuration is tested sequentially for sparsity</p>
+ * <p>When validation multi-search is enabled, sparsity searches that do not depend on each other are sent
+ * together and their results are evaluated in the sequential order, so the first blocking issue is still the
+ * one reported.</p>
  */
 public class ModelValidationActionHandler {
+    static final String RAW_DATA_CHECK = "raw_data";
+    static final String FILTER_QUERY_CHECK = "filter_query";
+    static final String CATEGORY_FIELD_CHECK = "category_field";
+    static final String FEATURE_CHECK_PREFIX = "feature_";
 
     protected final Config config;
     protected final ClusterService clusterService;
@@ -198,13 +211,18 @@ public class ModelValidationActionHandler {
             );
     }
 
-    private void processIntervalRecommendation(IntervalTimeConfiguration interval, long latestTime, Map<String, Object> topEntity)
+    @VisibleForTesting
+    void processIntervalRecommendation(IntervalTimeConfiguration interval, long latestTime, Map<String, Object> topEntity)
         throws IOException {
         // if interval suggestion is null that means no interval could be found with all the configurations
         // applied, our next step then is to check density just with the raw data and then add each configuration
         // one at a time to try and find root cause of low density
         if (interval == null) {
-            checkRawDataSparsity(latestTime);
+            if (TimeSeriesEnabledSetting.isValidationMultiSearchEnabled()) {
+                planSparsityChecks(latestTime);
+            } else {
+                checkRawDataSparsity(latestTime);
+            }
         } else {
             if (((IntervalTimeConfiguration) config.getInterval()).gte(interval)) {
                 logger.info("Using the current interval as there is enough dense data ");
@@ -235,10 +253,14 @@ public class ModelValidationActionHandler {
         return aggregationPrep.getHistogramAggregation((int) intervalInMinutes, timeRangeToSearchForConfiguredInterval);
     }
 
-    private void checkRawDataSparsity(long latestTime) {
+    private SearchRequest getRawDataSearchRequest(long latestTime) {
         AggregationBuilder aggregation = getHistogramAggregation(latestTime);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().aggregation(aggregation).size(0).timeout(requestTimeout);
-        SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+    }
+
+    private void checkRawDataSparsity(long latestTime) {
+        SearchRequest searchRequest = getRawDataSearchRequest(latestTime);
         final ActionListener<SearchResponse> searchResponseListener = ActionListener
             .wrap(response -> processRawDataResults(response, latestTime), listener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
@@ -265,11 +287,15 @@ public class ModelValidationActionHandler {
         }
     }
 
-    private void checkDataFilterSparsity(long latestTime) {
+    private SearchRequest getDataFilterSearchRequest(long latestTime) {
         AggregationBuilder aggregation = getHistogramAggregation(latestTime);
         BoolQueryBuilder query = QueryBuilders.boolQuery().filter(config.getFilterQuery());
         SearchSourceBuilder searchSourceBuilder = aggregationPrep.getSearchSourceBuilder(query, aggregation);
-        SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+    }
+
+    private void checkDataFilterSparsity(long latestTime) {
+        SearchRequest searchRequest = getDataFilterSearchRequest(latestTime);
         final ActionListener<SearchResponse> searchResponseListener = ActionListener
             .wrap(response -> processDataFilterResults(response, latestTime), listener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
@@ -320,14 +346,18 @@ public class ModelValidationActionHandler {
         latestTimeRetriever.getTopEntity(getTopEntityListener, latestTime);
     }
 
-    private void checkCategoryFieldSparsity(Map<String, Object> topEntity, long latestTime) {
+    private SearchRequest getCategoryFieldSearchRequest(Map<String, Object> topEntity, long latestTime) {
         BoolQueryBuilder query = QueryBuilders.boolQuery().filter(config.getFilterQuery());
         for (Map.Entry<String, Object> entry : topEntity.entrySet()) {
             query.filter(QueryBuilders.termQuery(entry.getKey(), entry.getValue()));
         }
         AggregationBuilder aggregation = getHistogramAggregation(latestTime);
         SearchSourceBuilder searchSourceBuilder = aggregationPrep.getSearchSourceBuilder(query, aggregation);
-        SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+    }
+
+    private void checkCategoryFieldSparsity(Map<String, Object> topEntity, long latestTime) {
+        SearchRequest searchRequest = getCategoryFieldSearchRequest(topEntity, latestTime);
         final ActionListener<SearchResponse> searchResponseListener = ActionListener
             .wrap(response -> processTopEntityResults(response, latestTime, topEntity), listener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
@@ -373,55 +403,16 @@ public class ModelValidationActionHandler {
                 return;
             }
         }
-        ActionListener<MergeableList<double[]>> validateFeatureQueriesListener = ActionListener.wrap(response -> {
-            windowDelayRecommendation(latestTime);
-        }, exception -> {
-            listener
-                .onFailure(new ValidationException(exception.getMessage(), ValidationIssueType.FEATURE_ATTRIBUTES, ValidationAspect.MODEL));
-        });
-        MultiResponsesDelegateActionListener<MergeableList<double[]>> multiFeatureQueriesResponseListener =
-            new MultiResponsesDelegateActionListener<>(
-                validateFeatureQueriesListener,
-                config.getFeatureAttributes().size(),
-                CommonMessages.FEATURE_QUERY_TOO_SPARSE,
-                false
-            );
+        MultiResponsesDelegateActionListener<MergeableList<double[]>> multiFeatureQueriesResponseListener = getFeatureQueriesListener(
+            latestTime
+        );
         List<String> enabledFeatures = config.getEnabledFeatureNames();
         for (int i = 0; i < enabledFeatures.size(); i++) {
-            final String feature = enabledFeatures.get(i);
-            IntervalTimeConfiguration interval = (IntervalTimeConfiguration) config.getInterval();
-            SearchRequest searchRequest = aggregationPrep
-                .createSearchRequestForFeature(interval, aggregationPrep.getTimeRangeBounds(interval, latestTime), topEntity, i);
-            final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
-                try {
-                    long bucketHitCount = aggregationPrep.getShingleCount(response);
-                    if (bucketHitCount < TimeSeriesSettings.NUM_MIN_SAMPLES) {
-                        multiFeatureQueriesResponseListener
-                            .onFailure(
-                                new ValidationException(
-                                    // BaseValidateConfigTransportAction.getFeatureSubIssuesFromErrorMessage assumes feature issue has a
-                                    // colon and would reverse the message and erroneous feature name.
-                                    // Need to follow the same convention. This convention has been followed by other cases in
-                                    // AbstractTimeSeriesActionHandler.validateConfigFeatures
-                                    // like "Feature has an invalid query returning empty aggregated data: max1"
-                                    String.format(Locale.ROOT, "%s: %s", CommonMessages.FEATURE_QUERY_TOO_SPARSE, feature),
-                                    ValidationIssueType.FEATURE_ATTRIBUTES,
-                                    ValidationAspect.MODEL
-                                )
-                            );
-                    } else {
-                        multiFeatureQueriesResponseListener
-                            .onResponse(new MergeableList<>(new ArrayList<>(Collections.singletonList(new double[] { 0 }))));
-                    }
-                } catch (ValidationException e) {
-                    listener.onFailure(e);
-                }
-
-            }, e -> {
-                logger.error(e);
+            SearchRequest searchRequest = getFeatureSearchRequest(latestTime, topEntity, i);
+            final ActionListener<SearchResponse> searchResponseListener = getFeatureSearchListener(
+                enabledFeatures.get(i),
                 multiFeatureQueriesResponseListener
-                    .onFailure(new OpenSearchStatusException(CommonMessages.FEATURE_QUERY_TOO_SPARSE, RestStatus.BAD_REQUEST, e));
-            });
+            );
 
             // using the original context in listener as user roles have no permissions for internal operations like fetching a
             // checkpoint
@@ -437,6 +428,213 @@ public class ModelValidationActionHandler {
         }
     }
 
+    private MultiResponsesDelegateActionListener<MergeableList<double[]>> getFeatureQueriesListener(long latestTime) {
+        ActionListener<MergeableList<double[]>> validateFeatureQueriesListener = ActionListener.wrap(response -> {
+            windowDelayRecommendation(latestTime);
+        }, exception -> {
+            listener
+                .onFailure(new ValidationException(exception.getMessage(), ValidationIssueType.FEATURE_ATTRIBUTES, ValidationAspect.MODEL));
+        });
+        return new MultiResponsesDelegateActionListener<>(
+            validateFeatureQueriesListener,
+            config.getFeatureAttributes().size(),
+            CommonMessages.FEATURE_QUERY_TOO_SPARSE,
+            false
+        );
+    }
+
+    private SearchRequest getFeatureSearchRequest(long latestTime, Map<String, Object> topEntity, int featureIndex) throws IOException {
+        IntervalTimeConfiguration interval = (IntervalTimeConfiguration) config.getInterval();
+        return aggregationPrep
+            .createSearchRequestForFeature(interval, aggregationPrep.getTimeRangeBounds(interval, latestTime), topEntity, featureIndex);
+    }
+
+    private ActionListener<SearchResponse> getFeatureSearchListener(
+        String feature,
+        MultiResponsesDelegateActionListener<MergeableList<double[]>> multiFeatureQueriesResponseListener
+    ) {
+        return ActionListener.wrap(response -> {
+            try {
+                long bucketHitCount = aggregationPrep.getShingleCount(response);
+                if (bucketHitCount < TimeSeriesSettings.NUM_MIN_SAMPLES) {
+                    multiFeatureQueriesResponseListener
+                        .onFailure(
+                            new ValidationException(
+                                // BaseValidateConfigTransportAction.getFeatureSubIssuesFromErrorMessage assumes feature issue has a
+                                // colon and would reverse the message and erroneous feature name.
+                                // Need to follow the same convention. This convention has been followed by other cases in
+                                // AbstractTimeSeriesActionHandler.validateConfigFeatures
+                                // like "Feature has an invalid query returning empty aggregated data: max1"
+                                String.format(Locale.ROOT, "%s: %s", CommonMessages.FEATURE_QUERY_TOO_SPARSE, feature),
+                                ValidationIssueType.FEATURE_ATTRIBUTES,
+                                ValidationAspect.MODEL
+                            )
+                        );
+                } else {
+                    multiFeatureQueriesResponseListener
+                        .onResponse(new MergeableList<>(new ArrayList<>(Collections.singletonList(new double[] { 0 }))));
+                }
+            } catch (ValidationException e) {
+                listener.onFailure(e);
+            }
+
+        }, e -> {
+            logger.error(e);
+            multiFeatureQueriesResponseListener
+                .onFailure(new OpenSearchStatusException(CommonMessages.FEATURE_QUERY_TOO_SPARSE, RestStatus.BAD_REQUEST, e));
+        });
+    }
+
+    /**
+     * Sends the raw data and filter query sparsity searches together. Single-stream configs add their feature
+     * searches too since those do not depend on a top entity. High-cardinality configs look up the top entity
+     * afterwards and send the category field and feature searches together.
+     * @param latestTime latest data time
+     * @throws IOException when a feature search cannot be built
+     */
+    private void planSparsityChecks(long latestTime) throws IOException {
+        ValidationSearchPlan plan = new ValidationSearchPlan()
+            .add(RAW_DATA_CHECK, getRawDataSearchRequest(latestTime))
+            .add(FILTER_QUERY_CHECK, getDataFilterSearchRequest(latestTime));
+        if (!config.isHighCardinality()) {
+            addFeatureChecks(plan, latestTime, new HashMap<>());
+        }
+        executePlan(plan, response -> {
+            if (reportIfTooSparse(
+                plan,
+                response,
+                RAW_DATA_CHECK,
+                CommonMessages.RAW_DATA_TOO_SPARSE,
+                ValidationIssueType.INDICES
+            )
+                || reportIfTooSparse(
+                    plan,
+                    response,
+                    FILTER_QUERY_CHECK,
+                    CommonMessages.FILTER_QUERY_TOO_SPARSE,
+                    ValidationIssueType.FILTER_QUERY
+                )) {
+                return;
+            }
+            if (config.isHighCardinality()) {
+                planCategoryFieldChecks(latestTime);
+            } else {
+                evaluateFeatureChecks(plan, response, latestTime);
+            }
+        });
+    }
+
+    private void planCategoryFieldChecks(long latestTime) {
+        ActionListener<Pair<Optional<Long>, Map<String, Object>>> getTopEntityListener = ActionListener.wrap(topEntityResult -> {
+            Map<String, Object> topEntity = topEntityResult.getRight();
+            // without a top entity both the category field and feature checks report a sparse category field
+            if (topEntity.isEmpty()) {
+                listener
+                    .onFailure(
+                        new ValidationException(
+                            CommonMessages.CATEGORY_FIELD_TOO_SPARSE,
+                            ValidationIssueType.CATEGORY,
+                            ValidationAspect.MODEL
+                        )
+                    );
+                return;
+            }
+            ValidationSearchPlan plan = new ValidationSearchPlan()
+                .add(CATEGORY_FIELD_CHECK, getCategoryFieldSearchRequest(topEntity, latestTime));
+            addFeatureChecks(plan, latestTime, topEntity);
+            executePlan(plan, response -> {
+                if (!reportIfTooSparse(
+                    plan,
+                    response,
+                    CATEGORY_FIELD_CHECK,
+                    CommonMessages.CATEGORY_FIELD_TOO_SPARSE,
+                    ValidationIssueType.CATEGORY
+                )) {
+                    evaluateFeatureChecks(plan, response, latestTime);
+                }
+            });
+        }, exception -> {
+            listener.onFailure(exception);
+            logger.error("Failed to get top entity for categorical field", exception);
+        });
+        latestTimeRetriever.getTopEntity(getTopEntityListener, latestTime);
+    }
+
+    private void addFeatureChecks(ValidationSearchPlan plan, long latestTime, Map<String, Object> topEntity) throws IOException {
+        List<String> enabledFeatures = config.getEnabledFeatureNames();
+        for (int i = 0; i < enabledFeatures.size(); i++) {
+            plan.add(FEATURE_CHECK_PREFIX + i, getFeatureSearchRequest(latestTime, topEntity, i));
+        }
+    }
+
+    private void evaluateFeatureChecks(ValidationSearchPlan plan, MultiSearchResponse response, long latestTime) {
+        MultiResponsesDelegateActionListener<MergeableList<double[]>> multiFeatureQueriesResponseListener = getFeatureQueriesListener(
+            latestTime
+        );
+        List<String> enabledFeatures = config.getEnabledFeatureNames();
+        for (int i = 0; i < enabledFeatures.size(); i++) {
+            MultiSearchResponse.Item item = plan.getItem(response, FEATURE_CHECK_PREFIX + i);
+            ActionListener<SearchResponse> searchResponseListener = getFeatureSearchListener(
+                enabledFeatures.get(i),
+                multiFeatureQueriesResponseListener
+            );
+            if (item.isFailure()) {
+                searchResponseListener.onFailure(item.getFailure());
+            } else {
+                searchResponseListener.onResponse(item.getResponse());
+            }
+        }
+    }
+
+    /**
+     * Fails the validation listener if a check's search failed or its data is too sparse.
+     * @return whether the check reported a blocking issue
+     */
+    private boolean reportIfTooSparse(
+        ValidationSearchPlan plan,
+        MultiSearchResponse response,
+        String check,
+        String message,
+        ValidationIssueType issueType
+    ) {
+        MultiSearchResponse.Item item = plan.getItem(response, check);
+        if (item.isFailure()) {
+            listener.onFailure(item.getFailure());
+            return true;
+        }
+        long shingleCount = searchFeatureDao.countContinuousShinglesFromHistogramSearch(item.getResponse(), config, false);
+        if (shingleCount < TimeSeriesSettings.NUM_MIN_SAMPLES) {
+            listener.onFailure(new ValidationException(message, issueType, ValidationAspect.MODEL));
+            return true;
+        }
+        return false;
+    }
+
+    private void executePlan(ValidationSearchPlan plan, CheckedConsumer<MultiSearchResponse, Exception> onResponse) {
+        long startMillis = clock.millis();
+        final ActionListener<MultiSearchResponse> multiSearchResponseListener = ActionListener.wrap(response -> {
+            logger
+                .debug(
+                    "Validation searches of config {} took {} ms in total, per check: {}",
+                    config.getId(),
+                    clock.millis() - startMillis,
+                    plan.getTimings(response)
+                );
+            onResponse.accept(response);
+        }, listener::onFailure);
+        // using the original context in listener as user roles have no permissions for internal operations like fetching a
+        // checkpoint
+        clientUtil
+            .<MultiSearchRequest, MultiSearchResponse>asyncRequestWithInjectedSecurity(
+                plan.getRequest(),
+                client::multiSearch,
+                user,
+                client,
+                context,
+                multiSearchResponseListener
+            );
+    }
+
     private void sendWindowDelayRec(long latestTimeInMillis) {
         long minutesSinceLastStamp = (long) Math.ceil((Instant.now().toEpochMilli() - latestTimeInMillis) / 60000.0);
         listener
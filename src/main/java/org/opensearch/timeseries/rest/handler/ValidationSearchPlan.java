@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.rest.handler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+
+/**
+ * Validation searches whose inputs do not depend on each other's results. They are sent to the
+ * source indices as one multi-search, and each check's result is looked up by name. Callers
+ * evaluate checks in the order they were added so that the first blocking issue is the one
+ * reported, just as when the searches ran one after another.
+ */
+public class ValidationSearchPlan {
+    // took time reported for a check whose search failed
+    public static final long FAILED_CHECK_TOOK = -1L;
+
+    private final List<String> checks;
+    private final MultiSearchRequest request;
+
+    public ValidationSearchPlan() {
+        this.checks = new ArrayList<>();
+        this.request = new MultiSearchRequest();
+    }
+
+    /**
+     * Add a check to the plan.
+     * @param check check name, unique in the plan
+     * @param searchRequest search request of the check
+     * @return this plan
+     */
+    public ValidationSearchPlan add(String check, SearchRequest searchRequest) {
+        if (checks.contains(check)) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Duplicate validation check %s", check));
+        }
+        checks.add(check);
+        request.add(searchRequest);
+        return this;
+    }
+
+    public List<String> getChecks() {
+        return checks;
+    }
+
+    public MultiSearchRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @param response multi-search response of this plan
+     * @param check check name
+     * @return response item of the check
+     */
+    public MultiSearchResponse.Item getItem(MultiSearchResponse response, String check) {
+        int index = checks.indexOf(check);
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown validation check %s", check));
+        }
+        MultiSearchResponse.Item[] items = response.getResponses();
+        if (items.length != checks.size()) {
+            throw new IllegalStateException(
+                String.format(Locale.ROOT, "Expected %d validation responses, but got %d", checks.size(), items.length)
+            );
+        }
+        return items[index];
+    }
+
+    /**
+     * @param response multi-search response of this plan
+     * @return the time each check's search took in milliseconds, in plan order. Failed searches report
+     *  {@link #FAILED_CHECK_TOOK}.
+     */
+    public Map<String, Long> getTimings(MultiSearchResponse response) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (String check : checks) {
+            MultiSearchResponse.Item item = getItem(response, check);
+            timings.put(check, item.isFailure() ? FAILED_CHECK_TOOK : item.getResponse().getTook().millis());
+        }
+        return timings;
+    }
+}
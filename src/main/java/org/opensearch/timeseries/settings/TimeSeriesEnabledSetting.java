@@ -27,12 +27,110 @@ public class TimeSeriesEnabledSetting extends DynamicNumericSetting {
      */
     public static final String BREAKER_ENABLED = "plugins.timeseries.breaker.enabled";
 
+    public static final String DOOR_KEEPER_SKETCH_ENABLED = "plugins.timeseries.door_keeper_sketch.enabled";
+
+    public static final String INDEXED_PRIORITY_TRACKER_ENABLED = "plugins.timeseries.indexed_priority_tracker.enabled";
+
+    public static final String BOUNDED_REQUEST_QUEUE_ENABLED = "plugins.timeseries.bounded_request_queue.enabled";
+
+    public static final String ADAPTIVE_BATCHING_ENABLED = "plugins.timeseries.adaptive_batching.enabled";
+
+    public static final String COMPRESSED_INACTIVE_MODELS_ENABLED = "plugins.timeseries.compressed_inactive_models.enabled";
+
+    public static final String MODEL_SPILL_ENABLED = "plugins.timeseries.model_spill.enabled";
+
+    public static final String BATCHED_COLD_START_ENABLED = "plugins.timeseries.batched_cold_start.enabled";
+
+    public static final String TIME_PARTITIONED_CHECKPOINT_ENABLED = "plugins.timeseries.time_partitioned_checkpoint.enabled";
+
+    public static final String VALIDATION_MULTI_SEARCH_ENABLED = "plugins.timeseries.validation_multi_search.enabled";
+
+    public static final String ENTITY_CARDINALITY_SKETCH_ENABLED = "plugins.timeseries.entity_cardinality_sketch.enabled";
+
+    public static final String MODEL_ID_MEMO_ENABLED = "plugins.timeseries.model_id_memo.enabled";
+
     public static final Map<String, Setting<?>> settings = unmodifiableMap(new HashMap<String, Setting<?>>() {
         {
             /**
              * breaker enable/disable setting. Default value comes from AD breaker enabled or not for BWC.
              */
             put(BREAKER_ENABLED, Setting.boolSetting(BREAKER_ENABLED, ADEnabledSetting.isADBreakerEnabled(), NodeScope, Dynamic));
+
+            /**
+             * Whether door keepers created from now on use a fixed-size count-min sketch instead of
+             * an exact frequency map. Each config picks the implementation when its door keeper is
+             * created and keeps it until the door keeper expires.
+             */
+            put(DOOR_KEEPER_SKETCH_ENABLED, Setting.boolSetting(DOOR_KEEPER_SKETCH_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether priority trackers created from now on use an indexed heap over primitive arrays
+             * instead of a skip list. A config keeps its tracker until the tracker is dropped.
+             */
+            put(
+                INDEXED_PRIORITY_TRACKER_ENABLED,
+                Setting.boolSetting(INDEXED_PRIORITY_TRACKER_ENABLED, false, NodeScope, Dynamic)
+            );
+
+            /**
+             * Whether request queues of rate limiting workers created from now on are bounded ring
+             * buffers instead of linked queues. A queue keeps its implementation until it expires.
+             */
+            put(BOUNDED_REQUEST_QUEUE_ENABLED, Setting.boolSetting(BOUNDED_REQUEST_QUEUE_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether batch workers adjust their batch size and concurrency to measured latency and
+             * rejections instead of using the configured values as is.
+             */
+            put(ADAPTIVE_BATCHING_ENABLED, Setting.boolSetting(ADAPTIVE_BATCHING_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether models evicted from the cache from now on are kept in memory as compressed
+             * bytes so that a returning entity does not need to read its checkpoint.
+             */
+            put(
+                COMPRESSED_INACTIVE_MODELS_ENABLED,
+                Setting.boolSetting(COMPRESSED_INACTIVE_MODELS_ENABLED, false, NodeScope, Dynamic)
+            );
+
+            /**
+             * Whether serialized models of evicted entities that don't fit in memory are written to a
+             * node-local, memory-mapped file instead of being dropped. Requires compressed inactive models.
+             */
+            put(MODEL_SPILL_ENABLED, Setting.boolSetting(MODEL_SPILL_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether the cold start worker fetches the training history of queued real-time entities
+             * of the same config with one search instead of one search per entity.
+             */
+            put(BATCHED_COLD_START_ENABLED, Setting.boolSetting(BATCHED_COLD_START_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether checkpoint indices are moved to time generations behind a write alias. Once the
+             * alias exists, disabling the setting does not move checkpoints back to a single index.
+             */
+            put(
+                TIME_PARTITIONED_CHECKPOINT_ENABLED,
+                Setting.boolSetting(TIME_PARTITIONED_CHECKPOINT_ENABLED, false, NodeScope, Dynamic)
+            );
+
+            /**
+             * Whether model validation sends its independent sparsity searches together as one
+             * multi-search instead of one search after another.
+             */
+            put(VALIDATION_MULTI_SEARCH_ENABLED, Setting.boolSetting(VALIDATION_MULTI_SEARCH_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether HC realtime runs keep a sketch of the entities they stream so that the total entities
+             * profile is answered from the sketch instead of an aggregation over the whole source index.
+             */
+            put(ENTITY_CARDINALITY_SKETCH_ENABLED, Setting.boolSetting(ENTITY_CARDINALITY_SKETCH_ENABLED, false, NodeScope, Dynamic));
+
+            /**
+             * Whether entity model Ids are memoized across intervals so that entities parsed anew don't
+             * hash their attributes again and share one model Id instance.
+             */
+            put(MODEL_ID_MEMO_ENABLED, Setting.boolSetting(MODEL_ID_MEMO_ENABLED, false, NodeScope, Dynamic));
         }
     });
 
@@ -55,4 +153,91 @@ public class TimeSeriesEnabledSetting extends DynamicNumericSetting {
         return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.BREAKER_ENABLED);
     }
 
+    /**
+     * If enabled, door keepers track frequencies with a fixed-size sketch whose memory does not grow with the number of entities.
+     * @return whether door keeper sketch is enabled or not.
+     */
+    public static boolean isDoorKeeperSketchEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED);
+    }
+
+    /**
+     * If enabled, entity priorities are tracked in an indexed heap that does not allocate on priority updates.
+     * @return whether indexed priority tracker is enabled or not.
+     */
+    public static boolean isIndexedPriorityTrackerEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.INDEXED_PRIORITY_TRACKER_ENABLED);
+    }
+
+    /**
+     * If enabled, rate limiting workers queue requests in bounded ring buffers whose memory is accounted for exactly.
+     * @return whether bounded request queue is enabled or not.
+     */
+    public static boolean isBoundedRequestQueueEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED);
+    }
+
+    /**
+     * If enabled, checkpoint read/write and result write workers grow and shrink their batch size and concurrency with cluster load.
+     * @return whether adaptive batching is enabled or not.
+     */
+    public static boolean isAdaptiveBatchingEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED);
+    }
+
+    /**
+     * If enabled, evicted models are kept as compressed bytes in memory and inflated when their entities return.
+     * @return whether compressed inactive models are enabled or not.
+     */
+    public static boolean isCompressedInactiveModelsEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED);
+    }
+
+    /**
+     * If enabled, serialized models of evicted entities that don't fit in memory are spilled to a local file.
+     * @return whether model spill is enabled or not.
+     */
+    public static boolean isModelSpillEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED);
+    }
+
+    /**
+     * If enabled, cold start history of entities of the same config is fetched with one composite aggregation per batch.
+     * @return whether batched cold start is enabled or not.
+     */
+    public static boolean isBatchedColdStartEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.BATCHED_COLD_START_ENABLED);
+    }
+
+    /**
+     * If enabled, checkpoints are written to time generations whose retention drops whole indices.
+     * @return whether time-partitioned checkpoint indices are enabled or not.
+     */
+    public static boolean isTimePartitionedCheckpointEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.TIME_PARTITIONED_CHECKPOINT_ENABLED);
+    }
+
+    /**
+     * If enabled, model validation batches its independent sparsity searches into multi-searches.
+     * @return whether validation multi-search is enabled or not.
+     */
+    public static boolean isValidationMultiSearchEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.VALIDATION_MULTI_SEARCH_ENABLED);
+    }
+
+    /**
+     * If enabled, the total entities profile of running HC configs is estimated from entity sketches.
+     * @return whether entity cardinality sketch is enabled or not.
+     */
+    public static boolean isEntityCardinalitySketchEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED);
+    }
+
+    /**
+     * If enabled, entity model Ids are memoized in a bounded, memory-accounted memo shared by all configs.
+     * @return whether model Id memo is enabled or not.
+     */
+    public static boolean isModelIdMemoEnabled() {
+        return TimeSeriesEnabledSetting.getInstance().getSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED);
+    }
 }
@@ -124,6 +124,13 @@ public class TimeSeriesSettings {
     // the size of the buffer used for rcf deserialization
     public static final int SERIALIZATION_BUFFER_BYTES = 512;
 
+    // a time-partitioned checkpoint generation stops taking writes after half the checkpoint ttl, but not
+    // sooner than this. Retention drops a generation once the generation after it is older than the checkpoint ttl.
+    public static final TimeValue MIN_CHECKPOINT_GENERATION_MAX_AGE = TimeValue.timeValueHours(1);
+
+    // roll a checkpoint generation over early before its shards exceed the recommended max shard size
+    public static final long CHECKPOINT_GENERATION_MAX_SHARD_SIZE_IN_BYTE = 50 * 1024 * 1024 * 1024L;
+
     // ======================================
     // rate-limiting queue parameters
     // ======================================
@@ -188,6 +195,24 @@ public class TimeSeriesSettings {
 
     public static final Duration QUEUE_MAINTENANCE = Duration.ofMinutes(10);
 
+    // Adaptive batching shrinks batches taking longer than this. Checkpoint and result bulk
+    // requests usually finish within a few hundred milliseconds on a healthy cluster.
+    public static final Duration ADAPTIVE_BATCH_TARGET_LATENCY = Duration.ofSeconds(2);
+
+    // Threads models of historical analysis and preview may use in total for RCF parallel tree
+    // execution, on top of the plugin thread pools. 0 keeps every model sequential. The plugin caps
+    // it to the processors the AD thread pools leave. Changes only apply to models created afterwards.
+    public static final Setting<Integer> RCF_PARALLEL_THREAD_BUDGET = Setting
+        .intSetting("plugins.timeseries.rcf_parallel_thread_budget", 0, 0, 1024, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Most threads one model gets for parallel tree execution. Tree traversal results are merged on
+    // the calling thread, so returns diminish beyond a few threads for the default 50 trees.
+    public static final int RCF_PARALLEL_THREADS_PER_MODEL = 4;
+
+    // Size of the node-local file spilled models of evicted entities are written to. A
+    // compressed model of the default 50 trees is tens of KB, so this holds thousands of models.
+    public static final long MODEL_SPILL_FILE_BYTES = 256L * 1024 * 1024;
+
     // ======================================
     // ML parameters
     // ======================================
@@ -216,6 +241,13 @@ public class TimeSeriesSettings {
     // ======================================
     public static int MAX_COLD_START_ROUNDS = 2;
 
+    // max number of queued real-time cold start requests of the same config trained from one history search
+    public static final int COLD_START_BATCH_SIZE = 100;
+
+    // max number of entity and sample range buckets a batched cold start search asks for.
+    // Stays well below the default search.max_buckets of 65535.
+    public static final int MAX_COLD_START_BATCH_BUCKETS = 10_000;
+
     // Thresholding
     public static final double THRESHOLD_MIN_PVALUE = 0.995;
 
@@ -293,6 +325,12 @@ public class TimeSeriesSettings {
     // max entities to track per detector
     public static final int MAX_TRACKING_ENTITIES = 1000000;
 
+    // max entity model Ids memoized on a node across configs
+    public static final int MAX_MEMOIZED_MODEL_IDS = 100_000;
+
+    // memoized model Ids of entities not seen for this many hours are dropped
+    public static final long MODEL_ID_MEMO_TTL_HOURS = 24;
+
     public static final String FLATTEN_CUSTOM_RESULT_INDEX_PAINLESS = "scripts/flatten-custom-result-index-painless.txt";
 
     // ======================================
@@ -42,6 +42,21 @@ public enum StatNames {
     AD_BATCH_TASK_FAILURE_COUNT("ad_batch_task_failure_count", StatType.AD),
     MODEL_COUNT("model_count", StatType.AD),
     AD_MODEL_CORRUTPION_COUNT("ad_model_corruption_count", StatType.AD),
+    AD_HC_PAGE_FETCH_COUNT("ad_hc_page_fetch_count", StatType.AD),
+    // sum of page fetch latencies. Divide by ad_hc_page_fetch_count for the average.
+    AD_HC_PAGE_FETCH_LATENCY_MS("ad_hc_page_fetch_latency_ms", StatType.AD),
+    AD_HC_PAGES_IN_FLIGHT("ad_hc_pages_in_flight", StatType.AD),
+    // batch size, concurrency, and their recent adjustments of checkpoint read/write and result write workers
+    AD_BATCH_WORKERS("ad_batch_workers", StatType.AD),
+    // evicted models kept in memory as compressed bytes
+    AD_INACTIVE_MODELS("ad_inactive_models", StatType.AD),
+    // entities a model node processed for HC detector pages and the time it took, summed over pages
+    AD_HC_ENTITIES_PROCESSED_COUNT("ad_hc_entities_processed_count", StatType.AD),
+    AD_HC_ENTITY_PROCESSING_MS("ad_hc_entity_processing_ms", StatType.AD),
+    // ad_hc_entities_processed_count divided by ad_hc_entity_processing_ms
+    AD_HC_ENTITIES_PER_MS("ad_hc_entities_per_ms", StatType.AD),
+    AD_HC_ENTITY_TASK_REJECTED_COUNT("ad_hc_entity_task_rejected_count", StatType.AD),
+    AD_RESULT_INDEX_MAPPING_CACHE("ad_result_index_mapping_cache", StatType.AD),
     // forecast stats
     FORECAST_CONFIG_INDEX_STATUS("forecast_config_index_status", StatType.FORECAST),
     FORECAST_EXECUTE_REQUEST_COUNT("forecast_execute_request_count", StatType.FORECAST),
@@ -54,7 +69,16 @@ public enum StatNames {
     FORECASTER_COUNT("forecaster_count", StatType.FORECAST),
     SINGLE_STREAM_FORECASTER_COUNT("single_stream_forecaster_count", StatType.FORECAST),
     HC_FORECASTER_COUNT("hc_forecaster_count", StatType.FORECAST),
-    FORECAST_MODEL_CORRUPTION_COUNT("forecast_model_corruption_count", StatType.FORECAST);
+    FORECAST_MODEL_CORRUPTION_COUNT("forecast_model_corruption_count", StatType.FORECAST),
+    FORECAST_HC_PAGE_FETCH_COUNT("forecast_hc_page_fetch_count", StatType.FORECAST),
+    FORECAST_HC_PAGE_FETCH_LATENCY_MS("forecast_hc_page_fetch_latency_ms", StatType.FORECAST),
+    FORECAST_HC_PAGES_IN_FLIGHT("forecast_hc_pages_in_flight", StatType.FORECAST),
+    FORECAST_BATCH_WORKERS("forecast_batch_workers", StatType.FORECAST),
+    FORECAST_HC_ENTITIES_PROCESSED_COUNT("forecast_hc_entities_processed_count", StatType.FORECAST),
+    FORECAST_HC_ENTITY_PROCESSING_MS("forecast_hc_entity_processing_ms", StatType.FORECAST),
+    FORECAST_HC_ENTITIES_PER_MS("forecast_hc_entities_per_ms", StatType.FORECAST),
+    FORECAST_HC_ENTITY_TASK_REJECTED_COUNT("forecast_hc_entity_task_rejected_count", StatType.FORECAST),
+    FORECAST_RESULT_INDEX_MAPPING_CACHE("forecast_result_index_mapping_cache", StatType.FORECAST);
 
     private final String name;
     private final StatType type;
@@ -80,4 +80,15 @@ public class TimeSeriesStat<T> {
             ((CounterSupplier) supplier).decrement();
         }
     }
+
+    /**
+     * Adds to the supplier if it is a counter, e.g., to accumulate latencies.
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        if (supplier instanceof CounterSupplier) {
+            ((CounterSupplier) supplier).add(delta);
+        }
+    }
 }
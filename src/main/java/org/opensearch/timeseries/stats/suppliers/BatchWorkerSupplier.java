@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.stats.suppliers;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.opensearch.timeseries.ratelimit.AdaptiveBatchController;
+import org.opensearch.timeseries.ratelimit.BatchWorker;
+
+/**
+ * Reports current batch size, concurrency, and recent adjustments of batch workers by worker name.
+ */
+public class BatchWorkerSupplier implements Supplier<Map<String, Object>> {
+    private final Map<String, AdaptiveBatchController> controllers;
+
+    public BatchWorkerSupplier() {
+        this.controllers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Some workers are created after the stats, so workers are registered once created.
+     *
+     * @param worker batch worker
+     */
+    public void register(BatchWorker<?, ?, ?> worker) {
+        controllers.put(worker.getWorkerName(), worker.getBatchController());
+    }
+
+    @Override
+    public Map<String, Object> get() {
+        // sorted so that stats output is stable
+        Map<String, Object> values = new TreeMap<>();
+        for (Map.Entry<String, AdaptiveBatchController> entry : controllers.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().toMap());
+        }
+        return values;
+    }
+}
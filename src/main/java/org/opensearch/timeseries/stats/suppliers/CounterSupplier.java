@@ -45,4 +45,13 @@ public class CounterSupplier implements Supplier<Long> {
     public void decrement() {
         counter.decrement();
     }
+
+    /**
+     * Adds the given value to the counter
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        counter.add(delta);
+    }
 }
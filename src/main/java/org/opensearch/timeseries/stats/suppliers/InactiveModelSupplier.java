@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.stats.suppliers;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.opensearch.common.inject.Provider;
+import org.opensearch.timeseries.caching.TimeSeriesCache;
+
+/**
+ * Reports the number, size, compression ratio, and inflate latency of inactive models a node keeps in memory.
+ */
+public class InactiveModelSupplier implements Supplier<Map<String, Object>> {
+    private final Provider<? extends TimeSeriesCache<?>> cacheProvider;
+
+    /**
+     * Constructor
+     *
+     * @param cacheProvider provider of the cache that keeps inactive models
+     */
+    public InactiveModelSupplier(Provider<? extends TimeSeriesCache<?>> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Override
+    public Map<String, Object> get() {
+        return cacheProvider.get().getInactiveModelStats();
+    }
+}
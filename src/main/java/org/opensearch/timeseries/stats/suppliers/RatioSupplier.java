@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.stats.suppliers;
+
+import java.util.function.Supplier;
+
+/**
+ * RatioSupplier provides the ratio of two counters, e.g., a throughput out of a count and a time
+ */
+public class RatioSupplier implements Supplier<Double> {
+    private final Supplier<Long> numerator;
+    private final Supplier<Long> denominator;
+
+    /**
+     * Constructor
+     *
+     * @param numerator counter to divide
+     * @param denominator counter to divide by
+     */
+    public RatioSupplier(Supplier<Long> numerator, Supplier<Long> denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @return the ratio, 0 if the denominator is 0
+     */
+    @Override
+    public Double get() {
+        long divisor = denominator.get();
+        if (divisor == 0) {
+            return 0.0;
+        }
+        return (double) numerator.get() / divisor;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.stats.suppliers;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.opensearch.timeseries.indices.IndexManagement;
+
+/**
+ * Reports hits, misses, and size of the cache of validated custom result index mappings.
+ */
+public class ValidatedMappingCacheSupplier implements Supplier<Map<String, Object>> {
+    private final IndexManagement<?> indexManagement;
+
+    /**
+     * Constructor
+     *
+     * @param indexManagement index management that validates custom result index mappings
+     */
+    public ValidatedMappingCacheSupplier(IndexManagement<?> indexManagement) {
+        this.indexManagement = indexManagement;
+    }
+
+    @Override
+    public Map<String, Object> get() {
+        return indexManagement.getValidatedMappingStats();
+    }
+}
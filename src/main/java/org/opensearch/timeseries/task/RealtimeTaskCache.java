@@ -13,6 +13,8 @@ package org.opensearch.timeseries.task;
 
 import java.time.Instant;
 
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
+
 /**
  * realtime task cache which will hold these data
  * 1. task state
@@ -20,6 +22,7 @@ import java.time.Instant;
  * 3. error
  * 4. last job run time
  * 5. analysis interval
+ * 6. cardinality sketch of the entities seen by HC runs
  */
 public class RealtimeTaskCache {
 
@@ -38,6 +41,9 @@ public class RealtimeTaskCache {
     // interval in milliseconds.
     private long intervalInMillis;
 
+    // created on the first HC run that records entities
+    private volatile EntityCardinalitySketch entityCardinalitySketch;
+
     public RealtimeTaskCache(String state, Float initProgress, String error, long detectorIntervalInMillis) {
         this.state = state;
         this.initProgress = initProgress;
@@ -74,6 +80,17 @@ public class RealtimeTaskCache {
         this.lastJobRunTime = lastJobRunTime;
     }
 
+    public EntityCardinalitySketch getEntityCardinalitySketch() {
+        return entityCardinalitySketch;
+    }
+
+    public synchronized EntityCardinalitySketch getOrCreateEntityCardinalitySketch() {
+        if (entityCardinalitySketch == null) {
+            entityCardinalitySketch = new EntityCardinalitySketch();
+        }
+        return entityCardinalitySketch;
+    }
+
     public boolean expired() {
         return lastJobRunTime + 2 * intervalInMillis < Instant.now().toEpochMilli();
     }
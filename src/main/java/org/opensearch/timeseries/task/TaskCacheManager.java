@@ -20,6 +20,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.forecast.task.ForecastTaskManager;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.transport.TransportService;
 
 public class TaskCacheManager {
@@ -174,6 +175,38 @@ public class TaskCacheManager {
         }
     }
 
+    /**
+     * Add entities of an HC run to the config's entity cardinality sketch. If realtime task cache
+     * doesn't exist, will do nothing.
+     *
+     * @param configId config id
+     * @param entities entity names of a page
+     * @param passComplete whether this is the last page of a run that went through all entities
+     */
+    public void addRealtimeEntities(String configId, Iterable<String> entities, boolean passComplete) {
+        RealtimeTaskCache realtimeTaskCache = realtimeTaskCaches.get(configId);
+        if (realtimeTaskCache == null) {
+            return;
+        }
+        EntityCardinalitySketch sketch = realtimeTaskCache.getOrCreateEntityCardinalitySketch();
+        sketch.add(entities);
+        if (passComplete) {
+            sketch.markComplete();
+        }
+    }
+
+    /**
+     * @param configId config id
+     * @return a copy of the config's entity cardinality sketch, or null if there is none on this node
+     */
+    public EntityCardinalitySketch getEntityCardinalitySketch(String configId) {
+        RealtimeTaskCache realtimeTaskCache = realtimeTaskCaches.get(configId);
+        if (realtimeTaskCache == null || realtimeTaskCache.getEntityCardinalitySketch() == null) {
+            return null;
+        }
+        return realtimeTaskCache.getEntityCardinalitySketch().copy();
+    }
+
     public void refreshRealtimeJobRunTime(String configId) {
         RealtimeTaskCache taskCache = realtimeTaskCaches.get(configId);
         if (taskCache != null) {
@@ -225,6 +225,10 @@ public abstract class TaskManager<TaskCacheManagerType extends TaskCacheManager,
         taskCacheManager.removeRealtimeTaskCache(detectorId);
     }
 
+    public void addRealtimeEntities(String configId, Iterable<String> entities, boolean passComplete) {
+        taskCacheManager.addRealtimeEntities(configId, entities, passComplete);
+    }
+
     /**
      * Update realtime task cache on realtime config's coordinating node.
      *
@@ -37,6 +37,9 @@ import org.opensearch.timeseries.ratelimit.CheckpointWriteWorker;
 import org.opensearch.timeseries.ratelimit.ColdEntityWorker;
 import org.opensearch.timeseries.ratelimit.ColdStartWorker;
 import org.opensearch.timeseries.ratelimit.SaveResultStrategy;
+import org.opensearch.timeseries.stats.StatNames;
+import org.opensearch.timeseries.stats.Stats;
+import org.opensearch.timeseries.stats.TimeSeriesStat;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
 import org.opensearch.timeseries.util.ExceptionUtil;
@@ -60,6 +63,7 @@ public abstract class AbstractEntityResultTransportAction<RCFModelType extends T
     private final HCCheckpointReadWorkerType checkpointReadQueue;
     private final ColdEntityWorkerType coldEntityQueue;
     private final InferencerType inferencer;
+    private final Stats timeSeriesStats;
 
     private EntityResultProcessor<RCFModelType, IndexableResultType, IntermediateResultType, IndexType, IndexManagementType, CheckpointDaoType, CheckpointWriteWorkerType, ModelColdStartType, ModelManagerType, CacheType, SaveResultStrategyType, TaskCacheManagerType, TaskTypeEnum, TaskClass, TaskManagerType, ColdStartWorkerType, InferencerType, HCCheckpointReadWorkerType, ColdEntityWorkerType> intervalDataProcessor;
 
@@ -74,7 +78,8 @@ public abstract class AbstractEntityResultTransportAction<RCFModelType extends T
         String threadPoolName,
         HCCheckpointReadWorkerType checkpointReadQueue,
         ColdEntityWorkerType coldEntityQueue,
-        InferencerType inferencer
+        InferencerType inferencer,
+        Stats timeSeriesStats
     ) {
         super(actionName, transportService, actionFilters, EntityResultRequest::new);
         this.circuitBreakerService = circuitBreakerService;
@@ -86,6 +91,7 @@ public abstract class AbstractEntityResultTransportAction<RCFModelType extends T
         this.checkpointReadQueue = checkpointReadQueue;
         this.coldEntityQueue = coldEntityQueue;
         this.inferencer = inferencer;
+        this.timeSeriesStats = timeSeriesStats;
         this.intervalDataProcessor = null;
     }
 
@@ -122,7 +128,9 @@ public abstract class AbstractEntityResultTransportAction<RCFModelType extends T
                 inferencer,
                 threadPool,
                 threadPoolName,
-                clock
+                clock,
+                getEntityProcessingChunks(),
+                createProcessingTracker()
             );
 
             stateManager
@@ -138,4 +146,46 @@ public abstract class AbstractEntityResultTransportAction<RCFModelType extends T
             listener.onFailure(exception);
         }
     }
+
+    /**
+     * @return the max number of chunks entities of a request are processed in
+     */
+    protected abstract int getEntityProcessingChunks();
+
+    /**
+     * @return tracker reporting entity processing of a request
+     */
+    protected EntityResultProcessor.ProcessingTracker createProcessingTracker() {
+        return EntityResultProcessor.ProcessingTracker.NOOP;
+    }
+
+    /**
+     * Reports processed entities, processing time, and rejected tasks as node-level stats.
+     */
+    protected class ProcessingStatsTracker implements EntityResultProcessor.ProcessingTracker {
+        private final StatNames processedCountStat;
+        private final StatNames processingTimeStat;
+        private final StatNames rejectedCountStat;
+
+        public ProcessingStatsTracker(StatNames processedCountStat, StatNames processingTimeStat, StatNames rejectedCountStat) {
+            this.processedCountStat = processedCountStat;
+            this.processingTimeStat = processingTimeStat;
+            this.rejectedCountStat = rejectedCountStat;
+        }
+
+        @Override
+        public void onEntitiesProcessed(int entities, long tookMillis) {
+            getStat(processedCountStat).ifPresent(stat -> stat.add(entities));
+            getStat(processingTimeStat).ifPresent(stat -> stat.add(tookMillis));
+        }
+
+        @Override
+        public void onTaskRejected() {
+            getStat(rejectedCountStat).ifPresent(TimeSeriesStat::increment);
+        }
+
+        private Optional<TimeSeriesStat<?>> getStat(StatNames name) {
+            return Optional.ofNullable(timeSeriesStats.getStats().get(name.getName()));
+        }
+    }
 }
@@ -207,6 +207,9 @@ public abstract class BaseDeleteConfigTransportAction<TaskCacheManagerType exten
         client.delete(deleteRequest, new ActionListener<DeleteResponse>() {
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
+                if (deleteResponse.getResult() == DocWriteResponse.Result.DELETED) {
+                    NodeStateManager.broadcastConfigInvalidation(client, configId, deleteResponse.getSeqNo());
+                }
                 listener.onResponse(deleteResponse);
             }
 
@@ -28,6 +28,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.caching.CacheProvider;
 import org.opensearch.timeseries.caching.TimeSeriesCache;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.ModelProfile;
 import org.opensearch.timeseries.model.ProfileName;
 import org.opensearch.timeseries.task.TaskCacheManager;
@@ -115,6 +116,7 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
         List<ModelProfile> modelProfiles = null;
         int modelCount = 0;
         boolean coordinatingNode = false;
+        EntityCardinalitySketch entityCardinalitySketch = null;
 
         if (profiles.contains(ProfileName.ACTIVE_ENTITIES)) {
             activeEntity = cacheProvider.get().getActiveEntities(configId);
@@ -142,6 +144,10 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
             coordinatingNode = taskCacheManager.getRealtimeTaskCache(configId) != null;
         }
 
+        if (profiles.contains(ProfileName.TOTAL_ENTITIES)) {
+            entityCardinalitySketch = taskCacheManager.getEntityCardinalitySketch(configId);
+        }
+
         return new ProfileNodeResponse(
             clusterService.localNode(),
             modelSize,
@@ -149,7 +155,8 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
             totalUpdates,
             modelProfiles,
             modelCount,
-            coordinatingNode
+            coordinatingNode,
+            entityCardinalitySketch
         );
     }
 }
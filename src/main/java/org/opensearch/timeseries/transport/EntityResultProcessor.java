@@ -13,13 +13,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
-import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.threadpool.ThreadPool;
@@ -72,7 +73,35 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
     private ThreadPool threadPool;
     private String threadPoolName;
     private Clock clock;
+    private int maxChunks;
+    private ProcessingTracker tracker;
 
+    /**
+     * Callbacks about entity processing on a model node, e.g., to report stats.
+     */
+    public interface ProcessingTracker {
+        ProcessingTracker NOOP = new ProcessingTracker() {
+        };
+
+        /**
+         * Entities of a request are processed
+         * @param entities number of entities scored or routed to the cache miss queues. Entities skipped
+         *  after the deadline are not counted.
+         * @param tookMillis time between receiving the config and the last entity finishing
+         */
+        default void onEntitiesProcessed(int entities, long tookMillis) {}
+
+        /**
+         * The thread pool rejected a chunk worker. Its chunks are processed by the other workers.
+         */
+        default void onTaskRejected() {}
+    }
+
+    /**
+     * @param maxChunks the maximum number of chunks the entities of a request are split into. Each chunk is
+     *  processed by one thread pool task.
+     * @param tracker tracker of processed entities and rejected tasks
+     */
     public EntityResultProcessor(
         CacheProvider<RCFModelType, CacheType> cache,
         HCCheckpointReadWorkerType checkpointReadQueue,
@@ -80,7 +109,9 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
         InferencerType inferencer,
         ThreadPool threadPool,
         String threadPoolName,
-        Clock clock
+        Clock clock,
+        int maxChunks,
+        ProcessingTracker tracker
     ) {
         this.cache = cache;
         this.checkpointReadQueue = checkpointReadQueue;
@@ -89,6 +120,8 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
         this.threadPool = threadPool;
         this.threadPoolName = threadPoolName;
         this.clock = clock;
+        this.maxChunks = Math.max(1, maxChunks);
+        this.tracker = tracker;
     }
 
     public ActionListener<Optional<? extends Config>> onGetConfig(
@@ -135,6 +168,13 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
         }, threadPool.executor(threadPoolName));
     }
 
+    /**
+     * Splits entities into chunks instead of submitting one task per entity, which for a page of
+     * a thousand entities queues a thousand runnables and listeners. Workers claim the next
+     * unprocessed chunk until none is left, so a slow worker doesn't hold back chunks others
+     * could take, and a worker the thread pool rejects loses no entities: the calling thread,
+     * already on the analysis thread pool, works through the chunks as well.
+     */
     private void processEntitiesInParallel(
         List<Entry<Entity, double[]>> entityEntries,
         Map<Entity, double[]> cacheMissEntities,
@@ -151,12 +191,25 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
             return;
         }
 
-        // GroupedActionListener coordinates the multiple parallel operations.
-        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(ActionListener.wrap(r -> {
+        int numberOfEntities = entityEntries.size();
+        int numberOfChunks = Math.min(maxChunks, numberOfEntities);
+        int chunkSize = (numberOfEntities + numberOfChunks - 1) / numberOfChunks;
+        long startMillis = clock.millis();
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger pendingEntities = new AtomicInteger(numberOfEntities);
+        AtomicInteger processedEntities = new AtomicInteger();
+
+        Runnable onAllEntitiesDone = () -> {
+            tracker.onEntitiesProcessed(processedEntities.get(), clock.millis() - startMillis);
             // This is called when ALL entities have been processed (successfully or with cache misses).
             processCacheMissEntities(cacheMissEntities, config, configId, request, listener, processingException);
+        };
+        // shared by all entities of the request
+        ActionListener<Void> entityListener = ActionListener.wrap(r -> {
+            if (pendingEntities.decrementAndGet() == 0) {
+                onAllEntitiesDone.run();
+            }
         }, e -> {
-            // This is called if ANY of the entity processing calls result in an exception.
             LOG.error("Error occurred during parallel entity processing", e);
             // We still proceed with cache misses even if some hot entities failed.
             processingException.updateAndGet(existing -> {
@@ -165,17 +218,43 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
                 }
                 return ExceptionUtil.selectHigherPriorityException(e, existing);
             });
-            processCacheMissEntities(cacheMissEntities, config, configId, request, listener, processingException);
-        }), entityEntries.size());
-
-        for (Entry<Entity, double[]> entityEntry : entityEntries) {
-            // Once the maximum number of threads is reached and all of them are busy, any new tasks will be queued
-            // until one of the threads is freed up. The queue is unbounded, so it's possible to starve the queue if
-            // the processing takes too long.
-            threadPool.executor(threadPoolName).execute(() -> {
-                processSingleEntity(entityEntry, cacheMissEntities, config, configId, request, groupedListener, deadline);
-            });
+            if (pendingEntities.decrementAndGet() == 0) {
+                onAllEntitiesDone.run();
+            }
+        });
+
+        Runnable worker = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < numberOfChunks) {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, numberOfEntities);
+                if (from >= to) {
+                    continue;
+                }
+                if (clock.millis() >= deadline) {
+                    LOG.warn("Timeout reached for config [{}], skipping processing of {} entities.", config.getId(), to - from);
+                    if (pendingEntities.addAndGet(from - to) == 0) {
+                        onAllEntitiesDone.run();
+                    }
+                    continue;
+                }
+                for (int i = from; i < to; i++) {
+                    processedEntities.incrementAndGet();
+                    processSingleEntity(entityEntries.get(i), cacheMissEntities, config, configId, request, entityListener);
+                }
+            }
+        };
+
+        for (int i = 1; i < numberOfChunks; i++) {
+            try {
+                threadPool.executor(threadPoolName).execute(worker);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Entity processing task of config [{}] rejected. Other workers take over its chunks.", configId);
+                tracker.onTaskRejected();
+                break;
+            }
         }
+        worker.run();
     }
 
     private void processSingleEntity(
@@ -184,14 +263,8 @@ public class EntityResultProcessor<RCFModelType extends ThresholdedRandomCutFore
         Config config,
         String configId,
         EntityResultRequest request,
-        ActionListener<Void> listener, // This is the sub-listener from GroupedActionListener
-        long deadline
+        ActionListener<Void> listener // shared by all entities of the request
     ) {
-        if (clock.millis() >= deadline) {
-            LOG.warn("Timeout reached for config [{}], skipping entity processing.", config.getId());
-            listener.onResponse(null);
-            return;
-        }
         Entity entity = entityEntry.getKey();
 
         if (isEntityFromOldNodeMsg(entity) && config.getCategoryFields() != null && config.getCategoryFields().size() == 1) {
@@ -14,9 +14,16 @@ package org.opensearch.timeseries.transport;
 import static org.opensearch.action.ValidateActions.addValidationError;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.core.common.Strings;
@@ -30,6 +37,14 @@ import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.model.Entity;
 
 public class EntityResultRequest extends ActionRequest implements ToXContentObject {
+    /**
+     * Nodes on or after this version exchange entities in columnar encoding: attribute names
+     * and values are dictionary-encoded, feature vectors are laid out in one contiguous matrix,
+     * and each entity carries the hash part of its model Id so that the model node doesn't
+     * recompute it. Requests to and from older nodes keep using a map of entities to features.
+     */
+    public static final Version COLUMNAR_ENTITIES_VERSION = Version.fromString("3.3.0");
+
     protected String configId;
     // changed from Map<String, double[]> to Map<Entity, double[]>
     protected Map<Entity, double[]> entities;
@@ -45,7 +60,11 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
 
         // guarded with version check. Just in case we receive requests from older node where we use String
         // to represent an entity
-        this.entities = in.readMap(Entity::new, StreamInput::readDoubleArray);
+        if (in.getVersion().onOrAfter(COLUMNAR_ENTITIES_VERSION) && in.readBoolean()) {
+            this.entities = readColumnarEntities(in, configId);
+        } else {
+            this.entities = in.readMap(Entity::new, StreamInput::readDoubleArray);
+        }
 
         this.start = in.readLong();
         this.end = in.readLong();
@@ -104,7 +123,16 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         out.writeString(this.configId);
         // guarded with version check. Just in case we send requests to older node where we use String
         // to represent an entity
-        out.writeMap(entities, (s, e) -> e.writeTo(s), StreamOutput::writeDoubleArray);
+        // feature vectors of different lengths don't fit in a matrix
+        boolean columnar = out.getVersion().onOrAfter(COLUMNAR_ENTITIES_VERSION) && getFeatureDimension(entities) >= 0;
+        if (out.getVersion().onOrAfter(COLUMNAR_ENTITIES_VERSION)) {
+            out.writeBoolean(columnar);
+        }
+        if (columnar) {
+            writeColumnarEntities(out, configId, entities);
+        } else {
+            out.writeMap(entities, (s, e) -> e.writeTo(s), StreamOutput::writeDoubleArray);
+        }
 
         out.writeLong(this.start);
         out.writeLong(this.end);
@@ -112,6 +140,102 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         out.writeOptionalString(taskId);
     }
 
+    /**
+     * @return length of all feature vectors, 0 if there is no entity, or -1 if lengths differ
+     */
+    private static int getFeatureDimension(Map<Entity, double[]> entities) {
+        int dimension = -1;
+        for (double[] features : entities.values()) {
+            if (features == null || (dimension >= 0 && features.length != dimension)) {
+                return -1;
+            }
+            dimension = features.length;
+        }
+        return Math.max(dimension, 0);
+    }
+
+    /**
+     * Layout:
+     * <ul>
+     * <li>dictionary of distinct attribute names and values</li>
+     * <li>number of entities</li>
+     * <li>per entity: number of attributes, name and value ordinals in the dictionary, and the optional
+     * model Id without the prefix shared by all entities of the config</li>
+     * <li>feature dimension and the row-major feature matrix</li>
+     * </ul>
+     */
+    private static void writeColumnarEntities(StreamOutput out, String configId, Map<Entity, double[]> entities) throws IOException {
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        for (Entity entity : entities.keySet()) {
+            for (Map.Entry<String, String> attribute : entity.getAttributes().entrySet()) {
+                ordinals.computeIfAbsent(attribute.getKey(), key -> addToDictionary(dictionary, key));
+                ordinals.computeIfAbsent(attribute.getValue(), value -> addToDictionary(dictionary, value));
+            }
+        }
+        out.writeStringCollection(dictionary);
+
+        int dimension = getFeatureDimension(entities);
+        double[] matrix = new double[entities.size() * dimension];
+        String modelIdPrefix = Entity.getModelIdPrefix(configId);
+        int row = 0;
+        out.writeVInt(entities.size());
+        for (Map.Entry<Entity, double[]> entry : entities.entrySet()) {
+            Entity entity = entry.getKey();
+            out.writeVInt(entity.getAttributes().size());
+            for (Map.Entry<String, String> attribute : entity.getAttributes().entrySet()) {
+                out.writeVInt(ordinals.get(attribute.getKey()));
+                out.writeVInt(ordinals.get(attribute.getValue()));
+            }
+            Optional<String> modelId = entity.getModelId(configId);
+            if (modelId.isPresent() && modelId.get().startsWith(modelIdPrefix)) {
+                out.writeOptionalString(modelId.get().substring(modelIdPrefix.length()));
+            } else {
+                out.writeOptionalString(null);
+            }
+            System.arraycopy(entry.getValue(), 0, matrix, row * dimension, dimension);
+            row++;
+        }
+        out.writeVInt(dimension);
+        out.writeDoubleArray(matrix);
+    }
+
+    private static int addToDictionary(List<String> dictionary, String term) {
+        dictionary.add(term);
+        return dictionary.size() - 1;
+    }
+
+    private static Map<Entity, double[]> readColumnarEntities(StreamInput in, String configId) throws IOException {
+        // entities share dictionary strings instead of each holding its own copies
+        String[] dictionary = in.readStringArray();
+        int numberOfEntities = in.readVInt();
+        List<Entity> entityList = new ArrayList<>(numberOfEntities);
+        String modelIdPrefix = Entity.getModelIdPrefix(configId);
+        for (int i = 0; i < numberOfEntities; i++) {
+            int numberOfAttributes = in.readVInt();
+            SortedMap<String, String> attributes = new TreeMap<>();
+            for (int j = 0; j < numberOfAttributes; j++) {
+                attributes.put(dictionary[in.readVInt()], dictionary[in.readVInt()]);
+            }
+            String modelIdSuffix = in.readOptionalString();
+            entityList
+                .add(
+                    Entity
+                        .createEntityFromOrderedMap(attributes, configId, modelIdSuffix == null ? null : modelIdPrefix + modelIdSuffix)
+                );
+        }
+
+        int dimension = in.readVInt();
+        double[] matrix = in.readDoubleArray();
+        Map<Entity, double[]> entities = new HashMap<>();
+        for (int i = 0; i < numberOfEntities; i++) {
+            double[] features = new double[dimension];
+            System.arraycopy(matrix, i * dimension, features, 0, dimension);
+            entities.put(entityList.get(i), features);
+        }
+        return entities;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         ActionRequestValidationException validationException = null;
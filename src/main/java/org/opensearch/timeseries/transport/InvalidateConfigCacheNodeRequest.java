@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+/**
+ *  Config cache invalidation request to an individual node
+ */
+public class InvalidateConfigCacheNodeRequest extends TransportRequest {
+    private String configId;
+    private long seqNo;
+
+    public InvalidateConfigCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.configId = in.readString();
+        this.seqNo = in.readZLong();
+    }
+
+    public InvalidateConfigCacheNodeRequest(InvalidateConfigCacheRequest request) {
+        this.configId = request.getConfigId();
+        this.seqNo = request.getSeqNo();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(configId);
+        out.writeZLong(seqNo);
+    }
+
+    public String getConfigId() {
+        return configId;
+    }
+
+    public long getSeqNo() {
+        return seqNo;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+public class InvalidateConfigCacheNodeResponse extends BaseNodeResponse {
+
+    public InvalidateConfigCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public InvalidateConfigCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+}
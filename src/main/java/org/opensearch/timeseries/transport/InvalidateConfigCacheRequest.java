@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+import java.io.IOException;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.timeseries.constant.CommonMessages;
+
+/**
+ * Request sent to all nodes after a config is updated or deleted so that nodes drop the cached definition
+ */
+public class InvalidateConfigCacheRequest extends BaseNodesRequest<InvalidateConfigCacheRequest> {
+    private String configId;
+    // sequence number of the config document change
+    private long seqNo;
+
+    public InvalidateConfigCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        this.configId = in.readString();
+        this.seqNo = in.readZLong();
+    }
+
+    /**
+     * Request to all nodes
+     * @param configId config id
+     * @param seqNo sequence number of the config document change
+     */
+    public InvalidateConfigCacheRequest(String configId, long seqNo) {
+        super((String[]) null);
+        this.configId = configId;
+        this.seqNo = seqNo;
+    }
+
+    public String getConfigId() {
+        return configId;
+    }
+
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(configId);
+        out.writeZLong(seqNo);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (Strings.isEmpty(configId)) {
+            validationException = addValidationError(CommonMessages.CONFIG_ID_MISSING_MSG, validationException);
+        }
+        return validationException;
+    }
+}
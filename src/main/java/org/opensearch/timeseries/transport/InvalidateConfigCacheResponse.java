@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class InvalidateConfigCacheResponse extends BaseNodesResponse<InvalidateConfigCacheNodeResponse> {
+
+    public InvalidateConfigCacheResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public InvalidateConfigCacheResponse(
+        ClusterName clusterName,
+        List<InvalidateConfigCacheNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<InvalidateConfigCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(InvalidateConfigCacheNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<InvalidateConfigCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Drops the cached definition of an updated or deleted config on every node
+ */
+public class InvalidateConfigCacheTransportAction extends
+    TransportNodesAction<InvalidateConfigCacheRequest, InvalidateConfigCacheResponse, InvalidateConfigCacheNodeRequest, InvalidateConfigCacheNodeResponse> {
+    private static final Logger LOG = LogManager.getLogger(InvalidateConfigCacheTransportAction.class);
+    private final NodeStateManager nodeStateManager;
+
+    @Inject
+    public InvalidateConfigCacheTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        NodeStateManager nodeStateManager
+    ) {
+        super(
+            InvalidateConfigCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            InvalidateConfigCacheRequest::new,
+            InvalidateConfigCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            InvalidateConfigCacheNodeResponse.class
+        );
+        this.nodeStateManager = nodeStateManager;
+    }
+
+    @Override
+    protected InvalidateConfigCacheResponse newResponse(
+        InvalidateConfigCacheRequest request,
+        List<InvalidateConfigCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new InvalidateConfigCacheResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected InvalidateConfigCacheNodeRequest newNodeRequest(InvalidateConfigCacheRequest request) {
+        return new InvalidateConfigCacheNodeRequest(request);
+    }
+
+    @Override
+    protected InvalidateConfigCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new InvalidateConfigCacheNodeResponse(in);
+    }
+
+    @Override
+    protected InvalidateConfigCacheNodeResponse nodeOperation(InvalidateConfigCacheNodeRequest request) {
+        LOG.debug("Invalidate cached config {} older than seq no {}", request.getConfigId(), request.getSeqNo());
+        nodeStateManager.invalidateConfig(request.getConfigId(), request.getSeqNo());
+        return new InvalidateConfigCacheNodeResponse(clusterService.localNode());
+    }
+}
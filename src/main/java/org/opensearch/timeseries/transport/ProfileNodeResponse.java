@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -22,12 +23,16 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.ModelProfile;
 
 /**
  * Profile response on a node
  */
 public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+    // first version that sends the entity cardinality sketch
+    public static final Version ENTITY_CARDINALITY_SKETCH_VERSION = Version.fromString("3.3.0");
+
     private Map<String, Long> modelSize;
     private long activeEntities;
     private long totalUpdates;
@@ -36,6 +41,8 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
     private long modelCount;
     // added after OpenSearch 3.0
     private boolean coordinatingNode;
+    // added after OpenSearch 3.2. Not sent to older nodes, which profile without it.
+    private EntityCardinalitySketch entityCardinalitySketch;
 
     /**
      * Constructor
@@ -56,6 +63,9 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
             modelCount = in.readVLong();
         }
         coordinatingNode = in.readBoolean();
+        if (in.getVersion().onOrAfter(ENTITY_CARDINALITY_SKETCH_VERSION)) {
+            entityCardinalitySketch = in.readOptionalWriteable(EntityCardinalitySketch::new);
+        }
     }
 
     /**
@@ -77,6 +87,31 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
         List<ModelProfile> modelProfiles,
         long modelCount,
         boolean coordinatingNode
+    ) {
+        this(node, modelSize, activeEntity, totalUpdates, modelProfiles, modelCount, coordinatingNode, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node DiscoveryNode object
+     * @param modelSize Mapping of model id to its memory consumption in bytes
+     * @param activeEntity active entity count
+     * @param totalUpdates RCF model total updates
+     * @param modelProfiles a collection of model profiles like model size
+     * @param modelCount the number of models on the node
+     * @param coordinatingNode whether current node is a coordinating node of a config
+     * @param entityCardinalitySketch sketch of the entities the config's HC runs streamed on the node. Can be null.
+     */
+    public ProfileNodeResponse(
+        DiscoveryNode node,
+        Map<String, Long> modelSize,
+        long activeEntity,
+        long totalUpdates,
+        List<ModelProfile> modelProfiles,
+        long modelCount,
+        boolean coordinatingNode,
+        EntityCardinalitySketch entityCardinalitySketch
     ) {
         super(node);
         this.modelSize = modelSize;
@@ -85,6 +120,7 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
         this.modelProfiles = modelProfiles;
         this.modelCount = modelCount;
         this.coordinatingNode = coordinatingNode;
+        this.entityCardinalitySketch = entityCardinalitySketch;
     }
 
     /**
@@ -119,6 +155,9 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
             out.writeBoolean(false);
         }
         out.writeBoolean(coordinatingNode);
+        if (out.getVersion().onOrAfter(ENTITY_CARDINALITY_SKETCH_VERSION)) {
+            out.writeOptionalWriteable(entityCardinalitySketch);
+        }
     }
 
     /**
@@ -175,4 +214,8 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
     public boolean isCoordinatingNode() {
         return coordinatingNode;
     }
+
+    public EntityCardinalitySketch getEntityCardinalitySketch() {
+        return entityCardinalitySketch;
+    }
 }
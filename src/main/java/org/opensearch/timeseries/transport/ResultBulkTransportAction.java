@@ -26,7 +26,9 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -110,6 +112,22 @@ public abstract class ResultBulkTransportAction<ResultType extends IndexableResu
 
     protected abstract BulkRequest prepareBulkRequest(float indexingPressurePercent, ResultBulkRequestType request);
 
+    /**
+     * Adds the result of a write request to the bulk request, as is if it was encoded when created.
+     * @param bulkRequest bulk request
+     * @param resultWriteRequest result write request
+     * @param resultIndex result index or alias. Null for the default result index.
+     */
+    protected void addResult(BulkRequest bulkRequest, ResultWriteRequest<ResultType> resultWriteRequest, String resultIndex) {
+        BytesReference resultSource = resultWriteRequest.getResultSource();
+        if (resultSource == null) {
+            addResult(bulkRequest, resultWriteRequest.getResult(), resultIndex);
+            return;
+        }
+        String index = resultIndex == null ? indexName : resultIndex;
+        bulkRequest.add(new IndexRequest(index).source(resultSource, XContentType.JSON));
+    }
+
     protected void addResult(BulkRequest bulkRequest, ToXContentObject result, String resultIndex) {
         String index = resultIndex == null ? indexName : resultIndex;
         try (XContentBuilder builder = jsonBuilder()) {
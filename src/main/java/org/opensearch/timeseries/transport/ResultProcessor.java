@@ -12,9 +12,11 @@
 package org.opensearch.timeseries.transport;
 
 import java.net.ConnectException;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -78,8 +80,10 @@ import org.opensearch.timeseries.model.IndexableResult;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.model.TaskType;
 import org.opensearch.timeseries.model.TimeSeriesTask;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.Stats;
+import org.opensearch.timeseries.stats.TimeSeriesStat;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
 import org.opensearch.timeseries.util.DataUtil;
@@ -195,6 +199,55 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
         this.singleStreamActionName = singleStreamActionName;
     }
 
+    /**
+     * @return max number of HC entity pages fetched but not yet sent to model nodes. 1 disables prefetch.
+     */
+    protected int getMaxPagesInFlight() {
+        return 1;
+    }
+
+    /**
+     * @return tracker reporting page fetches of a composite retriever
+     */
+    protected CompositeRetriever.PageFetchTracker createPageFetchTracker() {
+        return CompositeRetriever.PageFetchTracker.NOOP;
+    }
+
+    /**
+     * Reports page fetch count, accumulated fetch latency, and pages in flight as node-level stats.
+     */
+    protected class PageFetchStatsTracker implements CompositeRetriever.PageFetchTracker {
+        private final StatNames fetchCountStat;
+        private final StatNames fetchLatencyStat;
+        private final StatNames pagesInFlightStat;
+
+        public PageFetchStatsTracker(StatNames fetchCountStat, StatNames fetchLatencyStat, StatNames pagesInFlightStat) {
+            this.fetchCountStat = fetchCountStat;
+            this.fetchLatencyStat = fetchLatencyStat;
+            this.pagesInFlightStat = pagesInFlightStat;
+        }
+
+        @Override
+        public void onFetchStarted() {
+            getStat(pagesInFlightStat).ifPresent(TimeSeriesStat::increment);
+        }
+
+        @Override
+        public void onPageFetched(long tookMillis) {
+            getStat(fetchCountStat).ifPresent(TimeSeriesStat::increment);
+            getStat(fetchLatencyStat).ifPresent(stat -> stat.add(tookMillis));
+        }
+
+        @Override
+        public void onPageReleased() {
+            getStat(pagesInFlightStat).ifPresent(TimeSeriesStat::decrement);
+        }
+
+        private Optional<TimeSeriesStat<?>> getStat(StatNames name) {
+            return Optional.ofNullable(timeSeriesStats.getStats().get(name.getName()));
+        }
+    }
+
     /**
      * didn't use ActionListener.wrap so that I can
      * 1) use this to refer to the listener inside the listener
@@ -232,12 +285,21 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             // Increment pagesInFlight to track the processing of this page
             pagesInFlight.incrementAndGet();
 
-            // start processing next page after sending out features for previous page
-            if (pageIterator.hasNext()) {
-                pageIterator.next(this);
-            } else if (config.getImputationOption() != null) {
-                scheduleImputeHCTask();
+            // start processing next page after sending out features for previous page.
+            // In prefetch mode, the iterator has requested the next page already.
+            boolean lastPage = false;
+            if (false == pageIterator.isPrefetching()) {
+                if (pageIterator.hasNext()) {
+                    pageIterator.next(this);
+                } else {
+                    lastPage = true;
+                    if (config.getImputationOption() != null) {
+                        scheduleImputeHCTask();
+                    }
+                }
             }
+            // in prefetch mode, onPagesExhausted completes the pass
+            recordEntities(entityFeatures, lastPage && pageIterator.isComplete());
 
             LOG.debug("Entity features empty status for config [{}]: {}", config.getId(), entityFeatures.isEmpty());
 
@@ -325,15 +387,51 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
                     } finally {
                         // Decrement pagesInFlight after processing is complete
                         pagesInFlight.decrementAndGet();
+                        pageIterator.release();
                     }
                 });
             } else {
                 // No entity features to process
                 // Decrement pagesInFlight immediately
                 pagesInFlight.decrementAndGet();
+                pageIterator.release();
+            }
+        }
+
+        /**
+         * Called in prefetch mode after the last page has been handed over.
+         */
+        void onPagesExhausted() {
+            if (pageIterator.isComplete()) {
+                recordEntities(null, true);
+            }
+            if (config.getImputationOption() != null) {
+                scheduleImputeHCTask();
             }
         }
 
+        /**
+         * Feeds the entities of a page into the config's cardinality sketch used by the total entities profile.
+         * Run once tasks are skipped as they have no realtime task cache.
+         *
+         * @param entityFeatures page of entities. Can be null.
+         * @param passComplete whether all pages of the run have been recorded
+         */
+        private void recordEntities(CompositeRetriever.Page entityFeatures, boolean passComplete) {
+            if (runOnce || false == TimeSeriesEnabledSetting.isEntityCardinalitySketchEnabled()) {
+                return;
+            }
+            boolean emptyPage = entityFeatures == null || entityFeatures.isEmpty();
+            if (emptyPage && false == passComplete) {
+                return;
+            }
+            // lazy view so entity names go straight into the sketch without a per page copy
+            Iterable<String> entities = emptyPage
+                ? Collections.emptyList()
+                : () -> entityFeatures.getResults().keySet().stream().map(Entity::toString).iterator();
+            realTimeTaskManager.addRealtimeEntities(configId, entities, passComplete);
+        }
+
         @Override
         public void onFailure(Exception e) {
             LOG.error("Unexpetected exception", e);
@@ -521,12 +619,15 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
                 client,
                 clientUtil,
                 nextDetectionStartTime,
+                Clock.systemUTC(),
                 settings,
                 maxEntitiesPerInterval,
                 pageSize,
                 indexNameExpressionResolver,
                 clusterService,
-                analysisType
+                analysisType,
+                getMaxPagesInFlight(),
+                createPageFetchTracker()
             );
             LOG.debug("CompositeRetriever created for config [{}]", configID);
             PageIterator pageIterator = null;
@@ -544,7 +645,11 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             // hasNext is always true unless time is up at this point (won't happen in normal cases)
             if (pageIterator.hasNext()) {
                 LOG.debug("PageIterator has next page for config [{}]", configID);
-                pageIterator.next(getEntityFeatureslistener);
+                if (pageIterator.isPrefetching()) {
+                    pageIterator.prefetch(getEntityFeatureslistener, getEntityFeatureslistener::onPagesExhausted);
+                } else {
+                    pageIterator.next(getEntityFeatureslistener);
+                }
             } else if (config.getImputationOption() != null) {
                 LOG.debug("Starting imputation for HC config [{}]", configID);
                 imputeHC(dataStartTime, dataEndTime, configID, taskId);
@@ -64,12 +64,14 @@ import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.BaseAggregationBuilder;
 import org.opensearch.search.aggregations.PipelineAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.Max;
@@ -432,6 +434,66 @@ public final class ParseUtils {
         return new SearchSourceBuilder().query(internalFilterQuery).size(0).aggregation(dateRangeBuilder);
     }
 
+    /**
+     * Generate a query fetching cold start samples of several entities of the same config at once.
+     * Each entity gets a composite bucket holding the same date range aggregation as
+     * {@link #generateColdStartQuery} and the entity's earliest timestamp, so that the per-entity
+     * min time lookup of cold start is answered by the same search.
+     *
+     * @param config config accessor
+     * @param ranges sample ranges in ascending order
+     * @param entities entities to fetch samples for
+     * @param xContentRegistry registry to parse feature aggregations
+     * @return search source of the batched cold start query
+     * @throws IOException if feature aggregations cannot be parsed
+     */
+    public static SearchSourceBuilder generateBatchColdStartQuery(
+        Config config,
+        List<Entry<Long, Long>> ranges,
+        List<Entity> entities,
+        NamedXContentRegistry xContentRegistry
+    ) throws IOException {
+
+        BoolQueryBuilder entityFilterQuery = QueryBuilders.boolQuery().minimumShouldMatch(1);
+        for (Entity entity : entities) {
+            BoolQueryBuilder singleEntityQuery = QueryBuilders.boolQuery();
+            for (TermQueryBuilder term : entity.getTermQueryForCustomerIndex()) {
+                singleEntityQuery.filter(term);
+            }
+            entityFilterQuery.should(singleEntityQuery);
+        }
+
+        BoolQueryBuilder internalFilterQuery = QueryBuilders.boolQuery().filter(config.getFilterQuery()).filter(entityFilterQuery);
+
+        DateRangeAggregationBuilder dateRangeBuilder = dateRange("date_range").field(config.getTimeField()).format("epoch_millis");
+        for (Entry<Long, Long> range : ranges) {
+            dateRangeBuilder.addRange(range.getKey(), range.getValue());
+        }
+
+        if (config.getFeatureAttributes() != null) {
+            for (Feature feature : config.getFeatureAttributes()) {
+                AggregatorFactories.Builder internalAgg = parseAggregators(
+                    feature.getAggregation().toString(),
+                    xContentRegistry,
+                    feature.getId()
+                );
+                dateRangeBuilder.subAggregation(internalAgg.getAggregatorFactories().iterator().next());
+            }
+        }
+
+        List<CompositeValuesSourceBuilder<?>> sources = new ArrayList<>();
+        for (String categoryField : config.getCategoryFields()) {
+            sources.add(new TermsValuesSourceBuilder(categoryField).field(categoryField));
+        }
+        // the entity filter bounds the number of composite buckets, so a single page is enough
+        CompositeAggregationBuilder composite = new CompositeAggregationBuilder("entities", sources)
+            .size(entities.size())
+            .subAggregation(dateRangeBuilder)
+            .subAggregation(AggregationBuilders.min(CommonName.AGG_NAME_MIN_TIME).field(config.getTimeField()));
+
+        return new SearchSourceBuilder().query(internalFilterQuery).size(0).aggregation(composite);
+    }
+
     /**
      * Map feature data to its Id and name
      * @param currentFeature Feature data
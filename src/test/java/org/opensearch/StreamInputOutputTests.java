@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.ad.transport.ADEntityProfileAction;
@@ -118,6 +119,71 @@ public class StreamInputOutputTests extends AbstractTimeSeriesTest {
         assertTrue(areEqualWithArrayValue(readRequest.getEntities(), entities));
     }
 
+    private Map<Entity, double[]> multiCategoryEntities(int count, int dimension) {
+        Map<Entity, double[]> multiEntities = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> attrs = new HashMap<>();
+            attrs.put("host", "server_" + i);
+            attrs.put("service", "app_" + (i % 3));
+            double[] features = new double[dimension];
+            Arrays.fill(features, i);
+            multiEntities.put(Entity.createEntityByReordering(attrs), features);
+        }
+        return multiEntities;
+    }
+
+    public void testColumnarEntityResultRequest() throws IOException {
+        entities = multiCategoryEntities(10, 3);
+        entityResultRequest = new EntityResultRequest(detectorId, entities, 10L, 20L, AnalysisType.AD, "task");
+        output.setVersion(EntityResultRequest.COLUMNAR_ENTITIES_VERSION);
+        entityResultRequest.writeTo(output);
+
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(EntityResultRequest.COLUMNAR_ENTITIES_VERSION);
+        EntityResultRequest readRequest = new EntityResultRequest(streamInput);
+        assertTrue(areEqualWithArrayValue(readRequest.getEntities(), entities));
+        assertEquals("task", readRequest.getTaskId());
+        assertEquals(AnalysisType.AD, readRequest.getAnalysisType());
+        for (Entity readEntity : readRequest.getEntities().keySet()) {
+            // shipped model Id matches the one computed locally
+            assertEquals(
+                Entity.createEntityFromOrderedMap(new TreeMap<>(readEntity.getAttributes())).getModelId(detectorId),
+                readEntity.getModelId(detectorId)
+            );
+        }
+
+        // smaller than one map entry per entity
+        BytesStreamOutput legacyOutput = new BytesStreamOutput();
+        legacyOutput.setVersion(Version.V_3_2_0);
+        entityResultRequest.writeTo(legacyOutput);
+        assertTrue(output.size() < legacyOutput.size());
+    }
+
+    public void testEntityResultRequestToOldNode() throws IOException {
+        entities = multiCategoryEntities(5, 2);
+        entityResultRequest = new EntityResultRequest(detectorId, entities, 10L, 20L, AnalysisType.AD, null);
+        output.setVersion(Version.V_3_2_0);
+        entityResultRequest.writeTo(output);
+
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_2_0);
+        EntityResultRequest readRequest = new EntityResultRequest(streamInput);
+        assertTrue(areEqualWithArrayValue(readRequest.getEntities(), entities));
+    }
+
+    public void testEntityResultRequestWithRaggedFeatures() throws IOException {
+        entities = multiCategoryEntities(2, 2);
+        entities.put(entity, new double[] { 1, 2, 3 });
+        entityResultRequest = new EntityResultRequest(detectorId, entities, 10L, 20L, AnalysisType.AD, null);
+        output.setVersion(EntityResultRequest.COLUMNAR_ENTITIES_VERSION);
+        entityResultRequest.writeTo(output);
+
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(EntityResultRequest.COLUMNAR_ENTITIES_VERSION);
+        EntityResultRequest readRequest = new EntityResultRequest(streamInput);
+        assertTrue(areEqualWithArrayValue(readRequest.getEntities(), entities));
+    }
+
     private void setUpEntityProfileRequest() {
         profilesToCollect = new HashSet<EntityProfileName>();
         profilesToCollect.add(EntityProfileName.STATE);
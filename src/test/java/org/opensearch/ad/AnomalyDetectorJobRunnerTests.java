@@ -864,6 +864,7 @@ public class AnomalyDetectorJobRunnerTests extends AbstractTimeSeriesTest {
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_ROLLOVER_PERIOD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD,
+                                AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
                                 AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS
                             )
                     )
@@ -62,8 +62,10 @@ import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.model.ConfigProfile;
 import org.opensearch.timeseries.model.ConfigState;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.Job;
 import org.opensearch.timeseries.model.ProfileName;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.transport.ProfileNodeResponse;
 import org.opensearch.timeseries.transport.ProfileResponse;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
@@ -335,4 +337,69 @@ public class MultiEntityProfileRunnerTests extends AbstractTimeSeriesTest {
         }), stateNError);
         assertTrue(inProgressLatch.await(100, TimeUnit.SECONDS));
     }
+
+    private static EntityCardinalitySketch createSketch(int start, int end, boolean complete) {
+        List<String> entities = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            entities.add("host-" + i);
+        }
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(entities);
+        if (complete) {
+            sketch.markComplete();
+        }
+        return sketch;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTotalEntitiesFromSketches() throws InterruptedException {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            doAnswer(invocation -> {
+                ActionListener<ProfileResponse> listener = (ActionListener<ProfileResponse>) invocation.getArguments()[2];
+                DiscoveryNode previousCoordinatingNode = new DiscoveryNode(
+                    "nodename1",
+                    "node1",
+                    new TransportAddress(TransportAddress.META_ADDRESS, 9300),
+                    emptyMap(),
+                    emptySet(),
+                    Version.CURRENT
+                );
+                DiscoveryNode coordinatingNode = new DiscoveryNode(
+                    "nodename2",
+                    "node2",
+                    new TransportAddress(TransportAddress.META_ADDRESS, 9301),
+                    emptyMap(),
+                    emptySet(),
+                    Version.CURRENT
+                );
+                // the previous coordinating node went through all entities before the config moved
+                List<ProfileNodeResponse> profileNodeResponses = Arrays
+                    .asList(
+                        new ProfileNodeResponse(previousCoordinatingNode, null, 0L, 0L, null, 0, false, createSketch(0, 300, true)),
+                        new ProfileNodeResponse(coordinatingNode, null, 0L, 0L, null, 0, true, createSketch(200, 500, false))
+                    );
+                ClusterName clusterName = new ClusterName("test-cluster-name");
+                listener.onResponse(new ProfileResponse(clusterName, profileNodeResponses, Collections.emptyList()));
+                return null;
+            }).when(client).execute(any(ADProfileAction.class), any(), any());
+            // the exact aggregation is not needed
+            doAnswer(invocation -> {
+                assertTrue("should not reach here", false);
+                return null;
+            }).when(client).search(any(), any());
+
+            final CountDownLatch inProgressLatch = new CountDownLatch(1);
+            runner.profile(detectorId, ActionListener.wrap(response -> {
+                assertEquals(500, response.getTotalEntities().longValue(), 25);
+                inProgressLatch.countDown();
+            }, exception -> {
+                assertTrue("Should not reach here", false);
+                inProgressLatch.countDown();
+            }), Collections.singleton(ProfileName.TOTAL_ENTITIES));
+            assertTrue(inProgressLatch.await(100, TimeUnit.SECONDS));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
 }
@@ -11,6 +11,9 @@
 
 package org.opensearch.ad.caching;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -89,6 +92,12 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
 
         memoryPerEntity = 81920;
         memoryTracker = mock(MemoryTracker.class);
+        // tests control admission with canAllocate and canAllocateReserved
+        when(memoryTracker.tryConsumeMemory(anyLong(), anyBoolean(), any())).thenAnswer(invocation -> {
+            long bytes = invocation.getArgument(0);
+            boolean reserved = invocation.getArgument(1);
+            return reserved ? memoryTracker.canAllocateReserved(bytes) : memoryTracker.canAllocate(bytes);
+        });
 
         checkpointWriteQueue = mock(ADCheckpointWriteWorker.class);
         checkpointMaintainQueue = mock(ADCheckpointMaintainWorker.class);
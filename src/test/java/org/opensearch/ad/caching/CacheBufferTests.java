@@ -11,6 +11,10 @@
 
 package org.opensearch.ad.caching;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -108,6 +112,27 @@ public class CacheBufferTests extends AbstractCacheTest {
         assertEquals(2, cacheBuffer.getActiveEntities());
     }
 
+    public void testTryPut() {
+        // dedicated cache
+        assertTrue(cacheBuffer.tryPut(modelId1, modelState1));
+        verify(memoryTracker, never()).tryConsumeMemory(anyLong(), anyBoolean(), any());
+
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+        assertTrue(!cacheBuffer.tryPut(modelId2, modelState2));
+        assertTrue(!cacheBuffer.isActive(modelId2));
+
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(true);
+        assertTrue(cacheBuffer.tryPut(modelId2, modelState2));
+        assertTrue(cacheBuffer.isActive(modelId2));
+        // already present
+        assertTrue(cacheBuffer.tryPut(modelId2, modelState2));
+
+        // the rejected and the accepted insert; memory is checked and consumed in one step
+        verify(memoryTracker, times(2)).tryConsumeMemory(memoryPerEntity, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+        verify(memoryTracker, never()).consumeMemory(anyLong(), anyBoolean(), any());
+        assertEquals(memoryPerEntity, cacheBuffer.getBytesInSharedCache());
+    }
+
     public void testMaintenance() {
         String modelId1 = "1";
         String modelId2 = "2";
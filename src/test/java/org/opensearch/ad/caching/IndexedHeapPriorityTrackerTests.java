@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.caching;
+
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.opensearch.timeseries.caching.IndexedHeapPriorityTracker;
+import org.opensearch.timeseries.caching.PriorityTracker;
+
+/**
+ * Runs the PriorityTracker tests against IndexedHeapPriorityTracker plus checks that
+ * both trackers agree on random workloads.
+ */
+public class IndexedHeapPriorityTrackerTests extends PriorityTrackerTests {
+
+    @Override
+    protected PriorityTracker createTracker(Clock clock, long intervalSecs, long landmarkEpoch, int maxEntities) {
+        return new IndexedHeapPriorityTracker(clock, intervalSecs, landmarkEpoch, maxEntities);
+    }
+
+    public void testCreate() {
+        assertTrue(PriorityTracker.create(clock, 1, now.getEpochSecond(), 3, true) instanceof IndexedHeapPriorityTracker);
+        assertTrue(!(PriorityTracker.create(clock, 1, now.getEpochSecond(), 3, false) instanceof IndexedHeapPriorityTracker));
+    }
+
+    public void testRemoveAndReuseSlot() {
+        when(clock.instant()).thenReturn(now);
+        tracker.updatePriority(entity1);
+        tracker.updatePriority(entity1);
+        tracker.updatePriority(entity2);
+        tracker.removePriority(entity1);
+        assertEquals(1, tracker.size());
+        assertEquals(entity2, tracker.getMinimumPriorityEntityId().get());
+        // removing an unknown entity is a no-op
+        tracker.removePriority("unknown");
+        assertEquals(1, tracker.size());
+
+        tracker.updatePriority(entity3);
+        tracker.updatePriority(entity3);
+        assertEquals(2, tracker.size());
+        assertEquals(entity3, tracker.getHighestPriorityEntityId().get());
+        assertEquals(entity2, tracker.getMinimumPriorityEntityId().get());
+
+        tracker.clearPriority();
+        assertEquals(0, tracker.size());
+        assertTrue(!tracker.getMinimumPriorityEntityId().isPresent());
+        tracker.updatePriority(entity1);
+        assertEquals(entity1, tracker.getHighestPriorityEntityId().get());
+    }
+
+    public void testAddPriorityOverridesExisting() {
+        when(clock.instant()).thenReturn(now);
+        tracker.addPriority(entity1, 5f);
+        tracker.addPriority(entity2, 3f);
+        assertEquals(entity2, tracker.getMinimumPriorityEntityId().get());
+        tracker.addPriority(entity2, 7f);
+        assertEquals(2, tracker.size());
+        assertEquals(entity1, tracker.getMinimumPriorityEntityId().get());
+        assertEquals(entity2, tracker.getTopNEntities(1).get(0));
+    }
+
+    public void testSameOrderAsSkipList() {
+        int maxEntities = 50;
+        PriorityTracker skipList = new PriorityTracker(clock, 1, now.getEpochSecond(), maxEntities);
+        PriorityTracker heap = createTracker(clock, 1, now.getEpochSecond(), maxEntities);
+        for (int round = 0; round < 20; round++) {
+            when(clock.instant()).thenReturn(now.plusSeconds(round * 60L));
+            for (int i = 0; i < 100; i++) {
+                String entity = "entity" + randomIntBetween(0, 80);
+                if (randomIntBetween(0, 9) == 0) {
+                    skipList.removePriority(entity);
+                    heap.removePriority(entity);
+                } else {
+                    assertEquals(skipList.updatePriority(entity), heap.updatePriority(entity), 0.0001f);
+                }
+            }
+            assertEquals(skipList.size(), heap.size());
+            assertEquals(skipList.getTopNEntities(maxEntities), heap.getTopNEntities(maxEntities));
+            Optional<Entry<String, Float>> expectedMin = skipList.getMinimumScaledPriority();
+            Optional<Entry<String, Float>> actualMin = heap.getMinimumScaledPriority();
+            assertEquals(expectedMin.isPresent(), actualMin.isPresent());
+            if (expectedMin.isPresent()) {
+                assertEquals(expectedMin.get().getKey(), actualMin.get().getKey());
+                assertEquals(expectedMin.get().getValue(), actualMin.get().getValue(), 0.0001f);
+            }
+            assertEquals(skipList.getHighestPriorityEntityId(), heap.getHighestPriorityEntityId());
+        }
+    }
+
+    public void testGrowBeyondInitialCapacity() {
+        when(clock.instant()).thenReturn(now);
+        PriorityTracker heap = createTracker(clock, 1, now.getEpochSecond(), 1000);
+        for (int i = 0; i < 500; i++) {
+            heap.addPriority("entity" + i, i);
+        }
+        assertEquals(500, heap.size());
+        assertEquals("entity0", heap.getMinimumPriorityEntityId().get());
+        assertEquals("entity499", heap.getHighestPriorityEntityId().get());
+        List<String> top = heap.getTopNEntities(3);
+        assertEquals(List.of("entity499", "entity498", "entity497"), top);
+    }
+}
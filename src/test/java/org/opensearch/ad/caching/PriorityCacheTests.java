@@ -16,6 +16,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -40,6 +41,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -65,7 +67,11 @@ import org.opensearch.threadpool.Scheduler.ScheduledCancellable;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
+import org.opensearch.timeseries.caching.CompressedModelTier;
+import org.opensearch.timeseries.caching.CountMinDoorKeeper;
+import org.opensearch.timeseries.caching.ModelSpillFile;
 import org.opensearch.timeseries.common.exception.LimitExceededException;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.ml.ModelManager;
@@ -73,6 +79,7 @@ import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
@@ -218,7 +225,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
 
         // input dimension: 3, shingle: 4
         long expectedMemoryPerEntity = 467872L;
-        verify(memoryTracker, times(1)).consumeMemory(memoryConsumed.capture(), reserved.capture(), origin.capture());
+        verify(memoryTracker, times(1)).tryConsumeMemory(memoryConsumed.capture(), reserved.capture(), origin.capture());
         assertEquals(dedicatedCacheSize * expectedMemoryPerEntity, memoryConsumed.getValue().intValue());
         assertEquals(true, reserved.getValue().booleanValue());
         assertEquals(MemoryTracker.Origin.REAL_TIME_DETECTOR, origin.getValue());
@@ -699,6 +706,52 @@ public class PriorityCacheTests extends AbstractCacheTest {
         }
     }
 
+    public void testDoorKeeperSketchMemoryAccounted() {
+        try {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.DOOR_KEEPER_IN_CACHE_ENABLED, true);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, true);
+            // the node can host 5000 models of the detector
+            when(memoryTracker.getHeapLimit()).thenReturn(memoryPerEntity * 5000);
+            when(memoryTracker.tryConsumeMemory(anyLong(), anyBoolean(), any())).thenReturn(true);
+            String modelId = entity1.getModelId(detectorId).get();
+            // first hit is blocked by the door keeper
+            assertTrue(null == entityCache.get(modelId, detector));
+            entityCache.get(entity2.getModelId(detectorId).get(), detector);
+
+            ArgumentCaptor<Long> consumed = ArgumentCaptor.forClass(Long.class);
+            // one door keeper per detector
+            verify(memoryTracker, times(1)).tryConsumeMemory(consumed.capture(), eq(false), eq(MemoryTracker.Origin.REAL_TIME_DETECTOR));
+            // sized by the models the node can host instead of the maximum insertions
+            assertEquals(CountMinDoorKeeper.estimateMemoryBytes(5000), consumed.getValue().longValue());
+            long maxSketchBytes = CountMinDoorKeeper.estimateMemoryBytes(TimeSeriesSettings.DOOR_KEEPER_FOR_CACHE_MAX_INSERTION);
+            assertTrue(consumed.getValue() < maxSketchBytes);
+
+            entityCache.clear(detectorId);
+            verify(memoryTracker, times(1)).releaseMemory(eq(consumed.getValue()), eq(false), eq(MemoryTracker.Origin.REAL_TIME_DETECTOR));
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.DOOR_KEEPER_IN_CACHE_ENABLED, false);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testDoorKeeperSketchFallsBackWithoutMemory() {
+        try {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.DOOR_KEEPER_IN_CACHE_ENABLED, true);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, true);
+            when(memoryTracker.tryConsumeMemory(anyLong(), anyBoolean(), any())).thenReturn(false);
+            String modelId = entity1.getModelId(detectorId).get();
+            // the exact door keeper still blocks the first hit
+            assertTrue(null == entityCache.get(modelId, detector));
+
+            entityCache.clear(detectorId);
+            // nothing was consumed, so nothing is released
+            verify(memoryTracker, never()).releaseMemory(anyLong(), eq(false), eq(MemoryTracker.Origin.REAL_TIME_DETECTOR));
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.DOOR_KEEPER_IN_CACHE_ENABLED, false);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, false);
+        }
+    }
+
     public void testGetNoPriorityUpdate() {
         for (int i = 0; i < 3; i++) {
             // bypass doorkeeper
@@ -845,4 +898,281 @@ public class PriorityCacheTests extends AbstractCacheTest {
 
         assertFalse(entityCache.hostIfPossible(anomalyDetector, modelState1));
     }
+
+    private void evictModel1() {
+        for (int i = 0; i < 2; i++) {
+            entityCache.get(modelId1, detector);
+        }
+        assertTrue(entityCache.hostIfPossible(detector, modelState1));
+        for (int i = 0; i < 4; i++) {
+            entityCache.get(modelId2, detector);
+        }
+        // modelState2 replaces modelState1 in the dedicated cache
+        assertTrue(entityCache.hostIfPossible(detector, modelState2));
+        assertTrue(!entityCache.isActive(detectorId, modelId1));
+    }
+
+    public void testCompressedInactiveModel() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            ThresholdedRandomCutForest model1 = modelState1.getModel().get();
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(checkpoint.fromCompactModel(any(), eq(modelId1))).thenReturn(Optional.of(model1));
+            // only the serialized model fits
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+            evictModel1();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            verify(memoryTracker, times(1)).tryConsumeMemory(100L, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+            assertEquals(1, entityCache.getInactiveModelStats().get(CompressedModelTier.MODELS));
+            assertEquals(100L, entityCache.getInactiveModelStats().get(CompressedModelTier.STORED_BYTES));
+
+            // the checkpoint written on eviction
+            Instant checkpointTime = Instant.ofEpochSecond(1000);
+            modelState1.setLastCheckpointTime(checkpointTime);
+            Sample sample = new Sample(point, Instant.now(), Instant.now());
+            Optional<ModelState<ThresholdedRandomCutForest>> restored = entityCache
+                .inflateInactiveModel(modelId1, checkpointTime, new ArrayDeque<>(Arrays.asList(sample)));
+            assertTrue(restored.isPresent());
+            assertSame(model1, restored.get().getModel().get());
+            assertEquals(Optional.of(entity1), restored.get().getEntity());
+            assertEquals(detectorId, restored.get().getConfigId());
+            // samples saved in the checkpoint are carried over
+            assertSame(sample, restored.get().getSamples().peek());
+            assertEquals(checkpointTime, restored.get().getLastCheckpointTime());
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+            verify(memoryTracker, times(1)).releaseMemory(100L, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+            assertEquals(1L, entityCache.getInactiveModelStats().get(CompressedModelTier.INFLATE_COUNT));
+
+            // inflated only once
+            assertTrue(entityCache.inflateInactiveModel(modelId1, checkpointTime, new ArrayDeque<>()).isEmpty());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelOlderThanCheckpoint() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(checkpoint.fromCompactModel(any(), eq(modelId1))).thenReturn(Optional.of(modelState1.getModel().get()));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+            Instant checkpointTime = Instant.ofEpochSecond(1000);
+            modelState1.setLastCheckpointTime(checkpointTime);
+
+            evictModel1();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+
+            // another node hosted the entity and saved a newer checkpoint
+            assertTrue(entityCache.inflateInactiveModel(modelId1, checkpointTime.plusSeconds(1), new ArrayDeque<>()).isEmpty());
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+            verify(memoryTracker, times(1)).releaseMemory(100L, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+            verify(checkpoint, never()).fromCompactModel(any(), anyString());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelDisabled() {
+        when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+        when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+        evictModel1();
+        assertTrue(!entityCache.hasInactiveModel(modelId1));
+        verify(checkpoint, never()).toCompactModel(any(), anyString());
+    }
+
+    public void testCompressedInactiveModelReleasedOnClear() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+            evictModel1();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            entityCache.clear(detectorId);
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+            verify(memoryTracker, times(1)).releaseMemory(100L, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelShedBeforeActiveModels() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+            evictModel1();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            entityCache.releaseMemoryForOpenCircuitBreaker();
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+            // shedding the serialized model was enough
+            assertTrue(entityCache.isActive(detectorId, modelId2));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelKeptWhenEntityNotAdmitted() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+            evictModel1();
+            for (int i = 0; i < 2; i++) {
+                entityCache.get(modelId3, detector);
+            }
+            // modelState3 can neither use the shared cache nor replace modelState2
+            assertTrue(false == entityCache.hostIfPossible(detector, modelState3));
+            // admitting one entity is not memory pressure, so the serialized model stays
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            verify(memoryTracker, never()).releaseMemory(100L, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelSerializedOnThreadPool() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+            ExecutorService executorService = mock(ExecutorService.class);
+            when(threadPool.executor(TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME)).thenReturn(executorService);
+
+            evictModel1();
+            // eviction does not serialize the model itself
+            verify(checkpoint, never()).toCompactModel(any(), anyString());
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(executorService, times(1)).execute(task.capture());
+            task.getValue().run();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testCompressedInactiveModelKeptWhenInflatedEntityNotAdmitted() {
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(checkpoint.fromCompactModel(any(), eq(modelId1))).thenReturn(Optional.of(modelState1.getModel().get()));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+            Instant checkpointTime = Instant.ofEpochSecond(1000);
+            modelState1.setLastCheckpointTime(checkpointTime);
+
+            evictModel1();
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+
+            // e.g., samples restored from the checkpoint before cold start trains a model
+            ModelState<ThresholdedRandomCutForest> withoutModel = new ModelState<>(
+                null,
+                modelId1,
+                detectorId,
+                ModelManager.ModelType.TRCF.getName(),
+                clock,
+                0,
+                Optional.of(entity1),
+                new ArrayDeque<>()
+            );
+            withoutModel.setLastCheckpointTime(checkpointTime);
+            // modelState2 keeps the dedicated cache
+            assertTrue(false == entityCache.hostIfPossible(detector, withoutModel));
+            verify(checkpoint, times(1)).fromCompactModel(any(), eq(modelId1));
+            // the stored model is put back for the next time the entity comes back
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            assertEquals(100L, entityCache.getInactiveModelStats().get(CompressedModelTier.STORED_BYTES));
+            assertTrue(entityCache.inflateInactiveModel(modelId1, checkpointTime, new ArrayDeque<>()).isPresent());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+        }
+    }
+
+    public void testSpillModelsThatDontFitInMemory() {
+        try (ModelSpillFile spillFile = new ModelSpillFile(createTempDir(), "test-", 1000)) {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, true);
+            entityCache.setModelSpillFile(spillFile);
+            ThresholdedRandomCutForest model1 = modelState1.getModel().get();
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(checkpoint.fromCompactModel(any(), eq(modelId1))).thenReturn(Optional.of(model1));
+            // nothing fits in memory
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+
+            evictModel1();
+            assertTrue(spillFile.contains(modelId1));
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+            assertEquals(0L, entityCache.getInactiveModelStats().get(CompressedModelTier.STORED_BYTES));
+
+            Optional<ModelState<ThresholdedRandomCutForest>> restored = entityCache
+                .inflateInactiveModel(modelId1, Instant.MIN, new ArrayDeque<>());
+            assertTrue(restored.isPresent());
+            assertSame(model1, restored.get().getModel().get());
+            assertTrue(!spillFile.contains(modelId1));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, false);
+        }
+    }
+
+    public void testSpilledModelOlderThanCheckpoint() {
+        try (ModelSpillFile spillFile = new ModelSpillFile(createTempDir(), "test-", 1000)) {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, true);
+            entityCache.setModelSpillFile(spillFile);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            Instant checkpointTime = Instant.ofEpochSecond(1000);
+            modelState1.setLastCheckpointTime(checkpointTime);
+
+            evictModel1();
+            assertTrue(spillFile.contains(modelId1));
+
+            // another node hosted the entity and saved a newer checkpoint
+            assertTrue(entityCache.inflateInactiveModel(modelId1, checkpointTime.plusSeconds(1), new ArrayDeque<>()).isEmpty());
+            assertTrue(!spillFile.contains(modelId1));
+            verify(checkpoint, never()).fromCompactModel(any(), anyString());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, false);
+        }
+    }
+
+    public void testSpillShedModels() {
+        try (ModelSpillFile spillFile = new ModelSpillFile(createTempDir(), "test-", 1000)) {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, true);
+            entityCache.setModelSpillFile(spillFile);
+            when(checkpoint.toCompactModel(any(), anyString())).thenReturn(Optional.of(new byte[100]));
+            when(memoryTracker.canAllocate(anyLong())).thenReturn(false);
+            when(memoryTracker.canAllocate(100L)).thenReturn(true);
+
+            evictModel1();
+            assertTrue(!spillFile.contains(modelId1));
+            entityCache.releaseMemoryForOpenCircuitBreaker();
+            // moved from memory to disk
+            assertTrue(spillFile.contains(modelId1));
+            assertTrue(entityCache.hasInactiveModel(modelId1));
+
+            // deleting the model invalidates the spilled copy
+            entityCache.removeModel(detectorId, modelId1);
+            assertTrue(!entityCache.hasInactiveModel(modelId1));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, false);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.caching;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.caching.PriorityTracker;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+/**
+ * Compares update throughput and allocation rate of the skip list and indexed heap
+ * priority trackers under the CacheBuffer.get access pattern: every entity is hit
+ * once per interval.
+ *
+ * Run with -Dmodel-benchmark=true.
+ */
+public class PriorityTrackerPerfTests extends OpenSearchTestCase {
+    private static final Logger LOG = LogManager.getLogger(PriorityTrackerPerfTests.class);
+
+    private static final int WARMUP_INTERVALS = 20;
+    private static final int MEASURE_INTERVALS = 100;
+
+    // a mocked clock allocates on every call and would dominate the allocation numbers
+    private static class SteppingClock extends Clock {
+        private Instant instant;
+
+        SteppingClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private void runIntervals(PriorityTracker tracker, SteppingClock clock, Instant start, String[] entities, int fromInterval, int intervals) {
+        for (int interval = fromInterval; interval < fromInterval + intervals; interval++) {
+            clock.instant = start.plusSeconds(interval * 60L);
+            for (String entity : entities) {
+                tracker.updatePriority(entity);
+            }
+        }
+    }
+
+    private void benchmark(int numEntities, boolean indexedHeap) {
+        Instant start = Instant.now();
+        SteppingClock clock = new SteppingClock(start);
+        PriorityTracker tracker = PriorityTracker
+            .create(clock, 60, start.getEpochSecond(), TimeSeriesSettings.MAX_TRACKING_ENTITIES, indexedHeap);
+        String[] entities = new String[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            entities[i] = "entity" + i;
+        }
+
+        runIntervals(tracker, clock, start, entities, 0, WARMUP_INTERVALS);
+
+        long bytesBefore = allocatedBytes();
+        long nanosBefore = System.nanoTime();
+        runIntervals(tracker, clock, start, entities, WARMUP_INTERVALS, MEASURE_INTERVALS);
+        long nanos = System.nanoTime() - nanosBefore;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        long updates = (long) numEntities * MEASURE_INTERVALS;
+        assertEquals(numEntities, tracker.size());
+        LOG
+            .info(
+                "{} tracker, {} entities: {} updates/s, {} bytes allocated/update",
+                indexedHeap ? "indexed heap" : "skip list",
+                numEntities,
+                updates * 1_000_000_000L / nanos,
+                bytes / updates
+            );
+    }
+
+    public void testThousandEntities() {
+        benchmark(1_000, false);
+        benchmark(1_000, true);
+    }
+
+    public void testHundredThousandEntities() {
+        benchmark(100_000, false);
+        benchmark(100_000, true);
+    }
+}
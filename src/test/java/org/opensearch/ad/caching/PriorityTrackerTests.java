@@ -35,12 +35,16 @@ public class PriorityTrackerTests extends OpenSearchTestCase {
         super.setUp();
         clock = mock(Clock.class);
         now = Instant.now();
-        tracker = new PriorityTracker(clock, 1, now.getEpochSecond(), 3);
+        tracker = createTracker(clock, 1, now.getEpochSecond(), 3);
         entity1 = "entity1";
         entity2 = "entity2";
         entity3 = "entity3";
     }
 
+    protected PriorityTracker createTracker(Clock clock, long intervalSecs, long landmarkEpoch, int maxEntities) {
+        return new PriorityTracker(clock, intervalSecs, landmarkEpoch, maxEntities);
+    }
+
     public void testNormal() {
         when(clock.instant()).thenReturn(now);
         // first interval entity 1 and 3
@@ -83,7 +87,7 @@ public class PriorityTrackerTests extends OpenSearchTestCase {
 
     public void testTooManyEntities() {
         when(clock.instant()).thenReturn(now);
-        tracker = new PriorityTracker(clock, 1, now.getEpochSecond(), 2);
+        tracker = createTracker(clock, 1, now.getEpochSecond(), 2);
         tracker.updatePriority(entity1);
         tracker.updatePriority(entity3);
         assertEquals(2, tracker.size());
@@ -98,4 +102,17 @@ public class PriorityTrackerTests extends OpenSearchTestCase {
         assertTrue(!tracker.getMinimumPriorityEntityId().isPresent());
         assertTrue(!tracker.getHighestPriorityEntityId().isPresent());
     }
+
+    public void testRemoveUpdatedEntity() {
+        when(clock.instant()).thenReturn(now);
+        tracker.updatePriority(entity1);
+        tracker.updatePriority(entity1);
+        tracker.updatePriority(entity2);
+        tracker.removePriority(entity1);
+        assertEquals(1, tracker.size());
+        assertEquals(List.of(entity2), tracker.getTopNEntities(3));
+        tracker.removePriority(entity2);
+        assertTrue(!tracker.getMinimumPriorityEntityId().isPresent());
+        assertEquals(0, tracker.getTopNEntities(3).size());
+    }
 }
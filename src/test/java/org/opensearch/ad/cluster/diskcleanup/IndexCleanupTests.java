@@ -18,6 +18,13 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Logger;
@@ -25,9 +32,16 @@ import org.junit.Assert;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.ad.constant.ADCommonName;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -36,6 +50,7 @@ import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.cluster.diskcleanup.IndexCleanup;
+import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.IndicesAdminClient;
@@ -120,4 +135,72 @@ public class IndexCleanupTests extends AbstractTimeSeriesTest {
         indexCleanup.deleteDocsBasedOnShardSize("indexname", 1000, null, null);
         assertTrue(testAppender.containsMessage("skip as the index:indexname doesn't exist"));
     }
+
+    @SuppressWarnings("unchecked")
+    public void testDeleteExpiredGenerations() throws Exception {
+        long now = System.currentTimeMillis();
+        String legacy = ADCommonName.CHECKPOINT_INDEX_NAME;
+        String firstGeneration = legacy + "-2026.10.01-1";
+        String secondGeneration = legacy + "-2026.10.10-000002";
+        Metadata metadata = Metadata
+            .builder()
+            .put(checkpointIndex(legacy, now - Duration.ofDays(10).toMillis()), false)
+            .put(checkpointIndex(firstGeneration, now - Duration.ofDays(9).toMillis()), false)
+            .put(
+                IndexMetadata
+                    .builder(checkpointIndex(secondGeneration, now - Duration.ofHours(1).toMillis()))
+                    .putAlias(AliasMetadata.builder(ADCommonName.CHECKPOINT_INDEX_ALIAS)),
+                false
+            )
+            // not a checkpoint generation
+            .put(checkpointIndex(legacy + "x", now - Duration.ofDays(30).toMillis()), false)
+            .build();
+        when(clusterService.state().metadata()).thenReturn(metadata);
+        assertEquals(
+            Arrays.asList(secondGeneration, firstGeneration, legacy),
+            IndexManagement
+                .getCheckpointGenerations(metadata, legacy)
+                .stream()
+                .map(indexMetadata -> indexMetadata.getIndex().getName())
+                .collect(Collectors.toList())
+        );
+
+        List<String> deletedIndices = new ArrayList<>();
+        doAnswer(invocation -> {
+            DeleteIndexRequest request = invocation.getArgument(0);
+            deletedIndices.addAll(Arrays.asList(request.indices()));
+            ActionListener<AcknowledgedResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new AcknowledgedResponse(true));
+            return null;
+        }).when(indicesAdminClient).delete(any(), any());
+
+        AtomicInteger deleted = new AtomicInteger(-1);
+        indexCleanup
+            .deleteExpiredGenerations(
+                legacy,
+                now - Duration.ofDays(7).toMillis(),
+                ActionListener.wrap(deleted::set, exception -> { throw new RuntimeException(exception); })
+            );
+        // the first generation still holds checkpoints written within the ttl
+        assertEquals(1, deleted.get());
+        assertEquals(Arrays.asList(legacy), deletedIndices);
+
+        // the newest generation is never deleted
+        deletedIndices.clear();
+        indexCleanup.deleteExpiredGenerations(legacy, now, ActionListener.wrap(deleted::set, exception -> {
+            throw new RuntimeException(exception);
+        }));
+        assertEquals(2, deleted.get());
+        assertEquals(Arrays.asList(firstGeneration, legacy), deletedIndices);
+    }
+
+    private IndexMetadata checkpointIndex(String name, long creationDate) {
+        Settings indexSettings = Settings
+            .builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .build();
+        return IndexMetadata.builder(name).settings(indexSettings).creationDate(creationDate).build();
+    }
 }
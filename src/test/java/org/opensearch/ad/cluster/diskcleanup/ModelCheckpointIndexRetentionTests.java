@@ -12,11 +12,14 @@
 package org.opensearch.ad.cluster.diskcleanup;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -54,7 +57,8 @@ public class ModelCheckpointIndexRetentionTests extends AbstractTimeSeriesTest {
             defaultCheckpointTtl,
             clock,
             indexCleanup,
-            ADIndex.CHECKPOINT.getIndexName()
+            ADIndex.CHECKPOINT.getIndexName(),
+            ADCommonName.CHECKPOINT_INDEX_ALIAS
         );
         doAnswer(invocation -> {
             Object[] args = invocation.getArguments();
@@ -104,4 +108,20 @@ public class ModelCheckpointIndexRetentionTests extends AbstractTimeSeriesTest {
         verify(indexCleanup).deleteDocsBasedOnShardSize(eq(ADCommonName.CHECKPOINT_INDEX_NAME), eq(50 * 1024 * 1024 * 1024L), any(), any());
         verify(indexCleanup).deleteDocsByQuery(eq(ADCommonName.CHECKPOINT_INDEX_NAME), any(), any());
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRunWithTimePartitionedCheckpoints() throws Exception {
+        when(indexCleanup.doesAliasExist(ADCommonName.CHECKPOINT_INDEX_ALIAS)).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<Integer> listener = invocation.getArgument(2);
+            listener.onResponse(1);
+            return null;
+        }).when(indexCleanup).deleteExpiredGenerations(eq(ADCommonName.CHECKPOINT_INDEX_NAME), anyLong(), any());
+
+        modelCheckpointIndexRetention.run();
+        verify(indexCleanup).deleteExpiredGenerations(eq(ADCommonName.CHECKPOINT_INDEX_NAME), anyLong(), any());
+        verify(indexCleanup, never()).deleteDocsByQuery(anyString(), any(), any());
+        verify(indexCleanup, never()).deleteDocsBasedOnShardSize(anyString(), anyLong(), any(), any());
+    }
 }
@@ -12,6 +12,8 @@
 package org.opensearch.ad.indices;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -22,12 +24,14 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.opensearch.Version;
 import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
@@ -38,6 +42,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
 import org.opensearch.transport.client.Client;
@@ -76,6 +81,7 @@ public class CustomIndexTests extends AbstractTimeSeriesTest {
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_ROLLOVER_PERIOD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD,
+                                AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
                                 AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS
                             )
                     )
@@ -390,4 +396,79 @@ public class CustomIndexTests extends AbstractTimeSeriesTest {
         assertTrue(countDown.await(60, TimeUnit.SECONDS));
     }
 
+    private ClusterState stateWithMappingVersion(long mappingVersion) {
+        IndexMetadata indexMetadata = new IndexMetadata.Builder(customIndexName)
+            .settings(
+                Settings
+                    .builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            )
+            .putMapping(new MappingMetadata("type1", Collections.singletonMap(CommonName.PROPERTIES, createMapping())))
+            .mappingVersion(mappingVersion)
+            .build();
+        return ClusterState.builder(clusterName).metadata(Metadata.builder().put(indexMetadata, false).build()).build();
+    }
+
+    private boolean validate() {
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        adIndices.validateResultIndexMapping(customIndexName, ActionListener.wrap(result::set, exception -> fail()));
+        return result.get();
+    }
+
+    public void testValidatedMappingCached() {
+        when(clusterService.state()).thenReturn(stateWithMappingVersion(1));
+        assertTrue(validate());
+        assertTrue(validate());
+        Map<String, Object> stats = adIndices.getValidatedMappingStats();
+        assertEquals(1L, stats.get(IndexManagement.VALIDATED_MAPPING_HITS));
+        assertEquals(1L, stats.get(IndexManagement.VALIDATED_MAPPING_MISSES));
+        assertEquals(1, stats.get(IndexManagement.VALIDATED_INDICES));
+
+        // the mapping changed
+        when(clusterService.state()).thenReturn(stateWithMappingVersion(2));
+        assertTrue(validate());
+        assertEquals(2L, adIndices.getValidatedMappingStats().get(IndexManagement.VALIDATED_MAPPING_MISSES));
+        assertTrue(validate());
+        assertEquals(2L, adIndices.getValidatedMappingStats().get(IndexManagement.VALIDATED_MAPPING_HITS));
+    }
+
+    private IndexMetadata aliasedIndex(String index, String alias, boolean writeIndex) {
+        return new IndexMetadata.Builder(index)
+            .settings(
+                Settings
+                    .builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            )
+            .putMapping(new MappingMetadata("type1", Collections.singletonMap(CommonName.PROPERTIES, createMapping())))
+            .putAlias(AliasMetadata.builder(alias).writeIndex(writeIndex).build())
+            .build();
+    }
+
+    public void testRolledOverAliasCachedUnderWriteIndex() {
+        String alias = customIndexName + "-alias";
+        Metadata metadata = Metadata
+            .builder()
+            .put(aliasedIndex(customIndexName + "-history-1", alias, false), false)
+            .put(aliasedIndex(customIndexName + "-history-2", alias, true), false)
+            .build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(clusterName).metadata(metadata).build());
+
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        adIndices.validateResultIndexMapping(alias, ActionListener.wrap(result::set, exception -> fail()));
+        assertTrue(result.get());
+        result.set(null);
+        adIndices.validateResultIndexMapping(alias, ActionListener.wrap(result::set, exception -> fail()));
+        assertTrue(result.get());
+
+        Map<String, Object> stats = adIndices.getValidatedMappingStats();
+        assertEquals(1L, stats.get(IndexManagement.VALIDATED_MAPPING_HITS));
+        assertEquals(1L, stats.get(IndexManagement.VALIDATED_MAPPING_MISSES));
+        assertEquals(1, stats.get(IndexManagement.VALIDATED_INDICES));
+        // resolved from local metadata: the admin client taken by the constructor sends no get aliases request
+        verify(client, times(1)).admin();
+    }
 }
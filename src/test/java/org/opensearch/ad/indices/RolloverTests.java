@@ -64,6 +64,7 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
 import org.opensearch.transport.client.AdminClient;
@@ -100,6 +101,7 @@ public class RolloverTests extends AbstractTimeSeriesTest {
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_ROLLOVER_PERIOD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD,
+                                AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
                                 AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS
                             )
                     )
@@ -251,6 +253,17 @@ public class RolloverTests extends AbstractTimeSeriesTest {
         verify(indicesClient, times(1)).delete(any(), any());
     }
 
+    public void testCheckpointGenerationMaxAge() {
+        assertEquals(
+            TimeValue.timeValueHours(84).millis(),
+            IndexManagement.getCheckpointGenerationMaxAge(TimeValue.timeValueDays(7)).millis()
+        );
+        assertEquals(
+            TimeSeriesSettings.MIN_CHECKPOINT_GENERATION_MAX_AGE.millis(),
+            IndexManagement.getCheckpointGenerationMaxAge(TimeValue.timeValueMinutes(30)).millis()
+        );
+    }
+
     public void testRetryingDelete() {
         setUpRolloverSuccess();
         setUpTriggerDelete();
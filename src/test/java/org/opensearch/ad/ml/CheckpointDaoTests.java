@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.action.DocWriteResponse.Result.UPDATED;
 import static org.opensearch.ad.ml.ADCheckpointDao.FIELD_MODELV2;
+import static org.opensearch.ad.ml.ADCheckpointDao.FIELD_MODELV3;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -91,13 +92,18 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.ad.settings.ADEnabledSetting;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.ml.CheckpointDao;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
@@ -491,6 +497,23 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         assertEquals(null, response);
     }
 
+    public void testTimeAndSamplesWithoutModel() throws IOException {
+        ModelState<ThresholdedRandomCutForest> state = MLUtil
+            .randomModelState(new RandomModelStateConfig.Builder().fullModel(true).sampleSize(3).build());
+        Map<String, Object> source = checkpointDao.toIndexSource(state);
+
+        Optional<Map.Entry<Instant, Deque<Sample>>> timeAndSamples = checkpointDao
+            .processHCGetResponseTimeAndSamples(TestHelpers.createGetResponse(source, modelId, "blah"), modelId);
+        assertTrue(timeAndSamples.isPresent());
+        assertEquals(now, timeAndSamples.get().getKey());
+        assertEquals(state.getSamples().size(), timeAndSamples.get().getValue().size());
+
+        source.remove(CommonName.TIMESTAMP);
+        assertTrue(
+            checkpointDao.processHCGetResponseTimeAndSamples(TestHelpers.createGetResponse(source, modelId, "blah"), modelId).isEmpty()
+        );
+    }
+
     // @SuppressWarnings("unchecked")
     public void test_restore() throws IOException {
         ModelState<ThresholdedRandomCutForest> state = MLUtil
@@ -654,6 +677,138 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         verify(clientUtil, times(1)).execute(any(), any(), any());
     }
 
+    public void test_batch_read_time_partitioned() {
+        String generation = ADCommonName.CHECKPOINT_INDEX_NAME + "-2026.10.18-000002";
+        String legacy = ADCommonName.CHECKPOINT_INDEX_NAME;
+        when(indexUtil.doesAliasExist(ADCommonName.CHECKPOINT_INDEX_ALIAS)).thenReturn(true);
+        when(indexUtil.getCheckpointGenerations(ADCommonName.CHECKPOINT_INDEX_NAME)).thenReturn(Arrays.asList(generation, legacy));
+
+        Map<String, MultiGetItemResponse> generationResponses = new HashMap<>();
+        // found in both: the newer generation wins
+        generationResponses.put(generation + "/found", getItem(generation, "found", true));
+        generationResponses.put(legacy + "/found", getItem(legacy, "found", true));
+        // only the older generation has it
+        generationResponses.put(generation + "/old", getItem(generation, "old", false));
+        generationResponses.put(legacy + "/old", getItem(legacy, "old", true));
+        // a failed newer generation hides a possibly stale older copy
+        generationResponses
+            .put(
+                generation + "/failed",
+                new MultiGetItemResponse(
+                    null,
+                    new MultiGetResponse.Failure(generation, "failed", new OpenSearchRejectedExecutionException("rejected"))
+                )
+            );
+        generationResponses.put(legacy + "/failed", getItem(legacy, "failed", true));
+        // a generation dropped in the meantime counts as a miss
+        generationResponses
+            .put(
+                generation + "/missing",
+                new MultiGetItemResponse(null, new MultiGetResponse.Failure(generation, "missing", new IndexNotFoundException(generation)))
+            );
+        generationResponses.put(legacy + "/missing", getItem(legacy, "missing", false));
+        List<MultiGetRequest> generationRequests = mockGenerationReads(generationResponses);
+
+        MultiGetRequest request = new MultiGetRequest();
+        for (String modelId : Arrays.asList("found", "old", "failed", "missing")) {
+            request.add(new MultiGetRequest.Item(ADCommonName.CHECKPOINT_INDEX_NAME, modelId));
+        }
+        AtomicReference<MultiGetResponse> merged = new AtomicReference<>();
+        checkpointDao.batchRead(request, ActionListener.wrap(merged::set, e -> { assertTrue(false); }));
+
+        // the older generation is only read for the models the newest one misses
+        assertEquals(2, generationRequests.size());
+        assertEquals(4, generationRequests.get(0).getItems().size());
+        assertEquals(2, generationRequests.get(1).getItems().size());
+        for (MultiGetRequest.Item item : generationRequests.get(1).getItems()) {
+            assertEquals(legacy, item.index());
+        }
+
+        MultiGetItemResponse[] responses = merged.get().getResponses();
+        assertEquals(4, responses.length);
+        assertEquals(generation, responses[0].getResponse().getIndex());
+        assertEquals(legacy, responses[1].getResponse().getIndex());
+        assertTrue(responses[1].getResponse().isExists());
+        assertTrue(responses[2].isFailed());
+        assertEquals("failed", responses[2].getId());
+        assertFalse(responses[3].isFailed());
+        assertFalse(responses[3].getResponse().isExists());
+    }
+
+    public void test_batch_read_hit_in_newest_generation() {
+        String newest = ADCommonName.CHECKPOINT_INDEX_NAME + "-2026.10.18-000003";
+        String older = ADCommonName.CHECKPOINT_INDEX_NAME + "-2026.10.17-000002";
+        String legacy = ADCommonName.CHECKPOINT_INDEX_NAME;
+        when(indexUtil.doesAliasExist(ADCommonName.CHECKPOINT_INDEX_ALIAS)).thenReturn(true);
+        when(indexUtil.getCheckpointGenerations(ADCommonName.CHECKPOINT_INDEX_NAME)).thenReturn(Arrays.asList(newest, older, legacy));
+
+        Map<String, MultiGetItemResponse> generationResponses = new HashMap<>();
+        generationResponses.put(newest + "/model", getItem(newest, "model", true));
+        List<MultiGetRequest> generationRequests = mockGenerationReads(generationResponses);
+
+        MultiGetRequest request = new MultiGetRequest();
+        request
+            .add(
+                new MultiGetRequest.Item(ADCommonName.CHECKPOINT_INDEX_NAME, "model")
+                    .fetchSourceContext(CheckpointDao.TIME_AND_SAMPLES_SOURCE)
+            );
+        AtomicReference<MultiGetResponse> merged = new AtomicReference<>();
+        checkpointDao.batchRead(request, ActionListener.wrap(merged::set, e -> { assertTrue(false); }));
+
+        // only the newest generation is read
+        assertEquals(1, generationRequests.size());
+        assertEquals(1, generationRequests.get(0).getItems().size());
+        MultiGetRequest.Item item = generationRequests.get(0).getItems().get(0);
+        assertEquals(newest, item.index());
+        assertEquals(CheckpointDao.TIME_AND_SAMPLES_SOURCE, item.fetchSourceContext());
+        assertEquals(newest, merged.get().getResponses()[0].getResponse().getIndex());
+    }
+
+    /**
+     * Answer multi-gets of checkpoint generations from the given responses keyed by index and model id.
+     * Items without a response are not found.
+     * @param generationResponses responses keyed by "index/modelId"
+     * @return multi-get requests sent, in order
+     */
+    @SuppressWarnings("unchecked")
+    private List<MultiGetRequest> mockGenerationReads(Map<String, MultiGetItemResponse> generationResponses) {
+        List<MultiGetRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MultiGetRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<MultiGetRequest.Item> items = request.getItems();
+            MultiGetItemResponse[] responses = new MultiGetItemResponse[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                MultiGetRequest.Item item = items.get(i);
+                MultiGetItemResponse response = generationResponses.get(item.index() + "/" + item.id());
+                responses[i] = response != null ? response : getItem(item.index(), item.id(), false);
+            }
+            ActionListener<MultiGetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MultiGetResponse(responses));
+            return null;
+        }).when(clientUtil).execute(eq(MultiGetAction.INSTANCE), any(MultiGetRequest.class), any(ActionListener.class));
+        return requests;
+    }
+
+    private MultiGetItemResponse getItem(String index, String modelId, boolean exists) {
+        return new MultiGetItemResponse(
+            new GetResponse(
+                new GetResult(
+                    index,
+                    modelId,
+                    exists ? 1 : SequenceNumbers.UNASSIGNED_SEQ_NO,
+                    exists ? 1 : SequenceNumbers.UNASSIGNED_PRIMARY_TERM,
+                    exists ? 1 : 0,
+                    exists,
+                    null,
+                    null,
+                    null
+                )
+            ),
+            null
+        );
+    }
+
     public void test_too_large_checkpoint() throws IOException {
         checkpointDao = new ADCheckpointDao(
             client,
@@ -1013,6 +1168,22 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         return point;
     }
 
+    public void testRestoreDisablesParallelExecution() {
+        ThresholdedRandomCutForest parallel = ThresholdedRandomCutForest
+            .builder()
+            .dimensions(2)
+            .numberOfTrees(2)
+            .sampleSize(16)
+            .precision(Precision.FLOAT_32)
+            .parallelExecutionEnabled(true)
+            .threadPoolSize(2)
+            .build();
+        assertTrue(parallel.getForest().isParallelExecutionEnabled());
+
+        ThresholdedRandomCutForest restored = checkpointDao.toTrcf(checkpointDao.toCheckpoint(parallel));
+        assertFalse(restored.getForest().isParallelExecutionEnabled());
+    }
+
     // The checkpoint used for this test is from a single-stream detector
     public void testDeserializeRCFModelPreINIT() throws Exception {
         // Model in file 1_3_0_rcf_model_pre_init.json not passed initialization yet
@@ -1271,4 +1442,75 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         assertEquals(inputModelState.getSamples().size(), modelState.getSamples().size());
         assertEquals(now, modelState.getLastUsedTime());
     }
+
+    private static final byte UNKNOWN_CHECKPOINT_FORMAT = 99;
+
+    private void verifyBinaryRoundTrip(boolean compress) throws IOException {
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, true);
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_COMPRESSION_ENABLED, compress);
+        try {
+            ModelState<ThresholdedRandomCutForest> inputModelState = MLUtil
+                .randomModelState(new RandomModelStateConfig.Builder().fullModel(true).build());
+            ThresholdedRandomCutForest modelToSave = inputModelState.getModel().get();
+
+            Map<String, Object> source = checkpointDao.toIndexSource(inputModelState);
+            assertTrue(source.get(FIELD_MODELV3) instanceof byte[]);
+            // stale string checkpoint is cleared by the partial update
+            assertTrue(source.containsKey(FIELD_MODELV2));
+            assertEquals(null, source.get(FIELD_MODELV2));
+
+            ModelState<ThresholdedRandomCutForest> modelState = checkpointDao
+                .processHCGetResponse(TestHelpers.createGetResponse(source, modelId, "blah"), modelId, "123");
+            assertEquals(now, modelState.getLastCheckpointTime());
+            assertEquals(modelToSave.getForest().getTotalUpdates(), modelState.getModel().get().getForest().getTotalUpdates());
+            assertEquals(inputModelState.getSamples().size(), modelState.getSamples().size());
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, false);
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_COMPRESSION_ENABLED, true);
+        }
+    }
+
+    public void testBinaryCheckpointRoundTrip() throws IOException {
+        verifyBinaryRoundTrip(false);
+    }
+
+    public void testCompressedBinaryCheckpointRoundTrip() throws IOException {
+        verifyBinaryRoundTrip(true);
+    }
+
+    public void testCompressedBinaryCheckpointIsSmaller() {
+        ModelState<ThresholdedRandomCutForest> state = MLUtil
+            .randomModelState(new RandomModelStateConfig.Builder().fullModel(true).build());
+        byte[] raw = checkpointDao.toBinaryCheckpoint(state.getModel().get(), modelId, false).get();
+        byte[] compressed = checkpointDao.toBinaryCheckpoint(state.getModel().get(), modelId, true).get();
+        String legacy = checkpointDao.toCheckpoint(state.getModel().get(), modelId).get();
+        assertTrue(raw.length < legacy.length());
+        assertTrue(compressed.length < raw.length);
+    }
+
+    public void testStringCheckpointPreferredOverStaleBinary() throws IOException {
+        ModelState<ThresholdedRandomCutForest> inputModelState = MLUtil
+            .randomModelState(new RandomModelStateConfig.Builder().fullModel(true).build());
+        Map<String, Object> source = checkpointDao.toIndexSource(inputModelState);
+        // binary checkpoint written before the format is switched back
+        source.put(FIELD_MODELV3, new byte[] { UNKNOWN_CHECKPOINT_FORMAT });
+
+        ModelState<ThresholdedRandomCutForest> modelState = checkpointDao
+            .processHCGetResponse(TestHelpers.createGetResponse(source, modelId, "blah"), modelId, "123");
+        assertTrue(modelState.getModel().isPresent());
+    }
+
+    public void testCorruptedBinaryCheckpoint() throws IOException {
+        ModelState<ThresholdedRandomCutForest> inputModelState = MLUtil
+            .randomModelState(new RandomModelStateConfig.Builder().fullModel(true).build());
+        Map<String, Object> source = checkpointDao.toIndexSource(inputModelState);
+        source.put(FIELD_MODELV2, null);
+        source.put(FIELD_MODELV3, new byte[] { UNKNOWN_CHECKPOINT_FORMAT, 1, 2 });
+
+        ModelState<ThresholdedRandomCutForest> modelState = checkpointDao
+            .processHCGetResponse(TestHelpers.createGetResponse(source, modelId, "blah"), modelId, "123");
+        // samples survive even if the model part is corrupted
+        assertTrue(!modelState.getModel().isPresent());
+        assertEquals(inputModelState.getSamples().size(), modelState.getSamples().size());
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ml;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.ad.settings.ADEnabledSetting;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.ml.ModelManager;
+import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.opensearch.timeseries.util.ClientUtil;
+import org.opensearch.transport.client.Client;
+
+import com.amazon.randomcutforest.config.TransformMethod;
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.amazon.randomcutforest.serialize.json.v1.V1JsonToV3StateConverter;
+import com.amazon.randomcutforest.state.RandomCutForestMapper;
+import com.google.gson.GsonBuilder;
+
+import io.protostuff.LinkedBuffer;
+import io.protostuff.Schema;
+import io.protostuff.runtime.RuntimeSchema;
+import test.org.opensearch.ad.util.MLUtil;
+
+/**
+ * Compares the string (modelV2) and binary (modelV3) checkpoint formats in terms of
+ * bytes stored in the checkpoint index source and serialization/deserialization time.
+ *
+ * Run with -Dmodel-benchmark=true.
+ */
+public class CheckpointFormatPerfTests extends OpenSearchTestCase {
+    private static final Logger LOG = LogManager.getLogger(CheckpointFormatPerfTests.class);
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 100;
+
+    private ADCheckpointDao checkpointDao;
+    private GenericObjectPool<LinkedBuffer> serializeRCFBufferPool;
+    private Clock clock;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.now());
+
+        serializeRCFBufferPool = AccessController.doPrivileged(new PrivilegedAction<GenericObjectPool<LinkedBuffer>>() {
+            @Override
+            public GenericObjectPool<LinkedBuffer> run() {
+                return new GenericObjectPool<>(new BasePooledObjectFactory<LinkedBuffer>() {
+                    @Override
+                    public LinkedBuffer create() throws Exception {
+                        return LinkedBuffer.allocate(TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES);
+                    }
+
+                    @Override
+                    public PooledObject<LinkedBuffer> wrap(LinkedBuffer obj) {
+                        return new DefaultPooledObject<>(obj);
+                    }
+                });
+            }
+        });
+        serializeRCFBufferPool.setMaxTotal(TimeSeriesSettings.MAX_TOTAL_RCF_SERIALIZATION_BUFFERS);
+        serializeRCFBufferPool.setMaxIdle(TimeSeriesSettings.MAX_TOTAL_RCF_SERIALIZATION_BUFFERS);
+        serializeRCFBufferPool.setMinIdle(0);
+        serializeRCFBufferPool.setBlockWhenExhausted(false);
+
+        RandomCutForestMapper mapper = new RandomCutForestMapper();
+        mapper.setSaveExecutorContextEnabled(true);
+        checkpointDao = new ADCheckpointDao(
+            mock(Client.class),
+            mock(ClientUtil.class),
+            new GsonBuilder().serializeSpecialFloatingPointValues().create(),
+            mapper,
+            new V1JsonToV3StateConverter(),
+            new ThresholdedRandomCutForestMapper(),
+            AccessController
+                .doPrivileged(
+                    (PrivilegedAction<Schema<ThresholdedRandomCutForestState>>) () -> RuntimeSchema
+                        .getSchema(ThresholdedRandomCutForestState.class)
+                ),
+            HybridThresholdingModel.class,
+            mock(ADIndexManagement.class),
+            TimeSeriesSettings.MAX_CHECKPOINT_BYTES,
+            serializeRCFBufferPool,
+            TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
+            1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE,
+            clock
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, false);
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_COMPRESSION_ENABLED, true);
+        serializeRCFBufferPool.close();
+        super.tearDown();
+    }
+
+    private ModelState<ThresholdedRandomCutForest> createModelState(int baseDimension, int shingleSize) {
+        ThresholdedRandomCutForest trcf = new ThresholdedRandomCutForest(
+            ThresholdedRandomCutForest
+                .builder()
+                .dimensions(baseDimension * shingleSize)
+                .shingleSize(shingleSize)
+                .sampleSize(TimeSeriesSettings.NUM_SAMPLES_PER_TREE)
+                .numberOfTrees(TimeSeriesSettings.NUM_TREES)
+                .timeDecay(0.0001)
+                .outputAfter(TimeSeriesSettings.NUM_MIN_SAMPLES)
+                .initialAcceptFraction(0.125d)
+                .parallelExecutionEnabled(false)
+                .internalShinglingEnabled(true)
+                .anomalyRate(1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE)
+                .transformMethod(TransformMethod.NORMALIZE)
+                .alertOnce(true)
+                .autoAdjust(true)
+        );
+        Random random = new Random(42);
+        double[][] data = MLUtil.generateShingledData(5000, baseDimension, 42);
+        for (int i = 0; i < data.length; i++) {
+            double[] point = new double[baseDimension];
+            for (int j = 0; j < baseDimension; j++) {
+                point[j] = data[i][j] + random.nextGaussian() * 0.01;
+            }
+            trcf.process(point, i);
+        }
+        return new ModelState<ThresholdedRandomCutForest>(
+            trcf,
+            "model",
+            "config",
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0,
+            Optional.empty(),
+            MLUtil.createQueueSamples(1)
+        );
+    }
+
+    private void configureFormat(boolean binary, boolean compress) {
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_ENABLED, binary);
+        ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.BINARY_CHECKPOINT_COMPRESSION_ENABLED, compress);
+    }
+
+    private long sourceBytes(Map<String, Object> source) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.map(source);
+        return BytesReference.bytes(builder).length();
+    }
+
+    private void benchmark(String name, ModelState<ThresholdedRandomCutForest> state, boolean binary, boolean compress)
+        throws IOException {
+        configureFormat(binary, compress);
+
+        Map<String, Object> source = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            source = checkpointDao.toIndexSource(state);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            source = checkpointDao.toIndexSource(state);
+        }
+        long serNanos = (System.nanoTime() - start) / MEASURE_ROUNDS;
+
+        long bytes = sourceBytes(source);
+        // going through GetResponse includes source parsing, which is part of the read path cost
+        Map<String, Object> stored = TestHelpers.createGetResponse(source, "model", "index").getSource();
+
+        ModelState<ThresholdedRandomCutForest> restored = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            restored = checkpointDao.fromEntityModelCheckpoint(stored, "model", "config");
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            restored = checkpointDao.fromEntityModelCheckpoint(stored, "model", "config");
+        }
+        long deserNanos = (System.nanoTime() - start) / MEASURE_ROUNDS;
+
+        assertTrue(restored.getModel().isPresent());
+        assertEquals(
+            state.getModel().get().getForest().getTotalUpdates(),
+            restored.getModel().get().getForest().getTotalUpdates()
+        );
+        LOG.info("{}: {} bytes in source, serialize {} us/model, deserialize {} us/model", name, bytes, serNanos / 1000, deserNanos / 1000);
+    }
+
+    private void compareFormats(int baseDimension, int shingleSize) throws IOException {
+        ModelState<ThresholdedRandomCutForest> state = createModelState(baseDimension, shingleSize);
+        String prefix = String.format(Locale.ROOT, "%d features, shingle %d", baseDimension, shingleSize);
+        benchmark(prefix + ", modelV2 (Base64 in JSON)", state, false, false);
+        benchmark(prefix + ", modelV3 (binary)", state, true, false);
+        benchmark(prefix + ", modelV3 (binary, deflate)", state, true, true);
+    }
+
+    public void testOneFeature() throws IOException {
+        compareFormats(1, 8);
+    }
+
+    public void testFiveFeatures() throws IOException {
+        compareFormats(5, 8);
+    }
+}
@@ -13,6 +13,7 @@ package org.opensearch.ad.ml;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -30,20 +31,25 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.ad.constant.ADCommonName;
+import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.settings.ADEnabledSetting;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.cluster.service.ClusterService;
@@ -56,15 +62,18 @@ import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.caching.CountMinDoorKeeper;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.ml.ModelColdStart;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
 import com.amazon.randomcutforest.config.ForestMode;
@@ -249,6 +258,109 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
         assertEquals("size: " + modelState.getSamples().size(), 1, modelState.getSamples().size());
     }
 
+    // entities of the same config share one history search
+    public void testBatchedColdStart() throws InterruptedException {
+        numMinSamples = 10;
+        entityColdStarter = new ADColdStart(
+            clock,
+            threadPool,
+            stateManager,
+            TimeSeriesSettings.NUM_SAMPLES_PER_TREE,
+            TimeSeriesSettings.NUM_TREES,
+            numMinSamples,
+            AnomalyDetectorSettings.MAX_SAMPLE_STRIDE,
+            AnomalyDetectorSettings.MAX_TRAIN_SAMPLE,
+            searchFeatureDao,
+            TimeSeriesSettings.THRESHOLD_MIN_PVALUE,
+            featureManager,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            rcfSeed,
+            TimeSeriesSettings.MAX_COLD_START_ROUNDS,
+            1,
+            0
+        );
+
+        // enough data, little data, and no data
+        Entity sparseEntity = Entity.createSingleAttributeEntity("field", entityName + "_sparse");
+        Entity emptyEntity = Entity.createSingleAttributeEntity("field", entityName + "_empty");
+        List<Entity> entities = ImmutableList.of(entity, sparseEntity, emptyEntity);
+
+        doAnswer(invocation -> {
+            List<Entry<Long, Long>> ranges = invocation.getArgument(1);
+            List<Optional<double[]>> denseSamples = new ArrayList<>();
+            List<Optional<double[]>> sparseSamples = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                denseSamples.add(i == 3 ? Optional.empty() : Optional.of(new double[] { i }));
+                sparseSamples.add(i >= ranges.size() - 2 ? Optional.of(new double[] { i }) : Optional.empty());
+            }
+            Map<Entity, Pair<Long, List<Optional<double[]>>>> entitySamples = new HashMap<>();
+            entitySamples.put(entity, Pair.of(ranges.get(0).getKey(), denseSamples));
+            // the sparse entity has no data before its last two samples
+            entitySamples.put(sparseEntity, Pair.of(ranges.get(ranges.size() - 2).getKey(), sparseSamples));
+            ActionListener<Map<Entity, Pair<Long, List<Optional<double[]>>>>> listener = invocation.getArgument(5);
+            listener.onResponse(entitySamples);
+            return null;
+        }).when(searchFeatureDao).getColdStartSamplesForEntities(any(), any(), any(), anyBoolean(), eq(AnalysisType.AD), any());
+
+        // the entity missing from the batched response falls back to the per-entity path
+        doAnswer(invocation -> {
+            ActionListener<Optional<Long>> listener = invocation.getArgument(3);
+            listener.onResponse(Optional.empty());
+            return null;
+        }).when(searchFeatureDao).getMinDataTime(any(), eq(Optional.of(emptyEntity)), eq(AnalysisType.AD), any());
+
+        long dataStartTime = 1602269260000L;
+        List<FeatureRequest> requests = new ArrayList<>();
+        List<ModelState<ThresholdedRandomCutForest>> states = new ArrayList<>();
+        List<ActionListener<List<AnomalyResult>>> listeners = new ArrayList<>();
+        CountDownLatch trainedLatch = new CountDownLatch(entities.size());
+        for (Entity batchEntity : entities) {
+            requests
+                .add(
+                    new FeatureRequest(
+                        Instant.now().toEpochMilli(),
+                        detectorId,
+                        RequestPriority.MEDIUM,
+                        new double[] { 0 },
+                        dataStartTime,
+                        batchEntity,
+                        null
+                    )
+                );
+            states
+                .add(
+                    new ModelState<>(
+                        null,
+                        batchEntity.getModelId(detectorId).get(),
+                        detectorId,
+                        ModelManager.ModelType.TRCF.getName(),
+                        clock,
+                        priority,
+                        Optional.of(batchEntity),
+                        new ArrayDeque<>()
+                    )
+                );
+            listeners.add(ActionListener.wrap(trainedLatch::countDown));
+        }
+
+        entityColdStarter.trainModels(detectorId, requests, states, listeners);
+        assertTrue(trainedLatch.await(30, TimeUnit.SECONDS));
+
+        verify(searchFeatureDao, times(1)).getColdStartSamplesForEntities(any(), any(), any(), anyBoolean(), eq(AnalysisType.AD), any());
+        verify(searchFeatureDao, times(1)).getMinDataTime(any(), any(), eq(AnalysisType.AD), any());
+        verify(searchFeatureDao, times(1)).getMinDataTime(any(), eq(Optional.of(emptyEntity)), eq(AnalysisType.AD), any());
+        verify(searchFeatureDao, never()).getColdStartSamplesForPeriods(any(), any(), any(), anyBoolean(), eq(AnalysisType.AD), any());
+
+        assertTrue(states.get(0).getModel().isPresent());
+        assertTrue(states.get(0).getSamples().isEmpty());
+
+        assertTrue(states.get(1).getModel().isEmpty());
+        assertEquals(2, states.get(1).getSamples().size());
+
+        assertTrue(states.get(2).getModel().isEmpty());
+        assertTrue(states.get(2).getSamples().isEmpty());
+    }
+
     // min max: miss one
     public void testMissMin() throws IOException, InterruptedException {
         Deque<Sample> samples = MLUtil.createQueueSamples(1);
@@ -588,6 +700,74 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
         checkSemaphoreRelease();
     }
 
+    private void coldStartUntilRejected() {
+        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        modelState = new ModelState<ThresholdedRandomCutForest>(
+            null,
+            modelId,
+            detectorId,
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            priority,
+            Optional.of(entity),
+            samples
+        );
+
+        doAnswer(invocation -> {
+            ActionListener<Optional<Long>> listener = invocation.getArgument(3);
+            listener.onFailure(new OpenSearchRejectedExecutionException(""));
+            return null;
+        }).when(searchFeatureDao).getMinDataTime(any(), any(), eq(AnalysisType.AD), any());
+
+        FeatureRequest featureRequest = new FeatureRequest(
+            Instant.now().toEpochMilli(),
+            detectorId,
+            RequestPriority.MEDIUM,
+            samples.peek().getValueList(),
+            samples.peek().getDataStartTime().toEpochMilli(),
+            entity,
+            "123"
+        );
+        entityColdStarter.trainModel(featureRequest, detectorId, modelState, listener);
+    }
+
+    public void testDoorKeeperSketchMemoryAccounted() throws InterruptedException {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, true);
+        try {
+            MemoryTracker tracker = mock(MemoryTracker.class);
+            when(tracker.tryConsumeMemory(anyLong(), eq(false), eq(MemoryTracker.Origin.COLD_START_DOOR_KEEPER))).thenReturn(true);
+            entityColdStarter.setMemoryTracker(tracker);
+
+            coldStartUntilRejected();
+            checkSemaphoreRelease();
+
+            long sketchBytes = CountMinDoorKeeper.estimateMemoryBytes(TimeSeriesSettings.DOOR_KEEPER_FOR_COLD_STARTER_MAX_INSERTION);
+            verify(tracker, times(1)).tryConsumeMemory(sketchBytes, false, MemoryTracker.Origin.COLD_START_DOOR_KEEPER);
+
+            entityColdStarter.clear(detectorId);
+            verify(tracker, times(1)).releaseMemory(sketchBytes, false, MemoryTracker.Origin.COLD_START_DOOR_KEEPER);
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testExactDoorKeeperWhenSketchMemoryUnavailable() throws InterruptedException {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, true);
+        try {
+            MemoryTracker tracker = mock(MemoryTracker.class);
+            when(tracker.tryConsumeMemory(anyLong(), anyBoolean(), any())).thenReturn(false);
+            entityColdStarter.setMemoryTracker(tracker);
+
+            coldStartUntilRejected();
+            checkSemaphoreRelease();
+
+            entityColdStarter.clear(detectorId);
+            verify(tracker, never()).releaseMemory(anyLong(), anyBoolean(), any());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, false);
+        }
+    }
+
     public void testColdStartException() throws InterruptedException {
         Deque<Sample> samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
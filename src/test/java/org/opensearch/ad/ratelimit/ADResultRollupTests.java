@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ratelimit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.opensearch.Version;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.model.ResultRollup;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.model.FeatureData;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+
+public class ADResultRollupTests extends OpenSearchTestCase {
+    private static final long INTERVAL_MILLIS = 60_000L;
+
+    private Clock clock;
+    private long now;
+    private AnomalyDetector detector;
+    private ADResultRollup rollup;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        now = 1_700_000_000_000L;
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now);
+        detector = mock(AnomalyDetector.class);
+        when(detector.getId()).thenReturn("detector");
+        when(detector.getFrequencyInMilliseconds()).thenReturn(INTERVAL_MILLIS);
+        rollup = new ADResultRollup(clock);
+    }
+
+    private AnomalyResult result(int interval, double score, double grade, double value) {
+        return result("detector_entity_abc", interval, score, grade, value);
+    }
+
+    private AnomalyResult result(String modelId, int interval, double score, double grade, double value) {
+        Instant start = Instant.ofEpochMilli(now + interval * INTERVAL_MILLIS);
+        return new AnomalyResult(
+            "detector",
+            null,
+            score,
+            grade,
+            0.9,
+            Arrays.asList(new FeatureData("f1", "feature1", value)),
+            start,
+            start.plusMillis(INTERVAL_MILLIS),
+            start,
+            start.plusMillis(INTERVAL_MILLIS),
+            null,
+            Optional.empty(),
+            null,
+            7,
+            modelId,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    public void testFoldsNonAnomalousResults() {
+        assertTrue(rollup.add(result(0, 0.5, 0, 1), detector, 3).isEmpty());
+        assertTrue(rollup.add(result(1, 0.7, 0, 3), detector, 3).isEmpty());
+        List<ADResultWriteRequest> toWrite = rollup.add(result(2, 0.6, 0, 5), detector, 3);
+        assertEquals(1, toWrite.size());
+        assertEquals(0, rollup.size());
+
+        AnomalyResult summary = toWrite.get(0).getResult();
+        assertEquals(RequestPriority.MEDIUM, toWrite.get(0).getPriority());
+        assertEquals(0d, summary.getAnomalyGrade(), 0.001);
+        assertEquals(0.7, summary.getAnomalyScore(), 0.001);
+        assertEquals(Instant.ofEpochMilli(now), summary.getDataStartTime());
+        assertEquals(Instant.ofEpochMilli(now + 3 * INTERVAL_MILLIS), summary.getDataEndTime());
+        assertEquals(3d, summary.getFeatureData().get(0).getData(), 0.001);
+
+        ResultRollup stats = summary.getRollup();
+        assertEquals(3, stats.getCount());
+        assertEquals(0.5, stats.getMinScore(), 0.001);
+        assertEquals(0.7, stats.getMaxScore(), 0.001);
+        assertEquals(0.6, stats.getAvgScore(), 0.001);
+        assertEquals(1d, stats.getFeatures().get(0).getMin(), 0.001);
+        assertEquals(5d, stats.getFeatures().get(0).getMax(), 0.001);
+    }
+
+    public void testAnomalyClosesWindow() {
+        rollup.add(result(0, 0.5, 0, 1), detector, 10);
+        rollup.add(result(1, 0.6, 0, 2), detector, 10);
+        AnomalyResult anomaly = result(2, 2.5, 0.8, 10);
+        List<ADResultWriteRequest> toWrite = rollup.add(anomaly, detector, 10);
+        // the summary precedes the anomaly
+        assertEquals(2, toWrite.size());
+        assertEquals(2, toWrite.get(0).getResult().getRollup().getCount());
+        assertSame(anomaly, toWrite.get(1).getResult());
+        assertEquals(RequestPriority.HIGH, toWrite.get(1).getPriority());
+        assertEquals(0, rollup.size());
+    }
+
+    public void testSweepIdleWindows() {
+        rollup.add(result(0, 0.5, 0, 1), detector, 10);
+        assertTrue(rollup.sweep().isEmpty());
+
+        now += INTERVAL_MILLIS;
+        // not idle for two intervals yet
+        assertTrue(rollup.sweep().isEmpty());
+        assertEquals(1, rollup.size());
+
+        now += 2 * INTERVAL_MILLIS;
+        List<ADResultWriteRequest> toWrite = rollup.sweep();
+        assertEquals(1, toWrite.size());
+        assertEquals(1, toWrite.get(0).getResult().getRollup().getCount());
+        assertEquals(0, rollup.size());
+    }
+
+    public void testMaintenanceClosesIdleWindowsUnthrottled() {
+        rollup.add(result(0, 0.5, 0, 1), detector, 10);
+        // the detector stopped: no more results, hence no more sweeps
+        now += 3 * INTERVAL_MILLIS;
+        assertEquals(1, rollup.sweep().size());
+
+        rollup.add(result(3, 0.5, 0, 1), detector, 10);
+        now += 3 * INTERVAL_MILLIS;
+        List<ADResultWriteRequest> toWrite = rollup.maintenance();
+        assertEquals(1, toWrite.size());
+        assertEquals(0, rollup.size());
+    }
+
+    public void testBoundedWindows() {
+        rollup = new ADResultRollup(clock, 1);
+        assertTrue(rollup.add(result(0, 0.5, 0, 1), detector, 10).isEmpty());
+
+        AnomalyResult other = result("detector_entity_def", 0, 0.5, 0, 1);
+        // no room for a second window: written individually
+        List<ADResultWriteRequest> toWrite = rollup.add(other, detector, 10);
+        assertEquals(1, toWrite.size());
+        assertSame(other, toWrite.get(0).getResult());
+        assertEquals(1, rollup.size());
+
+        // the open window still folds
+        assertTrue(rollup.add(result(1, 0.5, 0, 1), detector, 10).isEmpty());
+        assertEquals(1, rollup.size());
+    }
+
+    public void testSummarySerialization() throws IOException {
+        rollup.add(result(0, 0.5, 0, 1), detector, 2);
+        AnomalyResult summary = rollup.add(result(1, 0.7, 0, 3), detector, 2).get(0).getResult();
+
+        String summaryString = TestHelpers.xContentBuilderToString(summary.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        AnomalyResult parsed = AnomalyResult.parse(TestHelpers.parser(summaryString));
+        assertEquals(summary.getRollup(), parsed.getRollup());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(AnomalyResult.ROLLUP_VERSION);
+        summary.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(AnomalyResult.ROLLUP_VERSION);
+        assertEquals(summary.getRollup(), new AnomalyResult(input).getRollup());
+    }
+
+    public void testSummarySerializationToOlderVersion() throws IOException {
+        rollup.add(result(0, 0.5, 0, 1), detector, 2);
+        AnomalyResult summary = rollup.add(result(1, 0.7, 0, 3), detector, 2).get(0).getResult();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_2_0);
+        summary.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_2_0);
+        AnomalyResult read = new AnomalyResult(input);
+        assertNull(read.getRollup());
+        assertEquals(summary.getAnomalyScore(), read.getAnomalyScore());
+    }
+}
@@ -25,6 +25,8 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,11 +40,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.ad.caching.ADCacheProvider;
 import org.opensearch.ad.caching.ADPriorityCache;
@@ -72,10 +76,12 @@ import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.common.exception.LimitExceededException;
 import org.opensearch.timeseries.feature.SearchFeatureDao;
+import org.opensearch.timeseries.ml.CheckpointDao;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
@@ -319,6 +325,10 @@ public class CheckpointReadWorkerTests extends AbstractRateLimitingTest {
     public void testRegular() {
         regularTestSetUp(new RegularSetUpConfig.Builder().build());
 
+        ArgumentCaptor<MultiGetRequest> batchRequest = ArgumentCaptor.forClass(MultiGetRequest.class);
+        verify(checkpoint, times(1)).batchRead(batchRequest.capture(), any());
+        assertNull(batchRequest.getValue().getItems().get(0).fetchSourceContext());
+
         verify(resultWriteStrategy, times(1)).saveAllResults(any(), any(), any(), any(), anyString(), any(), any(), any());
         verify(checkpointWriteQueue, never()).write(any(), anyBoolean(), any());
     }
@@ -331,6 +341,47 @@ public class CheckpointReadWorkerTests extends AbstractRateLimitingTest {
         verify(checkpointWriteQueue, times(1)).write(any(), anyBoolean(), any());
     }
 
+    public void testRestoreModelKeptInMemory() {
+        Instant checkpointTime = Instant.ofEpochSecond(1000);
+        when(entityCache.hasInactiveModel(anyString())).thenReturn(true);
+        when(checkpoint.processHCGetResponseTimeAndSamples(any(), anyString()))
+            .thenReturn(Optional.of(new SimpleImmutableEntry<>(checkpointTime, new ArrayDeque<>())));
+        when(entityCache.inflateInactiveModel(anyString(), eq(checkpointTime), any())).thenAnswer(invocation -> Optional.of(state));
+
+        regularTestSetUp(new RegularSetUpConfig.Builder().build());
+
+        // the checkpoint is still read to check that the model kept in memory is not stale
+        ArgumentCaptor<MultiGetRequest> batchRequest = ArgumentCaptor.forClass(MultiGetRequest.class);
+        verify(checkpoint, times(1)).batchRead(batchRequest.capture(), any());
+        // but only its time and samples are fetched
+        assertEquals(CheckpointDao.TIME_AND_SAMPLES_SOURCE, batchRequest.getValue().getItems().get(0).fetchSourceContext());
+        verify(checkpoint, never()).read(any(), any());
+        verify(checkpoint, never()).processHCGetResponse(any(), anyString(), anyString());
+        verify(resultWriteStrategy, times(1)).saveAllResults(any(), any(), any(), any(), anyString(), any(), any(), any());
+    }
+
+    public void testModelKeptInMemoryOlderThanCheckpoint() {
+        when(entityCache.hasInactiveModel(anyString())).thenReturn(true);
+        when(checkpoint.processHCGetResponseTimeAndSamples(any(), anyString()))
+            .thenReturn(Optional.of(new SimpleImmutableEntry<>(Instant.ofEpochSecond(1000), new ArrayDeque<>())));
+        when(entityCache.inflateInactiveModel(anyString(), any(), any())).thenReturn(Optional.empty());
+        GetResponse fullCheckpoint = new GetResponse(
+            new GetResult(ADCommonName.CHECKPOINT_INDEX_NAME, entity.getModelId(detectorId).get(), 1, 1, 0, true, null, null, null)
+        );
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(fullCheckpoint);
+            return null;
+        }).when(checkpoint).read(any(), any());
+
+        regularTestSetUp(new RegularSetUpConfig.Builder().build());
+
+        // the batch read left out the model, so the full checkpoint is read to deserialize it
+        verify(checkpoint, times(1)).read(any(), any());
+        verify(checkpoint, times(1)).processHCGetResponse(eq(fullCheckpoint), anyString(), anyString());
+        verify(resultWriteStrategy, times(1)).saveAllResults(any(), any(), any(), any(), anyString(), any(), any(), any());
+    }
+
     public void testNoFullModel() {
         regularTestSetUp(new RegularSetUpConfig.Builder().fullModel(false).build());
         // No model present means we don't process or save.
@@ -700,6 +751,50 @@ public class CheckpointReadWorkerTests extends AbstractRateLimitingTest {
         assertTrue(worker.isQueueEmpty());
     }
 
+    public void testBoundedQueueAccountsForQueueMemory() {
+        maintenanceSetup();
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, true);
+        try {
+            // the budget can host two 1-byte requests but not the queue's own slot array
+            worker = new ADCheckpointReadWorker(
+                2000,
+                1,
+                AnomalyDetectorSettings.AD_CHECKPOINT_READ_QUEUE_MAX_HEAP_PERCENT,
+                clusterService,
+                new Random(42),
+                mock(CircuitBreakerService.class),
+                threadPool,
+                Settings.EMPTY,
+                TimeSeriesSettings.MAX_QUEUED_TASKS_RATIO,
+                clock,
+                TimeSeriesSettings.MEDIUM_SEGMENT_PRUNE_RATIO,
+                TimeSeriesSettings.LOW_SEGMENT_PRUNE_RATIO,
+                TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+                TimeSeriesSettings.QUEUE_MAINTENANCE,
+                modelManager,
+                checkpoint,
+                coldstartQueue,
+                nodeStateManager,
+                cacheProvider,
+                TimeSeriesSettings.HOURLY_MAINTENANCE,
+                checkpointWriteQueue,
+                inferencer
+            );
+
+            List<FeatureRequest> requests = new ArrayList<>();
+            requests.add(request);
+            requests.add(request2);
+            worker.putAll(requests);
+            assertTrue(!worker.isQueueEmpty());
+            assertTrue(worker.hasConfigIdInQueue(detectorId));
+
+            worker.maintenance();
+            assertTrue(worker.isQueueEmpty());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, false);
+        }
+    }
+
     public void testOpenCircuitBreaker() {
         maintenanceSetup();
 
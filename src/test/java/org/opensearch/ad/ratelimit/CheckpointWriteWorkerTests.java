@@ -64,7 +64,9 @@ import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ratelimit.AdaptiveBatchController;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
@@ -273,6 +275,68 @@ public class CheckpointWriteWorkerTests extends AbstractRateLimitingTest {
         verify(nodeStateManager, times(1)).setException(eq(state.getConfigId()), any(OpenSearchRejectedExecutionException.class));
     }
 
+    public void testAdaptiveBatchingShrinksOnOverload() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, true);
+        try {
+            doAnswer(invocation -> {
+                ActionListener<BulkResponse> listener = invocation.getArgument(1);
+                listener.onFailure(new OpenSearchRejectedExecutionException("blah", true));
+
+                return null;
+            }).when(checkpoint).batchWrite(any(), any());
+
+            worker.write(state, true, RequestPriority.MEDIUM);
+
+            AdaptiveBatchController controller = worker.getBatchController();
+            int batchSize = AnomalyDetectorSettings.AD_CHECKPOINT_WRITE_QUEUE_BATCH_SIZE.get(Settings.EMPTY);
+            int concurrency = AnomalyDetectorSettings.AD_CHECKPOINT_WRITE_QUEUE_CONCURRENCY.get(Settings.EMPTY);
+            assertEquals(Math.max(1, batchSize / 2), controller.getBatchSize());
+            assertEquals(Math.max(1, concurrency / 2), controller.getConcurrency());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, false);
+        }
+    }
+
+    public void testAdaptiveBatchingCountsRejectedItems() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, true);
+        try {
+            doAnswer(invocation -> {
+                ActionListener<BulkResponse> listener = invocation.getArgument(1);
+                BulkItemResponse[] responses = new BulkItemResponse[1];
+                responses[0] = new BulkItemResponse(
+                    0,
+                    DocWriteRequest.OpType.UPDATE,
+                    new Failure("index_name", "id1", new OpenSearchRejectedExecutionException("blah", true))
+                );
+                listener.onResponse(new BulkResponse(responses, 1));
+
+                return null;
+            }).when(checkpoint).batchWrite(any(), any());
+
+            worker.write(state, true, RequestPriority.MEDIUM);
+
+            int batchSize = AnomalyDetectorSettings.AD_CHECKPOINT_WRITE_QUEUE_BATCH_SIZE.get(Settings.EMPTY);
+            assertEquals(Math.max(1, batchSize / 2), worker.getBatchController().getBatchSize());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, false);
+        }
+    }
+
+    public void testAdaptiveBatchingDisabled() {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new OpenSearchRejectedExecutionException("blah", true));
+
+            return null;
+        }).when(checkpoint).batchWrite(any(), any());
+
+        worker.write(state, true, RequestPriority.MEDIUM);
+
+        int batchSize = AnomalyDetectorSettings.AD_CHECKPOINT_WRITE_QUEUE_BATCH_SIZE.get(Settings.EMPTY);
+        assertEquals(batchSize, worker.getBatchController().getBatchSize());
+        assertTrue(((List<?>) worker.getBatchController().toMap().get(AdaptiveBatchController.HISTORY)).isEmpty());
+    }
+
     public void testRetryException() {
         doAnswer(invocation -> {
             ActionListener<BulkResponse> listener = invocation.getArgument(1);
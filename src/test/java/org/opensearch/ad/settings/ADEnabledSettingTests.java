@@ -56,6 +56,36 @@ public class ADEnabledSettingTests extends OpenSearchTestCase {
         assertTrue(ADEnabledSetting.isDoorKeeperInCacheEnabled());
     }
 
+    public void testIsPipelinedBatchTaskEnabled() {
+        try {
+            assertTrue(!ADEnabledSetting.isPipelinedBatchTaskEnabled());
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.PIPELINED_BATCH_TASK_ENABLED, true);
+            assertTrue(ADEnabledSetting.isPipelinedBatchTaskEnabled());
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.PIPELINED_BATCH_TASK_ENABLED, false);
+        }
+    }
+
+    public void testIsPreserializedResultEnabled() {
+        try {
+            assertTrue(!ADEnabledSetting.isPreserializedResultEnabled());
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.PRESERIALIZED_RESULT_ENABLED, true);
+            assertTrue(ADEnabledSetting.isPreserializedResultEnabled());
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.PRESERIALIZED_RESULT_ENABLED, false);
+        }
+    }
+
+    public void testIsResultRollupEnabled() {
+        try {
+            assertTrue(!ADEnabledSetting.isResultRollupEnabled());
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.RESULT_ROLLUP_ENABLED, true);
+            assertTrue(ADEnabledSetting.isResultRollupEnabled());
+        } finally {
+            ADEnabledSetting.getInstance().setSettingValue(ADEnabledSetting.RESULT_ROLLUP_ENABLED, false);
+        }
+    }
+
     public void testSetSettingsUpdateConsumers() {
         Setting<Boolean> testSetting = Setting.boolSetting("test.setting", true, Setting.Property.NodeScope, Dynamic);
         Map<String, Setting<?>> settings = new HashMap<>();
@@ -34,6 +34,26 @@ public class ADNumericSettingTests extends OpenSearchTestCase {
         assertEquals(96, value);
     }
 
+    public void testMaxPagesInFlight() {
+        assertEquals(1, ADNumericSetting.maxPagesInFlight());
+        try {
+            adSetting.setSettingValue(ADNumericSetting.MAX_PAGES_IN_FLIGHT, 4);
+            assertEquals(4, ADNumericSetting.maxPagesInFlight());
+        } finally {
+            adSetting.setSettingValue(ADNumericSetting.MAX_PAGES_IN_FLIGHT, 1);
+        }
+    }
+
+    public void testEntityProcessingChunks() {
+        assertEquals(8, ADNumericSetting.entityProcessingChunks());
+        try {
+            adSetting.setSettingValue(ADNumericSetting.ENTITY_PROCESSING_CHUNKS, 2);
+            assertEquals(2, ADNumericSetting.entityProcessingChunks());
+        } finally {
+            adSetting.setSettingValue(ADNumericSetting.ENTITY_PROCESSING_CHUNKS, 8);
+        }
+    }
+
     public void testGetSettingValue() {
         Map<String, Setting<?>> settingsMap = new HashMap<>();
         Setting<Integer> testSetting = Setting.intSetting("test.setting", 1, Setting.Property.NodeScope);
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.stats.suppliers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.ratelimit.AdaptiveBatchController;
+import org.opensearch.timeseries.ratelimit.BatchWorker;
+import org.opensearch.timeseries.stats.suppliers.BatchWorkerSupplier;
+
+public class BatchWorkerSupplierTests extends OpenSearchTestCase {
+    @SuppressWarnings("unchecked")
+    public void testGet() {
+        AdaptiveBatchController controller = new AdaptiveBatchController(Clock.systemUTC(), 10, 2, Duration.ofSeconds(2));
+        controller.onBatchCompleted(10, 1, 1);
+        BatchWorker<?, ?, ?> worker = mock(BatchWorker.class);
+        when(worker.getWorkerName()).thenReturn("ad-checkpoint-write");
+        when(worker.getBatchController()).thenReturn(controller);
+
+        BatchWorkerSupplier supplier = new BatchWorkerSupplier();
+        assertTrue(supplier.get().isEmpty());
+        supplier.register(worker);
+
+        Map<String, Object> values = supplier.get();
+        assertEquals(1, values.size());
+        Map<String, Object> workerValues = (Map<String, Object>) values.get("ad-checkpoint-write");
+        assertEquals(5, workerValues.get(AdaptiveBatchController.BATCH_SIZE));
+        assertEquals(1, workerValues.get(AdaptiveBatchController.CONCURRENCY));
+    }
+}
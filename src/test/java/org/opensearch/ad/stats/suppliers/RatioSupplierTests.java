@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.stats.suppliers;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.stats.suppliers.CounterSupplier;
+import org.opensearch.timeseries.stats.suppliers.RatioSupplier;
+
+public class RatioSupplierTests extends OpenSearchTestCase {
+    public void testGet() {
+        CounterSupplier entities = new CounterSupplier();
+        CounterSupplier millis = new CounterSupplier();
+        RatioSupplier ratioSupplier = new RatioSupplier(entities, millis);
+        assertEquals(0.0, ratioSupplier.get(), 0.0001);
+
+        entities.add(1000);
+        millis.add(400);
+        assertEquals(2.5, ratioSupplier.get(), 0.0001);
+    }
+}
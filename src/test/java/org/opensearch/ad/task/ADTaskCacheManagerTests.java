@@ -45,6 +45,7 @@ import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.common.exception.DuplicateTaskException;
 import org.opensearch.timeseries.common.exception.LimitExceededException;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.TaskState;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.task.RealtimeTaskCache;
@@ -91,7 +92,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testPutTask() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         ADTask adTask = TestHelpers.randomAdTask();
         adTaskCacheManager.add(adTask);
         assertEquals(1, adTaskCacheManager.size());
@@ -103,8 +104,27 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
         assertEquals(0, adTaskCacheManager.size());
     }
 
+    public void testPutTaskReleasesReservationOnFailure() {
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
+        when(memoryTracker.tryAcquireRCFThreads(TimeSeriesSettings.RCF_PARALLEL_THREADS_PER_MODEL)).thenReturn(2);
+        // no enabled feature: building the model fails
+        AnomalyDetector detector = mock(AnomalyDetector.class);
+        when(detector.getEnabledFeatureIds()).thenReturn(Collections.emptyList());
+        when(detector.getShingleSize()).thenReturn(1);
+        when(detector.getTimeDecay()).thenReturn(0.0001);
+        ADTask adTask = mock(ADTask.class);
+        when(adTask.getTaskId()).thenReturn("task");
+        when(adTask.getConfigId()).thenReturn("detector");
+        when(adTask.getDetector()).thenReturn(detector);
+
+        expectThrows(IllegalArgumentException.class, () -> adTaskCacheManager.add(adTask));
+        verify(memoryTracker, times(1)).releaseRCFThreads(2);
+        verify(memoryTracker, times(1)).releaseMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR));
+        assertEquals(0, adTaskCacheManager.size());
+    }
+
     public void testPutDuplicateTask() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         ADTask adTask1 = TestHelpers.randomAdTask();
         adTaskCacheManager.add(adTask1);
         assertEquals(1, adTaskCacheManager.size());
@@ -126,7 +146,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testPutMultipleEntityTasks() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         AnomalyDetector detector = TestHelpers
             .randomAnomalyDetector(
                 ImmutableList.of(TestHelpers.randomFeature(true)),
@@ -170,7 +190,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testPutTaskWithMemoryExceedLimit() {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(false);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(false);
         LimitExceededException exception = expectThrows(
             LimitExceededException.class,
             () -> adTaskCacheManager.add(TestHelpers.randomAdTask())
@@ -179,7 +199,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testThresholdModelTrained() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         ADTask adTask = TestHelpers.randomAdTask();
         adTaskCacheManager.add(adTask);
         assertEquals(1, adTaskCacheManager.size());
@@ -203,7 +223,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testExceedRunningTaskLimit() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         adTaskCacheManager.add(TestHelpers.randomAdTask());
         adTaskCacheManager.add(TestHelpers.randomAdTask());
         assertEquals(2, adTaskCacheManager.size());
@@ -221,7 +241,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     public void testCancelByDetectorId() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         ADTask adTask = TestHelpers.randomAdTask();
         adTaskCacheManager.add(adTask);
         String detectorId = adTask.getConfigId();
@@ -371,6 +391,29 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
         assertNotNull(realtimeTaskCache);
     }
 
+    public void testEntityCardinalitySketch() {
+        String detectorId = randomAlphaOfLength(5);
+        // no realtime task cache yet
+        adTaskCacheManager.addRealtimeEntities(detectorId, Arrays.asList("a", "b"), true);
+        assertNull(adTaskCacheManager.getEntityCardinalitySketch(detectorId));
+
+        adTaskCacheManager.initRealtimeTaskCache(detectorId, 60_000);
+        adTaskCacheManager.addRealtimeEntities(detectorId, Arrays.asList("a", "b"), false);
+        EntityCardinalitySketch sketch = adTaskCacheManager.getEntityCardinalitySketch(detectorId);
+        assertFalse(sketch.isComplete());
+        assertEquals(2, sketch.estimate());
+
+        adTaskCacheManager.addRealtimeEntities(detectorId, Arrays.asList("b", "c"), true);
+        // the returned sketch is a copy
+        assertEquals(2, sketch.estimate());
+        sketch = adTaskCacheManager.getEntityCardinalitySketch(detectorId);
+        assertTrue(sketch.isComplete());
+        assertEquals(3, sketch.estimate());
+
+        adTaskCacheManager.removeRealtimeTaskCache(detectorId);
+        assertNull(adTaskCacheManager.getEntityCardinalitySketch(detectorId));
+    }
+
     public void testGetAndDecreaseEntityTaskLanes() throws IOException {
         String detectorId = randomAlphaOfLength(10);
         adTaskCacheManager.add(detectorId, TestHelpers.randomAdTask(ADTaskType.HISTORICAL_HC_DETECTOR));
@@ -423,7 +466,7 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
     }
 
     private List<String> addHCDetectorCache() throws IOException {
-        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(true), eq(HISTORICAL_SINGLE_ENTITY_DETECTOR))).thenReturn(true);
         AnomalyDetector detector = TestHelpers
             .randomAnomalyDetector(
                 ImmutableList.of(TestHelpers.randomFeature(true)),
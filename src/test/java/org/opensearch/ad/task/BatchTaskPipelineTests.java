@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BatchTaskPipelineTests extends OpenSearchTestCase {
+    private BatchTaskStageTimings timings;
+    private AtomicReference<Exception> failure;
+    private AtomicInteger responses;
+    private BatchTaskPipeline pipeline;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        timings = new BatchTaskStageTimings();
+        failure = new AtomicReference<>();
+        responses = new AtomicInteger();
+        pipeline = new BatchTaskPipeline(2, timings, ActionListener.wrap(r -> responses.incrementAndGet(), e -> {
+            assertTrue("listener notified twice", failure.compareAndSet(null, e));
+        }));
+    }
+
+    private Map<Long, Optional<double[]>> data(long time) {
+        Map<Long, Optional<double[]>> data = new HashMap<>();
+        data.put(time, Optional.of(new double[] { 1.0 }));
+        return data;
+    }
+
+    public void testPrefetchCompletesBeforeTake() {
+        pipeline.prefetch(10, listener -> listener.onResponse(data(10)));
+        AtomicReference<Map<Long, Optional<double[]>>> received = new AtomicReference<>();
+        assertTrue(pipeline.takePrefetched(10, ActionListener.wrap(received::set, e -> fail())));
+        assertTrue(received.get().containsKey(10L));
+        // consumed
+        assertTrue(!pipeline.takePrefetched(10, ActionListener.wrap(r -> fail(), e -> fail())));
+    }
+
+    public void testTakeWaitsForPrefetch() {
+        AtomicReference<ActionListener<Map<Long, Optional<double[]>>>> pending = new AtomicReference<>();
+        pipeline.prefetch(10, pending::set);
+        // only one piece is fetched ahead
+        pipeline.prefetch(20, listener -> fail());
+        assertTrue(!pipeline.takePrefetched(20, ActionListener.wrap(r -> fail(), e -> fail())));
+
+        AtomicReference<Map<Long, Optional<double[]>>> received = new AtomicReference<>();
+        assertTrue(pipeline.takePrefetched(10, ActionListener.wrap(received::set, e -> fail())));
+        assertNull(received.get());
+        pending.get().onResponse(data(10));
+        assertTrue(received.get().containsKey(10L));
+    }
+
+    public void testPrefetchFailure() {
+        pipeline.prefetch(10, listener -> listener.onFailure(new RuntimeException("search failed")));
+        AtomicReference<Exception> received = new AtomicReference<>();
+        assertTrue(pipeline.takePrefetched(10, ActionListener.wrap(r -> fail(), received::set)));
+        assertEquals("search failed", received.get().getMessage());
+    }
+
+    public void testWriteBudget() {
+        List<ActionListener<BulkResponse>> writes = new ArrayList<>();
+        AtomicInteger continued = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            pipeline.write(writes::add, continued::incrementAndGet);
+        }
+        // the 3rd write waits for a slot
+        assertEquals(2, writes.size());
+        assertEquals(2, continued.get());
+
+        writes.get(0).onResponse(null);
+        assertEquals(3, writes.size());
+        assertEquals(3, continued.get());
+
+        AtomicInteger drained = new AtomicInteger();
+        pipeline.whenDrained(drained::incrementAndGet);
+        writes.get(1).onResponse(null);
+        assertEquals(0, drained.get());
+        writes.get(2).onResponse(null);
+        assertEquals(1, drained.get());
+        assertNull(failure.get());
+    }
+
+    public void testWriteFailureStopsPipeline() {
+        List<ActionListener<BulkResponse>> writes = new ArrayList<>();
+        pipeline.write(writes::add, () -> {});
+        pipeline.write(writes::add, () -> {});
+        AtomicInteger continued = new AtomicInteger();
+        pipeline.write(writes::add, continued::incrementAndGet);
+
+        writes.get(0).onFailure(new RuntimeException("bulk failed"));
+        assertEquals("bulk failed", failure.get().getMessage());
+        assertTrue(pipeline.isFailed());
+        // the blocked write is dropped
+        assertEquals(2, writes.size());
+        assertEquals(0, continued.get());
+
+        // later failures and completions are not reported again
+        writes.get(1).onFailure(new RuntimeException("bulk failed again"));
+        pipeline.fail(new RuntimeException("piece failed"));
+        pipeline.getListener().onResponse("done");
+        pipeline.whenDrained(() -> fail());
+        assertEquals("bulk failed", failure.get().getMessage());
+        assertEquals(0, responses.get());
+    }
+
+    public void testListener() {
+        pipeline.getListener().onResponse("done");
+        assertEquals(1, responses.get());
+    }
+
+    public void testStageTimings() {
+        timings.recordFetch(3_000_000);
+        timings.recordScore(2_000_000);
+        timings.recordScore(2_000_000);
+        timings.recordWrite(5_000_000);
+        Map<String, Long> map = timings.toMap();
+        assertEquals(2L, (long) map.get(BatchTaskStageTimings.PIECES));
+        assertEquals(3L, (long) map.get(BatchTaskStageTimings.FETCH_MILLIS));
+        assertEquals(4L, (long) map.get(BatchTaskStageTimings.SCORE_MILLIS));
+        assertEquals(5L, (long) map.get(BatchTaskStageTimings.WRITE_MILLIS));
+        assertEquals(0L, (long) map.get(BatchTaskStageTimings.STALL_MILLIS));
+
+        Map<String, Long> merged = BatchTaskStageTimings.merge(map, map);
+        assertEquals(4L, (long) merged.get(BatchTaskStageTimings.PIECES));
+        assertSame(map, BatchTaskStageTimings.merge(null, map));
+        assertNull(BatchTaskStageTimings.merge(null, null));
+    }
+}
@@ -23,12 +23,14 @@ import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.ad.constant.ADCommonMessages;
 import org.opensearch.ad.model.ADTaskProfile;
+import org.opensearch.ad.task.BatchTaskStageTimings;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.test.InternalSettingsPlugin;
@@ -189,4 +191,43 @@ public class ADTaskProfileTests extends OpenSearchSingleNodeTestCase {
         TaskProfile parsedADTaskProfile = ADTaskProfile.parse(TestHelpers.parser(adTaskProfileString));
         assertEquals(adTaskProfile, parsedADTaskProfile);
     }
+
+    public void testADTaskProfileWithPieceStageTimings() throws IOException {
+        ADTaskProfile adTaskProfile = new ADTaskProfile(
+            randomAlphaOfLength(5),
+            randomLong(),
+            randomBoolean(),
+            randomInt(),
+            randomLong(),
+            randomAlphaOfLength(5)
+        );
+        BatchTaskStageTimings timings = new BatchTaskStageTimings();
+        timings.recordFetch(2_000_000);
+        timings.recordScore(1_000_000);
+        adTaskProfile.setPieceStageTimings(timings.toMap());
+
+        String adTaskProfileString = TestHelpers
+            .xContentBuilderToString(adTaskProfile.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        ADTaskProfile parsedADTaskProfile = ADTaskProfile.parse(TestHelpers.parser(adTaskProfileString));
+        assertEquals(adTaskProfile, parsedADTaskProfile);
+        assertEquals(2L, (long) parsedADTaskProfile.getPieceStageTimings().get(BatchTaskStageTimings.FETCH_MILLIS));
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(ADTaskProfile.PIECE_STAGE_TIMINGS_VERSION);
+        adTaskProfile.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(ADTaskProfile.PIECE_STAGE_TIMINGS_VERSION);
+        assertEquals(adTaskProfile, new ADTaskProfile(input));
+
+        // nodes of older versions neither send nor expect the timings
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_2_0);
+        adTaskProfile.writeTo(output);
+        input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_2_0);
+        ADTaskProfile oldProfile = new ADTaskProfile(input);
+        assertNull(oldProfile.getPieceStageTimings());
+        assertEquals(adTaskProfile.getNodeId(), oldProfile.getNodeId());
+        assertEquals(0, input.available());
+    }
 }
@@ -124,7 +124,8 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
             ADCheckpointReadWorker checkpointReadQueue,
             ADColdEntityWorker coldEntityQueue,
             ThreadPool threadPool,
-            ADRealTimeInferencer inferencer
+            ADRealTimeInferencer inferencer,
+            ADStats adStats
         ) {
             super(
                 actionFilters,
@@ -136,7 +137,8 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
                 checkpointReadQueue,
                 coldEntityQueue,
                 threadPool,
-                inferencer
+                inferencer,
+                adStats
             );
         }
 
@@ -304,6 +306,8 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
         Map<String, TimeSeriesStat<?>> statsMap = new HashMap<String, TimeSeriesStat<?>>() {
             {
                 put(StatNames.AD_MODEL_CORRUTPION_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
+                put(StatNames.AD_HC_ENTITIES_PROCESSED_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
+                put(StatNames.AD_HC_ENTITY_PROCESSING_MS.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
             }
         };
 
@@ -332,7 +336,8 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
             checkpointReadQueue,
             coldEntityQueue,
             threadPool,
-            inferencer
+            inferencer,
+            adStats
         );
 
         // timeout in 60 seconds
@@ -358,6 +363,17 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
         verify(resultWriteQueue, times(1)).putAll(any());
     }
 
+    public void testProcessedEntitiesStats() {
+        PlainActionFuture<AcknowledgedResponse> future = PlainActionFuture.newFuture();
+
+        entityResult.doExecuteForTest(null, request, future);
+
+        future.actionGet(timeoutMs);
+
+        assertEquals((long) entities.size(), adStats.getStat(StatNames.AD_HC_ENTITIES_PROCESSED_COUNT.getName()).getValue());
+        assertTrue((Long) adStats.getStat(StatNames.AD_HC_ENTITY_PROCESSING_MS.getName()).getValue() >= 0);
+    }
+
     // test get detector failure
     @SuppressWarnings("unchecked")
     public void testFailtoGetDetector() {
@@ -519,7 +535,8 @@ public class EntityResultTransportActionTests extends AbstractTimeSeriesTest {
             checkpointReadQueue,
             coldEntityQueue,
             threadPool,
-            inferencer
+            inferencer,
+            adStats
         );
 
         return model;
@@ -44,6 +44,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -465,7 +466,8 @@ public class MultiEntityResultTests extends AbstractTimeSeriesTest {
             checkpointReadQueue,
             coldEntityQueue,
             threadPool,
-            inferencer
+            inferencer,
+            adStats
         );
 
         // when(normalModelManager.getResult(any(), any(), any(), any(), any())).thenReturn(new ThresholdingResult(0, 1, 1));
@@ -831,7 +833,8 @@ public class MultiEntityResultTests extends AbstractTimeSeriesTest {
             checkpointReadQueue,
             coldEntityQueue,
             threadPool,
-            inferencer
+            inferencer,
+            adStats
         );
 
         CountDownLatch inProgress = new CountDownLatch(1);
@@ -1008,7 +1011,8 @@ public class MultiEntityResultTests extends AbstractTimeSeriesTest {
             checkpointReadQueue,
             coldEntityQueue,
             threadPool,
-            inferencer
+            inferencer,
+            adStats
         );
 
         CountDownLatch modelNodeInProgress = new CountDownLatch(1);
@@ -1241,6 +1245,171 @@ public class MultiEntityResultTests extends AbstractTimeSeriesTest {
         assertTrue("actual:" + repr, repr.contains("Page"));
     }
 
+    private SearchResponse createPageResponse(Map<String, Object> key, Map<String, Object> afterKey) {
+        CompositeAggregation composite = mock(CompositeAggregation.class);
+        when(composite.getName()).thenReturn(CompositeRetriever.AGG_NAME_COMP);
+        when(composite.afterKey()).thenReturn(afterKey);
+
+        String featureID = detector.getFeatureAttributes().get(0).getId();
+        List<CompositeAggregation.Bucket> compositeBuckets = new ArrayList<>();
+        CompositeAggregation.Bucket bucket = mock(CompositeAggregation.Bucket.class);
+        when(bucket.getKey()).thenReturn(key);
+        List<Aggregation> aggList = new ArrayList<>();
+        aggList.add(new InternalMin(featureID, randomDouble(), DocValueFormat.RAW, new HashMap<>()));
+        when(bucket.getAggregations()).thenReturn(new Aggregations(aggList));
+        compositeBuckets.add(bucket);
+
+        when(composite.getBuckets()).thenAnswer((Answer<List<CompositeAggregation.Bucket>>) invocation -> { return compositeBuckets; });
+        Aggregations aggs = new Aggregations(Collections.singletonList(composite));
+
+        SearchResponseSections sections = new SearchResponseSections(SearchHits.empty(), aggs, null, false, null, null, 1);
+        return new SearchResponse(sections, null, 1, 1, 0, 0, ShardSearchFailure.EMPTY_ARRAY, Clusters.EMPTY);
+    }
+
+    private static class CountingPageFetchTracker implements CompositeRetriever.PageFetchTracker {
+        private final AtomicInteger pagesInFlight = new AtomicInteger();
+        private final AtomicInteger maxPagesInFlight = new AtomicInteger();
+        private final AtomicInteger fetchedPages = new AtomicInteger();
+
+        @Override
+        public void onFetchStarted() {
+            maxPagesInFlight.accumulateAndGet(pagesInFlight.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        public void onPageFetched(long tookMillis) {
+            assertTrue(tookMillis >= 0);
+            fetchedPages.incrementAndGet();
+        }
+
+        @Override
+        public void onPageReleased() {
+            pagesInFlight.decrementAndGet();
+        }
+    }
+
+    private CompositeRetriever createPrefetchingRetriever(int maxPagesInFlight, CompositeRetriever.PageFetchTracker tracker) {
+        return new CompositeRetriever(
+            0,
+            10,
+            detector,
+            xContentRegistry(),
+            client,
+            clientUtil,
+            100,
+            clock,
+            settings,
+            10000,
+            1000,
+            indexNameResolver,
+            clusterService,
+            AnalysisType.AD,
+            maxPagesInFlight,
+            tracker
+        );
+    }
+
+    public void testPrefetchBoundsPagesInFlight() throws IOException {
+        detector = TestHelpers.randomAnomalyDetectorUsingCategoryFields(detectorId, Arrays.asList(serviceField, hostField));
+        List<SearchResponse> responses = Arrays
+            .asList(createPageResponse(attrs1, attrs1), createPageResponse(attrs2, attrs2), createPageResponse(attrs3, null));
+        // hold on to search listeners so that we decide when each page arrives
+        List<ActionListener<SearchResponse>> searches = new ArrayList<>();
+        doAnswer(invocation -> {
+            searches.add(invocation.getArgument(1));
+            return null;
+        }).when(client).search(any(), any());
+
+        CountingPageFetchTracker tracker = new CountingPageFetchTracker();
+        CompositeRetriever.PageIterator iterator = createPrefetchingRetriever(2, tracker).iterator();
+        assertTrue(iterator.isPrefetching());
+
+        List<CompositeRetriever.Page> pages = new ArrayList<>();
+        AtomicInteger exhausted = new AtomicInteger();
+        iterator.prefetch(ActionListener.wrap(pages::add, e -> fail("unexpected failure " + e)), exhausted::incrementAndGet);
+        assertEquals(1, searches.size());
+
+        // the second page is requested before the first one is handed over
+        searches.get(0).onResponse(responses.get(0));
+        assertEquals(2, searches.size());
+        assertEquals(1, pages.size());
+        assertTrue(pages.get(0).getResults().containsKey(entity1));
+
+        // two pages are in flight, so we wait for a release before fetching the third page
+        searches.get(1).onResponse(responses.get(1));
+        assertEquals(2, searches.size());
+        assertEquals(2, pages.size());
+
+        iterator.release();
+        assertEquals(3, searches.size());
+        assertEquals(0, exhausted.get());
+
+        searches.get(2).onResponse(responses.get(2));
+        assertEquals(3, searches.size());
+        assertEquals(3, pages.size());
+        assertTrue(pages.get(2).getResults().containsKey(Entity.createEntityByReordering(attrs3)));
+        assertEquals(1, exhausted.get());
+        assertTrue(!iterator.hasNext());
+
+        iterator.release();
+        iterator.release();
+        assertEquals(2, tracker.maxPagesInFlight.get());
+        assertEquals(0, tracker.pagesInFlight.get());
+        assertEquals(3, tracker.fetchedPages.get());
+    }
+
+    public void testPrefetchStopsOnFailure() throws IOException {
+        detector = TestHelpers.randomAnomalyDetectorUsingCategoryFields(detectorId, Arrays.asList(serviceField, hostField));
+        List<ActionListener<SearchResponse>> searches = new ArrayList<>();
+        doAnswer(invocation -> {
+            searches.add(invocation.getArgument(1));
+            return null;
+        }).when(client).search(any(), any());
+
+        CountingPageFetchTracker tracker = new CountingPageFetchTracker();
+        CompositeRetriever.PageIterator iterator = createPrefetchingRetriever(3, tracker).iterator();
+
+        List<CompositeRetriever.Page> pages = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        AtomicInteger exhausted = new AtomicInteger();
+        iterator.prefetch(ActionListener.wrap(pages::add, failures::add), exhausted::incrementAndGet);
+
+        searches.get(0).onResponse(createPageResponse(attrs1, attrs1));
+        assertEquals(2, searches.size());
+        searches.get(1).onFailure(new OpenSearchTimeoutException("timeout"));
+
+        assertEquals(1, pages.size());
+        assertEquals(1, failures.size());
+        iterator.release();
+        // no more fetches or completion callback after a failure
+        assertEquals(2, searches.size());
+        assertEquals(0, exhausted.get());
+        assertEquals(0, tracker.pagesInFlight.get());
+    }
+
+    public void testNoPrefetchByDefault() throws IOException {
+        CountingPageFetchTracker tracker = new CountingPageFetchTracker();
+        assertTrue(!createPrefetchingRetriever(1, tracker).iterator().isPrefetching());
+        assertTrue(
+            !new CompositeRetriever(
+                0,
+                10,
+                detector,
+                xContentRegistry(),
+                client,
+                clientUtil,
+                100,
+                clock,
+                settings,
+                10000,
+                1000,
+                indexNameResolver,
+                clusterService,
+                AnalysisType.AD
+            ).iterator().isPrefetching()
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private NodeStateManager setUpTestExceptionTestingInModelNode() throws IOException {
         setUpSearchResponse();
@@ -39,6 +39,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.model.EntityCardinalitySketch;
 import org.opensearch.timeseries.model.ModelProfileOnNode;
 import org.opensearch.timeseries.model.ProfileName;
 import org.opensearch.timeseries.transport.ProfileNodeRequest;
@@ -166,6 +167,32 @@ public class ProfileTests extends OpenSearchTestCase {
 
     }
 
+    @Test
+    public void testProfileNodeResponseSketchVersion() throws IOException {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(Arrays.asList("host-1", "host-2", "host-3"));
+        ProfileNodeResponse profileNodeResponse = new ProfileNodeResponse(discoveryNode1, null, 0, 0, null, 0, true, sketch);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(ProfileNodeResponse.ENTITY_CARDINALITY_SKETCH_VERSION);
+        profileNodeResponse.writeTo(output);
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(ProfileNodeResponse.ENTITY_CARDINALITY_SKETCH_VERSION);
+        ProfileNodeResponse readResponse = ProfileNodeResponse.readProfiles(streamInput);
+        assertEquals(sketch.estimate(), readResponse.getEntityCardinalitySketch().estimate());
+
+        // older nodes neither send nor expect the sketch
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_2_0);
+        profileNodeResponse.writeTo(output);
+        streamInput = output.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_2_0);
+        readResponse = ProfileNodeResponse.readProfiles(streamInput);
+        assertNull(readResponse.getEntityCardinalitySketch());
+        assertTrue(readResponse.isCoordinatingNode());
+        assertEquals(0, streamInput.available());
+    }
+
     @Test
     public void testProfileRequest() throws IOException {
         String detectorId = "123";
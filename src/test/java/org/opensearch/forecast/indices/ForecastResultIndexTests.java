@@ -79,6 +79,7 @@ public class ForecastResultIndexTests extends AbstractTimeSeriesTest {
                                 ForecastSettings.FORECAST_RESULT_HISTORY_MAX_DOCS_PER_SHARD,
                                 ForecastSettings.FORECAST_RESULT_HISTORY_ROLLOVER_PERIOD,
                                 ForecastSettings.FORECAST_RESULT_HISTORY_RETENTION_PERIOD,
+                                ForecastSettings.FORECAST_CHECKPOINT_TTL,
                                 ForecastSettings.FORECAST_MAX_PRIMARY_SHARDS
                             )
                     )
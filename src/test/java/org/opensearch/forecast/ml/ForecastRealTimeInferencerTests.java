@@ -16,13 +16,14 @@ import static org.mockito.Mockito.when;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -39,6 +40,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.feature.SearchFeatureDao;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.stats.Stats;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
@@ -106,32 +108,23 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
 
         String modelId = "testModelId";
 
-        // Add entries to sampleQueues and modelLocks
-        Map<String, ExpiringValue<TreeSet<Sample>>> sampleQueues = inferencer.getSampleQueues();
-        Map<String, ExpiringValue<Lock>> modelLocks = inferencer.getModelLocks();
+        // Add entries to sampleQueues
+        Map<String, ExpiringValue<SampleBuffer>> sampleQueues = inferencer.getSampleQueues();
 
         // Create a sample queue and add to sampleQueues
-        TreeSet<Sample> sampleQueue = new TreeSet<>();
-        ExpiringValue<TreeSet<Sample>> expiringSampleQueue = new ExpiringValue<>(sampleQueue, expirationTimeInMillis, clock);
+        SampleBuffer sampleQueue = new SampleBuffer(SampleBuffer.expectedSamples(TimeSeriesSettings.DEFAULT_SHINGLE_SIZE));
+        ExpiringValue<SampleBuffer> expiringSampleQueue = new ExpiringValue<>(sampleQueue, expirationTimeInMillis, clock);
 
         sampleQueues.put(modelId, expiringSampleQueue);
 
-        // Create a model lock and add to modelLocks
-        ReentrantLock lock = new ReentrantLock();
-        ExpiringValue<Lock> expiringLock = new ExpiringValue<>(lock, expirationTimeInMillis, clock);
-
-        modelLocks.put(modelId, expiringLock);
-
         // Verify that entries are present before maintenance
         assertTrue(sampleQueues.containsKey(modelId));
-        assertTrue(modelLocks.containsKey(modelId));
 
         // Call maintenance()
         inferencer.maintenance();
 
         // Verify that entries are still present after maintenance
         assertTrue(sampleQueues.containsKey(modelId));
-        assertTrue(modelLocks.containsKey(modelId));
     }
 
     public void testMaintenanceWithExpiredEntries() {
@@ -142,25 +135,17 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
 
         String modelId = "testModelId";
 
-        // Add entries to sampleQueues and modelLocks
-        Map<String, ExpiringValue<TreeSet<Sample>>> sampleQueues = inferencer.getSampleQueues();
-        Map<String, ExpiringValue<Lock>> modelLocks = inferencer.getModelLocks();
+        // Add entries to sampleQueues
+        Map<String, ExpiringValue<SampleBuffer>> sampleQueues = inferencer.getSampleQueues();
 
         // Create a sample queue and add to sampleQueues
-        TreeSet<Sample> sampleQueue = new TreeSet<>();
-        ExpiringValue<TreeSet<Sample>> expiringSampleQueue = new ExpiringValue<>(sampleQueue, expirationTimeInMillis, clock);
+        SampleBuffer sampleQueue = new SampleBuffer(SampleBuffer.expectedSamples(TimeSeriesSettings.DEFAULT_SHINGLE_SIZE));
+        ExpiringValue<SampleBuffer> expiringSampleQueue = new ExpiringValue<>(sampleQueue, expirationTimeInMillis, clock);
 
         sampleQueues.put(modelId, expiringSampleQueue);
 
-        // Create a model lock and add to modelLocks
-        ReentrantLock lock = new ReentrantLock();
-        ExpiringValue<Lock> expiringLock = new ExpiringValue<>(lock, expirationTimeInMillis, clock);
-
-        modelLocks.put(modelId, expiringLock);
-
         // Verify that entries are present before maintenance
         assertTrue(sampleQueues.containsKey(modelId));
-        assertTrue(modelLocks.containsKey(modelId));
 
         // Advance clock beyond expiration time
         when(clock.millis()).thenReturn(expirationTimeInMillis + 1);
@@ -170,7 +155,41 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
 
         // Verify that entries have been removed after maintenance
         assertFalse(sampleQueues.containsKey(modelId));
-        assertFalse(modelLocks.containsKey(modelId));
+    }
+
+    public void testModelLockIsStableAndStriped() {
+        assertSame(inferencer.getModelLock("testModelId"), inferencer.getModelLock("testModelId"));
+        // a fixed number of locks regardless of the number of models
+        Set<Lock> locks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10_000; i++) {
+            locks.add(inferencer.getModelLock("model" + i));
+        }
+        assertTrue(locks.size() <= 1024);
+        // well spread
+        assertTrue(locks.size() > 512);
+    }
+
+    /**
+     * Holds the model's lock stripe from another thread until the returned latch is counted down.
+     */
+    private CountDownLatch holdModelLock(String modelId) throws InterruptedException {
+        Lock lock = inferencer.getModelLock(modelId);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            try {
+                acquired.countDown();
+                release.await(100, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.start();
+        assertTrue(acquired.await(100, TimeUnit.SECONDS));
+        return release;
     }
 
     public void testProcessWithTimeout_LockNotAcquired_TimeoutReached() throws InterruptedException {
@@ -186,18 +205,8 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
         // Mock sample to return data end time
         when(sample.getDataEndTime()).thenReturn(Instant.ofEpochMilli(1000L));
 
-        // Create a lock that always returns false on tryLock()
-        Lock lock = mock(ReentrantLock.class);
-        when(lock.tryLock()).thenReturn(false);
-
-        // Add the lock to modelLocks
-        Map<String, ExpiringValue<Lock>> modelLocks = inferencer.getModelLocks();
-        ExpiringValue<Lock> expiringLock = new ExpiringValue<>(
-            lock,
-            config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ).toMillis(),
-            clock
-        );
-        modelLocks.put(modelId, expiringLock);
+        // Another thread holds the model's lock so that tryLock() returns false
+        CountDownLatch release = holdModelLock(modelId);
 
         // Set clock time to simulate timeout reached
         long windowDelayMillis = 0L; // Since getWindowDelay() returns null
@@ -222,6 +231,7 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
 
         // Verify that threadPool.schedule is NOT called
         verify(threadPool, never()).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        release.countDown();
     }
 
     public void testProcessWithTimeout_LockNotAcquired_ScheduleRetry() throws InterruptedException {
@@ -237,18 +247,8 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
         // Mock sample to return data end time
         when(sample.getDataEndTime()).thenReturn(Instant.ofEpochMilli(1000L));
 
-        // Create a lock that always returns false on tryLock()
-        Lock lock = mock(ReentrantLock.class);
-        when(lock.tryLock()).thenReturn(false);
-
-        // Add the lock to modelLocks
-        Map<String, ExpiringValue<Lock>> modelLocks = inferencer.getModelLocks();
-        ExpiringValue<Lock> expiringLock = new ExpiringValue<>(
-            lock,
-            config.getIntervalDuration().multipliedBy(TimeSeriesSettings.EXPIRING_VALUE_MAINTENANCE_FREQ).toMillis(),
-            clock
-        );
-        modelLocks.put(modelId, expiringLock);
+        // Another thread holds the model's lock so that tryLock() returns false
+        CountDownLatch release = holdModelLock(modelId);
 
         // Set clock time to simulate timeout not reached
         long windowDelayMillis = 0L; // Since getWindowDelay() returns null
@@ -256,7 +256,6 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
         long nextExecutionEnd = curExecutionEnd + config.getIntervalInMilliseconds(); // Should be 1000 + 60000 = 61000
         // when(clock.millis()).thenReturn(nextExecutionEnd - 1); // Set clock.millis() to 60999 to simulate timeout not reached
         when(clock.millis()).thenReturn(
-            0L,                // ExpiringValue ctor
             nextExecutionEnd - 1, // first attempt (if condition + log)
             nextExecutionEnd - 1,
             nextExecutionEnd + 1, // second attempt hits timeout branch
@@ -298,5 +297,6 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
         // Verify that the scheduled time is 1 second
         TimeValue scheduledTimeValue = timeValueCaptor.getValue();
         assertEquals(1, scheduledTimeValue.seconds());
+        release.countDown();
     }
 }
@@ -13,8 +13,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.forecast.settings.ForecastEnabledSetting;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.model.Entity;
@@ -22,6 +26,12 @@ import org.opensearch.timeseries.model.FeatureData;
 
 public class ForecastResultTests extends OpenSearchTestCase {
     List<ForecastResult> result;
+    List<FeatureData> featureData;
+    Instant dataStartTime;
+    Instant dataEndTime;
+    Instant executionStartTime;
+    Instant executionEndTime;
+    User user;
 
     @Override
     @Before
@@ -31,18 +41,18 @@ public class ForecastResultTests extends OpenSearchTestCase {
         String forecasterId = "testId";
         long intervalMillis = 1000;
         Double dataQuality = 0.9;
-        List<FeatureData> featureData = new ArrayList<>();
+        featureData = new ArrayList<>();
         featureData.add(new FeatureData("f1", "f1", 1.0d));
         featureData.add(new FeatureData("f2", "f2", 2.0d));
         long currentTimeMillis = System.currentTimeMillis();
         Instant instantFromMillis = Instant.ofEpochMilli(currentTimeMillis);
-        Instant dataStartTime = instantFromMillis;
-        Instant dataEndTime = dataStartTime.plusSeconds(10);
-        Instant executionStartTime = instantFromMillis;
-        Instant executionEndTime = executionStartTime.plusSeconds(10);
+        dataStartTime = instantFromMillis;
+        dataEndTime = dataStartTime.plusSeconds(10);
+        executionStartTime = instantFromMillis;
+        executionEndTime = executionStartTime.plusSeconds(10);
         String error = null;
         Optional<Entity> entity = Optional.empty();
-        User user = new User("testUser", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        user = new User("testUser", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
         Integer schemaVersion = 1;
         String modelId = "testModelId";
         float[] forecastsValues = new float[] { 1.0f, 2.0f, 3.0f, 4.0f };
@@ -100,4 +110,116 @@ public class ForecastResultTests extends OpenSearchTestCase {
             assertTrue("Parsing forecast result doesn't work", result.get(i).hashCode() == parsedForecastResult.hashCode());
         }
     }
+
+    private List<ForecastResult> compactResult() {
+        boolean original = ForecastEnabledSetting.isCompactResultEnabled();
+        try {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, true);
+            return ForecastResult
+                .fromRawRCFCasterResult(
+                    "testId",
+                    1000,
+                    0.9,
+                    featureData,
+                    dataStartTime,
+                    dataEndTime,
+                    executionStartTime,
+                    executionEndTime,
+                    null,
+                    Optional.empty(),
+                    user,
+                    1,
+                    "testModelId",
+                    new float[] { 1.0f, 2.0f, 3.0f, 4.0f },
+                    new float[] { 1.5f, 2.5f, 3.5f, 4.5f },
+                    new float[] { 0.5f, 1.5f, 2.5f, 3.5f },
+                    "testTaskId"
+                );
+        } finally {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, original);
+        }
+    }
+
+    public void testCompactResult() throws IOException {
+        List<ForecastResult> compact = compactResult();
+        assertEquals(1, compact.size());
+        ForecastResult compactResult = compact.get(0);
+        assertTrue(compactResult.isCompact());
+        assertEquals(featureData, compactResult.getFeatureData());
+        assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f, 4.0f }, compactResult.getForecastValues(), 0.0001f);
+        assertEquals(2, (int) compactResult.getHorizonIndex());
+        assertEquals(dataEndTime.plusSeconds(2), compactResult.getForecastDataEndTime());
+
+        // the same documents as the expanded format once split
+        assertEquals(result, compactResult.expand());
+        assertEquals(result.subList(1, 2), result.get(1).expand());
+
+        String json = TestHelpers.xContentBuilderToString(compactResult.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        // widths of the last horizon step of each feature
+        assertTrue(json, json.contains("\"" + ForecastResult.INTERVAL_WIDTH_FIELD + "\":[1.0,1.0]"));
+        ForecastResult parsed = ForecastResult.parse(TestHelpers.parser(json));
+        assertEquals(compactResult, parsed);
+        assertEquals(compactResult.hashCode(), parsed.hashCode());
+    }
+
+    public void testCompactResultSerialization() throws IOException {
+        for (ForecastResult forecastResult : compactResult()) {
+            BytesStreamOutput output = new BytesStreamOutput();
+            output.setVersion(ForecastResult.COMPACT_RESULT_VERSION);
+            forecastResult.writeTo(output);
+            StreamInput input = output.bytes().streamInput();
+            input.setVersion(ForecastResult.COMPACT_RESULT_VERSION);
+            assertEquals(forecastResult, new ForecastResult(input));
+        }
+        BytesStreamOutput output = new BytesStreamOutput();
+        result.get(1).writeTo(output);
+        assertEquals(result.get(1), new ForecastResult(output.bytes().streamInput()));
+    }
+
+    public void testCompactResultSerializationToOlderVersion() throws IOException {
+        ForecastResult compact = compactResult().get(0);
+        assertTrue(compact.isCompact());
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_2_0);
+        compact.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_2_0);
+        ForecastResult received = new ForecastResult(input);
+        // older nodes only get the actual value
+        assertTrue(!received.isCompact());
+        assertEquals(compact.getFeatureData(), received.getFeatureData());
+        assertEquals(0, input.available());
+    }
+
+    public void testCompactResultWithoutForecasts() {
+        boolean original = ForecastEnabledSetting.isCompactResultEnabled();
+        try {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, true);
+            List<ForecastResult> compact = ForecastResult
+                .fromRawRCFCasterResult(
+                    "testId",
+                    1000,
+                    0.0,
+                    featureData,
+                    dataStartTime,
+                    dataEndTime,
+                    dataStartTime,
+                    dataEndTime,
+                    null,
+                    Optional.empty(),
+                    null,
+                    1,
+                    "testModelId",
+                    new float[] { 0, 0, 0, 0 },
+                    new float[] { 0, 0, 0, 0 },
+                    new float[] { 0, 0, 0, 0 },
+                    null
+                );
+            assertEquals(1, compact.size());
+            assertTrue(!compact.get(0).isCompact());
+            assertEquals(null, compact.get(0).getHorizonIndex());
+        } finally {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, original);
+        }
+    }
 }
@@ -23,4 +23,15 @@ public class ForecastEnabledSettingTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIsCompactResultEnabled() {
+        boolean original = ForecastEnabledSetting.isCompactResultEnabled();
+        try {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, true);
+            assertTrue(ForecastEnabledSetting.isCompactResultEnabled());
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, false);
+            assertTrue(!ForecastEnabledSetting.isCompactResultEnabled());
+        } finally {
+            ForecastEnabledSetting.getInstance().setSettingValue(ForecastEnabledSetting.COMPACT_RESULT_ENABLED, original);
+        }
+    }
 }
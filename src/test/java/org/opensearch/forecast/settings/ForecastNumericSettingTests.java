@@ -28,6 +28,26 @@ public class ForecastNumericSettingTests extends OpenSearchTestCase {
         assertEquals("Expected value is 3", 3, value);
     }
 
+    public void testMaxPagesInFlight() {
+        assertEquals(1, ForecastNumericSetting.maxPagesInFlight());
+        try {
+            forecastSetting.setSettingValue(ForecastNumericSetting.MAX_PAGES_IN_FLIGHT, 4);
+            assertEquals(4, ForecastNumericSetting.maxPagesInFlight());
+        } finally {
+            forecastSetting.setSettingValue(ForecastNumericSetting.MAX_PAGES_IN_FLIGHT, 1);
+        }
+    }
+
+    public void testEntityProcessingChunks() {
+        assertEquals(8, ForecastNumericSetting.entityProcessingChunks());
+        try {
+            forecastSetting.setSettingValue(ForecastNumericSetting.ENTITY_PROCESSING_CHUNKS, 2);
+            assertEquals(2, ForecastNumericSetting.entityProcessingChunks());
+        } finally {
+            forecastSetting.setSettingValue(ForecastNumericSetting.ENTITY_PROCESSING_CHUNKS, 8);
+        }
+    }
+
     public void testGetSettingValue() {
         Map<String, Setting<?>> settingsMap = new HashMap<>();
         Setting<Integer> testSetting = Setting.intSetting("test.setting", 1, Setting.Property.NodeScope);
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.timeseries.breaker.CircuitBreakerService;
+
+/**
+ * Measures {@link MemoryTracker} throughput when many threads account for entity models at
+ * the same time, the way cache puts/removes and cold starts do for HC configs. Each operation
+ * checks the limit, consumes, and releases memory.
+ *
+ * The legacy tracker is the former implementation synchronizing every call on one monitor and
+ * keeping per-origin totals in maps of boxed longs.
+ *
+ * Run with -Dmodel-benchmark=true.
+ */
+public class MemoryTrackerPerfTests extends AbstractMemoryTrackerTest {
+    private static final Logger LOG = LogManager.getLogger(MemoryTrackerPerfTests.class);
+
+    private static final int WARMUP_OPERATIONS = 200_000;
+    private static final int MEASURE_OPERATIONS = 1_000_000;
+    private static final long MODEL_BYTES = 400_000;
+
+    private interface Tracker {
+        boolean canAllocate(long bytes);
+
+        void consumeMemory(long bytes, boolean reserved, MemoryTracker.Origin origin);
+
+        void releaseMemory(long bytes, boolean reserved, MemoryTracker.Origin origin);
+    }
+
+    private static class LegacyTracker implements Tracker {
+        private final long heapLimitBytes;
+        private long totalMemoryBytes;
+        private long reservedMemoryBytes;
+        private final Map<MemoryTracker.Origin, Long> totalMemoryBytesByOrigin = new EnumMap<>(MemoryTracker.Origin.class);
+        private final Map<MemoryTracker.Origin, Long> reservedMemoryBytesByOrigin = new EnumMap<>(MemoryTracker.Origin.class);
+
+        LegacyTracker(long heapLimitBytes) {
+            this.heapLimitBytes = heapLimitBytes;
+        }
+
+        @Override
+        public synchronized boolean canAllocate(long bytes) {
+            return totalMemoryBytes + bytes <= heapLimitBytes;
+        }
+
+        @Override
+        public synchronized void consumeMemory(long bytes, boolean reserved, MemoryTracker.Origin origin) {
+            totalMemoryBytes += bytes;
+            totalMemoryBytesByOrigin.put(origin, totalMemoryBytesByOrigin.getOrDefault(origin, 0L) + bytes);
+            if (reserved) {
+                reservedMemoryBytes += bytes;
+                reservedMemoryBytesByOrigin.put(origin, reservedMemoryBytesByOrigin.getOrDefault(origin, 0L) + bytes);
+            }
+        }
+
+        @Override
+        public synchronized void releaseMemory(long bytes, boolean reserved, MemoryTracker.Origin origin) {
+            totalMemoryBytes -= bytes;
+            totalMemoryBytesByOrigin.put(origin, totalMemoryBytesByOrigin.get(origin) - bytes);
+            if (reserved) {
+                reservedMemoryBytes -= bytes;
+                reservedMemoryBytesByOrigin.put(origin, reservedMemoryBytesByOrigin.get(origin) - bytes);
+            }
+        }
+    }
+
+    private static class CurrentTracker implements Tracker {
+        private final MemoryTracker tracker;
+
+        CurrentTracker(MemoryTracker tracker) {
+            this.tracker = tracker;
+        }
+
+        @Override
+        public boolean canAllocate(long bytes) {
+            return tracker.canAllocate(bytes);
+        }
+
+        @Override
+        public void consumeMemory(long bytes, boolean reserved, MemoryTracker.Origin origin) {
+            tracker.consumeMemory(bytes, reserved, origin);
+        }
+
+        @Override
+        public void releaseMemory(long bytes, boolean reserved, MemoryTracker.Origin origin) {
+            tracker.releaseMemory(bytes, reserved, origin);
+        }
+    }
+
+    private long run(Tracker tracker, int threads, int operationsPerThread) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < operationsPerThread; i++) {
+                    boolean reserved = (i & 7) == 0;
+                    if (tracker.canAllocate(MODEL_BYTES)) {
+                        tracker.consumeMemory(MODEL_BYTES, reserved, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+                        tracker.releaseMemory(MODEL_BYTES, reserved, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        long nanosBefore = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - nanosBefore;
+    }
+
+    private void benchmark(int threads) throws InterruptedException {
+        setUpBigHeap();
+        // a real breaker service without breakers, as mocks record every invocation
+        tracker = new MemoryTracker(jvmService, modelMaxSizePercentage, clusterService, new CircuitBreakerService(jvmService));
+        for (boolean legacy : new boolean[] { true, false }) {
+            Tracker path = legacy ? new LegacyTracker(tracker.getHeapLimit()) : new CurrentTracker(tracker);
+            run(path, threads, WARMUP_OPERATIONS / threads);
+
+            int operationsPerThread = MEASURE_OPERATIONS / threads;
+            long nanos = run(path, threads, operationsPerThread);
+            long operations = (long) operationsPerThread * threads;
+            LOG
+                .info(
+                    "{} memory tracker, {} threads: {} ns/operation, {} operations/s",
+                    legacy ? "synchronized" : "lock-free",
+                    threads,
+                    nanos / operations,
+                    operations * 1_000_000_000L / Math.max(1, nanos)
+                );
+        }
+        assertEquals(0, tracker.getTotalMemoryBytes());
+    }
+
+    public void testSingleThread() throws InterruptedException {
+        benchmark(1);
+    }
+
+    public void testEightThreads() throws InterruptedException {
+        benchmark(8);
+    }
+
+    public void testThirtyTwoThreads() throws InterruptedException {
+        benchmark(32);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MemoryTrackerTests extends AbstractMemoryTrackerTest {
+    private static final MemoryTracker.Origin ORIGIN = MemoryTracker.Origin.REAL_TIME_DETECTOR;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        setUpBigHeap();
+    }
+
+    private void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                task.run();
+            });
+            workers[i].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    public void testTryConsumeMemory() {
+        long limit = tracker.getHeapLimit();
+        assertTrue(tracker.tryConsumeMemory(limit - 10, true, ORIGIN));
+        // reserved memory is checked against reserved usage
+        assertTrue(!tracker.tryConsumeMemory(20, true, ORIGIN));
+        assertTrue(tracker.tryConsumeMemory(10, false, ORIGIN));
+        assertTrue(!tracker.tryConsumeMemory(1, false, ORIGIN));
+        assertEquals(limit, tracker.getTotalMemoryBytes());
+        assertEquals(0, tracker.memoryToShed());
+        // per-origin accounting matches
+        assertTrue(!tracker.syncMemoryState(ORIGIN, limit, limit - 10));
+
+        tracker.releaseMemory(10, false, ORIGIN);
+        when(circuitBreaker.isOpen()).thenReturn(true);
+        assertTrue(!tracker.tryConsumeMemory(1, false, ORIGIN));
+    }
+
+    public void testTryConsumeMemoryUnderContention() throws InterruptedException {
+        long bytes = 1000;
+        long limit = tracker.getHeapLimit();
+        AtomicLong consumed = new AtomicLong();
+        runConcurrently(8, () -> {
+            for (int i = 0; i < limit / bytes / 4; i++) {
+                if (tracker.tryConsumeMemory(bytes, false, ORIGIN)) {
+                    consumed.addAndGet(bytes);
+                }
+            }
+        });
+        // concurrent callers never overshoot the limit together
+        assertEquals(limit / bytes * bytes, consumed.get());
+        assertEquals(consumed.get(), tracker.getTotalMemoryBytes());
+    }
+
+    public void testConcurrentConsumeAndRelease() throws InterruptedException {
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                boolean reserved = i % 2 == 0;
+                tracker.consumeMemory(100, reserved, ORIGIN);
+                tracker.canAllocate(100);
+                tracker.canAllocateReserved(100);
+                tracker.releaseMemory(100, reserved, ORIGIN);
+            }
+        });
+        assertEquals(0, tracker.getTotalMemoryBytes());
+        assertTrue(!tracker.syncMemoryState(ORIGIN, 0, 0));
+    }
+
+    public void testSyncMemoryState() {
+        long limit = tracker.getHeapLimit();
+        tracker.consumeMemory(100, true, ORIGIN);
+        tracker.consumeMemory(100, false, MemoryTracker.Origin.REAL_TIME_FORECASTER);
+
+        assertTrue(tracker.syncMemoryState(ORIGIN, 300, 200));
+        assertEquals(400, tracker.getTotalMemoryBytes());
+        assertTrue(tracker.canAllocateReserved(limit - 200));
+        assertTrue(!tracker.canAllocateReserved(limit - 199));
+        assertTrue(!tracker.syncMemoryState(ORIGIN, 300, 200));
+    }
+
+    public void testRCFThreadBudget() {
+        // parallel tree execution is off by default
+        assertEquals(0, tracker.tryAcquireRCFThreads(4));
+
+        tracker.setRCFThreadBudget(7);
+        assertEquals(4, tracker.tryAcquireRCFThreads(4));
+        assertEquals(3, tracker.tryAcquireRCFThreads(4));
+        // a single thread is not worth forking for
+        tracker.releaseRCFThreads(1);
+        assertEquals(0, tracker.tryAcquireRCFThreads(1));
+        assertEquals(6, tracker.getRCFThreadsInUse());
+
+        // lowering the budget keeps reserved threads until they are returned
+        tracker.setRCFThreadBudget(2);
+        assertEquals(0, tracker.tryAcquireRCFThreads(4));
+        tracker.releaseRCFThreads(6);
+        assertEquals(2, tracker.tryAcquireRCFThreads(4));
+        tracker.releaseRCFThreads(2);
+        assertEquals(0, tracker.getRCFThreadsInUse());
+    }
+
+    public void testRCFThreadBudgetUnderContention() throws InterruptedException {
+        int budget = 64;
+        tracker.setRCFThreadBudget(budget);
+        AtomicLong maxInUse = new AtomicLong();
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                int threads = tracker.tryAcquireRCFThreads(4);
+                maxInUse.accumulateAndGet(tracker.getRCFThreadsInUse(), Math::max);
+                tracker.releaseRCFThreads(threads);
+            }
+        });
+        assertTrue(maxInUse.get() <= budget);
+        assertEquals(0, tracker.getRCFThreadsInUse());
+    }
+}
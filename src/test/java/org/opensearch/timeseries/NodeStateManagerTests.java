@@ -32,6 +32,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
@@ -54,10 +55,15 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.forecast.constant.ForecastCommonName;
 import org.opensearch.forecast.model.Forecaster;
+import org.opensearch.index.get.GetResult;
 import org.opensearch.search.SearchModule;
 import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
@@ -549,4 +555,88 @@ public class NodeStateManagerTests extends AbstractTimeSeriesTest {
         assertNotNull(exception.get());
         assertEquals("Test exception", exception.get().getMessage());
     }
+
+    @SuppressWarnings("unchecked")
+    private AtomicLong setupDetectorWithSeqNo() throws IOException {
+        detectorToCheck = TestHelpers.randomAnomalyDetector(TestHelpers.randomUiMetadata(), null, true);
+        AtomicLong seqNo = new AtomicLong(1);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            XContentBuilder content = detectorToCheck.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+            listener
+                .onResponse(
+                    new GetResponse(
+                        new GetResult(
+                            ADCommonName.CONFIG_INDEX,
+                            detectorToCheck.getId(),
+                            seqNo.get(),
+                            1,
+                            1,
+                            true,
+                            BytesReference.bytes(content),
+                            Collections.emptyMap(),
+                            Collections.emptyMap()
+                        )
+                    )
+                );
+            return null;
+        }).when(client).get(any(), any(ActionListener.class));
+        return seqNo;
+    }
+
+    private void getCachedDetector(String detectorId) {
+        AtomicReference<Optional<? extends Config>> config = new AtomicReference<>();
+        stateManager.getConfig(detectorId, AnalysisType.AD, true, ActionListener.wrap(config::set, exception -> fail()));
+        assertEquals(detectorToCheck, config.get().get());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInvalidateConfig() throws IOException {
+        AtomicLong seqNo = setupDetectorWithSeqNo();
+        String detectorId = detectorToCheck.getId();
+
+        getCachedDetector(detectorId);
+        getCachedDetector(detectorId);
+        verify(client, times(1)).get(any(), any(ActionListener.class));
+
+        // the config is updated
+        stateManager.invalidateConfig(detectorId, 2);
+        getCachedDetector(detectorId);
+        // a stale read is not cached
+        getCachedDetector(detectorId);
+        verify(client, times(3)).get(any(), any(ActionListener.class));
+
+        seqNo.set(2);
+        getCachedDetector(detectorId);
+        getCachedDetector(detectorId);
+        verify(client, times(4)).get(any(), any(ActionListener.class));
+
+        // a late invalidation of an older update keeps the cached config
+        stateManager.invalidateConfig(detectorId, 1);
+        getCachedDetector(detectorId);
+        verify(client, times(4)).get(any(), any(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testUncachedReadRefreshesCache() throws IOException {
+        AtomicLong seqNo = setupDetectorWithSeqNo();
+        String detectorId = detectorToCheck.getId();
+        getCachedDetector(detectorId);
+
+        seqNo.set(3);
+        Consumer<Optional<? extends Config>> function = mock(Consumer.class);
+        stateManager.getConfig(detectorId, AnalysisType.AD, function, ActionListener.wrap(r -> {}, exception -> fail()));
+        verify(function, times(1)).accept(any(Optional.class));
+        verify(client, times(2)).get(any(), any(ActionListener.class));
+
+        // the cached config is read from the document the invalidation is about
+        stateManager.invalidateConfig(detectorId, 3);
+        getCachedDetector(detectorId);
+        verify(client, times(2)).get(any(), any(ActionListener.class));
+
+        // deleted
+        stateManager.invalidateConfig(detectorId, 4);
+        getCachedDetector(detectorId);
+        verify(client, times(3)).get(any(), any(ActionListener.class));
+    }
 }
@@ -73,6 +73,7 @@ public class TimeSeriesPluginTests extends ADUnitTestCase {
 
         Environment environment = mock(Environment.class);
         when(environment.settings()).thenReturn(settings);
+        when(environment.tmpFile()).thenReturn(createTempDir());
         plugin.createComponents(mock(Client.class), clusterService, null, null, null, null, environment, null, null, null, null);
         GenericObjectPool<LinkedBuffer> deserializeRCFBufferPool = plugin.serializeRCFBufferPool;
         deserializeRCFBufferPool.addObject();
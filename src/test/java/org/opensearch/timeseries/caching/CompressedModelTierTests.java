@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CompressedModelTierTests extends OpenSearchTestCase {
+
+    public void testPutAndRemove() {
+        CompressedModelTier tier = new CompressedModelTier();
+        assertEquals(0, tier.put("a", "config", new byte[10], 100, () -> Instant.MIN));
+        assertEquals(0, tier.put("b", "config", new byte[20], 100, () -> Instant.MIN));
+        assertEquals(30, tier.getStoredBytes());
+        assertTrue(tier.contains("a"));
+
+        // replacing releases the previous bytes
+        assertEquals(10, tier.put("a", "config", new byte[5], 100, () -> Instant.MIN));
+        assertEquals(25, tier.getStoredBytes());
+        assertEquals(2, tier.size());
+
+        CompressedModelTier.StoredModel removed = tier.remove("a");
+        assertEquals("a", removed.getModelId());
+        assertEquals("config", removed.getConfigId());
+        assertEquals(5, removed.getBytes().length);
+        assertTrue(null == tier.remove("a"));
+        assertEquals(20, tier.getStoredBytes());
+    }
+
+    public void testEstimateStoredBytes() {
+        CompressedModelTier tier = new CompressedModelTier();
+        // unknown before any model is stored
+        assertEquals(0, tier.estimateStoredBytes(100));
+        tier.put("a", "config", new byte[10], 100, () -> Instant.MIN);
+        tier.put("b", "config", new byte[30], 100, () -> Instant.MIN);
+        assertEquals(40, tier.estimateStoredBytes(200));
+    }
+
+    public void testShedOldestFirst() {
+        CompressedModelTier tier = new CompressedModelTier();
+        tier.put("a", "config", new byte[10], 100, () -> Instant.MIN);
+        tier.put("b", "config", new byte[10], 100, () -> Instant.MIN);
+        tier.put("c", "config", new byte[10], 100, () -> Instant.MIN);
+
+        assertEquals(20, tier.shed(15));
+        assertTrue(!tier.contains("a"));
+        assertTrue(!tier.contains("b"));
+        assertTrue(tier.contains("c"));
+        assertEquals(10, tier.shed(Long.MAX_VALUE));
+        assertEquals(0, tier.getStoredBytes());
+        assertEquals(0, tier.shed(10));
+    }
+
+    public void testRemoveIf() {
+        CompressedModelTier tier = new CompressedModelTier();
+        tier.put("a", "config1", new byte[10], 100, () -> Instant.MIN);
+        tier.put("b", "config2", new byte[20], 100, () -> Instant.MIN);
+        tier.put("c", "config1", new byte[30], 100, () -> Instant.MIN);
+
+        assertEquals(40, tier.removeIf(model -> "config1".equals(model.getConfigId())));
+        assertEquals(1, tier.size());
+        assertTrue(tier.contains("b"));
+        assertEquals(20, tier.clear());
+        assertEquals(0, tier.size());
+    }
+
+    public void testStats() {
+        CompressedModelTier tier = new CompressedModelTier();
+        Map<String, Object> stats = tier.getStats();
+        assertEquals(0, stats.get(CompressedModelTier.MODELS));
+        assertEquals(0d, (double) stats.get(CompressedModelTier.COMPRESSION_RATIO), 0.001);
+        assertEquals(0L, stats.get(CompressedModelTier.INFLATE_LATENCY_AVG_MICROS));
+
+        tier.put("a", "config", new byte[10], 100, () -> Instant.MIN);
+        tier.put("b", "config", new byte[30], 300, () -> Instant.MIN);
+        tier.recordInflate(2_000);
+        tier.recordInflate(6_000);
+
+        stats = tier.getStats();
+        assertEquals(2, stats.get(CompressedModelTier.MODELS));
+        assertEquals(40L, stats.get(CompressedModelTier.STORED_BYTES));
+        assertEquals(10d, (double) stats.get(CompressedModelTier.COMPRESSION_RATIO), 0.001);
+        assertEquals(2L, stats.get(CompressedModelTier.INFLATE_COUNT));
+        assertEquals(4L, stats.get(CompressedModelTier.INFLATE_LATENCY_AVG_MICROS));
+        assertEquals(6L, stats.get(CompressedModelTier.INFLATE_LATENCY_MAX_MICROS));
+    }
+}
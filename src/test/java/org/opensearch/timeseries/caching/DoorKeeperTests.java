@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DoorKeeperTests extends OpenSearchTestCase {
+    private Clock clock;
+    private Instant now;
+    private Duration resetInterval;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        now = Instant.ofEpochSecond(1000);
+        when(clock.instant()).thenReturn(now);
+        resetInterval = Duration.ofMinutes(60);
+    }
+
+    public void testCreate() {
+        assertTrue(DoorKeeper.create(100, resetInterval, clock, 1, false) instanceof ExactDoorKeeper);
+        assertTrue(DoorKeeper.create(100, resetInterval, clock, 1, true) instanceof CountMinDoorKeeper);
+    }
+
+    private void verifyThreshold(DoorKeeper doorKeeper) {
+        String modelId = "model1";
+        for (int i = 0; i < 3; i++) {
+            assertTrue(!doorKeeper.appearsMoreThanOrEqualToThreshold(modelId));
+            doorKeeper.put(modelId);
+        }
+        assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold(modelId));
+        assertTrue(!doorKeeper.appearsMoreThanOrEqualToThreshold("model2"));
+    }
+
+    public void testExactThreshold() {
+        verifyThreshold(new ExactDoorKeeper(100, resetInterval, clock, 3));
+    }
+
+    public void testSketchThreshold() {
+        verifyThreshold(new CountMinDoorKeeper(100, resetInterval, clock, 3));
+    }
+
+    public void testExactResetAfterInterval() {
+        DoorKeeper doorKeeper = new ExactDoorKeeper(100, resetInterval, clock, 1);
+        doorKeeper.put("model1");
+        assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold("model1"));
+        when(clock.instant()).thenReturn(now.plus(resetInterval).plusSeconds(1));
+        doorKeeper.maintenance();
+        assertTrue(!doorKeeper.appearsMoreThanOrEqualToThreshold("model1"));
+    }
+
+    public void testExactResetWhenFull() {
+        DoorKeeper doorKeeper = new ExactDoorKeeper(2, resetInterval, clock, 1);
+        doorKeeper.put("model1");
+        doorKeeper.put("model2");
+        assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold("model1"));
+        doorKeeper.put("model3");
+        assertTrue(!doorKeeper.appearsMoreThanOrEqualToThreshold("model1"));
+        assertEquals(0, doorKeeper.getMemoryBytes());
+    }
+
+    public void testSketchAgingKeepsPopularEntities() {
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(100, resetInterval, clock, 2);
+        for (int i = 0; i < 4; i++) {
+            doorKeeper.put("popular");
+        }
+        doorKeeper.put("rare");
+        assertTrue(doorKeeper.frequency("popular") >= 4);
+
+        // maintenance before the interval is reached does nothing
+        doorKeeper.maintenance();
+        assertTrue(doorKeeper.frequency("popular") >= 4);
+
+        when(clock.instant()).thenReturn(now.plus(resetInterval).plusSeconds(1));
+        doorKeeper.maintenance();
+        // halved instead of reset
+        assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold("popular"));
+        assertEquals(0, doorKeeper.frequency("rare"));
+    }
+
+    public void testSketchAgingAfterSampleSize() {
+        int expectedInsertions = 1000;
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(expectedInsertions, resetInterval, clock, 1);
+        doorKeeper.put("model");
+        assertEquals(1, doorKeeper.frequency("model"));
+        for (int i = 1; i < expectedInsertions; i++) {
+            doorKeeper.put("other");
+        }
+        // the expectedInsertions-th insertion halves all counters
+        assertEquals(0, doorKeeper.frequency("model"));
+    }
+
+    public void testSketchCounterSaturates() {
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(100, resetInterval, clock, 1);
+        for (int i = 0; i < CountMinDoorKeeper.MAX_COUNT + 10; i++) {
+            doorKeeper.put("model");
+        }
+        assertEquals(CountMinDoorKeeper.MAX_COUNT, doorKeeper.frequency("model"));
+    }
+
+    public void testSketchFalsePositiveRate() {
+        int expectedInsertions = 100_000;
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(expectedInsertions, resetInterval, clock, 1);
+        // fill half of a window so that we don't age
+        for (int i = 0; i < expectedInsertions / 2; i++) {
+            doorKeeper.put("seen" + i);
+        }
+        for (int i = 0; i < expectedInsertions / 2; i++) {
+            assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold("seen" + i));
+        }
+        int falsePositives = 0;
+        int probes = 10_000;
+        for (int i = 0; i < probes; i++) {
+            if (doorKeeper.appearsMoreThanOrEqualToThreshold("unseen" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("false positives: " + falsePositives, falsePositives < probes / 100);
+    }
+
+    public void testSketchMemoryIsFixed() {
+        CountMinDoorKeeper small = new CountMinDoorKeeper(10, resetInterval, clock, 1);
+        assertEquals(CountMinDoorKeeper.MIN_TABLE_LENGTH * Long.BYTES, small.getMemoryBytes());
+
+        CountMinDoorKeeper doorKeeper = new CountMinDoorKeeper(1_000_000, resetInterval, clock, 1);
+        long bytes = doorKeeper.getMemoryBytes();
+        // 2^19 longs
+        assertEquals((1L << 19) * Long.BYTES, bytes);
+        for (int i = 0; i < 10_000; i++) {
+            doorKeeper.put("model" + i);
+        }
+        assertEquals(bytes, doorKeeper.getMemoryBytes());
+
+        CountMinDoorKeeper huge = new CountMinDoorKeeper(Long.MAX_VALUE / 2, resetInterval, clock, 1);
+        assertEquals((long) CountMinDoorKeeper.MAX_TABLE_LENGTH * Long.BYTES, huge.getMemoryBytes());
+        assertEquals(CountMinDoorKeeper.estimateMemoryBytes(1_000_000), bytes);
+        assertEquals(CountMinDoorKeeper.estimateMemoryBytes(10), small.getMemoryBytes());
+    }
+
+    public void testSketchConcurrentPut() throws InterruptedException {
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(100_000, resetInterval, clock, 1);
+        int threads = 4;
+        int perThread = 1000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    doorKeeper.put("model" + (base + i));
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (int i = 0; i < threads * perThread; i++) {
+            assertTrue(doorKeeper.appearsMoreThanOrEqualToThreshold("model" + i));
+        }
+    }
+
+    public void testExpired() {
+        DoorKeeper doorKeeper = new CountMinDoorKeeper(100, resetInterval, clock, 1);
+        assertTrue(!doorKeeper.expired(null));
+        when(clock.instant()).thenReturn(now.plus(resetInterval).plusSeconds(1));
+        assertTrue(doorKeeper.expired(null));
+    }
+}
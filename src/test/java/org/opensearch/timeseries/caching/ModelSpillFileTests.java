@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ModelSpillFileTests extends OpenSearchTestCase {
+    private static final Supplier<Instant> NEVER_CHECKPOINTED = () -> Instant.MIN;
+
+    private byte[] bytes(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    private long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    public void testPutAndTake() throws IOException {
+        Path directory = createTempDir();
+        try (ModelSpillFile file = new ModelSpillFile(directory, "test-", 100)) {
+            // created on first write
+            assertEquals(0, countFiles(directory));
+            assertTrue(file.put("a", "config", bytes(10, 1), NEVER_CHECKPOINTED));
+            assertTrue(file.put("b", "config", bytes(20, 2), NEVER_CHECKPOINTED));
+            assertEquals(1, countFiles(directory));
+            assertEquals(30, file.getStoredBytes());
+            assertTrue(file.contains("a"));
+
+            assertArrayEquals(bytes(10, 1), file.take("a", Instant.MIN));
+            assertTrue(!file.contains("a"));
+            assertTrue(null == file.take("a", Instant.MIN));
+            assertArrayEquals(bytes(20, 2), file.take("b", Instant.MIN));
+            assertEquals(0, file.getStoredBytes());
+            assertEquals(2L, file.getStats().get(ModelSpillFile.HITS));
+        }
+        // deleted on close
+        assertEquals(0, countFiles(directory));
+    }
+
+    public void testOverwritesOldestWhenFull() {
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir(), "test-", 100)) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(file.put(String.valueOf(i), "config", bytes(30, i), NEVER_CHECKPOINTED));
+            }
+            // the 4th model does not fit before the end of the file and overwrites the 1st
+            assertTrue(!file.contains("0"));
+            assertEquals(3, file.size());
+            assertEquals(1L, file.getStats().get(ModelSpillFile.EVICTIONS));
+
+            // overwrites the 2nd and 3rd models
+            assertTrue(file.put("4", "config", bytes(50, 4), NEVER_CHECKPOINTED));
+            assertTrue(!file.contains("1"));
+            assertTrue(!file.contains("2"));
+            assertArrayEquals(bytes(30, 3), file.take("3", Instant.MIN));
+            assertArrayEquals(bytes(50, 4), file.take("4", Instant.MIN));
+        }
+    }
+
+    public void testHolesLeftByTakenModels() {
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir(), "test-", 100)) {
+            file.put("a", "config", bytes(40, 1), NEVER_CHECKPOINTED);
+            file.put("b", "config", bytes(40, 2), NEVER_CHECKPOINTED);
+            assertArrayEquals(bytes(40, 1), file.take("a", Instant.MIN));
+            // wraps around into the space a used
+            assertTrue(file.put("c", "config", bytes(40, 3), NEVER_CHECKPOINTED));
+            assertArrayEquals(bytes(40, 2), file.take("b", Instant.MIN));
+            assertArrayEquals(bytes(40, 3), file.take("c", Instant.MIN));
+            assertEquals(0L, file.getStats().get(ModelSpillFile.EVICTIONS));
+        }
+    }
+
+    public void testReplaceAndRemove() {
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir(), "test-", 100)) {
+            file.put("a", "config1", bytes(10, 1), NEVER_CHECKPOINTED);
+            file.put("a", "config1", bytes(20, 2), NEVER_CHECKPOINTED);
+            assertEquals(1, file.size());
+            assertEquals(20, file.getStoredBytes());
+
+            file.put("b", "config2", bytes(10, 3), NEVER_CHECKPOINTED);
+            file.put("c", "config1", bytes(10, 4), NEVER_CHECKPOINTED);
+            assertEquals(2, file.removeIf(model -> "config1".equals(model.getConfigId())));
+            assertTrue(file.remove("b"));
+            assertTrue(!file.remove("b"));
+            assertEquals(0, file.size());
+        }
+    }
+
+    public void testRejectsModelsLargerThanFile() {
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir(), "test-", 10)) {
+            assertTrue(!file.put("a", "config", bytes(11, 1), NEVER_CHECKPOINTED));
+            assertTrue(!file.put("a", "config", new byte[0], NEVER_CHECKPOINTED));
+            file.close();
+            assertTrue(!file.put("a", "config", bytes(5, 1), NEVER_CHECKPOINTED));
+        }
+    }
+
+    public void testTakeOlderThanCheckpoint() {
+        Instant spilledCheckpoint = Instant.ofEpochSecond(1000);
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir(), "test-", 100)) {
+            file.put("a", "config", bytes(10, 1), () -> spilledCheckpoint);
+            file.put("b", "config", bytes(10, 2), () -> spilledCheckpoint);
+
+            // a newer checkpoint was saved elsewhere. The stale copy is dropped.
+            assertTrue(null == file.take("a", spilledCheckpoint.plusSeconds(1)));
+            assertTrue(!file.contains("a"));
+            assertArrayEquals(bytes(10, 2), file.take("b", spilledCheckpoint));
+            assertEquals(0, file.getStoredBytes());
+            assertEquals(1L, file.getStats().get(ModelSpillFile.HITS));
+        }
+    }
+
+    public void testDeleteStaleFiles() throws IOException {
+        Path directory = createTempDir();
+        // left over from a crash
+        Files.createFile(directory.resolve("test-1.spill"));
+        Files.createFile(directory.resolve("other-1.spill"));
+        try (
+            ModelSpillFile live = new ModelSpillFile(directory, "test-", 100);
+            ModelSpillFile file = new ModelSpillFile(directory, "test-", 100)
+        ) {
+            live.put("a", "config", bytes(10, 1), NEVER_CHECKPOINTED);
+            assertEquals(3, countFiles(directory));
+
+            // the live file is locked. Files with other prefixes are not ours.
+            assertEquals(1, file.deleteStaleFiles());
+            assertTrue(!Files.exists(directory.resolve("test-1.spill")));
+            assertEquals(2, countFiles(directory));
+            assertArrayEquals(bytes(10, 1), live.take("a", Instant.MIN));
+        }
+    }
+
+    public void testDeleteStaleFilesWithoutDirectory() {
+        try (ModelSpillFile file = new ModelSpillFile(createTempDir().resolve("missing"), "test-", 100)) {
+            assertEquals(0, file.deleteStaleFiles());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.util.Base64;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BinaryCheckpointCodecTests extends OpenSearchTestCase {
+
+    private byte[] compressible() {
+        byte[] bytes = new byte[10_000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 7);
+        }
+        return bytes;
+    }
+
+    public void testRawRoundTrip() {
+        byte[] serialized = randomByteArrayOfLength(1000);
+        byte[] encoded = BinaryCheckpointCodec.encode(serialized, false);
+        assertEquals(BinaryCheckpointCodec.FORMAT_RAW, encoded[0]);
+        assertEquals(serialized.length + 1, encoded.length);
+        assertArrayEquals(serialized, BinaryCheckpointCodec.decode(encoded, serialized.length));
+    }
+
+    public void testDeflateRoundTrip() {
+        byte[] serialized = compressible();
+        byte[] encoded = BinaryCheckpointCodec.encode(serialized, true);
+        assertEquals(BinaryCheckpointCodec.FORMAT_DEFLATE, encoded[0]);
+        assertTrue(encoded.length < serialized.length);
+        assertArrayEquals(serialized, BinaryCheckpointCodec.decode(encoded, serialized.length));
+    }
+
+    public void testDeflateEmptyPayload() {
+        byte[] encoded = BinaryCheckpointCodec.encode(new byte[0], true);
+        assertEquals(0, BinaryCheckpointCodec.decode(encoded, 10).length);
+    }
+
+    public void testRawTooLarge() {
+        byte[] encoded = BinaryCheckpointCodec.encode(randomByteArrayOfLength(100), false);
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(encoded, 99));
+    }
+
+    public void testInflateTooLarge() {
+        byte[] serialized = compressible();
+        byte[] encoded = BinaryCheckpointCodec.encode(serialized, true);
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(encoded, serialized.length - 1));
+    }
+
+    public void testUnknownFormat() {
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(new byte[] { 42, 1, 2 }, 100));
+    }
+
+    public void testEmptyCheckpoint() {
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(new byte[0], 100));
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(null, 100));
+    }
+
+    public void testCorruptedDeflatePayload() {
+        byte[] encoded = BinaryCheckpointCodec.encode(compressible(), true);
+        byte[] truncated = new byte[encoded.length / 2];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        expectThrows(IllegalArgumentException.class, () -> BinaryCheckpointCodec.decode(truncated, 100_000));
+    }
+
+    public void testToBytes() {
+        byte[] bytes = randomByteArrayOfLength(10);
+        assertSame(bytes, BinaryCheckpointCodec.toBytes(bytes));
+        assertArrayEquals(bytes, BinaryCheckpointCodec.toBytes(Base64.getEncoder().encodeToString(bytes)));
+        assertNull(BinaryCheckpointCodec.toBytes(""));
+        assertNull(BinaryCheckpointCodec.toBytes(null));
+        assertNull(BinaryCheckpointCodec.toBytes(1));
+    }
+}
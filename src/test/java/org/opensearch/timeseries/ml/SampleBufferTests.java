@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.time.Instant;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SampleBufferTests extends OpenSearchTestCase {
+    private static final long INTERVAL_SECS = 60;
+
+    private Sample sample(long startSecs, double value) {
+        return new Sample(
+            new double[] { value },
+            Instant.ofEpochSecond(startSecs),
+            Instant.ofEpochSecond(startSecs + INTERVAL_SECS)
+        );
+    }
+
+    public void testExpectedSamples() {
+        assertEquals(10, SampleBuffer.expectedSamples(8));
+        assertEquals(3, SampleBuffer.expectedSamples(0));
+        assertEquals(16, new SampleBuffer(SampleBuffer.expectedSamples(8)).capacity());
+        assertEquals(2, new SampleBuffer(1).capacity());
+    }
+
+    public void testDrainInTimeOrder() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        assertTrue(buffer.add(sample(120, 2), INTERVAL_SECS));
+        assertTrue(buffer.add(sample(0, 0), INTERVAL_SECS));
+        assertTrue(buffer.add(sample(180, 3), INTERVAL_SECS));
+        assertTrue(buffer.add(sample(60, 1), INTERVAL_SECS));
+        assertEquals(4, buffer.size());
+        assertEquals(240, buffer.lastDataEndEpochSecond());
+
+        SampleBuffer.Batch batch = buffer.drain();
+        assertEquals(4, batch.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, batch.getPoints()[i][0], 0.001);
+            assertEquals((i + 1) * INTERVAL_SECS, batch.getTimestamps()[i]);
+            assertEquals(Instant.ofEpochSecond(i * INTERVAL_SECS), batch.getDataStarts().get(i));
+            assertEquals(Instant.ofEpochSecond((i + 1) * INTERVAL_SECS), batch.getDataEnds().get(i));
+            assertSame(batch.getPoints()[i], batch.getPointList().get(i));
+            assertSame(batch.getPoints()[i], batch.getSample(i).getValueList());
+        }
+        assertTrue(buffer.isEmpty());
+        assertEquals(Instant.MIN.getEpochSecond(), buffer.lastDataEndEpochSecond());
+    }
+
+    public void testRejectsSamplesTooCloseToNeighbors() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        assertTrue(buffer.add(sample(0, 0), INTERVAL_SECS));
+        assertTrue(buffer.add(sample(120, 2), INTERVAL_SECS));
+        // duplicate
+        assertFalse(buffer.add(sample(0, 0), INTERVAL_SECS));
+        // too close to the previous sample
+        assertFalse(buffer.add(sample(30, 1), INTERVAL_SECS));
+        // too close to the next sample
+        assertFalse(buffer.add(sample(90, 1), INTERVAL_SECS));
+        assertTrue(buffer.add(sample(60, 1), INTERVAL_SECS));
+        assertEquals(3, buffer.size());
+    }
+
+    public void testGrowsAndWrapsAround() {
+        SampleBuffer buffer = new SampleBuffer(2);
+        // adding older samples moves the head backwards and wraps around
+        int count = 100;
+        for (int i = count - 1; i >= 0; i--) {
+            assertTrue(buffer.add(sample((i + 1) * INTERVAL_SECS, i), INTERVAL_SECS));
+        }
+        assertEquals(count, buffer.size());
+        assertTrue(buffer.capacity() >= count);
+
+        SampleBuffer.Batch batch = buffer.drain();
+        assertEquals(count, batch.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, batch.getPoints()[i][0], 0.001);
+        }
+    }
+
+    public void testBatchIsReused() {
+        SampleBuffer buffer = new SampleBuffer(2);
+        buffer.add(sample(0, 0), INTERVAL_SECS);
+        SampleBuffer.Batch batch = buffer.drain();
+        double[][] points = batch.getPoints();
+        long[] timestamps = batch.getTimestamps();
+
+        buffer.add(sample(60, 1), INTERVAL_SECS);
+        SampleBuffer.Batch next = buffer.drain();
+        assertSame(batch, next);
+        // same number of samples, so no new arrays
+        assertSame(points, next.getPoints());
+        assertSame(timestamps, next.getTimestamps());
+        assertEquals(1, next.getPoints()[0][0], 0.001);
+        assertEquals(1, next.getDataStarts().size());
+
+        SampleBuffer.Batch empty = buffer.drain();
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.getPoints().length);
+        assertTrue(empty.getDataEnds().isEmpty());
+    }
+}
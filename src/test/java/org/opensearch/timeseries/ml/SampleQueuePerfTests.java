@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.test.OpenSearchTestCase;
+
+/**
+ * Compares allocation per entity per interval of the sample queue path in
+ * {@link RealTimeInferencer}: look up the model's lock and queue, add the current sample,
+ * drain the queue and lay samples out for RCF and result saving. Model scoring is left
+ * out as it is the same for both.
+ *
+ * The legacy path is a per-model ReentrantLock map plus a TreeSet copied into fresh
+ * arrays and lists. The current path is striped locks plus {@link SampleBuffer}.
+ *
+ * Run with -Dmodel-benchmark=true.
+ */
+public class SampleQueuePerfTests extends OpenSearchTestCase {
+    private static final Logger LOG = LogManager.getLogger(SampleQueuePerfTests.class);
+
+    private static final int WARMUP_INTERVALS = 20;
+    private static final int MEASURE_INTERVALS = 100;
+    private static final long INTERVAL_SECS = 60;
+
+    private interface QueuePath {
+        // returns something derived from the drained samples so that the JIT keeps the work
+        long processInterval(String modelId, Sample sample);
+    }
+
+    private static class LegacyPath implements QueuePath {
+        private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+        private final Map<String, TreeSet<Sample>> queues = new ConcurrentHashMap<>();
+        private final Comparator<Sample> comparator = Comparator.comparing(Sample::getDataEndTime);
+
+        @Override
+        public long processInterval(String modelId, Sample sample) {
+            TreeSet<Sample> queue = queues.computeIfAbsent(modelId, k -> new TreeSet<>(comparator));
+            queue.add(sample);
+            Lock lock = locks.computeIfAbsent(modelId, k -> new ReentrantLock());
+            lock.lock();
+            try {
+                List<Sample> samples = new ArrayList<>(queue);
+                queue.clear();
+                double[][] points = new double[samples.size()][];
+                long[] timestamps = new long[samples.size()];
+                List<Instant> dataStarts = new ArrayList<>();
+                List<Instant> dataEnds = new ArrayList<>();
+                for (int i = 0; i < samples.size(); i++) {
+                    points[i] = samples.get(i).getValueList();
+                    dataStarts.add(samples.get(i).getDataStartTime());
+                    dataEnds.add(samples.get(i).getDataEndTime());
+                    timestamps[i] = samples.get(i).getDataEndTime().getEpochSecond();
+                }
+                return timestamps[timestamps.length - 1] + points.length + dataStarts.size() + dataEnds.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static class BufferPath implements QueuePath {
+        private final ReentrantLock[] locks;
+        private final Map<String, SampleBuffer> queues = new ConcurrentHashMap<>();
+
+        BufferPath() {
+            locks = new ReentrantLock[RealTimeInferencer.LOCK_STRIPES];
+            for (int i = 0; i < locks.length; i++) {
+                locks[i] = new ReentrantLock();
+            }
+        }
+
+        @Override
+        public long processInterval(String modelId, Sample sample) {
+            SampleBuffer queue = queues.get(modelId);
+            if (queue == null) {
+                queue = queues.computeIfAbsent(modelId, k -> new SampleBuffer(SampleBuffer.expectedSamples(8)));
+            }
+            queue.add(sample, INTERVAL_SECS);
+            int hash = modelId.hashCode();
+            Lock lock = locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+            lock.lock();
+            try {
+                SampleBuffer.Batch batch = queue.drain();
+                long[] timestamps = batch.getTimestamps();
+                return timestamps[timestamps.length - 1] + batch.getPointList().size() + batch.getDataStarts().size() + batch
+                    .getDataEnds()
+                    .size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private long runIntervals(QueuePath path, String[] modelIds, Sample[][] samples, int fromInterval, int intervals) {
+        long checksum = 0;
+        for (int interval = fromInterval; interval < fromInterval + intervals; interval++) {
+            for (int i = 0; i < modelIds.length; i++) {
+                checksum += path.processInterval(modelIds[i], samples[interval][i]);
+            }
+        }
+        return checksum;
+    }
+
+    private void benchmark(int numEntities, int numFeatures) {
+        String[] modelIds = new String[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            modelIds[i] = "config_entity_" + i;
+        }
+        // samples arrive with the requests, so we create them outside of the measurement
+        int totalIntervals = WARMUP_INTERVALS + MEASURE_INTERVALS;
+        Sample[][] samples = new Sample[totalIntervals][numEntities];
+        // values are not looked at, so entities share them across intervals to keep the heap small
+        double[][] values = new double[numEntities][numFeatures];
+        long start = Instant.now().getEpochSecond();
+        for (int interval = 0; interval < totalIntervals; interval++) {
+            Instant dataStart = Instant.ofEpochSecond(start + interval * INTERVAL_SECS);
+            Instant dataEnd = dataStart.plusSeconds(INTERVAL_SECS);
+            for (int i = 0; i < numEntities; i++) {
+                samples[interval][i] = new Sample(values[i], dataStart, dataEnd);
+            }
+        }
+
+        for (boolean legacy : new boolean[] { true, false }) {
+            QueuePath path = legacy ? new LegacyPath() : new BufferPath();
+            long checksum = runIntervals(path, modelIds, samples, 0, WARMUP_INTERVALS);
+
+            long bytesBefore = allocatedBytes();
+            long nanosBefore = System.nanoTime();
+            checksum += runIntervals(path, modelIds, samples, WARMUP_INTERVALS, MEASURE_INTERVALS);
+            long nanos = System.nanoTime() - nanosBefore;
+            long bytes = allocatedBytes() - bytesBefore;
+
+            long operations = (long) numEntities * MEASURE_INTERVALS;
+            assertTrue(checksum > 0);
+            LOG
+                .info(
+                    "{} sample queue, {} entities: {} ns/entity/interval, {} bytes allocated/entity/interval",
+                    legacy ? "TreeSet" : "ring buffer",
+                    numEntities,
+                    nanos / operations,
+                    bytes / operations
+                );
+        }
+    }
+
+    public void testThousandEntities() {
+        benchmark(1_000, 5);
+    }
+
+    public void testTenThousandEntities() {
+        benchmark(10_000, 5);
+    }
+}
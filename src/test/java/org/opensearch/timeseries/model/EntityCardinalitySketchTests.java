@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EntityCardinalitySketchTests extends OpenSearchTestCase {
+
+    private static List<String> entities(int start, int end) {
+        List<String> entities = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            entities.add("host-" + i);
+        }
+        return entities;
+    }
+
+    private static void assertEstimate(long expected, EntityCardinalitySketch sketch) {
+        // about three standard errors
+        assertEquals(expected, sketch.estimate(), expected * 0.05);
+    }
+
+    public void testEmpty() {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        assertEquals(0, sketch.estimate());
+        assertFalse(sketch.isComplete());
+    }
+
+    public void testEstimate() {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(entities(0, 1000));
+        assertEstimate(1000, sketch);
+
+        // duplicates do not count
+        sketch.add(entities(0, 1000));
+        assertEstimate(1000, sketch);
+
+        sketch.add(entities(1000, 100_000));
+        assertEstimate(100_000, sketch);
+    }
+
+    public void testMerge() {
+        EntityCardinalitySketch first = new EntityCardinalitySketch();
+        first.add(entities(0, 6000));
+        EntityCardinalitySketch second = new EntityCardinalitySketch();
+        second.add(entities(4000, 10_000));
+        second.markComplete();
+
+        first.merge(second);
+        assertEstimate(10_000, first);
+        assertTrue(first.isComplete());
+        // the merged sketch is unchanged
+        assertEstimate(6000, second);
+    }
+
+    public void testCopy() {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(entities(0, 100));
+        EntityCardinalitySketch copy = sketch.copy();
+
+        sketch.add(entities(100, 200));
+        sketch.markComplete();
+        assertEstimate(100, copy);
+        assertFalse(copy.isComplete());
+    }
+
+    public void testSerialization() throws IOException {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(entities(0, 5000));
+        sketch.markComplete();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        sketch.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        EntityCardinalitySketch deserialized = new EntityCardinalitySketch(input);
+
+        assertEquals(sketch.estimate(), deserialized.estimate());
+        assertTrue(deserialized.isComplete());
+    }
+
+    public void testAddNothing() {
+        EntityCardinalitySketch sketch = new EntityCardinalitySketch();
+        sketch.add(Collections.emptyList());
+        sketch.markComplete();
+        assertEquals(0, sketch.estimate());
+        assertTrue(sketch.isComplete());
+    }
+}
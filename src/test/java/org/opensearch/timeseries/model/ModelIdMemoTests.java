@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.MemoryTracker;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+
+public class ModelIdMemoTests extends OpenSearchTestCase {
+
+    private SortedMap<String, String> attributes(String host) {
+        SortedMap<String, String> attributes = new TreeMap<>();
+        attributes.put("host", host);
+        attributes.put("service", "app_1");
+        return attributes;
+    }
+
+    public void testComputesOncePerConfig() {
+        ModelIdMemo memo = new ModelIdMemo(10, 1);
+        AtomicInteger computed = new AtomicInteger();
+        String first = memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_" + computed.incrementAndGet());
+        // a new but equal map hits the memo and returns the same instance
+        String second = memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_" + computed.incrementAndGet());
+        assertSame(first, second);
+        assertEquals(1, computed.get());
+
+        memo.getOrCompute("config2", attributes("server_1"), attrs -> "config2_entity_" + computed.incrementAndGet());
+        assertEquals(2, computed.get());
+        assertEquals(2, memo.size());
+
+        memo.clear("config");
+        assertEquals(1, memo.size());
+        memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_" + computed.incrementAndGet());
+        assertEquals(3, computed.get());
+    }
+
+    public void testBounded() {
+        ModelIdMemo memo = new ModelIdMemo(10, 1);
+        for (int i = 0; i < 100; i++) {
+            memo.getOrCompute("config", attributes("server_" + i), attrs -> attrs.toString());
+        }
+        assertTrue(memo.size() <= 10);
+        // the bound is shared by all configs
+        for (int i = 0; i < 100; i++) {
+            memo.getOrCompute("config_" + i, attributes("server_1"), attrs -> attrs.toString());
+        }
+        assertTrue(memo.size() <= 10);
+    }
+
+    public void testMemoryAccounted() {
+        ModelIdMemo memo = new ModelIdMemo(10, 1);
+        MemoryTracker memoryTracker = mock(MemoryTracker.class);
+        when(memoryTracker.tryConsumeMemory(anyLong(), eq(false), eq(MemoryTracker.Origin.MODEL_ID_MEMO))).thenReturn(true);
+        memo.setMemoryTracker(memoryTracker);
+
+        String modelId = memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_abc");
+        long bytes = ModelIdMemo.estimateMemoryBytes(new SimpleImmutableEntry<>("config", attributes("server_1")), modelId);
+        verify(memoryTracker, times(1)).tryConsumeMemory(bytes, false, MemoryTracker.Origin.MODEL_ID_MEMO);
+        // a hit consumes nothing
+        memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_abc");
+        verify(memoryTracker, times(1)).tryConsumeMemory(anyLong(), anyBoolean(), any());
+
+        memo.clear("config");
+        verify(memoryTracker, times(1)).releaseMemory(bytes, false, MemoryTracker.Origin.MODEL_ID_MEMO);
+    }
+
+    public void testNotMemoizedWithoutMemory() {
+        ModelIdMemo memo = new ModelIdMemo(10, 1);
+        MemoryTracker memoryTracker = mock(MemoryTracker.class);
+        when(memoryTracker.tryConsumeMemory(anyLong(), anyBoolean(), any())).thenReturn(false);
+        memo.setMemoryTracker(memoryTracker);
+
+        AtomicInteger computed = new AtomicInteger();
+        memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_" + computed.incrementAndGet());
+        memo.getOrCompute("config", attributes("server_1"), attrs -> "config_entity_" + computed.incrementAndGet());
+        assertEquals(2, computed.get());
+        assertEquals(0, memo.size());
+        verify(memoryTracker, never()).releaseMemory(anyLong(), anyBoolean(), any());
+    }
+
+    public void testIntern() {
+        ModelIdMemo memo = new ModelIdMemo(10, 1);
+        String computed = memo.getOrCompute("config", attributes("server_1"), attrs -> new String("config_entity_abc"));
+        assertSame(computed, memo.intern("config", attributes("server_1"), new String("config_entity_abc")));
+
+        String received = new String("config_entity_def");
+        assertSame(received, memo.intern("config", attributes("server_2"), received));
+        assertSame(received, memo.getOrCompute("config", attributes("server_2"), attrs -> { throw new AssertionError("memoized"); }));
+    }
+
+    public void testEntitiesShareModelId() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, true);
+        String configId = randomAlphaOfLength(10);
+        Entity entity = Entity.createEntityFromOrderedMap(new TreeMap<>(attributes("server_1")));
+        Entity sameEntity = Entity.createEntityFromOrderedMap(new TreeMap<>(attributes("server_1")));
+        String modelId = entity.getModelId(configId).get();
+        assertSame(modelId, sameEntity.getModelId(configId).get());
+        // memoized and freshly hashed model Ids match
+        assertEquals(Entity.getModelId(configId, attributes("server_1")).get(), modelId);
+
+        Entity received = Entity.createEntityFromOrderedMap(new TreeMap<>(attributes("server_1")), configId, new String(modelId));
+        assertSame(modelId, received.getModelId(configId).get());
+        ModelIdMemo.getInstance().clear(configId);
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, false);
+    }
+
+    public void testEntitiesHashWhenDisabled() {
+        String configId = randomAlphaOfLength(10);
+        Entity entity = Entity.createEntityFromOrderedMap(new TreeMap<>(attributes("server_1")));
+        Entity sameEntity = Entity.createEntityFromOrderedMap(new TreeMap<>(attributes("server_1")));
+        assertEquals(entity.getModelId(configId).get(), sameEntity.getModelId(configId).get());
+        assertNotSame(entity.getModelId(configId).get(), sameEntity.getModelId(configId).get());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+
+/**
+ * Compares throughput and allocation rate of hashing entity attributes into model Ids with
+ * looking them up in the model Id memo, under the per-interval access pattern: every entity
+ * is parsed anew and asked for its model Id once per interval.
+ *
+ * Run with -Dmodel-benchmark=true.
+ */
+public class ModelIdPerfTests extends OpenSearchTestCase {
+    private static final Logger LOG = LogManager.getLogger(ModelIdPerfTests.class);
+
+    private static final int WARMUP_INTERVALS = 5;
+    private static final int MEASURE_INTERVALS = 20;
+    private static final String CONFIG_ID = "perf-config";
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private SortedMap<String, String>[] attributes(int numEntities) {
+        @SuppressWarnings("unchecked")
+        SortedMap<String, String>[] attributes = new SortedMap[numEntities];
+        for (int i = 0; i < numEntities; i++) {
+            SortedMap<String, String> attrs = new TreeMap<>();
+            attrs.put("host", "server_" + i);
+            attrs.put("service", "app_" + (i % 16));
+            attributes[i] = attrs;
+        }
+        return attributes;
+    }
+
+    private int runIntervals(SortedMap<String, String>[] attributes, boolean memo, int intervals) {
+        int checksum = 0;
+        for (int interval = 0; interval < intervals; interval++) {
+            for (SortedMap<String, String> attrs : attributes) {
+                String modelId;
+                if (memo) {
+                    modelId = Entity.createEntityFromOrderedMap(new TreeMap<>(attrs)).getModelId(CONFIG_ID).get();
+                } else {
+                    modelId = Entity.getModelId(CONFIG_ID, new TreeMap<>(attrs)).get();
+                }
+                checksum += modelId.length();
+            }
+        }
+        return checksum;
+    }
+
+    private void benchmark(int numEntities, boolean memo) {
+        ModelIdMemo.getInstance().clear(CONFIG_ID);
+        SortedMap<String, String>[] attributes = attributes(numEntities);
+
+        long nanos;
+        long bytes;
+        int checksum;
+        try {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, memo);
+            runIntervals(attributes, memo, WARMUP_INTERVALS);
+
+            long bytesBefore = allocatedBytes();
+            long nanosBefore = System.nanoTime();
+            checksum = runIntervals(attributes, memo, MEASURE_INTERVALS);
+            nanos = System.nanoTime() - nanosBefore;
+            bytes = allocatedBytes() - bytesBefore;
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, false);
+        }
+
+        long lookups = (long) numEntities * MEASURE_INTERVALS;
+        assertTrue(checksum > 0);
+        LOG
+            .info(
+                "{}, {} entities: {} model ids/s, {} bytes allocated/model id",
+                memo ? "memo" : "hash",
+                numEntities,
+                lookups * 1_000_000_000L / nanos,
+                bytes / lookups
+            );
+    }
+
+    public void testThousandEntities() {
+        benchmark(1_000, false);
+        benchmark(1_000, true);
+    }
+
+    public void testHundredThousandEntities() {
+        benchmark(100_000, false);
+        benchmark(100_000, true);
+    }
+}
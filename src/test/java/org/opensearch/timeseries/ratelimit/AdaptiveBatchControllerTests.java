@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveBatchControllerTests extends OpenSearchTestCase {
+    private static final Duration TARGET = Duration.ofSeconds(2);
+
+    private AdaptiveBatchController controller;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        controller = new AdaptiveBatchController(Clock.systemUTC(), 100, 4, TARGET);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> history() {
+        return (List<Map<String, Object>>) controller.toMap().get(AdaptiveBatchController.HISTORY);
+    }
+
+    public void testStartsWithConfiguredValues() {
+        assertEquals(100, controller.getBatchSize());
+        assertEquals(4, controller.getConcurrency());
+        assertTrue(history().isEmpty());
+    }
+
+    public void testAdditiveIncrease() {
+        controller.onBatchCompleted(100, 10, 0);
+        assertEquals(110, controller.getBatchSize());
+        assertEquals(4, controller.getConcurrency());
+
+        // batch size stops at twice the configured value
+        for (int i = 0; i < 20; i++) {
+            controller.onBatchCompleted(controller.getBatchSize(), 10, 0);
+        }
+        assertEquals(100 * AdaptiveBatchController.MAX_BATCH_SIZE_MULTIPLIER, controller.getBatchSize());
+        // concurrency never exceeds the configured value
+        assertEquals(4, controller.getConcurrency());
+    }
+
+    public void testPartialBatchKeepsLimits() {
+        controller.onBatchCompleted(10, 10, 0);
+        assertEquals(100, controller.getBatchSize());
+        assertTrue(history().isEmpty());
+    }
+
+    public void testSlowBatchHalvesBatchSize() {
+        controller.onBatchCompleted(100, TARGET.toMillis() + 1, 0);
+        assertEquals(50, controller.getBatchSize());
+        assertEquals(4, controller.getConcurrency());
+        assertEquals(AdaptiveBatchController.REASON_SLOW, history().get(0).get(AdaptiveBatchController.REASON));
+    }
+
+    public void testRejectionsHalveBatchSizeAndConcurrency() {
+        controller.onBatchCompleted(100, 10, 1);
+        assertEquals(50, controller.getBatchSize());
+        assertEquals(2, controller.getConcurrency());
+
+        for (int i = 0; i < 10; i++) {
+            controller.onBatchCompleted(controller.getBatchSize(), 10, 1);
+        }
+        assertEquals(1, controller.getBatchSize());
+        assertEquals(1, controller.getConcurrency());
+    }
+
+    public void testConcurrencyRecoversAfterBatchSize() {
+        controller.onBatchCompleted(100, 10, 1);
+        assertEquals(2, controller.getConcurrency());
+        for (int i = 0; i < 20; i++) {
+            controller.onBatchCompleted(controller.getBatchSize(), 10, 0);
+        }
+        assertEquals(200, controller.getBatchSize());
+        assertEquals(4, controller.getConcurrency());
+    }
+
+    public void testSettingChangeResets() {
+        controller.onBatchCompleted(100, 10, 1);
+        controller.setConfiguredBatchSize(30);
+        assertEquals(30, controller.getBatchSize());
+        assertEquals(4, controller.getConcurrency());
+
+        controller.onBatchCompleted(30, 10, 1);
+        controller.setConfiguredConcurrency(8);
+        assertEquals(30, controller.getBatchSize());
+        assertEquals(8, controller.getConcurrency());
+
+        Map<String, Object> map = controller.toMap();
+        assertEquals(30, map.get(AdaptiveBatchController.CONFIGURED_BATCH_SIZE));
+        assertEquals(8, map.get(AdaptiveBatchController.CONFIGURED_CONCURRENCY));
+        assertEquals(AdaptiveBatchController.REASON_RESET, history().get(history().size() - 1).get(AdaptiveBatchController.REASON));
+    }
+
+    public void testHistoryIsBounded() {
+        for (int i = 0; i < AdaptiveBatchController.HISTORY_SIZE * 2; i++) {
+            controller.onBatchCompleted(controller.getBatchSize(), 10, i % 2);
+        }
+        List<Map<String, Object>> history = history();
+        assertEquals(AdaptiveBatchController.HISTORY_SIZE, history.size());
+        Map<String, Object> last = history.get(history.size() - 1);
+        assertEquals(controller.getBatchSize(), last.get(AdaptiveBatchController.BATCH_SIZE));
+        assertEquals(controller.getConcurrency(), last.get(AdaptiveBatchController.CONCURRENCY));
+    }
+}
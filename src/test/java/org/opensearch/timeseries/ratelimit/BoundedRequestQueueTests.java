@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BoundedRequestQueueTests extends OpenSearchTestCase {
+
+    private FeatureRequest request(String configId, long expirationEpochMs) {
+        return new FeatureRequest(expirationEpochMs, configId, RequestPriority.MEDIUM, "model", new double[] { 1.0 }, 0, null);
+    }
+
+    public void testFifo() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(100);
+        List<FeatureRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            FeatureRequest request = request("config", i);
+            requests.add(request);
+            assertNull(queue.offer(request));
+        }
+        assertEquals(40, queue.size());
+        assertSame(requests.get(0), queue.poll());
+
+        List<FeatureRequest> drained = new ArrayList<>();
+        assertEquals(10, queue.drainTo(drained, 10));
+        assertEquals(requests.subList(1, 11), drained);
+        assertEquals(29, queue.size());
+
+        drained.clear();
+        assertEquals(29, queue.drainTo(drained, 100));
+        assertEquals(requests.subList(11, 40), drained);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    public void testEvictsOldestWhenFull() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(3);
+        FeatureRequest first = request("a", 0);
+        queue.offer(first);
+        queue.offer(request("b", 0));
+        queue.offer(request("c", 0));
+        assertEquals(3, queue.capacity());
+
+        assertSame(first, queue.offer(request("d", 0)));
+        assertEquals(3, queue.size());
+        assertTrue(!queue.hasConfigId("a"));
+        assertTrue(queue.hasConfigId("d"));
+    }
+
+    public void testGrowsLazily() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(1000);
+        assertEquals(BoundedRequestQueue.INITIAL_CAPACITY, queue.capacity());
+        long emptyBytes = queue.ramBytesUsed();
+        // wrap around before growing
+        for (int i = 0; i < 10; i++) {
+            queue.offer(request("config", i));
+        }
+        queue.remove(10);
+        for (int i = 0; i < 100; i++) {
+            queue.offer(request("config", i));
+        }
+        assertEquals(128, queue.capacity());
+        assertTrue(queue.ramBytesUsed() > emptyBytes);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, queue.poll().getExpirationEpochMs());
+        }
+    }
+
+    public void testConfigIdIndex() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(10);
+        queue.offer(request("a", 0));
+        queue.offer(request("b", 0));
+        queue.offer(request("a", 0));
+        assertTrue(queue.hasConfigId("a"));
+        assertTrue(queue.hasConfigId("b"));
+        assertTrue(!queue.hasConfigId("c"));
+
+        queue.poll();
+        assertTrue(queue.hasConfigId("a"));
+        queue.poll();
+        assertTrue(!queue.hasConfigId("b"));
+        queue.poll();
+        assertTrue(!queue.hasConfigId("a"));
+        assertEquals(queue.ramBytesUsed(), new BoundedRequestQueue<>(10).ramBytesUsed());
+    }
+
+    public void testRemoveExpired() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(10);
+        queue.offer(request("a", 100));
+        queue.offer(request("b", 200));
+        queue.offer(request("c", 300));
+        assertEquals(2, queue.removeExpired(250));
+        assertEquals(1, queue.size());
+        assertTrue(!queue.hasConfigId("a"));
+        assertTrue(queue.hasConfigId("c"));
+        assertEquals(0, queue.removeExpired(250));
+    }
+
+    public void testRemove() {
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(10);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(request("config", i));
+        }
+        assertEquals(3, queue.remove(3));
+        assertEquals(3, queue.poll().getExpirationEpochMs());
+        assertEquals(1, queue.remove(3));
+        assertTrue(queue.isEmpty());
+    }
+
+    public void testConcurrentProducers() throws InterruptedException {
+        int threads = 4;
+        int perThread = 1000;
+        BoundedRequestQueue<FeatureRequest> queue = new BoundedRequestQueue<>(threads * perThread);
+        Thread[] producers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            String configId = "config" + t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.offer(request(configId, i));
+                }
+            });
+            producers[t].start();
+        }
+        List<FeatureRequest> drained = new ArrayList<>();
+        while (drained.size() < threads * perThread) {
+            queue.drainTo(drained, 100);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(threads * perThread, drained.size());
+        assertTrue(queue.isEmpty());
+        for (int t = 0; t < threads; t++) {
+            assertTrue(!queue.hasConfigId("config" + t));
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.rest.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.AnalysisType;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.common.exception.ValidationException;
+import org.opensearch.timeseries.constant.CommonMessages;
+import org.opensearch.timeseries.feature.SearchFeatureDao;
+import org.opensearch.timeseries.model.Config;
+import org.opensearch.timeseries.model.IntervalTimeConfiguration;
+import org.opensearch.timeseries.model.ValidationIssueType;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.opensearch.timeseries.util.SecurityClientUtil;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Runs the sparsity checks with and without validation multi-search and expects the same first blocking issue.
+ */
+public class ModelValidationActionHandlerTests extends OpenSearchTestCase {
+    private static final String TOP_ENTITY = "top_entity";
+
+    private Client client;
+    private SearchFeatureDao searchFeatureDao;
+    private Config config;
+    // shingle count per check. Checks not listed are dense.
+    private Map<String, Integer> shingleCounts;
+    // failed searches per check
+    private Map<String, Exception> failures;
+    private boolean hasTopEntity;
+    private Map<SearchResponse, String> responseChecks;
+    private AtomicInteger multiSearchCount;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+
+        shingleCounts = new HashMap<>();
+        failures = new HashMap<>();
+        hasTopEntity = true;
+        responseChecks = new HashMap<>();
+        multiSearchCount = new AtomicInteger();
+
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            String check = getCheck(request);
+            if (failures.containsKey(check)) {
+                listener.onFailure(failures.get(check));
+            } else {
+                listener.onResponse(createResponse(check));
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        doAnswer(invocation -> {
+            multiSearchCount.incrementAndGet();
+            MultiSearchRequest request = invocation.getArgument(0);
+            ActionListener<MultiSearchResponse> listener = invocation.getArgument(1);
+            List<SearchRequest> requests = request.requests();
+            MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[requests.size()];
+            for (int i = 0; i < requests.size(); i++) {
+                String check = getCheck(requests.get(i));
+                items[i] = failures.containsKey(check)
+                    ? new MultiSearchResponse.Item(null, failures.get(check))
+                    : new MultiSearchResponse.Item(createResponse(check), null);
+            }
+            listener.onResponse(new MultiSearchResponse(items, 0));
+            return null;
+        }).when(client).multiSearch(any(MultiSearchRequest.class), any());
+
+        searchFeatureDao = mock(SearchFeatureDao.class);
+        when(searchFeatureDao.countContinuousShinglesFromHistogramSearch(any(), any(), anyBoolean()))
+            .thenAnswer(invocation -> getShingleCount(invocation.getArgument(0)));
+        when(searchFeatureDao.countContinuousShinglesFromDateRangeSearch(any(), any()))
+            .thenAnswer(invocation -> getShingleCount(invocation.getArgument(0)));
+        // tag feature searches with their check name
+        when(searchFeatureDao.createColdStartFeatureSearchRequestForSingleFeature(any(), any(), any(), anyInt()))
+            .thenAnswer(invocation -> new SearchRequest(ModelValidationActionHandler.FEATURE_CHECK_PREFIX + invocation.getArgument(3)));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.VALIDATION_MULTI_SEARCH_ENABLED, false);
+        super.tearDown();
+    }
+
+    public void testRawDataTooSparse() throws IOException {
+        config = createConfig(false);
+        shingleCounts.put(ModelValidationActionHandler.RAW_DATA_CHECK, 0);
+        // reported before the sparse filter query and feature
+        shingleCounts.put(ModelValidationActionHandler.FILTER_QUERY_CHECK, 0);
+        shingleCounts.put(ModelValidationActionHandler.FEATURE_CHECK_PREFIX + 0, 0);
+
+        assertSameFirstIssue(CommonMessages.RAW_DATA_TOO_SPARSE, ValidationIssueType.INDICES);
+    }
+
+    public void testFilterQueryTooSparse() throws IOException {
+        config = createConfig(true);
+        shingleCounts.put(ModelValidationActionHandler.FILTER_QUERY_CHECK, 0);
+        shingleCounts.put(ModelValidationActionHandler.CATEGORY_FIELD_CHECK, 0);
+
+        assertSameFirstIssue(CommonMessages.FILTER_QUERY_TOO_SPARSE, ValidationIssueType.FILTER_QUERY);
+    }
+
+    public void testCategoryFieldTooSparse() throws IOException {
+        config = createConfig(true);
+        shingleCounts.put(ModelValidationActionHandler.CATEGORY_FIELD_CHECK, 0);
+        shingleCounts.put(ModelValidationActionHandler.FEATURE_CHECK_PREFIX + 0, 0);
+
+        assertSameFirstIssue(CommonMessages.CATEGORY_FIELD_TOO_SPARSE, ValidationIssueType.CATEGORY);
+    }
+
+    public void testNoTopEntity() throws IOException {
+        config = createConfig(true);
+        hasTopEntity = false;
+
+        assertSameFirstIssue(CommonMessages.CATEGORY_FIELD_TOO_SPARSE, ValidationIssueType.CATEGORY);
+    }
+
+    public void testFeatureTooSparse() throws IOException {
+        config = createConfig(false);
+        shingleCounts.put(ModelValidationActionHandler.FEATURE_CHECK_PREFIX + 1, 0);
+
+        Exception issue = assertSameFirstIssue(null, ValidationIssueType.FEATURE_ATTRIBUTES);
+        assertTrue(issue.getMessage().contains(CommonMessages.FEATURE_QUERY_TOO_SPARSE));
+        assertTrue(issue.getMessage().contains(config.getEnabledFeatureNames().get(1)));
+    }
+
+    public void testFeatureTooSparseForTopEntity() throws IOException {
+        config = createConfig(true);
+        shingleCounts.put(ModelValidationActionHandler.FEATURE_CHECK_PREFIX + 0, 0);
+
+        Exception issue = assertSameFirstIssue(null, ValidationIssueType.FEATURE_ATTRIBUTES);
+        assertTrue(issue.getMessage().contains(config.getEnabledFeatureNames().get(0)));
+    }
+
+    public void testDenseData() throws IOException {
+        config = createConfig(true);
+
+        // all checks pass, so the data is too sparse only for the configured interval
+        assertSameFirstIssue(CommonMessages.RAW_DATA_TOO_SPARSE, ValidationIssueType.INDICES);
+    }
+
+    public void testFailedMultiSearchItem() throws IOException {
+        config = createConfig(false);
+        Exception failure = new IllegalStateException("filter query search failed");
+        failures.put(ModelValidationActionHandler.FILTER_QUERY_CHECK, failure);
+
+        assertSame(failure, validate(false));
+        assertSame(failure, validate(true));
+    }
+
+    public void testFailedMultiSearchItemAfterSparseCheck() throws IOException {
+        config = createConfig(false);
+        shingleCounts.put(ModelValidationActionHandler.RAW_DATA_CHECK, 0);
+        failures.put(ModelValidationActionHandler.FILTER_QUERY_CHECK, new IllegalStateException("filter query search failed"));
+
+        assertSameFirstIssue(CommonMessages.RAW_DATA_TOO_SPARSE, ValidationIssueType.INDICES);
+    }
+
+    /**
+     * @param expectedMessage expected message of the issue, not checked if null
+     * @param expectedType expected issue type
+     * @return the issue reported with validation multi-search
+     */
+    private Exception assertSameFirstIssue(String expectedMessage, ValidationIssueType expectedType) {
+        Exception sequential = validate(false);
+        assertEquals(0, multiSearchCount.get());
+        Exception batched = validate(true);
+        assertTrue(multiSearchCount.get() > 0);
+
+        assertTrue(sequential instanceof ValidationException);
+        assertTrue(batched instanceof ValidationException);
+        if (expectedMessage != null) {
+            assertEquals(expectedMessage, sequential.getMessage());
+        }
+        assertEquals(sequential.getMessage(), batched.getMessage());
+        assertEquals(expectedType, ((ValidationException) sequential).getType());
+        assertEquals(expectedType, ((ValidationException) batched).getType());
+        return batched;
+    }
+
+    private Exception validate(boolean multiSearch) {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.VALIDATION_MULTI_SEARCH_ENABLED, multiSearch);
+        AtomicReference<Exception> issue = new AtomicReference<>();
+        ModelValidationActionHandler handler = new ModelValidationActionHandler(
+            mock(ClusterService.class),
+            client,
+            new SecurityClientUtil(mock(NodeStateManager.class), Settings.EMPTY),
+            ActionListener.wrap(response -> fail("expected a blocking issue"), issue::set),
+            config,
+            TimeValue.timeValueSeconds(10),
+            NamedXContentRegistry.EMPTY,
+            searchFeatureDao,
+            "model",
+            Clock.systemUTC(),
+            Settings.EMPTY,
+            null,
+            AnalysisType.AD,
+            ValidationIssueType.DETECTION_INTERVAL
+        );
+        // no interval works with all configurations applied, so each one is checked for sparsity
+        handler.processIntervalRecommendation(null, Clock.systemUTC().millis(), Collections.emptyMap());
+        assertNotNull(issue.get());
+        return issue.get();
+    }
+
+    private Config createConfig(boolean highCardinality) throws IOException {
+        return TestHelpers.AnomalyDetectorBuilder
+            .newInstance(2)
+            .setCategoryFields(highCardinality ? Collections.singletonList("host") : null)
+            .setDetectionInterval(new IntervalTimeConfiguration(10, ChronoUnit.MINUTES))
+            .setWindowDelay(new IntervalTimeConfiguration(10, ChronoUnit.MINUTES))
+            .build();
+    }
+
+    private String getCheck(SearchRequest request) {
+        if (request.indices()[0].startsWith(ModelValidationActionHandler.FEATURE_CHECK_PREFIX)) {
+            return request.indices()[0];
+        }
+        SearchSourceBuilder source = request.source();
+        boolean topEntitySearch = source
+            .aggregations()
+            .getAggregatorFactories()
+            .stream()
+            .anyMatch(aggregation -> LatestTimeRetriever.AGG_NAME_TOP.equals(aggregation.getName()));
+        if (topEntitySearch) {
+            return TOP_ENTITY;
+        }
+        if (source.query() == null) {
+            return ModelValidationActionHandler.RAW_DATA_CHECK;
+        }
+        // the category field check adds the top entity's terms to the filter query
+        return ((BoolQueryBuilder) source.query()).filter().size() > 1
+            ? ModelValidationActionHandler.CATEGORY_FIELD_CHECK
+            : ModelValidationActionHandler.FILTER_QUERY_CHECK;
+    }
+
+    private SearchResponse createResponse(String check) {
+        SearchResponse response = mock(SearchResponse.class);
+        responseChecks.put(response, check);
+        if (TOP_ENTITY.equals(check) && hasTopEntity) {
+            Terms.Bucket bucket = mock(Terms.Bucket.class);
+            when(bucket.getKeyAsString()).thenReturn("server_1");
+            when(bucket.getDocCount()).thenReturn(10L);
+            Terms terms = mock(Terms.class);
+            doReturn(Collections.singletonList(bucket)).when(terms).getBuckets();
+            Aggregations aggregations = mock(Aggregations.class);
+            when(aggregations.get(LatestTimeRetriever.AGG_NAME_TOP)).thenReturn(terms);
+            when(response.getAggregations()).thenReturn(aggregations);
+        }
+        return response;
+    }
+
+    private int getShingleCount(SearchResponse response) {
+        return shingleCounts.getOrDefault(responseChecks.get(response), TimeSeriesSettings.NUM_MIN_SAMPLES);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.rest.handler;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ValidationSearchPlanTests extends OpenSearchTestCase {
+
+    public void testChecksKeepPlanOrder() {
+        SearchRequest raw = new SearchRequest("index");
+        SearchRequest filter = new SearchRequest("index");
+        ValidationSearchPlan plan = new ValidationSearchPlan().add("raw_data", raw).add("filter_query", filter);
+
+        assertEquals(Arrays.asList("raw_data", "filter_query"), plan.getChecks());
+        assertEquals(2, plan.getRequest().requests().size());
+        assertSame(raw, plan.getRequest().requests().get(0));
+        assertSame(filter, plan.getRequest().requests().get(1));
+    }
+
+    public void testDuplicateCheck() {
+        ValidationSearchPlan plan = new ValidationSearchPlan().add("raw_data", new SearchRequest("index"));
+        expectThrows(IllegalArgumentException.class, () -> plan.add("raw_data", new SearchRequest("index")));
+    }
+
+    public void testGetItemAndTimings() {
+        ValidationSearchPlan plan = new ValidationSearchPlan()
+            .add("raw_data", new SearchRequest("index"))
+            .add("filter_query", new SearchRequest("index"));
+
+        SearchResponse rawResponse = mock(SearchResponse.class);
+        when(rawResponse.getTook()).thenReturn(TimeValue.timeValueMillis(12));
+        MultiSearchResponse.Item rawItem = mock(MultiSearchResponse.Item.class);
+        when(rawItem.isFailure()).thenReturn(false);
+        when(rawItem.getResponse()).thenReturn(rawResponse);
+        MultiSearchResponse.Item filterItem = mock(MultiSearchResponse.Item.class);
+        when(filterItem.isFailure()).thenReturn(true);
+        MultiSearchResponse response = mock(MultiSearchResponse.class);
+        when(response.getResponses()).thenReturn(new MultiSearchResponse.Item[] { rawItem, filterItem });
+
+        assertSame(rawItem, plan.getItem(response, "raw_data"));
+        assertSame(filterItem, plan.getItem(response, "filter_query"));
+        expectThrows(IllegalArgumentException.class, () -> plan.getItem(response, "category_field"));
+
+        Map<String, Long> timings = plan.getTimings(response);
+        assertEquals(Arrays.asList("raw_data", "filter_query"), Arrays.asList(timings.keySet().toArray()));
+        assertEquals(12L, timings.get("raw_data").longValue());
+        assertEquals(ValidationSearchPlan.FAILED_CHECK_TOOK, timings.get("filter_query").longValue());
+    }
+
+    public void testResponseSizeMismatch() {
+        ValidationSearchPlan plan = new ValidationSearchPlan()
+            .add("raw_data", new SearchRequest("index"))
+            .add("filter_query", new SearchRequest("index"));
+        MultiSearchResponse response = mock(MultiSearchResponse.class);
+        when(response.getResponses()).thenReturn(new MultiSearchResponse.Item[] { mock(MultiSearchResponse.Item.class) });
+
+        expectThrows(IllegalStateException.class, () -> plan.getItem(response, "raw_data"));
+    }
+}
@@ -13,4 +13,74 @@ public class TimeSeriesEnabledSettingTests extends OpenSearchTestCase {
         TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BREAKER_ENABLED, false);
         assertTrue(!TimeSeriesEnabledSetting.isBreakerEnabled());
     }
+
+    public void testIsDoorKeeperSketchEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isDoorKeeperSketchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isDoorKeeperSketchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.DOOR_KEEPER_SKETCH_ENABLED, false);
+    }
+
+    public void testIsBoundedRequestQueueEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isBoundedRequestQueueEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isBoundedRequestQueueEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BOUNDED_REQUEST_QUEUE_ENABLED, false);
+    }
+
+    public void testIsAdaptiveBatchingEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isAdaptiveBatchingEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isAdaptiveBatchingEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ADAPTIVE_BATCHING_ENABLED, false);
+    }
+
+    public void testIsCompressedInactiveModelsEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isCompressedInactiveModelsEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isCompressedInactiveModelsEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.COMPRESSED_INACTIVE_MODELS_ENABLED, false);
+    }
+
+    public void testIsModelSpillEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isModelSpillEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isModelSpillEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_SPILL_ENABLED, false);
+    }
+
+    public void testIsBatchedColdStartEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isBatchedColdStartEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BATCHED_COLD_START_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isBatchedColdStartEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.BATCHED_COLD_START_ENABLED, false);
+    }
+
+    public void testIsTimePartitionedCheckpointEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.TIME_PARTITIONED_CHECKPOINT_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isTimePartitionedCheckpointEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.TIME_PARTITIONED_CHECKPOINT_ENABLED, false);
+    }
+
+    public void testIsValidationMultiSearchEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isValidationMultiSearchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.VALIDATION_MULTI_SEARCH_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isValidationMultiSearchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.VALIDATION_MULTI_SEARCH_ENABLED, false);
+    }
+
+    public void testIsEntityCardinalitySketchEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isEntityCardinalitySketchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isEntityCardinalitySketchEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+    }
+
+    public void testIsModelIdMemoEnabled() {
+        assertTrue(!TimeSeriesEnabledSetting.isModelIdMemoEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, true);
+        assertTrue(TimeSeriesEnabledSetting.isModelIdMemoEnabled());
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.MODEL_ID_MEMO_ENABLED, false);
+    }
 }
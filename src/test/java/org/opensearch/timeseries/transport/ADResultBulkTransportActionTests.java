@@ -19,6 +19,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -26,11 +28,15 @@ import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.ad.ratelimit.ADResultWriteRequest;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.ad.transport.ADResultBulkRequest;
 import org.opensearch.ad.transport.ADResultBulkTransportAction;
@@ -38,12 +44,15 @@ import org.opensearch.ad.transport.AnomalyResultTests;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.constant.CommonMessages;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.ratelimit.ResultWriteRequest;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -212,6 +221,74 @@ public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
         assertThat(2, equalTo(readRequest.numberOfActions()));
     }
 
+    @SuppressWarnings("unchecked")
+    public void testSendEncodedResult() throws IOException {
+        when(indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes()).thenReturn(0L);
+        when(indexingPressure.getCurrentReplicaBytes()).thenReturn(0L);
+
+        ADResultWriteRequest writeRequest = new ADResultWriteRequest(
+            Instant.now().plus(10, ChronoUnit.MINUTES).toEpochMilli(),
+            detectorId,
+            RequestPriority.HIGH,
+            TestHelpers.randomHCADAnomalyDetectResult(8d, 0.2d),
+            null,
+            "flatten-result-index"
+        );
+        ADResultWriteRequest encodedRequest = new ADResultWriteRequest(
+            Instant.now().plus(10, ChronoUnit.MINUTES).toEpochMilli(),
+            detectorId,
+            RequestPriority.HIGH,
+            writeRequest.getResult(),
+            null,
+            "flatten-result-index",
+            true
+        );
+        assertNull(writeRequest.getResultSource());
+        assertNotNull(encodedRequest.getResultSource());
+        // only the document is kept
+        assertNull(encodedRequest.getResult());
+
+        ADResultBulkRequest request = new ADResultBulkRequest();
+        request.add(encodedRequest);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(ResultWriteRequest.RESULT_SOURCE_VERSION);
+        request.writeTo(output);
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(ResultWriteRequest.RESULT_SOURCE_VERSION);
+        ADResultBulkRequest readRequest = new ADResultBulkRequest(streamInput);
+
+        // older nodes can't read the document
+        BytesStreamOutput legacyOutput = new BytesStreamOutput();
+        legacyOutput.setVersion(Version.V_3_2_0);
+        expectThrows(IllegalStateException.class, () -> request.writeTo(legacyOutput));
+
+        // the receiver doesn't materialize the result
+        ADResultWriteRequest readWriteRequest = readRequest.getResults().get(0);
+        assertNull(readWriteRequest.getResult());
+        assertEquals(encodedRequest.getResultSource(), readWriteRequest.getResultSource());
+        assertTrue(readWriteRequest.isHighPriority());
+        assertEquals("flatten-result-index", readWriteRequest.getFlattenResultIndex());
+
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(1);
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+
+            // encoded once, indexed into both the result index and the flattened result index
+            assertEquals(2, bulkRequest.requests().size());
+            for (DocWriteRequest<?> indexRequest : bulkRequest.requests()) {
+                assertEquals(encodedRequest.getResultSource(), ((IndexRequest) indexRequest).source());
+                assertEquals(XContentType.JSON, ((IndexRequest) indexRequest).getContentType());
+            }
+            listener.onResponse(null);
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        PlainActionFuture<ResultBulkResponse> future = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, readRequest, future);
+
+        future.actionGet();
+    }
+
     public void testValidateRequest() {
         ActionRequestValidationException e = new ADResultBulkRequest().validate();
         assertThat(e.validationErrors(), hasItem(CommonMessages.NO_REQUESTS_ADDED_ERR));
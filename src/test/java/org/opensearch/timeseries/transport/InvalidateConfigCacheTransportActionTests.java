@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.AbstractTimeSeriesTest;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.transport.TransportService;
+
+public class InvalidateConfigCacheTransportActionTests extends AbstractTimeSeriesTest {
+    private InvalidateConfigCacheTransportAction action;
+    private NodeStateManager nodeStateManager;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("foo", buildNewFakeTransportAddress(), Version.CURRENT));
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+        nodeStateManager = mock(NodeStateManager.class);
+
+        action = new InvalidateConfigCacheTransportAction(
+            mock(ThreadPool.class),
+            clusterService,
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            nodeStateManager
+        );
+    }
+
+    public void testNormal() throws IOException {
+        InvalidateConfigCacheRequest request = new InvalidateConfigCacheRequest("123", 7);
+        BytesStreamOutput requestOut = new BytesStreamOutput();
+        request.writeTo(requestOut);
+        InvalidateConfigCacheRequest requestRead = new InvalidateConfigCacheRequest(requestOut.bytes().streamInput());
+        assertEquals("123", requestRead.getConfigId());
+        assertEquals(7, requestRead.getSeqNo());
+
+        BytesStreamOutput nodeRequestOut = new BytesStreamOutput();
+        action.newNodeRequest(requestRead).writeTo(nodeRequestOut);
+        StreamInput nodeRequestIn = nodeRequestOut.bytes().streamInput();
+        InvalidateConfigCacheNodeResponse nodeResponse = action.nodeOperation(new InvalidateConfigCacheNodeRequest(nodeRequestIn));
+        verify(nodeStateManager).invalidateConfig("123", 7);
+
+        InvalidateConfigCacheResponse response = action
+            .newResponse(request, Arrays.asList(nodeResponse), Collections.emptyList());
+        assertEquals(1, response.getNodes().size());
+        assertTrue(!response.hasFailures());
+    }
+
+    public void testEmptyConfigId() {
+        assertTrue(new InvalidateConfigCacheRequest("", 7).validate() != null);
+    }
+}
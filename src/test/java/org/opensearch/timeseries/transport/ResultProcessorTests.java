@@ -6,6 +6,7 @@
 package org.opensearch.timeseries.transport;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -18,7 +19,9 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -55,8 +58,10 @@ import org.opensearch.timeseries.feature.CompositeRetriever;
 import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.settings.TimeSeriesEnabledSetting;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
+import org.opensearch.timeseries.stats.suppliers.CounterSupplier;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.util.SecurityClientUtil;
 import org.opensearch.transport.TransportService;
@@ -69,9 +74,11 @@ public class ResultProcessorTests extends OpenSearchTestCase {
     private HashRing hashRing;
     private NodeStateManager nodeStateManager;
     private TransportService transportService;
+    private ClusterService clusterService;
     private final String entityResultAction = "cluster:admin/opensearch/forecast/result";
     private Runnable scheduledCheckerTask;
     private ScheduledCancellable scheduledCancellable;
+    private ForecastTaskManager taskManager;
 
     private static class TestForecastResultProcessor extends ForecastResultProcessor {
         private boolean imputeCalled;
@@ -140,7 +147,7 @@ public class ResultProcessorTests extends OpenSearchTestCase {
         transportService = mock(TransportService.class);
         ForecastStats stats = mock(ForecastStats.class);
         when(stats.getStat(anyString())).thenReturn(mock(TimeSeriesStat.class));
-        ForecastTaskManager taskManager = mock(ForecastTaskManager.class);
+        taskManager = mock(ForecastTaskManager.class);
 
         ClusterSettings clusterSettings = new ClusterSettings(
             Settings.EMPTY,
@@ -151,7 +158,7 @@ public class ResultProcessorTests extends OpenSearchTestCase {
                     ForecastSettings.FORECAST_REQUEST_TIMEOUT
                 )
         );
-        ClusterService clusterService = mock(ClusterService.class);
+        clusterService = mock(ClusterService.class);
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
         ExecutorService directExecutor = mock(ExecutorService.class);
@@ -391,4 +398,216 @@ public class ResultProcessorTests extends OpenSearchTestCase {
         assertFalse(resultProcessor.isImputeCalled());
     }
 
+    public void testPageListenerInPrefetchModeReleasesWithoutPulling() {
+        CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+        when(pageIterator.isPrefetching()).thenReturn(true);
+
+        Config config = mock(Config.class);
+        when(config.getId()).thenReturn("configId");
+        when(config.getImputationOption()).thenReturn(new ImputationOption(ImputationMethod.ZERO));
+        when(config.getIntervalInMilliseconds()).thenReturn(1000L);
+
+        ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+            resultProcessor.new PageListener(pageIterator, config, 0L, Instant.now().plusSeconds(60).toEpochMilli(), "taskId");
+
+        CompositeRetriever.Page page = mock(CompositeRetriever.Page.class);
+        when(page.isEmpty()).thenReturn(false);
+        Entity entity = mock(Entity.class);
+        when(entity.toString()).thenReturn("entityKey");
+        Map<Entity, double[]> results = new HashMap<>();
+        results.put(entity, new double[] { 1.0d });
+        when(page.getResults()).thenReturn(results);
+        when(hashRing.getOwningNodeWithSameLocalVersionForRealtime(anyString())).thenReturn(Optional.empty());
+
+        listener.onResponse(page);
+
+        // the iterator fetches pages by itself in prefetch mode
+        verify(pageIterator, never()).hasNext();
+        verify(pageIterator, never()).next(any());
+        verify(pageIterator).release();
+        assertNull(scheduledCheckerTask);
+
+        listener.onPagesExhausted();
+        assertNotNull(scheduledCheckerTask);
+    }
+
+    private CompositeRetriever.Page singleEntityPage() {
+        CompositeRetriever.Page page = mock(CompositeRetriever.Page.class);
+        when(page.isEmpty()).thenReturn(false);
+        Entity entity = mock(Entity.class);
+        when(entity.toString()).thenReturn("entityKey");
+        Map<Entity, double[]> results = new HashMap<>();
+        results.put(entity, new double[] { 1.0d });
+        when(page.getResults()).thenReturn(results);
+        when(hashRing.getOwningNodeWithSameLocalVersionForRealtime(anyString())).thenReturn(Optional.empty());
+        return page;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testPageListenerEarlyStopDoesNotCompleteSketch() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+            when(pageIterator.hasNext()).thenReturn(false);
+            // the iterator stopped on time up or the entity limit
+            when(pageIterator.isComplete()).thenReturn(false);
+
+            Config config = mock(Config.class);
+            when(config.getId()).thenReturn("configId");
+            when(config.getImputationOption()).thenReturn(null);
+
+            ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+                resultProcessor.new PageListener(pageIterator, config, 0L, 1L, "taskId");
+
+            listener.onResponse(singleEntityPage());
+
+            ArgumentCaptor<Iterable<String>> captor = ArgumentCaptor.forClass(Iterable.class);
+            verify(taskManager).addRealtimeEntities(eq("configId"), captor.capture(), eq(false));
+            verify(taskManager, never()).addRealtimeEntities(anyString(), any(), eq(true));
+            List<String> recorded = new ArrayList<>();
+            captor.getValue().forEach(recorded::add);
+            assertEquals(List.of("entityKey"), recorded);
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testPageListenerSkipsSketchForEmptyPageBeforeLastPage() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+            when(pageIterator.hasNext()).thenReturn(true);
+
+            Config config = mock(Config.class);
+            when(config.getId()).thenReturn("configId");
+            when(config.getImputationOption()).thenReturn(null);
+
+            ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+                resultProcessor.new PageListener(pageIterator, config, 0L, 1L, "taskId");
+
+            CompositeRetriever.Page emptyPage = mock(CompositeRetriever.Page.class);
+            when(emptyPage.isEmpty()).thenReturn(true);
+
+            listener.onResponse(emptyPage);
+
+            verify(taskManager, never()).addRealtimeEntities(anyString(), any(), anyBoolean());
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testPageListenerCompletesSketchOnEmptyLastPage() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+            when(pageIterator.hasNext()).thenReturn(false);
+            when(pageIterator.isComplete()).thenReturn(true);
+
+            Config config = mock(Config.class);
+            when(config.getId()).thenReturn("configId");
+            when(config.getImputationOption()).thenReturn(null);
+
+            ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+                resultProcessor.new PageListener(pageIterator, config, 0L, 1L, "taskId");
+
+            CompositeRetriever.Page emptyPage = mock(CompositeRetriever.Page.class);
+            when(emptyPage.isEmpty()).thenReturn(true);
+
+            listener.onResponse(emptyPage);
+
+            verify(taskManager).addRealtimeEntities(eq("configId"), any(), eq(true));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testPrefetchEarlyStopDoesNotCompleteSketch() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+            when(pageIterator.isPrefetching()).thenReturn(true);
+            when(pageIterator.isComplete()).thenReturn(false);
+
+            Config config = mock(Config.class);
+            when(config.getId()).thenReturn("configId");
+            when(config.getImputationOption()).thenReturn(null);
+
+            ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+                resultProcessor.new PageListener(pageIterator, config, 0L, 1L, "taskId");
+
+            listener.onResponse(singleEntityPage());
+            listener.onPagesExhausted();
+
+            verify(taskManager).addRealtimeEntities(eq("configId"), any(), eq(false));
+            verify(taskManager, never()).addRealtimeEntities(anyString(), any(), eq(true));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testPrefetchCompletesSketchWhenPagesExhausted() {
+        TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, true);
+        try {
+            CompositeRetriever.PageIterator pageIterator = mock(CompositeRetriever.PageIterator.class);
+            when(pageIterator.isPrefetching()).thenReturn(true);
+            when(pageIterator.isComplete()).thenReturn(true);
+
+            Config config = mock(Config.class);
+            when(config.getId()).thenReturn("configId");
+            when(config.getImputationOption()).thenReturn(null);
+
+            ResultProcessor<ForecastResultRequest, ?, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ?, ?, ForecastTaskManager>.PageListener listener =
+                resultProcessor.new PageListener(pageIterator, config, 0L, 1L, "taskId");
+
+            listener.onResponse(singleEntityPage());
+            // pages are only complete once the iterator has handed over the last one
+            verify(taskManager, never()).addRealtimeEntities(anyString(), any(), eq(true));
+
+            listener.onPagesExhausted();
+            verify(taskManager).addRealtimeEntities(eq("configId"), any(), eq(true));
+        } finally {
+            TimeSeriesEnabledSetting.getInstance().setSettingValue(TimeSeriesEnabledSetting.ENTITY_CARDINALITY_SKETCH_ENABLED, false);
+        }
+    }
+
+    public void testPageFetchStatsTracker() {
+        Map<String, TimeSeriesStat<?>> statsMap = new HashMap<>();
+        statsMap.put(StatNames.FORECAST_HC_PAGE_FETCH_COUNT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
+        statsMap.put(StatNames.FORECAST_HC_PAGE_FETCH_LATENCY_MS.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
+        statsMap.put(StatNames.FORECAST_HC_PAGES_IN_FLIGHT.getName(), new TimeSeriesStat<>(false, new CounterSupplier()));
+        ForecastStats stats = new ForecastStats(statsMap);
+        ForecastResultProcessor processor = new ForecastResultProcessor(
+            ForecastSettings.FORECAST_REQUEST_TIMEOUT,
+            entityResultAction,
+            StatNames.FORECAST_HC_EXECUTE_REQUEST_COUNT,
+            Settings.EMPTY,
+            clusterService,
+            threadPool,
+            hashRing,
+            nodeStateManager,
+            transportService,
+            stats,
+            mock(ForecastTaskManager.class),
+            NamedXContentRegistry.EMPTY,
+            mock(Client.class),
+            mock(SecurityClientUtil.class),
+            mock(IndexNameExpressionResolver.class),
+            ForecastResultResponse.class,
+            mock(FeatureManager.class),
+            AnalysisType.FORECAST,
+            false
+        );
+
+        CompositeRetriever.PageFetchTracker tracker = ((ResultProcessor<?, ?, ?, ?, ?, ?, ?, ?, ?>) processor).createPageFetchTracker();
+        tracker.onFetchStarted();
+        tracker.onFetchStarted();
+        tracker.onPageFetched(30);
+        tracker.onPageFetched(12);
+        tracker.onPageReleased();
+
+        assertEquals(2L, stats.getStat(StatNames.FORECAST_HC_PAGE_FETCH_COUNT.getName()).getValue());
+        assertEquals(42L, stats.getStat(StatNames.FORECAST_HC_PAGE_FETCH_LATENCY_MS.getName()).getValue());
+        assertEquals(1L, stats.getStat(StatNames.FORECAST_HC_PAGES_IN_FLIGHT.getName()).getValue());
+    }
+
 }